@@ -0,0 +1,76 @@
+package com.fullcycle.FCCatalogo.application.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VideoFacetIndexBenchmark {
+  @Param({ "100000", "1000000" })
+  private int videos;
+
+  private VideoFacetIndex index;
+  private FacetQuery query;
+  private Video updated;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    List<Category> categories = new ArrayList<Category>();
+    for (int i = 0; i < 200; i++) {
+      categories.add(new Category("Category " + i));
+    }
+    List<Genre> genres = new ArrayList<Genre>();
+    for (int i = 0; i < 50; i++) {
+      genres.add(new Genre("Genre " + i));
+    }
+    List<Video> catalog = new ArrayList<Video>(this.videos);
+    for (int i = 0; i < this.videos; i++) {
+      Video video = new Video("Video " + i, "Description", 1950 + random.nextInt(70), random.nextBoolean(), random.nextBoolean() ? "L" : "16", Duration.ofHundredths(random.nextInt(18000)));
+      video.addCategory(categories.get(random.nextInt(categories.size())));
+      video.addCategory(categories.get(random.nextInt(20)));
+      video.addGenre(genres.get(random.nextInt(genres.size())));
+      catalog.add(video);
+    }
+    this.index = new VideoFacetIndex();
+    this.index.indexAll(catalog);
+    this.query = FacetQuery.and(
+      FacetQuery.or(FacetQuery.category(categories.get(0).getId()), FacetQuery.category(categories.get(1).getId())),
+      FacetQuery.genre(genres.get(0).getId()).or(FacetQuery.yearLaunchedBetween(2000, 2010)),
+      FacetQuery.not(FacetQuery.rating("16")));
+    this.updated = catalog.get(this.videos / 2);
+  }
+
+  @Benchmark
+  public int count() {
+    return this.index.count(this.query);
+  }
+
+  @Benchmark
+  public FacetCounts facetCounts() {
+    return this.index.facetCounts(this.query);
+  }
+
+  @Benchmark
+  public VideoFacetIndex reindexVideo() {
+    this.index.index(this.updated);
+    return this.index;
+  }
+}
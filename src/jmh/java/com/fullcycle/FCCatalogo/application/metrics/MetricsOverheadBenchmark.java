@@ -0,0 +1,59 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.io.IOException;
+
+import com.fullcycle.FCCatalogo.application.importing.VideoRecordParser;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of instrumenting a hot path the way VideoImporter and the repository adapters do, with
+ * metrics off (0), on every call (1) and sampled (16). parseRecord is the importer's per-line
+ * work with its construction timer; the timer benchmarks isolate the instrumentation itself.
+ */
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+  private static final String RECORD = "{\"title\":\"Video\",\"description\":\"Description\",\"yearLaunched\":2010,\"opened\":true,"
+    + "\"rating\":\"L\",\"duration\":\"90.5\",\"categories\":[\"2b1b8f58-3a5e-4d8e-9c53-0b6f7e3b7a10\"]}";
+
+  @Param({ "0", "1", "16" })
+  public int sampleEvery;
+
+  private final VideoRecordParser parser = new VideoRecordParser();
+  private CatalogMetrics metrics;
+  private Timer timer;
+  private Distribution distribution;
+
+  @Setup
+  public void setUp() {
+    this.metrics = new CatalogMetrics(this.sampleEvery);
+    this.timer = this.metrics.timer("catalog.entity.construction", "source", "benchmark");
+    this.distribution = this.metrics.distribution("catalog.video.associations", "association", "categories");
+  }
+
+  @Benchmark
+  public Video parseRecord() throws IOException {
+    long started = this.timer.start();
+    Video video = this.parser.parse(RECORD);
+    this.timer.stop(started);
+    if(this.metrics.sample()) this.distribution.sampled(video.getCategories().size());
+    return video;
+  }
+
+  @Benchmark
+  public void timer() {
+    this.timer.stop(this.timer.start());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void timerContended() {
+    this.timer.stop(this.timer.start());
+  }
+}
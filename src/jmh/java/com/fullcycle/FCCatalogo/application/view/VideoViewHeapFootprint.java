@@ -0,0 +1,87 @@
+package com.fullcycle.FCCatalogo.application.view;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Prints the retained heap of a synthetic catalog held as Video entities, canonical references
+ * included, and of the same catalog held as a VideoViewStore. Run with
+ * ./gradlew viewHeapFootprint [-Pvideos=1000000].
+ */
+public class VideoViewHeapFootprint {
+  private static final int CATEGORIES = 200;
+  private static final int GENRES = 100;
+  private static final int CAST_MEMBERS = 20000;
+  private static final String[] RATINGS = {"L", "10", "12", "14", "16", "18"};
+
+  public static void main(String[] args) {
+    int videos = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+    long baseline = usedHeap();
+    List<Video> catalog = load(videos);
+    long entities = usedHeap() - baseline;
+
+    VideoViewStore store = new VideoViewStore();
+    store.putAll(catalog);
+    catalog = null;
+    long views = usedHeap() - baseline;
+    if(store.snapshot().size() != videos) throw new IllegalStateException();
+
+    System.out.printf("videos: %,d%n", videos);
+    System.out.printf("retained heap, Video entities: %,d MB (%,d bytes per video)%n", entities >> 20, entities / videos);
+    System.out.printf("retained heap, VideoViews:     %,d MB (%,d bytes per video)%n", views >> 20, views / videos);
+    System.out.printf("saved: %,d MB (%.1f%%)%n", (entities - views) >> 20, 100d * (entities - views) / entities);
+  }
+
+  // Reference entities are shared as the loader shares them, so the comparison is against the lean entity graph.
+  private static List<Video> load(int videos) {
+    Category[] categories = new Category[CATEGORIES];
+    for (int i = 0; i < CATEGORIES; i++) {
+      categories[i] = new Category(UUID.randomUUID(), "Category " + i);
+    }
+    Genre[] genres = new Genre[GENRES];
+    for (int i = 0; i < GENRES; i++) {
+      genres[i] = new Genre(UUID.randomUUID(), "Genre " + i, List.of(categories[i % CATEGORIES], categories[(i * 7 + 1) % CATEGORIES]));
+    }
+    CastMember[] castMembers = new CastMember[CAST_MEMBERS];
+    for (int i = 0; i < CAST_MEMBERS; i++) {
+      castMembers[i] = new CastMember(UUID.randomUUID(), "Cast Member " + i, CastMemberType.TYPE1);
+    }
+    Random random = new Random(42);
+    List<Video> catalog = new ArrayList<Video>(videos);
+    for (int i = 0; i < videos; i++) {
+      Video video = new Video(UUID.randomUUID(), "Video " + i, "Description " + i, 1980 + random.nextInt(40), true,
+        new String(RATINGS[random.nextInt(RATINGS.length)]), Duration.ofHundredths(random.nextInt(18000)));
+      for (int j = 0; j < 3; j++) {
+        video.addCategory(categories[random.nextInt(CATEGORIES)]);
+      }
+      for (int j = 0; j < 2; j++) {
+        video.addGenre(genres[random.nextInt(GENRES)]);
+      }
+      for (int j = 0; j < 5; j++) {
+        video.addCastMember(castMembers[random.nextInt(CAST_MEMBERS)]);
+      }
+      video.setVideoFiles(List.of(new VideoFile(new String("Trailer"), Duration.ofHundredths(12000), "https://cdn/" + i + "/trailer.mp4")));
+      catalog.add(video);
+    }
+    return catalog;
+  }
+
+  private static long usedHeap() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
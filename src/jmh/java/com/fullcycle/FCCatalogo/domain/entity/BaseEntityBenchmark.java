@@ -0,0 +1,65 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class BaseEntityBenchmark {
+  private BaseEntity entity;
+  private UUID id;
+  private String validId;
+  private String invalidId;
+
+  @Setup
+  public void setUp() {
+    this.entity = new BaseEntity();
+    this.id = UUID.randomUUID();
+    this.validId = this.id.toString();
+    this.invalidId = this.validId.replace('-', '_');
+  }
+
+  @Benchmark
+  public BaseEntity setId() {
+    this.entity.setId(this.id);
+    return this.entity;
+  }
+
+  @Benchmark
+  public Boolean isValidUUID() {
+    return this.entity.isValidUUID(this.validId);
+  }
+
+  @Benchmark
+  public Boolean isValidUUIDRejectingInvalidInput() {
+    return this.entity.isValidUUID(this.invalidId);
+  }
+
+  @Benchmark
+  public BaseEntity setIdLegacy() {
+    if(!legacyIsValidUUID(this.id.toString())) throw new IllegalArgumentException("ID is not a valid UUID");
+    this.entity.setId(this.id);
+    return this.entity;
+  }
+
+  @Benchmark
+  public Boolean isValidUUIDLegacy() {
+    return legacyIsValidUUID(this.validId);
+  }
+
+  @Benchmark
+  public UUID generateUUID() {
+    return this.entity.generateUUID();
+  }
+
+  // The regex validation BaseEntity used before the hand-written scanner, kept as the baseline.
+  private static Boolean legacyIsValidUUID(String _id) {
+    if(_id == null) return false;
+    Pattern UUID_REGEX_PATTERN = Pattern.compile("^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$");
+    return UUID_REGEX_PATTERN.matcher(_id).matches();
+  }
+}
@@ -0,0 +1,96 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Builds a synthetic catalog the way a loader rehydrates rows (a fresh Category/Genre/CastMember
+ * per video reference, canonicalized as it is read) and prints the retained heap with and without canonical reference entities.
+ * Run with ./gradlew heapFootprint [-Pvideos=1000000].
+ */
+public class CatalogHeapFootprint {
+  private static final int CATEGORIES = 200;
+  private static final int GENRES = 100;
+  private static final int CAST_MEMBERS = 20000;
+
+  public static void main(String[] args) {
+    int videos = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+    ReferenceEntities.setEnabled(false);
+    long withoutRegistry = measure(videos);
+    ReferenceEntities.setEnabled(true);
+    long withRegistry = measure(videos);
+
+    System.out.printf("videos: %,d%n", videos);
+    System.out.printf("retained heap, one instance per reference: %,d MB%n", withoutRegistry >> 20);
+    System.out.printf("retained heap, canonical references:       %,d MB%n", withRegistry >> 20);
+    System.out.printf("saved: %,d MB (%.1f%%)%n", (withoutRegistry - withRegistry) >> 20, 100d * (withoutRegistry - withRegistry) / withoutRegistry);
+  }
+
+  private static long measure(int videos) {
+    long before = usedHeap();
+    List<Video> catalog = load(videos);
+    long after = usedHeap();
+    if(catalog.size() != videos) throw new IllegalStateException();
+    return after - before;
+  }
+
+  private static List<Video> load(int videos) {
+    UUID[] categoryIds = ids(CATEGORIES);
+    UUID[] genreIds = ids(GENRES);
+    UUID[] castMemberIds = ids(CAST_MEMBERS);
+    Random random = new Random(42);
+    List<Video> catalog = new ArrayList<Video>(videos);
+    for (int i = 0; i < videos; i++) {
+      Video video = new Video(UUID.randomUUID(), "Video " + i, "Description " + i, 1980 + random.nextInt(40), true, "L", Duration.ofHundredths(random.nextInt(18000)));
+      for (int j = 0; j < 3; j++) {
+        video.addCategory(ReferenceEntities.categories().canonicalize(category(categoryIds[random.nextInt(CATEGORIES)])));
+      }
+      for (int j = 0; j < 2; j++) {
+        int genre = random.nextInt(GENRES);
+        List<Category> genreCategories = new ArrayList<Category>();
+        genreCategories.add(category(categoryIds[genre % CATEGORIES]));
+        genreCategories.add(category(categoryIds[(genre * 7) % CATEGORIES]));
+        video.addGenre(ReferenceEntities.genres().canonicalize(loaded(
+          new Genre(genreIds[genre], "Genre " + genre, ReferenceEntities.canonicalize(genreCategories, ReferenceEntities.categories())))));
+      }
+      for (int j = 0; j < 5; j++) {
+        int castMember = random.nextInt(CAST_MEMBERS);
+        video.addCastMember(ReferenceEntities.castMembers().canonicalize(loaded(new CastMember(castMemberIds[castMember], "Cast Member " + castMember, CastMemberType.TYPE1))));
+      }
+      catalog.add(video);
+    }
+    return catalog;
+  }
+
+  private static Category category(UUID id) {
+    return loaded(new Category(id, "Category " + id.getLeastSignificantBits() % 1000));
+  }
+
+  private static <T extends BaseEntity> T loaded(T entity) {
+    entity.markPersisted(1);
+    return entity;
+  }
+
+  private static UUID[] ids(int count) {
+    UUID[] ids = new UUID[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = UUID.randomUUID();
+    }
+    return ids;
+  }
+
+  private static long usedHeap() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class VideoAssociationBenchmark {
+  @Param({ "100", "1000", "10000" })
+  private int size;
+
+  private List<Category> categories;
+  private List<Genre> genres;
+  private List<CastMember> castMembers;
+  private Category newCategory;
+  private Video video;
+
+  // Each benchmark puts the video back the way it found it, so setup runs once and allocations are per operation.
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.categories = new ArrayList<Category>(this.size);
+    this.genres = new ArrayList<Genre>(this.size);
+    this.castMembers = new ArrayList<CastMember>(this.size);
+    for (int i = 0; i < this.size; i++) {
+      this.categories.add(new Category("Category " + i));
+      this.genres.add(new Genre("Genre " + i));
+      this.castMembers.add(new CastMember("Cast Member " + i, CastMemberType.TYPE1));
+    }
+    this.newCategory = new Category("Category " + this.size);
+    this.video = new Video("Video 1", "Description random", 2020, false);
+    this.video.setCategories(this.categories);
+    this.video.setGenres(this.genres);
+    this.video.setCastMembers(this.castMembers);
+  }
+
+  @Benchmark
+  public Video addAndRemoveCategory() {
+    this.video.addCategory(this.newCategory);
+    this.video.removeCategory(this.newCategory);
+    return this.video;
+  }
+
+  @Benchmark
+  public Video removeAndAddCategory() {
+    Category category = this.categories.get(this.size / 2);
+    this.video.removeCategory(category);
+    this.video.addCategory(category);
+    return this.video;
+  }
+
+  @Benchmark
+  public Video removeAndAddGenre() {
+    Genre genre = this.genres.get(this.size / 2);
+    this.video.removeGenre(genre);
+    this.video.addGenre(genre);
+    return this.video;
+  }
+
+  @Benchmark
+  public Video removeAndAddCastMember() {
+    CastMember castMember = this.castMembers.get(this.size / 2);
+    this.video.removeCastMember(castMember);
+    this.video.addCastMember(castMember);
+    return this.video;
+  }
+}
@@ -0,0 +1,69 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.text.DecimalFormat;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class VideoBenchmark {
+  private UUID id;
+  private Video video;
+  private VideoFile videoFile;
+
+  @Setup
+  public void setUp() {
+    this.id = UUID.randomUUID();
+    this.video = new Video(this.id, "Video 1", "Description random", 2020, false, "L", Duration.of(13.37f));
+    this.videoFile = new VideoFile("Trailer", Duration.of(2.5f), "https://cdn.example.com/trailer.mp4");
+  }
+
+  @Benchmark
+  public Video createVideo() {
+    return new Video("Video 1", "Description random", 2020, false);
+  }
+
+  @Benchmark
+  public Video createVideoWithId() {
+    return new Video(this.id, "Video 1", "Description random", 2020, false);
+  }
+
+  @Benchmark
+  public Video createVideoWithRatingAndDuration() {
+    return new Video("Video 1", "Description random", 2020, false, "L", Duration.of(13.37f));
+  }
+
+  @Benchmark
+  public Video createVideoWithIdAndRatingAndDuration() {
+    return new Video(this.id, "Video 1", "Description random", 2020, false, "L", Duration.of(13.37f));
+  }
+
+  @Benchmark
+  public Video setVideoDuration() {
+    this.video.setDuration(Duration.of(13.37f));
+    return this.video;
+  }
+
+  @Benchmark
+  public VideoFile setVideoFileDuration() {
+    this.videoFile.setDuration(Duration.of(2.5f));
+    return this.videoFile;
+  }
+
+  @Benchmark
+  public Float setDurationLegacy() {
+    DecimalFormat decimalFormat = new DecimalFormat("#.##");
+    return Float.valueOf(decimalFormat.format(13.37f));
+  }
+
+  @Benchmark
+  public Video setYearLaunched() {
+    this.video.setYearLaunched(2020);
+    return this.video;
+  }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.FCCatalogo.domain.identity;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+  private final IdGenerator random = new RandomIdGenerator();
+  private final IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+
+  @Benchmark
+  public UUID random() {
+    return this.random.generate();
+  }
+
+  @Benchmark
+  public UUID timeOrdered() {
+    return this.timeOrdered.generate();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID randomContended() {
+    return this.random.generate();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID timeOrderedContended() {
+    return this.timeOrdered.generate();
+  }
+}
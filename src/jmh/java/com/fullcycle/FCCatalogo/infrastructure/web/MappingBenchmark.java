@@ -0,0 +1,117 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.DozerConverter;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.FieldsMappingOptions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Maps a video with 3 categories, 2 genres, 4 cast members and 2 files to its detail response.
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+  private Mapper dozer;
+  private Video video;
+
+  @Setup
+  public void setUp() {
+    this.dozer = DozerBeanMapperBuilder.create()
+      .withCustomConverter(new DurationConverter())
+      .withCustomConverter(new UuidConverter())
+      .withMappingBuilder(new BeanMappingBuilder() {
+        @Override
+        protected void configure() {
+          // Dozer would otherwise map the enum by ordinal.
+          mapping(CastMember.class, CastMemberResponse.class)
+            .fields("type", "type", FieldsMappingOptions.customConverter(CastMemberTypeConverter.class));
+        }
+      })
+      .build();
+    this.video = new Video("Cidade de Deus", "Two boys growing up in a violent neighborhood", 2002, true, "16", Duration.of(130.25d));
+    for (int i = 0; i < 3; i++) {
+      this.video.addCategory(new Category("Category " + i));
+    }
+    for (int i = 0; i < 2; i++) {
+      Genre genre = new Genre("Genre " + i);
+      genre.addCategory(new Category("Genre category " + i));
+      this.video.addGenre(genre);
+    }
+    for (int i = 0; i < 4; i++) {
+      this.video.addCastMember(new CastMember("Cast member " + i, CastMemberType.TYPE1));
+    }
+    this.video.addVideoFile(new VideoFile("Trailer", Duration.of(2.5d), "trailer.mp4"));
+    this.video.addVideoFile(new VideoFile("Movie", Duration.of(130.25d), "movie.mp4"));
+    this.dozer.map(this.video, VideoDetailResponse.class);
+  }
+
+  @Benchmark
+  public VideoDetailResponse handWritten() {
+    return CatalogMapper.toDetailResponse(this.video);
+  }
+
+  @Benchmark
+  public VideoDetailResponse dozer() {
+    return this.dozer.map(this.video, VideoDetailResponse.class);
+  }
+
+  public static class DurationConverter extends DozerConverter<Duration, Double> {
+    public DurationConverter() {
+      super(Duration.class, Double.class);
+    }
+
+    @Override
+    public Double convertTo(Duration source, Double destination) {
+      return source == null ? null : source.toDouble();
+    }
+
+    @Override
+    public Duration convertFrom(Double source, Duration destination) {
+      return source == null ? null : Duration.of(source.doubleValue());
+    }
+  }
+
+  public static class CastMemberTypeConverter extends DozerConverter<CastMemberType, Integer> {
+    public CastMemberTypeConverter() {
+      super(CastMemberType.class, Integer.class);
+    }
+
+    @Override
+    public Integer convertTo(CastMemberType source, Integer destination) {
+      return source == null ? null : source.getType();
+    }
+
+    @Override
+    public CastMemberType convertFrom(Integer source, CastMemberType destination) {
+      return source == null ? null : CastMemberType.of(source);
+    }
+  }
+
+  public static class UuidConverter extends DozerConverter<UUID, UUID> {
+    public UuidConverter() {
+      super(UUID.class, UUID.class);
+    }
+
+    @Override
+    public UUID convertTo(UUID source, UUID destination) {
+      return source;
+    }
+
+    @Override
+    public UUID convertFrom(UUID source, UUID destination) {
+      return source;
+    }
+  }
+}
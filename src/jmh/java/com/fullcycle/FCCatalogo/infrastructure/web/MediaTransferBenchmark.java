@@ -0,0 +1,119 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Sending a media file to a loopback socket drained by another thread, in files per second
+ * (multiply by size for bytes). transferToSocket is what the connector's sendfile does and
+ * channelCopy MediaContent's fallback through a stream; transferToStream is transferTo into a
+ * wrapped stream and inputStreamCopy the naive copy through an 8 KiB heap array.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MediaTransferBenchmark {
+  @Param({ "1048576", "67108864" })
+  public int size;
+
+  private Path file;
+  private FileChannel channel;
+  private ServerSocketChannel server;
+  private SocketChannel client;
+  private SocketChannel accepted;
+  private OutputStream clientStream;
+  private Thread drain;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.file = Files.createTempFile("media", ".mp4");
+    byte[] chunk = new byte[1 << 20];
+    new Random(1).nextBytes(chunk);
+    try (OutputStream out = Files.newOutputStream(this.file)) {
+      for (int written = 0; written < this.size; written += chunk.length) {
+        out.write(chunk, 0, Math.min(chunk.length, this.size - written));
+      }
+    }
+    this.channel = FileChannel.open(this.file, StandardOpenOption.READ);
+    this.server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    this.client = SocketChannel.open(this.server.getLocalAddress());
+    this.accepted = this.server.accept();
+    this.clientStream = this.client.socket().getOutputStream();
+    this.drain = new Thread(() -> {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+      try {
+        while (this.accepted.read(buffer) >= 0) {
+          buffer.clear();
+        }
+      } catch (IOException e) {
+        // closed by tearDown
+      }
+    }, "media-drain");
+    this.drain.setDaemon(true);
+    this.drain.start();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    this.client.close();
+    this.drain.join(1000);
+    this.accepted.close();
+    this.server.close();
+    this.channel.close();
+    Files.deleteIfExists(this.file);
+  }
+
+  @Benchmark
+  public void transferToSocket() throws IOException {
+    transfer(this.channel, this.size, this.client);
+  }
+
+  @Benchmark
+  public void transferToStream() throws IOException {
+    transfer(this.channel, this.size, Channels.newChannel(this.clientStream));
+  }
+
+  @Benchmark
+  public void channelCopy() throws IOException {
+    MediaContent.copy(this.channel, 0, this.size, this.clientStream, new byte[MediaContent.BUFFER_SIZE]);
+  }
+
+  @Benchmark
+  public void inputStreamCopy() throws IOException {
+    byte[] buffer = new byte[8192];
+    try (InputStream in = Files.newInputStream(this.file)) {
+      int read;
+      while ((read = in.read(buffer)) > 0) {
+        this.clientStream.write(buffer, 0, read);
+      }
+    }
+  }
+
+  private static void transfer(FileChannel channel, long count, WritableByteChannel target) throws IOException {
+    long position = 0;
+    while (position < count) {
+      position += channel.transferTo(position, count - position, target);
+    }
+  }
+}
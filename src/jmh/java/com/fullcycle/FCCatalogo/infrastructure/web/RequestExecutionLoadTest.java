@@ -0,0 +1,157 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fullcycle.FCCatalogo.infrastructure.concurrent.ExecutionMode;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+/**
+ * Drives an embedded Tomcat, configured by RequestExecutorCustomizer exactly as the application
+ * is, with a fixed number of concurrent clients against an endpoint that blocks like a slow
+ * query, once per execution mode. It prints throughput and latency percentiles for each.
+ *
+ * The handler sleeps rather than querying a database, so the connection pool does not cap both
+ * modes at the same number of queries in flight; what is measured is how many blocked requests
+ * each mode can hold at once. VIRTUAL needs Java 21 and reports as PLATFORM on older runtimes.
+ *
+ *   ./gradlew requestLoadTest -Pconcurrency=2000 -Prequests=40000 -PqueryMillis=100 -PloadTestJava=/path/to/jdk21/bin/java
+ */
+public final class RequestExecutionLoadTest {
+  private static final byte[] REQUEST = "GET /query HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+  private RequestExecutionLoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    int requests = args.length > 1 ? Integer.parseInt(args[1]) : 40000;
+    long queryMillis = args.length > 2 ? Long.parseLong(args[2]) : 100;
+    System.out.printf("Java %s, %d concurrent clients, %d requests, %d ms per query%n", Runtime.version(), concurrency, requests, queryMillis);
+    for (ExecutionMode mode : ExecutionMode.values()) {
+      run(mode, concurrency, requests, queryMillis);
+    }
+  }
+
+  private static void run(ExecutionMode requested, int concurrency, int requests, long queryMillis) throws Exception {
+    ExecutionMode mode = requested.orFallback();
+    RequestExecutorCustomizer customizer = new RequestExecutorCustomizer(mode);
+    TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+    factory.addProtocolHandlerCustomizers(customizer);
+    factory.addConnectorCustomizers(connector -> {
+      connector.setProperty("acceptCount", String.valueOf(concurrency));
+      connector.setProperty("maxKeepAliveRequests", "-1");
+    });
+    WebServer server = factory.getWebServer(context -> context.addServlet("slowQuery", new SlowQueryServlet(queryMillis)).addMapping("/query"));
+    server.start();
+    try {
+      drive(server.getPort(), concurrency, new long[Math.min(requests, concurrency * 2)]);
+      long[] latencies = new long[requests];
+      long started = System.nanoTime();
+      int failed = drive(server.getPort(), concurrency, latencies);
+      long elapsed = System.nanoTime() - started;
+      Arrays.sort(latencies);
+      System.out.printf("%-8s%s throughput %8.0f req/s   p50 %6d ms   p99 %6d ms   max %6d ms   failed %d%n",
+        requested, mode != requested ? " (fell back to " + mode + ")" : "",
+        requests / (elapsed / 1e9), millis(latencies, 0.50), millis(latencies, 0.99), latencies[latencies.length - 1] / 1000000, failed);
+    } finally {
+      server.stop();
+      customizer.destroy();
+    }
+  }
+
+  /*
+   * One platform thread per client, each on its own keep-alive connection, issuing requests back to
+   * back until latencies.length have completed. Blocking sockets keep the client itself from being
+   * the bottleneck at a few thousand connections.
+   */
+  private static int drive(int port, int concurrency, long[] latencies) throws InterruptedException {
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    Thread[] clients = new Thread[concurrency];
+    for (int c = 0; c < concurrency; c++) {
+      clients[c] = new Thread(() -> {
+        try (Socket socket = new Socket("localhost", port)) {
+          socket.setTcpNoDelay(true);
+          OutputStream out = socket.getOutputStream();
+          InputStream in = new BufferedInputStream(socket.getInputStream());
+          for (int slot = next.getAndIncrement(); slot < latencies.length; slot = next.getAndIncrement()) {
+            long sent = System.nanoTime();
+            out.write(REQUEST);
+            out.flush();
+            if(!readResponse(in)) failed.incrementAndGet();
+            latencies[slot] = System.nanoTime() - sent;
+          }
+        } catch (IOException e) {
+          failed.incrementAndGet();
+        }
+      }, "client-" + c);
+      clients[c].start();
+    }
+    for (Thread client : clients) {
+      client.join();
+    }
+    return failed.get();
+  }
+
+  // Reads the status line and headers, then skips Content-Length bytes of body; true for a 200.
+  private static boolean readResponse(InputStream in) throws IOException {
+    String status = readLine(in);
+    int contentLength = 0;
+    for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+      if(header.regionMatches(true, 0, "Content-Length:", 0, 15)) contentLength = Integer.parseInt(header.substring(15).trim());
+    }
+    for (int i = 0; i < contentLength; i++) {
+      if(in.read() < 0) throw new EOFException();
+    }
+    return status.startsWith("HTTP/1.1 200");
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    for (int b = in.read(); b != '\n'; b = in.read()) {
+      if(b < 0) throw new EOFException();
+      if(b != '\r') line.append((char) b);
+    }
+    return line.toString();
+  }
+
+  private static long millis(long[] sorted, double percentile) {
+    return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)] / 1000000;
+  }
+
+  private static final class SlowQueryServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private final long queryMillis;
+
+    private SlowQueryServlet(long queryMillis) {
+      this.queryMillis = queryMillis;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+      try {
+        Thread.sleep(this.queryMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        return;
+      }
+      response.setContentType("text/plain");
+      response.getWriter().write("ok");
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+import java.util.UUID;
+
+public enum AggregateFacet {
+  CATEGORY("categories"), GENRE("genres"), CAST_MEMBER("cast-members"), RATING("ratings"), YEAR_LAUNCHED("years-launched");
+
+  private final String name;
+
+  private AggregateFacet(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  // A value as it appears in a path: an id for the entity facets, a year, or a rating as is.
+  public Object parse(String value) {
+    if(value == null) throw new IllegalArgumentException("value is marked non-null but is null");
+    switch (this) {
+      case RATING:
+        return value;
+      case YEAR_LAUNCHED:
+        return Integer.valueOf(value);
+      default:
+        return UUID.fromString(value);
+    }
+  }
+
+  public static AggregateFacet of(String name) {
+    if(name == null) throw new IllegalArgumentException("facet is marked non-null but is null");
+    for (AggregateFacet facet : values()) {
+      if(facet.name.equals(name)) return facet;
+    }
+    throw new IllegalArgumentException("facet must be one of categories, genres, cast-members, ratings, years-launched");
+  }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+public final class AggregateMismatch {
+  private final AggregateFacet facet;
+  private final Object value;
+  private final Totals expected;
+  private final Totals actual;
+
+  AggregateMismatch(AggregateFacet facet, Object value, Totals expected, Totals actual) {
+    this.facet = facet;
+    this.value = value;
+    this.expected = expected;
+    this.actual = actual;
+  }
+
+  // Null for the catalog total.
+  public AggregateFacet getFacet() {
+    return this.facet;
+  }
+
+  public Object getValue() {
+    return this.value;
+  }
+
+  // From the full recount.
+  public Totals getExpected() {
+    return this.expected;
+  }
+
+  // As maintained by deltas.
+  public Totals getActual() {
+    return this.actual;
+  }
+
+  @Override
+  public String toString() {
+    return (this.facet == null ? "total" : this.facet.getName() + " " + this.value) + ": expected " + this.expected + " but was " + this.actual;
+  }
+}
@@ -0,0 +1,32 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+import java.util.List;
+
+public final class AggregateReport {
+  private final boolean conclusive;
+  private final long videos;
+  private final List<AggregateMismatch> mismatches;
+
+  AggregateReport(boolean conclusive, long videos, List<AggregateMismatch> mismatches) {
+    this.conclusive = conclusive;
+    this.videos = videos;
+    this.mismatches = mismatches;
+  }
+
+  // False when writes overlapped every recount; nothing was compared then.
+  public boolean isConclusive() {
+    return this.conclusive;
+  }
+
+  public long getVideos() {
+    return this.videos;
+  }
+
+  public List<AggregateMismatch> getMismatches() {
+    return this.mismatches;
+  }
+
+  public boolean isConsistent() {
+    return this.conclusive && this.mismatches.isEmpty();
+  }
+}
@@ -0,0 +1,221 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+/**
+ * Video count and total duration per category, genre, cast member, rating and year launched,
+ * kept current by deltas instead of GROUP BY scans. A write hands over each video's facets before
+ * and after it; only the values that differ are touched, so reads are one map lookup and a save
+ * costs a few merges whatever the catalog size.
+ *
+ * Deltas are collected per transaction in Changes and applied once it commits. rebuild() and
+ * verify() recompute everything with one scan; the scan is only trusted if no Changes were open
+ * or applied while it ran, since otherwise a write could be counted twice or not at all.
+ */
+public class CatalogAggregates {
+  public static final int MAX_ATTEMPTS = 3;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicInteger open = new AtomicInteger();
+  private volatile State state = new State();
+
+  public Totals total() {
+    return this.state.total.get();
+  }
+
+  public Totals get(AggregateFacet facet, Object value) {
+    if(facet == null) throw new IllegalArgumentException("facet is marked non-null but is null");
+    if(value == null) return Totals.ZERO;
+    Totals totals = this.state.facets.get(facet).get(value);
+    return totals == null ? Totals.ZERO : totals;
+  }
+
+  // A copy of every value of the facet.
+  public Map<Object, Totals> get(AggregateFacet facet) {
+    if(facet == null) throw new IllegalArgumentException("facet is marked non-null but is null");
+    return new HashMap<Object, Totals>(this.state.facets.get(facet));
+  }
+
+  // One per transaction; commit() applies what it collected, abort() drops it. Either must be called.
+  public Changes begin() {
+    this.open.incrementAndGet();
+    return new Changes();
+  }
+
+  // Swaps in a full recount; false if writes kept overlapping the scan MAX_ATTEMPTS times.
+  public boolean rebuild(VideoRepository videoRepository) {
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      Recount recount = this.recount();
+      videoRepository.forEach(VideoFetchPlan.DETAIL, recount::add);
+      if(recount.finish()) return true;
+    }
+    return false;
+  }
+
+  // A recount fed from a scan the caller runs, e.g. one shared with other read models; take it before the scan starts.
+  public Recount recount() {
+    return new Recount(this.generation.get());
+  }
+
+  // Compares the maintained values with a full recount; inconclusive if writes kept overlapping the scan.
+  public AggregateReport verify(VideoRepository videoRepository) {
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      long generation = this.generation.get();
+      State recount = count(videoRepository);
+      this.lock.writeLock().lock();
+      try {
+        if(this.quietSince(generation)) return new AggregateReport(true, recount.total.get().getCount(), compare(recount, this.state));
+      } finally {
+        this.lock.writeLock().unlock();
+      }
+    }
+    return new AggregateReport(false, 0, Collections.emptyList());
+  }
+
+  private boolean quietSince(long generation) {
+    return this.generation.get() == generation && this.open.get() == 0;
+  }
+
+  private static State count(VideoRepository videoRepository) {
+    State recount = new State();
+    videoRepository.forEach(VideoFetchPlan.DETAIL, video -> recount.apply(null, VideoFacets.of(video)));
+    return recount;
+  }
+
+  private static List<AggregateMismatch> compare(State expected, State actual) {
+    List<AggregateMismatch> mismatches = new ArrayList<AggregateMismatch>();
+    if(!expected.total.get().equals(actual.total.get())) mismatches.add(new AggregateMismatch(null, null, expected.total.get(), actual.total.get()));
+    for (AggregateFacet facet : AggregateFacet.values()) {
+      Map<Object, Totals> expectedValues = expected.facets.get(facet);
+      Map<Object, Totals> actualValues = actual.facets.get(facet);
+      Set<Object> values = new HashSet<Object>(expectedValues.keySet());
+      values.addAll(actualValues.keySet());
+      for (Object value : values) {
+        Totals want = expectedValues.getOrDefault(value, Totals.ZERO);
+        Totals have = actualValues.getOrDefault(value, Totals.ZERO);
+        if(!want.equals(have)) mismatches.add(new AggregateMismatch(facet, value, want, have));
+      }
+    }
+    return mismatches;
+  }
+
+  public final class Recount {
+    private final long generation;
+    private final State state = new State();
+
+    private Recount(long generation) {
+      this.generation = generation;
+    }
+
+    public void add(Video video) {
+      if(video == null) throw new IllegalArgumentException("video is marked non-null but is null");
+      this.state.apply(null, VideoFacets.of(video));
+    }
+
+    // Swaps the recount in; false, leaving the counts as they were, if writes overlapped the scan.
+    public boolean finish() {
+      CatalogAggregates.this.lock.writeLock().lock();
+      try {
+        if(!CatalogAggregates.this.quietSince(this.generation)) return false;
+        CatalogAggregates.this.state = this.state;
+        return true;
+      } finally {
+        CatalogAggregates.this.lock.writeLock().unlock();
+      }
+    }
+  }
+
+  public final class Changes {
+    private final List<VideoFacets[]> changes = new ArrayList<VideoFacets[]>();
+    private boolean closed;
+
+    private Changes() {
+    }
+
+    // before is null for a new video, after for a deleted one.
+    public void change(VideoFacets before, VideoFacets after) {
+      if(this.closed) throw new IllegalStateException("changes are already closed");
+      if(before != null || after != null) this.changes.add(new VideoFacets[] { before, after });
+    }
+
+    public void commit() {
+      if(this.closed) return;
+      this.closed = true;
+      CatalogAggregates.this.lock.readLock().lock();
+      try {
+        State state = CatalogAggregates.this.state;
+        for (VideoFacets[] change : this.changes) {
+          state.apply(change[0], change[1]);
+        }
+        CatalogAggregates.this.generation.incrementAndGet();
+      } finally {
+        CatalogAggregates.this.open.decrementAndGet();
+        CatalogAggregates.this.lock.readLock().unlock();
+      }
+    }
+
+    public void abort() {
+      if(this.closed) return;
+      this.closed = true;
+      CatalogAggregates.this.open.decrementAndGet();
+    }
+  }
+
+  private static final class State {
+    private final AtomicReference<Totals> total = new AtomicReference<Totals>(Totals.ZERO);
+    private final Map<AggregateFacet, ConcurrentHashMap<Object, Totals>> facets = new EnumMap<AggregateFacet, ConcurrentHashMap<Object, Totals>>(AggregateFacet.class);
+
+    private State() {
+      for (AggregateFacet facet : AggregateFacet.values()) {
+        this.facets.put(facet, new ConcurrentHashMap<Object, Totals>());
+      }
+    }
+
+    // A value in both keeps its count and moves by the duration difference; the rest are added or taken away whole.
+    private void apply(VideoFacets before, VideoFacets after) {
+      long durationBefore = before == null ? 0 : before.getDurationHundredths();
+      long durationAfter = after == null ? 0 : after.getDurationHundredths();
+      Totals total = new Totals((after == null ? 0 : 1) - (before == null ? 0 : 1), durationAfter - durationBefore);
+      if(!total.isZero()) this.total.accumulateAndGet(total, (a, b) -> {
+        Totals sum = Totals.sum(a, b);
+        return sum == null ? Totals.ZERO : sum;
+      });
+      for (AggregateFacet facet : AggregateFacet.values()) {
+        ConcurrentHashMap<Object, Totals> values = this.facets.get(facet);
+        Collection<?> valuesBefore = before == null ? Collections.emptySet() : before.values(facet);
+        Collection<?> valuesAfter = after == null ? Collections.emptySet() : after.values(facet);
+        for (Object value : valuesBefore) {
+          if(!valuesAfter.contains(value)) {
+            values.merge(value, new Totals(-1, -durationBefore), Totals::sum);
+          } else if(durationAfter != durationBefore) {
+            values.merge(value, new Totals(0, durationAfter - durationBefore), Totals::sum);
+          }
+        }
+        for (Object value : valuesAfter) {
+          if(!valuesBefore.contains(value)) values.merge(value, new Totals(1, durationAfter), Totals::sum);
+        }
+      }
+    }
+  }
+}
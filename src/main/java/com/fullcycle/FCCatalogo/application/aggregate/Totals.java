@@ -0,0 +1,58 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+// Video count and summed duration for one facet value. Immutable, so a reader always sees a matching pair.
+public final class Totals {
+  public static final Totals ZERO = new Totals(0, 0);
+
+  private final long count;
+  private final long durationHundredths;
+
+  Totals(long count, long durationHundredths) {
+    this.count = count;
+    this.durationHundredths = durationHundredths;
+  }
+
+  public long getCount() {
+    return this.count;
+  }
+
+  /**
+   * Deltas of one video's consecutive writes can be applied out of order when their commits race,
+   * which may leave a sum below zero for an instant; it reads as zero.
+   */
+  public Duration getDuration() {
+    return Duration.ofHundredths(Math.max(0, this.durationHundredths));
+  }
+
+  long getDurationHundredths() {
+    return this.durationHundredths;
+  }
+
+  boolean isZero() {
+    return this.count == 0 && this.durationHundredths == 0;
+  }
+
+  // Null when the sum is zero, so merge() drops the entry.
+  static Totals sum(Totals a, Totals b) {
+    Totals sum = new Totals(a.count + b.count, a.durationHundredths + b.durationHundredths);
+    return sum.isZero() ? null : sum;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if(!(other instanceof Totals)) return false;
+    return this.count == ((Totals) other).count && this.durationHundredths == ((Totals) other).durationHundredths;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.count) * 31 + Long.hashCode(this.durationHundredths);
+  }
+
+  @Override
+  public String toString() {
+    return this.count + " videos, " + this.getDuration();
+  }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+// The part of a video the aggregates count: its facet values and its duration (none counts as zero).
+public final class VideoFacets {
+  private final Set<UUID> categories;
+  private final Set<UUID> genres;
+  private final Set<UUID> castMembers;
+  private final String rating;
+  private final Integer yearLaunched;
+  private final long durationHundredths;
+
+  public VideoFacets(Set<UUID> categories, Set<UUID> genres, Set<UUID> castMembers, String rating, Integer yearLaunched, long durationHundredths) {
+    if(categories == null) throw new IllegalArgumentException("categories are marked non-null but are null");
+    if(genres == null) throw new IllegalArgumentException("genres are marked non-null but are null");
+    if(castMembers == null) throw new IllegalArgumentException("castMembers are marked non-null but are null");
+    this.categories = categories;
+    this.genres = genres;
+    this.castMembers = castMembers;
+    this.rating = rating;
+    this.yearLaunched = yearLaunched;
+    this.durationHundredths = durationHundredths;
+  }
+
+  public static VideoFacets of(Video video) {
+    Duration duration = video.getDuration();
+    return new VideoFacets(ids(video.getCategories()), ids(video.getGenres()), ids(video.getCastMembers()), video.getRating(), video.getYearLaunched(),
+      duration == null ? 0 : duration.toHundredths());
+  }
+
+  public static Set<UUID> ids(Collection<? extends BaseEntity> entities) {
+    if(entities.isEmpty()) return Collections.emptySet();
+    Set<UUID> ids = new HashSet<UUID>(entities.size() * 2);
+    for (BaseEntity entity : entities) {
+      ids.add(entity.getId());
+    }
+    return ids;
+  }
+
+  long getDurationHundredths() {
+    return this.durationHundredths;
+  }
+
+  // The values this video counts under; a missing rating or year counts under none.
+  Collection<?> values(AggregateFacet facet) {
+    switch (facet) {
+      case CATEGORY:
+        return this.categories;
+      case GENRE:
+        return this.genres;
+      case CAST_MEMBER:
+        return this.castMembers;
+      case RATING:
+        return this.rating == null ? Collections.emptySet() : Collections.singleton(this.rating);
+      case YEAR_LAUNCHED:
+        return this.yearLaunched == null ? Collections.emptySet() : Collections.singleton(this.yearLaunched);
+      default:
+        throw new IllegalStateException("unknown facet " + facet);
+    }
+  }
+}
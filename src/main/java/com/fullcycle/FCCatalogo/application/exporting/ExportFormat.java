@@ -0,0 +1,32 @@
+package com.fullcycle.FCCatalogo.application.exporting;
+
+public enum ExportFormat {
+  NDJSON("ndjson", "application/x-ndjson", "videos.ndjson"),
+  CSV_GZIP("csv", "application/gzip", "videos.csv.gz");
+
+  private final String name;
+  private final String contentType;
+  private final String fileName;
+
+  private ExportFormat(String name, String contentType, String fileName) {
+    this.name = name;
+    this.contentType = contentType;
+    this.fileName = fileName;
+  }
+
+  public String getContentType() {
+    return this.contentType;
+  }
+
+  public String getFileName() {
+    return this.fileName;
+  }
+
+  public static ExportFormat of(String name) {
+    if(name == null) throw new IllegalArgumentException("format is marked non-null but is null");
+    for (ExportFormat format : values()) {
+      if(format.name.equalsIgnoreCase(name)) return format;
+    }
+    throw new IllegalArgumentException("format must be ndjson or csv");
+  }
+}
@@ -0,0 +1,234 @@
+package com.fullcycle.FCCatalogo.application.exporting;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+/**
+ * Dumps every video with its full graph. Rows come from VideoRepository.forEach one chunk at a
+ * time and each is serialized straight to the output, so heap use does not depend on catalog size.
+ */
+public class VideoExporter {
+  private static final String CSV_HEADER = "id,title,description,year_launched,opened,rating,duration,categories,genres,cast_members,video_files";
+
+  private final VideoRepository videoRepository;
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final CatalogMetrics metrics;
+
+  public VideoExporter(VideoRepository videoRepository) {
+    this(videoRepository, CatalogMetrics.disabled());
+  }
+
+  public VideoExporter(VideoRepository videoRepository, CatalogMetrics metrics) {
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    if(metrics == null) throw new IllegalArgumentException("metrics is marked non-null but is null");
+    this.videoRepository = videoRepository;
+    this.metrics = metrics;
+  }
+
+  // Returns the number of videos written. Closes nothing but what it opened; the caller owns output.
+  public long export(OutputStream output, ExportFormat format) throws IOException {
+    if(output == null) throw new IllegalArgumentException("output is marked non-null but is null");
+    if(format == null) throw new IllegalArgumentException("format is marked non-null but is null");
+    long started = System.nanoTime();
+    long written;
+    try {
+      written = format == ExportFormat.NDJSON ? this.exportNdjson(output) : this.exportCsvGzip(output);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    this.recordRun(format, written, System.nanoTime() - started);
+    return written;
+  }
+
+  // Throughput is videos written per second of the whole export, one value per export.
+  private void recordRun(ExportFormat format, long written, long elapsed) {
+    String tag = format.name().toLowerCase();
+    this.metrics.timer("catalog.export.duration", "format", tag).record(elapsed, TimeUnit.NANOSECONDS);
+    this.metrics.counter("catalog.export.records", "format", tag).increment(written);
+    this.metrics.distribution("catalog.export.throughput", "format", tag).record(written * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1));
+  }
+
+  // Writes next to target and renames on success, so readers never see a partial dump.
+  public long export(Path target, ExportFormat format) throws IOException {
+    if(target == null) throw new IllegalArgumentException("target is marked non-null but is null");
+    Path directory = target.toAbsolutePath().getParent();
+    Path partial = Files.createTempFile(directory, target.getFileName().toString(), ".partial");
+    try {
+      long written;
+      try (OutputStream output = Files.newOutputStream(partial)) {
+        written = this.export(output, format);
+      }
+      Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return written;
+    } finally {
+      Files.deleteIfExists(partial);
+    }
+  }
+
+  private long exportNdjson(OutputStream output) throws IOException {
+    long[] written = { 0 };
+    JsonGenerator generator = this.jsonFactory.createGenerator(output, JsonEncoding.UTF8);
+    generator.setRootValueSeparator(null);
+    this.videoRepository.forEach(VideoFetchPlan.FULL_GRAPH, video -> {
+      try {
+        this.writeJson(generator, video);
+        generator.writeRaw('\n');
+        written[0]++;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    generator.flush();
+    return written[0];
+  }
+
+  private void writeJson(JsonGenerator generator, Video video) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("id", video.getId().toString());
+    generator.writeStringField("title", video.getTitle());
+    generator.writeStringField("description", video.getDescription());
+    generator.writeNumberField("yearLaunched", video.getYearLaunched());
+    if(video.isOpened() != null) generator.writeBooleanField("opened", video.isOpened());
+    generator.writeStringField("rating", video.getRating());
+    if(video.getDuration() != null) {
+      generator.writeFieldName("duration");
+      generator.writeNumber(video.getDuration().toString());
+    }
+    generator.writeArrayFieldStart("categories");
+    for (Category category : video.getCategories()) {
+      generator.writeStartObject();
+      generator.writeStringField("id", category.getId().toString());
+      generator.writeStringField("name", category.getName());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart("genres");
+    for (Genre genre : video.getGenres()) {
+      generator.writeStartObject();
+      generator.writeStringField("id", genre.getId().toString());
+      generator.writeStringField("name", genre.getName());
+      generator.writeArrayFieldStart("categories");
+      for (Category category : genre.getCategories()) {
+        generator.writeString(category.getId().toString());
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart("castMembers");
+    for (CastMember castMember : video.getCastMembers()) {
+      generator.writeStartObject();
+      generator.writeStringField("id", castMember.getId().toString());
+      generator.writeStringField("name", castMember.getName());
+      if(castMember.getType() != null) generator.writeNumberField("type", castMember.getType().getType());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart("videoFiles");
+    for (VideoFile videoFile : video.getVideoFiles()) {
+      generator.writeStartObject();
+      generator.writeStringField("id", videoFile.getId().toString());
+      generator.writeStringField("title", videoFile.getTitle());
+      generator.writeFieldName("duration");
+      generator.writeNumber(videoFile.getDuration().toString());
+      generator.writeStringField("url", videoFile.getUrl());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private long exportCsvGzip(OutputStream output) throws IOException {
+    long[] written = { 0 };
+    GZIPOutputStream gzip = new GZIPOutputStream(output, 64 * 1024);
+    Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), 64 * 1024);
+    writer.write(CSV_HEADER);
+    writer.write('\n');
+    this.videoRepository.forEach(VideoFetchPlan.FULL_GRAPH, video -> {
+      try {
+        this.writeCsv(writer, video);
+        written[0]++;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    writer.flush();
+    gzip.finish();
+    return written[0];
+  }
+
+  // Multi-valued columns hold names (urls for files) joined with '|'.
+  private void writeCsv(Writer writer, Video video) throws IOException {
+    writer.write(video.getId().toString());
+    writer.write(',');
+    writeCsvField(writer, video.getTitle());
+    writer.write(',');
+    writeCsvField(writer, video.getDescription());
+    writer.write(',');
+    writer.write(String.valueOf(video.getYearLaunched()));
+    writer.write(',');
+    if(video.isOpened() != null) writer.write(video.isOpened().toString());
+    writer.write(',');
+    writeCsvField(writer, video.getRating());
+    writer.write(',');
+    if(video.getDuration() != null) writer.write(video.getDuration().toString());
+    writer.write(',');
+    writeCsvField(writer, joined(video.getCategories(), Category::getName));
+    writer.write(',');
+    writeCsvField(writer, joined(video.getGenres(), Genre::getName));
+    writer.write(',');
+    writeCsvField(writer, joined(video.getCastMembers(), CastMember::getName));
+    writer.write(',');
+    writeCsvField(writer, joined(video.getVideoFiles(), VideoFile::getUrl));
+    writer.write('\n');
+  }
+
+  private static <T> String joined(Collection<T> values, Function<T, String> name) {
+    StringJoiner joiner = new StringJoiner("|");
+    for (T value : values) {
+      joiner.add(String.valueOf(name.apply(value)));
+    }
+    return joiner.toString();
+  }
+
+  private static void writeCsvField(Writer writer, String value) throws IOException {
+    if(value == null) return;
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if(!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
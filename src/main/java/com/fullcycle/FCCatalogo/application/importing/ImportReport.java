@@ -0,0 +1,29 @@
+package com.fullcycle.FCCatalogo.application.importing;
+
+import java.util.Collections;
+import java.util.List;
+
+// Only the first errors are kept, so a bad file cannot grow the report without bound; failed counts them all.
+public class ImportReport {
+  private final long imported;
+  private final long failed;
+  private final List<ImportError> errors;
+
+  public ImportReport(long imported, long failed, List<ImportError> errors) {
+    this.imported = imported;
+    this.failed = failed;
+    this.errors = Collections.unmodifiableList(errors);
+  }
+
+  public long getImported() {
+    return this.imported;
+  }
+
+  public long getFailed() {
+    return this.failed;
+  }
+
+  public List<ImportError> getErrors() {
+    return this.errors;
+  }
+}
@@ -0,0 +1,250 @@
+package com.fullcycle.FCCatalogo.application.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.application.metrics.Counter;
+import com.fullcycle.FCCatalogo.application.metrics.Distribution;
+import com.fullcycle.FCCatalogo.application.metrics.Timer;
+import com.fullcycle.FCCatalogo.application.metrics.ValidationFailures;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.validation.ValidationResult;
+import com.fullcycle.FCCatalogo.domain.validation.VideoDraft;
+import com.fullcycle.FCCatalogo.domain.validation.VideoDraftValidator;
+
+/**
+ * Imports NDJSON in three stages joined by bounded queues: the caller's thread reads lines into
+ * batches, workers parse and validate them, writers persist each batch with one saveAll. A full
+ * queue blocks the stage feeding it, so at most a few batches per thread are ever in memory
+ * whatever the size of the input. Bad lines are reported with every violation they have and
+ * skipped without an exception being thrown; a batch the database rejects is retried row by row so
+ * only the offending lines fail.
+ */
+public class VideoImporter {
+  public static final int MAX_REPORTED_ERRORS = 100;
+
+  private static final Batch END = new Batch(new long[0], new ArrayList<Object>(0));
+
+  private final VideoRepository videoRepository;
+  private final VideoRecordParser parser = new VideoRecordParser();
+  private final VideoDraftValidator validator = new VideoDraftValidator();
+  private final int batchSize;
+  private final int workers;
+  private final int writers;
+  private final Timer duration;
+  private final Timer construction;
+  private final Counter imported;
+  private final Counter failed;
+  private final Distribution throughput;
+  private final ValidationFailures validationFailures;
+
+  public VideoImporter(VideoRepository videoRepository, int batchSize, int workers, int writers) {
+    this(videoRepository, batchSize, workers, writers, CatalogMetrics.disabled());
+  }
+
+  public VideoImporter(VideoRepository videoRepository, int batchSize, int workers, int writers, CatalogMetrics metrics) {
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be greater than zero");
+    if(workers <= 0) throw new IllegalArgumentException("workers must be greater than zero");
+    if(writers <= 0) throw new IllegalArgumentException("writers must be greater than zero");
+    if(metrics == null) throw new IllegalArgumentException("metrics is marked non-null but is null");
+    this.videoRepository = videoRepository;
+    this.batchSize = batchSize;
+    this.workers = workers;
+    this.writers = writers;
+    this.duration = metrics.timer("catalog.import.duration");
+    this.construction = metrics.timer("catalog.entity.construction", "source", "import");
+    this.imported = metrics.counter("catalog.import.records", "outcome", "imported");
+    this.failed = metrics.counter("catalog.import.records", "outcome", "failed");
+    this.throughput = metrics.distribution("catalog.import.throughput");
+    this.validationFailures = new ValidationFailures(metrics, "import");
+  }
+
+  public ImportReport importNdjson(InputStream input) throws IOException {
+    if(input == null) throw new IllegalArgumentException("input is marked non-null but is null");
+    long started = System.nanoTime();
+    Run run = new Run();
+    ExecutorService executor = Executors.newFixedThreadPool(this.workers + this.writers);
+    try {
+      for (int i = 0; i < this.workers; i++) {
+        executor.execute(() -> run.guard(() -> this.validate(run)));
+      }
+      for (int i = 0; i < this.writers; i++) {
+        executor.execute(() -> run.guard(() -> this.persist(run)));
+      }
+      this.read(input, run);
+      executor.shutdown();
+      while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+        run.checkFailure();
+      }
+      run.checkFailure();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("import was interrupted", e);
+    } finally {
+      executor.shutdownNow();
+    }
+    this.recordRun(run, System.nanoTime() - started);
+    List<ImportError> errors = new ArrayList<ImportError>(run.errors);
+    errors.sort(Comparator.comparingLong(ImportError::getLine));
+    return new ImportReport(run.imported.get(), run.failed.get(), errors);
+  }
+
+  // Throughput is videos imported per second of the whole run, one value per run.
+  private void recordRun(Run run, long elapsed) {
+    this.duration.record(elapsed, TimeUnit.NANOSECONDS);
+    this.imported.increment(run.imported.get());
+    this.failed.increment(run.failed.get());
+    this.throughput.record(run.imported.get() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1));
+  }
+
+  private void read(InputStream input, Run run) throws IOException, InterruptedException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    long[] lines = new long[this.batchSize];
+    List<Object> records = new ArrayList<Object>(this.batchSize);
+    long lineNumber = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if(line.trim().isEmpty()) continue;
+      lines[records.size()] = lineNumber;
+      records.add(line);
+      if(records.size() == this.batchSize) {
+        run.put(run.parsed, new Batch(lines, records));
+        lines = new long[this.batchSize];
+        records = new ArrayList<Object>(this.batchSize);
+      }
+    }
+    if(!records.isEmpty()) run.put(run.parsed, new Batch(lines, records));
+    for (int i = 0; i < this.workers; i++) {
+      run.put(run.parsed, END);
+    }
+  }
+
+  private void validate(Run run) throws InterruptedException {
+    Batch batch;
+    while ((batch = run.parsed.take()) != END) {
+      long[] lines = new long[batch.records.size()];
+      List<Object> videos = new ArrayList<Object>(batch.records.size());
+      for (int i = 0; i < batch.records.size(); i++) {
+        long started = this.construction.start();
+        try {
+          VideoDraft draft = this.parser.parseDraft((String) batch.records.get(i));
+          ValidationResult result = this.validator.validate(draft);
+          if(!result.isValid()) {
+            this.validationFailures.record(result);
+            run.fail(batch.lines[i], result.getMessage());
+            continue;
+          }
+          Video video = draft.toVideo();
+          this.construction.stop(started);
+          lines[videos.size()] = batch.lines[i];
+          videos.add(video);
+        } catch (Exception e) {
+          if(e instanceof IllegalArgumentException) this.validationFailures.record((IllegalArgumentException) e);
+          run.fail(batch.lines[i], e);
+        }
+      }
+      if(!videos.isEmpty()) run.put(run.validated, new Batch(lines, videos));
+    }
+    if(run.runningWorkers.decrementAndGet() == 0) {
+      for (int i = 0; i < this.writers; i++) {
+        run.put(run.validated, END);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void persist(Run run) throws InterruptedException {
+    Batch batch;
+    while ((batch = run.validated.take()) != END) {
+      List<Video> videos = (List<Video>) (List<?>) batch.records;
+      try {
+        this.videoRepository.saveAll(videos);
+        run.imported.addAndGet(videos.size());
+      } catch (RuntimeException batchFailure) {
+        for (int i = 0; i < videos.size(); i++) {
+          try {
+            this.videoRepository.save(videos.get(i));
+            run.imported.incrementAndGet();
+          } catch (RuntimeException e) {
+            run.fail(batch.lines[i], e);
+          }
+        }
+      }
+    }
+  }
+
+  private static final class Batch {
+    private final long[] lines;
+    private final List<Object> records;
+
+    private Batch(long[] lines, List<Object> records) {
+      this.lines = lines;
+      this.records = records;
+    }
+  }
+
+  private final class Run {
+    private final BlockingQueue<Batch> parsed = new ArrayBlockingQueue<Batch>(VideoImporter.this.workers * 2);
+    private final BlockingQueue<Batch> validated = new ArrayBlockingQueue<Batch>(VideoImporter.this.writers * 2);
+    private final AtomicInteger runningWorkers = new AtomicInteger(VideoImporter.this.workers);
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ImportError> errors = new ArrayList<ImportError>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+    private void fail(long line, Exception e) {
+      this.fail(line, String.valueOf(e.getMessage()));
+    }
+
+    private void fail(long line, String message) {
+      this.failed.incrementAndGet();
+      synchronized (this.errors) {
+        if(this.errors.size() < MAX_REPORTED_ERRORS) this.errors.add(new ImportError(line, message));
+      }
+    }
+
+    // Blocks while the next stage is behind, but gives up if any stage has died, so nothing waits forever.
+    private void put(BlockingQueue<Batch> queue, Batch batch) throws InterruptedException {
+      while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+        this.checkFailure();
+      }
+    }
+
+    private void guard(Stage stage) {
+      try {
+        stage.run();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Throwable e) {
+        this.failure.compareAndSet(null, e);
+      }
+    }
+
+    private void checkFailure() {
+      Throwable e = this.failure.get();
+      if(e != null) throw new IllegalStateException("import stage failed", e);
+    }
+  }
+
+  private interface Stage {
+    void run() throws InterruptedException;
+  }
+}
@@ -0,0 +1,112 @@
+package com.fullcycle.FCCatalogo.application.importing;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.validation.VideoDraft;
+import com.fullcycle.FCCatalogo.domain.validation.VideoFileDraft;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Turns one NDJSON line into a Video with Jackson's streaming parser, so no tree is built per line.
+ * parseDraft only reads the values, leaving the domain rules to VideoDraftValidator; parse goes
+ * through the entity constructors and setters, which throw on the first violation.
+ *
+ * {"id":"…","title":"…","description":"…","yearLaunched":2002,"opened":true,"rating":"L","duration":130.5,
+ *  "videoFiles":[{"title":"…","duration":2.5,"url":"…"}]}
+ */
+public class VideoRecordParser {
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  public Video parse(String line) throws IOException {
+    return this.parseDraft(line).toVideo();
+  }
+
+  // Reads the next JSON object from the parser and leaves it on that object's END_OBJECT.
+  public Video parse(JsonParser parser) throws IOException {
+    return this.parseDraft(parser).toVideo();
+  }
+
+  public VideoDraft parseDraft(String line) throws IOException {
+    if(line == null) throw new IllegalArgumentException("line is marked non-null but is null");
+    try (JsonParser parser = this.jsonFactory.createParser(line)) {
+      VideoDraft draft = this.parseDraft(parser);
+      if(parser.nextToken() != null) throw new IllegalArgumentException("trailing content after record");
+      return draft;
+    }
+  }
+
+  // Malformed JSON still throws; only the domain rules are left to the validator.
+  public VideoDraft parseDraft(JsonParser parser) throws IOException {
+    if(parser == null) throw new IllegalArgumentException("parser is marked non-null but is null");
+    if(parser.nextToken() != JsonToken.START_OBJECT) throw new IllegalArgumentException("record must be a JSON object");
+    VideoDraft draft = new VideoDraft();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+      switch (field) {
+        case "id":
+          draft.setId(UUID.fromString(parser.getText()));
+          break;
+        case "title":
+          draft.setTitle(parser.getText());
+          break;
+        case "description":
+          draft.setDescription(parser.getText());
+          break;
+        case "yearLaunched":
+          draft.setYearLaunched(parser.getIntValue());
+          break;
+        case "opened":
+          draft.setOpened(parser.getBooleanValue());
+          break;
+        case "rating":
+          draft.setRating(parser.getText());
+          break;
+        case "duration":
+          draft.setDuration(Duration.parse(parser.getText()));
+          break;
+        case "videoFiles":
+          this.readVideoFiles(parser, draft.getVideoFiles());
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return draft;
+  }
+
+  private void readVideoFiles(JsonParser parser, List<VideoFileDraft> videoFiles) throws IOException {
+    if(parser.currentToken() != JsonToken.START_ARRAY) throw new IllegalArgumentException("videoFiles must be an array");
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      VideoFileDraft videoFile = new VideoFileDraft();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+        switch (field) {
+          case "id":
+            videoFile.setId(UUID.fromString(parser.getText()));
+            break;
+          case "title":
+            videoFile.setTitle(parser.getText());
+            break;
+          case "duration":
+            videoFile.setDuration(Duration.parse(parser.getText()));
+            break;
+          case "url":
+            videoFile.setUrl(parser.getText());
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      videoFiles.add(videoFile);
+    }
+    if(parser.currentToken() != JsonToken.END_ARRAY) throw new IllegalArgumentException("videoFiles must hold objects");
+  }
+}
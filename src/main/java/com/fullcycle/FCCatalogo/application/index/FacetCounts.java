@@ -0,0 +1,57 @@
+package com.fullcycle.FCCatalogo.application.index;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+public class FacetCounts {
+  private final int total;
+  private final Map<UUID, Integer> categories;
+  private final Map<UUID, Integer> genres;
+  private final Map<UUID, Integer> castMembers;
+  private final Map<Integer, Integer> yearsLaunched;
+  private final Map<String, Integer> ratings;
+  private final int opened;
+
+  FacetCounts(int total, Map<UUID, Integer> categories, Map<UUID, Integer> genres, Map<UUID, Integer> castMembers, Map<Integer, Integer> yearsLaunched, Map<String, Integer> ratings, int opened) {
+    this.total = total;
+    this.categories = Collections.unmodifiableMap(categories);
+    this.genres = Collections.unmodifiableMap(genres);
+    this.castMembers = Collections.unmodifiableMap(castMembers);
+    this.yearsLaunched = Collections.unmodifiableMap(yearsLaunched);
+    this.ratings = Collections.unmodifiableMap(ratings);
+    this.opened = opened;
+  }
+
+  public int getTotal() {
+    return this.total;
+  }
+
+  public Map<UUID, Integer> getCategories() {
+    return this.categories;
+  }
+
+  public Map<UUID, Integer> getGenres() {
+    return this.genres;
+  }
+
+  public Map<UUID, Integer> getCastMembers() {
+    return this.castMembers;
+  }
+
+  public Map<Integer, Integer> getYearsLaunched() {
+    return this.yearsLaunched;
+  }
+
+  public Map<String, Integer> getRatings() {
+    return this.ratings;
+  }
+
+  public int getOpened() {
+    return this.opened;
+  }
+
+  public int getNotOpened() {
+    return this.total - this.opened;
+  }
+}
@@ -0,0 +1,141 @@
+package com.fullcycle.FCCatalogo.application.index;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Boolean combination of facet predicates over indexed videos. Leaves resolve to the index's
+ * posting lists as-is, so evaluation only allocates for the combinators.
+ */
+public abstract class FacetQuery {
+
+  abstract RoaringBitmap evaluate(VideoFacetIndex.Postings postings);
+
+  public static FacetQuery all() {
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.all();
+      }
+    };
+  }
+
+  public static FacetQuery category(UUID categoryId) {
+    if(categoryId == null) throw new IllegalArgumentException("categoryId is marked non-null but is null");
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.category(categoryId);
+      }
+    };
+  }
+
+  public static FacetQuery genre(UUID genreId) {
+    if(genreId == null) throw new IllegalArgumentException("genreId is marked non-null but is null");
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.genre(genreId);
+      }
+    };
+  }
+
+  public static FacetQuery castMember(UUID castMemberId) {
+    if(castMemberId == null) throw new IllegalArgumentException("castMemberId is marked non-null but is null");
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.castMember(castMemberId);
+      }
+    };
+  }
+
+  public static FacetQuery yearLaunched(int year) {
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.yearLaunched(year);
+      }
+    };
+  }
+
+  public static FacetQuery yearLaunchedBetween(int from, int to) {
+    if(from > to) throw new IllegalArgumentException("from must not be greater than to");
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.yearLaunchedBetween(from, to);
+      }
+    };
+  }
+
+  public static FacetQuery opened(boolean opened) {
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return opened ? postings.opened() : RoaringBitmap.andNot(postings.all(), postings.opened());
+      }
+    };
+  }
+
+  public static FacetQuery rating(String rating) {
+    if(rating == null) throw new IllegalArgumentException("rating is marked non-null but is null");
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return postings.rating(rating);
+      }
+    };
+  }
+
+  public static FacetQuery and(FacetQuery... queries) {
+    List<FacetQuery> operands = operands(queries);
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        RoaringBitmap result = operands.get(0).evaluate(postings);
+        for (int i = 1; i < operands.size(); i++) {
+          if(result.isEmpty()) return result;
+          result = RoaringBitmap.and(result, operands.get(i).evaluate(postings));
+        }
+        return result;
+      }
+    };
+  }
+
+  public static FacetQuery or(FacetQuery... queries) {
+    List<FacetQuery> operands = operands(queries);
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[operands.size()];
+        for (int i = 0; i < bitmaps.length; i++) {
+          bitmaps[i] = operands.get(i).evaluate(postings);
+        }
+        return RoaringBitmap.or(bitmaps);
+      }
+    };
+  }
+
+  public static FacetQuery not(FacetQuery query) {
+    if(query == null) throw new IllegalArgumentException("query is marked non-null but is null");
+    return new FacetQuery() {
+      RoaringBitmap evaluate(VideoFacetIndex.Postings postings) {
+        return RoaringBitmap.andNot(postings.all(), query.evaluate(postings));
+      }
+    };
+  }
+
+  public FacetQuery and(FacetQuery other) {
+    return and(this, other);
+  }
+
+  public FacetQuery or(FacetQuery other) {
+    return or(this, other);
+  }
+
+  public FacetQuery andNot(FacetQuery other) {
+    return and(this, not(other));
+  }
+
+  private static List<FacetQuery> operands(FacetQuery[] queries) {
+    if(queries == null || queries.length == 0) throw new IllegalArgumentException("queries are marked non-empty but are empty");
+    for (FacetQuery query : queries) {
+      if(query == null) throw new IllegalArgumentException("query is marked non-null but is null");
+    }
+    return Arrays.asList(queries.clone());
+  }
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.FCCatalogo.application.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dense int ordinals for entity ids. Released ordinals are reused so bitmaps stay compact
+ * under churn. Not thread-safe; callers guard it with their own lock.
+ */
+public class Ordinals {
+  public static final int ABSENT = -1;
+
+  private final Map<UUID, Integer> ordinals = new HashMap<UUID, Integer>();
+  private UUID[] ids = new UUID[64];
+  private int[] released = new int[16];
+  private int releasedCount;
+  private int next;
+
+  public int acquire(UUID id) {
+    if(id == null) throw new IllegalArgumentException("id is marked non-null but is null");
+    Integer existing = this.ordinals.get(id);
+    if(existing != null) return existing;
+    int ordinal = this.releasedCount > 0 ? this.released[--this.releasedCount] : this.next++;
+    if(ordinal >= this.ids.length) this.ids = Arrays.copyOf(this.ids, this.ids.length * 2);
+    this.ids[ordinal] = id;
+    this.ordinals.put(id, ordinal);
+    return ordinal;
+  }
+
+  public int get(UUID id) {
+    Integer ordinal = this.ordinals.get(id);
+    return ordinal == null ? ABSENT : ordinal;
+  }
+
+  public int release(UUID id) {
+    Integer ordinal = this.ordinals.remove(id);
+    if(ordinal == null) return ABSENT;
+    this.ids[ordinal] = null;
+    if(this.releasedCount == this.released.length) this.released = Arrays.copyOf(this.released, this.released.length * 2);
+    this.released[this.releasedCount++] = ordinal;
+    return ordinal;
+  }
+
+  public UUID idOf(int ordinal) {
+    return ordinal >= 0 && ordinal < this.next ? this.ids[ordinal] : null;
+  }
+
+  public int size() {
+    return this.ordinals.size();
+  }
+}
@@ -0,0 +1,277 @@
+package com.fullcycle.FCCatalogo.application.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * In-memory facet index over videos: every video gets a dense ordinal and every facet value keeps a
+ * compressed bitmap of the ordinals carrying it. Indexing a video again replaces its previous postings.
+ */
+public class VideoFacetIndex {
+  private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Ordinals ordinals = new Ordinals();
+  private final RoaringBitmap all = new RoaringBitmap();
+  private final RoaringBitmap opened = new RoaringBitmap();
+  private final Map<UUID, RoaringBitmap> categories = new HashMap<UUID, RoaringBitmap>();
+  private final Map<UUID, RoaringBitmap> genres = new HashMap<UUID, RoaringBitmap>();
+  private final Map<UUID, RoaringBitmap> castMembers = new HashMap<UUID, RoaringBitmap>();
+  private final NavigableMap<Integer, RoaringBitmap> yearsLaunched = new TreeMap<Integer, RoaringBitmap>();
+  private final Map<String, RoaringBitmap> ratings = new HashMap<String, RoaringBitmap>();
+  private final Postings postings = new Postings();
+  private IndexedVideo[] indexed = new IndexedVideo[64];
+
+  public void index(Video video) {
+    if(video == null) throw new IllegalArgumentException("video is marked non-null but is null");
+    if(video.getId() == null) throw new IllegalArgumentException("video ID is marked non-null but is null");
+    this.lock.writeLock().lock();
+    try {
+      this.indexLocked(video);
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public void indexAll(Collection<Video> videos) {
+    if(videos == null) throw new IllegalArgumentException("videos are marked non-null but are null");
+    this.lock.writeLock().lock();
+    try {
+      for (Video video : videos) {
+        if(video == null || video.getId() == null) throw new IllegalArgumentException("video ID is marked non-null but is null");
+        this.indexLocked(video);
+      }
+      this.optimizeLocked();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public boolean remove(UUID videoId) {
+    if(videoId == null) throw new IllegalArgumentException("videoId is marked non-null but is null");
+    this.lock.writeLock().lock();
+    try {
+      int ordinal = this.ordinals.release(videoId);
+      if(ordinal == Ordinals.ABSENT) return false;
+      this.unindex(ordinal);
+      return true;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    this.lock.readLock().lock();
+    try {
+      return this.ordinals.size();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public int count(FacetQuery query) {
+    if(query == null) throw new IllegalArgumentException("query is marked non-null but is null");
+    this.lock.readLock().lock();
+    try {
+      return query.evaluate(this.postings).getCardinality();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public List<UUID> find(FacetQuery query, int offset, int limit) {
+    if(query == null) throw new IllegalArgumentException("query is marked non-null but is null");
+    if(offset < 0 || limit < 0) throw new IllegalArgumentException("offset and limit must not be negative");
+    this.lock.readLock().lock();
+    try {
+      RoaringBitmap result = query.evaluate(this.postings);
+      List<UUID> ids = new ArrayList<UUID>(Math.min(limit, result.getCardinality()));
+      IntIterator iterator = result.getIntIterator();
+      for (int skipped = 0; iterator.hasNext() && skipped < offset; skipped++) {
+        iterator.next();
+      }
+      while (iterator.hasNext() && ids.size() < limit) {
+        ids.add(this.ordinals.idOf(iterator.next()));
+      }
+      return ids;
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public FacetCounts facetCounts(FacetQuery query) {
+    if(query == null) throw new IllegalArgumentException("query is marked non-null but is null");
+    this.lock.readLock().lock();
+    try {
+      RoaringBitmap result = query.evaluate(this.postings);
+      return new FacetCounts(
+        result.getCardinality(),
+        counts(result, this.categories),
+        counts(result, this.genres),
+        counts(result, this.castMembers),
+        counts(result, this.yearsLaunched),
+        counts(result, this.ratings),
+        RoaringBitmap.andCardinality(result, this.opened));
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public void optimize() {
+    this.lock.writeLock().lock();
+    try {
+      this.optimizeLocked();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private void indexLocked(Video video) {
+    int ordinal = this.ordinals.acquire(video.getId());
+    if(ordinal < this.indexed.length && this.indexed[ordinal] != null) this.unindex(ordinal);
+    IndexedVideo entry = new IndexedVideo(video);
+    if(ordinal >= this.indexed.length) this.indexed = Arrays.copyOf(this.indexed, Math.max(ordinal + 1, this.indexed.length * 2));
+    this.indexed[ordinal] = entry;
+
+    this.all.add(ordinal);
+    if(entry.opened) this.opened.add(ordinal);
+    for (UUID category : entry.categories) {
+      posting(this.categories, category).add(ordinal);
+    }
+    for (UUID genre : entry.genres) {
+      posting(this.genres, genre).add(ordinal);
+    }
+    for (UUID castMember : entry.castMembers) {
+      posting(this.castMembers, castMember).add(ordinal);
+    }
+    if(entry.yearLaunched != null) posting(this.yearsLaunched, entry.yearLaunched).add(ordinal);
+    if(entry.rating != null) posting(this.ratings, entry.rating).add(ordinal);
+  }
+
+  private void unindex(int ordinal) {
+    IndexedVideo entry = this.indexed[ordinal];
+    this.indexed[ordinal] = null;
+    this.all.remove(ordinal);
+    this.opened.remove(ordinal);
+    for (UUID category : entry.categories) {
+      removeFromPosting(this.categories, category, ordinal);
+    }
+    for (UUID genre : entry.genres) {
+      removeFromPosting(this.genres, genre, ordinal);
+    }
+    for (UUID castMember : entry.castMembers) {
+      removeFromPosting(this.castMembers, castMember, ordinal);
+    }
+    if(entry.yearLaunched != null) removeFromPosting(this.yearsLaunched, entry.yearLaunched, ordinal);
+    if(entry.rating != null) removeFromPosting(this.ratings, entry.rating, ordinal);
+  }
+
+  private void optimizeLocked() {
+    this.all.runOptimize();
+    this.opened.runOptimize();
+    for (Map<?, RoaringBitmap> facet : Arrays.<Map<?, RoaringBitmap>>asList(this.categories, this.genres, this.castMembers, this.yearsLaunched, this.ratings)) {
+      for (RoaringBitmap posting : facet.values()) {
+        posting.runOptimize();
+      }
+    }
+  }
+
+  private static <K> RoaringBitmap posting(Map<K, RoaringBitmap> facet, K value) {
+    return facet.computeIfAbsent(value, key -> new RoaringBitmap());
+  }
+
+  private static <K> void removeFromPosting(Map<K, RoaringBitmap> facet, K value, int ordinal) {
+    RoaringBitmap posting = facet.get(value);
+    if(posting == null) return;
+    posting.remove(ordinal);
+    if(posting.isEmpty()) facet.remove(value);
+  }
+
+  private static <K> Map<K, Integer> counts(RoaringBitmap result, Map<K, RoaringBitmap> facet) {
+    Map<K, Integer> counts = new HashMap<K, Integer>();
+    if(result.isEmpty()) return counts;
+    for (Map.Entry<K, RoaringBitmap> posting : facet.entrySet()) {
+      int count = RoaringBitmap.andCardinality(result, posting.getValue());
+      if(count > 0) counts.put(posting.getKey(), count);
+    }
+    return counts;
+  }
+
+  private static UUID[] ids(Collection<? extends BaseEntity> entities) {
+    UUID[] ids = new UUID[entities.size()];
+    int i = 0;
+    for (BaseEntity entity : entities) {
+      ids[i++] = entity.getId();
+    }
+    return ids;
+  }
+
+  final class Postings {
+
+    RoaringBitmap all() {
+      return VideoFacetIndex.this.all;
+    }
+
+    RoaringBitmap opened() {
+      return VideoFacetIndex.this.opened;
+    }
+
+    RoaringBitmap category(UUID id) {
+      return VideoFacetIndex.this.categories.getOrDefault(id, EMPTY);
+    }
+
+    RoaringBitmap genre(UUID id) {
+      return VideoFacetIndex.this.genres.getOrDefault(id, EMPTY);
+    }
+
+    RoaringBitmap castMember(UUID id) {
+      return VideoFacetIndex.this.castMembers.getOrDefault(id, EMPTY);
+    }
+
+    RoaringBitmap yearLaunched(int year) {
+      return VideoFacetIndex.this.yearsLaunched.getOrDefault(year, EMPTY);
+    }
+
+    RoaringBitmap yearLaunchedBetween(int from, int to) {
+      Collection<RoaringBitmap> years = VideoFacetIndex.this.yearsLaunched.subMap(from, true, to, true).values();
+      return RoaringBitmap.or(years.iterator());
+    }
+
+    RoaringBitmap rating(String rating) {
+      return VideoFacetIndex.this.ratings.getOrDefault(rating, EMPTY);
+    }
+  }
+
+  private static final class IndexedVideo {
+    private final UUID[] categories;
+    private final UUID[] genres;
+    private final UUID[] castMembers;
+    private final Integer yearLaunched;
+    private final String rating;
+    private final boolean opened;
+
+    private IndexedVideo(Video video) {
+      this.categories = ids(video.getCategories());
+      this.genres = ids(video.getGenres());
+      this.castMembers = ids(video.getCastMembers());
+      this.yearLaunched = video.getYearLaunched();
+      this.rating = video.getRating();
+      this.opened = Boolean.TRUE.equals(video.isOpened());
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registry of the catalog's counters, gauges, timers and distributions, keyed by name and tags.
+ * Counters are always exact. Timers and distributions on hot paths sample one call in sampleEvery
+ * and weight what they record by it, so counts and totals remain estimates of every call while the
+ * other calls cost a single random draw. Looking a meter up allocates its key; hot paths keep the
+ * meters they use in fields.
+ */
+public class CatalogMetrics {
+  private static final double NANOS_PER_MILLI = 1000000.0;
+
+  private final int sampleEvery;
+  private final boolean enabled;
+  private final Map<Key, Object> meters = new ConcurrentHashMap<Key, Object>();
+
+  public CatalogMetrics(int sampleEvery) {
+    if(sampleEvery < 0) throw new IllegalArgumentException("sampleEvery must not be negative");
+    this.sampleEvery = sampleEvery;
+    this.enabled = sampleEvery > 0;
+  }
+
+  // Records nothing; for components used without a registry.
+  public static CatalogMetrics disabled() {
+    return new CatalogMetrics(0);
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public int getSampleEvery() {
+    return this.sampleEvery;
+  }
+
+  // Whether the current call should be measured.
+  public boolean sample() {
+    return this.enabled && (this.sampleEvery == 1 || ThreadLocalRandom.current().nextInt(this.sampleEvery) == 0);
+  }
+
+  public Counter counter(String name, String... tags) {
+    return (Counter) this.meters.computeIfAbsent(new Key(name, "counter", tags), key -> new Counter(this.enabled));
+  }
+
+  public Timer timer(String name, String... tags) {
+    return (Timer) this.meters.computeIfAbsent(new Key(name, "timer", tags), key -> new Timer(this));
+  }
+
+  public Distribution distribution(String name, String... tags) {
+    return (Distribution) this.meters.computeIfAbsent(new Key(name, "distribution", tags), key -> new Distribution(this));
+  }
+
+  // Read when the metrics are listed, never on the measured path.
+  public void gauge(String name, DoubleSupplier value, String... tags) {
+    if(value == null) throw new IllegalArgumentException("value is marked non-null but is null");
+    this.meters.put(new Key(name, "gauge", tags), value);
+  }
+
+  public List<MetricSnapshot> snapshot() {
+    List<Map.Entry<Key, Object>> entries = new ArrayList<Map.Entry<Key, Object>>(this.meters.entrySet());
+    entries.sort(Comparator.comparing((Map.Entry<Key, Object> entry) -> entry.getKey().name).thenComparing(entry -> Arrays.toString(entry.getKey().tags)));
+    List<MetricSnapshot> snapshots = new ArrayList<MetricSnapshot>(entries.size());
+    for (Map.Entry<Key, Object> entry : entries) {
+      Key key = entry.getKey();
+      Map<String, Double> measurements = new LinkedHashMap<String, Double>();
+      Object meter = entry.getValue();
+      if(meter instanceof Counter) {
+        measurements.put("count", (double) ((Counter) meter).count());
+      } else if(meter instanceof DoubleSupplier) {
+        measurements.put("value", ((DoubleSupplier) meter).getAsDouble());
+      } else if(meter instanceof Timer) {
+        measure(((Timer) meter).histogram(), NANOS_PER_MILLI, measurements);
+      } else {
+        measure(((Distribution) meter).histogram(), 1, measurements);
+      }
+      snapshots.add(new MetricSnapshot(key.name, key.type, key.tagMap(), measurements));
+    }
+    return snapshots;
+  }
+
+  private static void measure(Histogram histogram, double scale, Map<String, Double> measurements) {
+    long count = histogram.count();
+    measurements.put("count", (double) count);
+    measurements.put("total", histogram.total() / scale);
+    measurements.put("mean", count == 0 ? 0 : histogram.total() / scale / count);
+    measurements.put("max", histogram.max() / scale);
+    measurements.put("p50", histogram.percentile(0.5) / scale);
+    measurements.put("p95", histogram.percentile(0.95) / scale);
+    measurements.put("p99", histogram.percentile(0.99) / scale);
+  }
+
+  private static final class Key {
+    private final String name;
+    private final String type;
+    private final String[] tags;
+
+    private Key(String name, String type, String[] tags) {
+      if(name == null) throw new IllegalArgumentException("name is marked non-null but is null");
+      if(tags.length % 2 != 0) throw new IllegalArgumentException("tags must be key and value pairs");
+      this.name = name;
+      this.type = type;
+      this.tags = tags;
+    }
+
+    private Map<String, String> tagMap() {
+      Map<String, String> tagMap = new LinkedHashMap<String, String>();
+      for (int i = 0; i < this.tags.length; i += 2) {
+        tagMap.put(this.tags[i], this.tags[i + 1]);
+      }
+      return tagMap;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if(this == other) return true;
+      if(!(other instanceof Key)) return false;
+      Key key = (Key) other;
+      return this.name.equals(key.name) && this.type.equals(key.type) && Arrays.equals(this.tags, key.tags);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.name, this.type, Arrays.hashCode(this.tags));
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Exact even when sampling; an increment is one striped add.
+public final class Counter {
+  private final LongAdder count = new LongAdder();
+  private final boolean enabled;
+
+  Counter(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void increment() {
+    if(this.enabled) this.count.increment();
+  }
+
+  public void increment(long amount) {
+    if(this.enabled) this.count.add(amount);
+  }
+
+  public long count() {
+    return this.count.sum();
+  }
+}
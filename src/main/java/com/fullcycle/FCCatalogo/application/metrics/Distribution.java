@@ -0,0 +1,27 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+/**
+ * Histogram of sizes or rates. Hot paths draw CatalogMetrics.sample() once and record several
+ * distributions with sampled(); record() always counts.
+ */
+public final class Distribution {
+  private final CatalogMetrics metrics;
+  private final Histogram histogram = new Histogram();
+
+  Distribution(CatalogMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public void record(long value) {
+    if(this.metrics.isEnabled()) this.histogram.record(value, 1);
+  }
+
+  // For a value whose call already won CatalogMetrics.sample().
+  public void sampled(long value) {
+    this.histogram.record(value, this.metrics.getSampleEvery());
+  }
+
+  Histogram histogram() {
+    return this.histogram;
+  }
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative longs: each power of two is split into eight
+ * buckets, so a percentile is off by at most an eighth of its value. Every value carries a weight,
+ * the sampling period it stands for, so counts and totals stay estimates of all calls. Buckets are
+ * LongAdders because concurrent calls of similar latency all land in the same few.
+ */
+final class Histogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private final LongAdder[] buckets = new LongAdder[(64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  Histogram() {
+    for (int i = 0; i < this.buckets.length; i++) {
+      this.buckets[i] = new LongAdder();
+    }
+  }
+
+  void record(long value, int weight) {
+    if(value < 0) value = 0;
+    this.buckets[index(value)].add(weight);
+    this.count.add(weight);
+    this.total.add(value * weight);
+    long current;
+    while (value > (current = this.max.get()) && !this.max.compareAndSet(current, value)) {
+    }
+  }
+
+  long count() {
+    return this.count.sum();
+  }
+
+  long total() {
+    return this.total.sum();
+  }
+
+  long max() {
+    return this.max.get();
+  }
+
+  // Upper bound of the bucket holding the given quantile.
+  long percentile(double quantile) {
+    long[] counts = new long[this.buckets.length];
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = this.buckets[i].sum();
+      seen += counts[i];
+    }
+    if(seen == 0) return 0;
+    long rank = (long) Math.ceil(quantile * seen);
+    long cumulative = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if(cumulative >= rank) return Math.min(upperBound(i), this.max());
+    }
+    return this.max();
+  }
+
+  // Values below SUB_BUCKETS get a bucket each; above, the top SUB_BUCKET_BITS + 1 bits pick it.
+  static int index(long value) {
+    if(value < SUB_BUCKETS) return (int) value;
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  static long upperBound(int index) {
+    if(index < SUB_BUCKETS) return index;
+    int shift = index / SUB_BUCKETS - 1;
+    long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lower + (1L << shift) - 1;
+  }
+}
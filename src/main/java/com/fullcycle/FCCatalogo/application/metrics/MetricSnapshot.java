@@ -0,0 +1,36 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class MetricSnapshot {
+  private final String name;
+  private final String type;
+  private final Map<String, String> tags;
+  private final Map<String, Double> measurements;
+
+  public MetricSnapshot(String name, String type, Map<String, String> tags, Map<String, Double> measurements) {
+    this.name = name;
+    this.type = type;
+    this.tags = Collections.unmodifiableMap(tags);
+    this.measurements = Collections.unmodifiableMap(measurements);
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  // counter, gauge, timer or distribution.
+  public String getType() {
+    return this.type;
+  }
+
+  public Map<String, String> getTags() {
+    return this.tags;
+  }
+
+  // Timers are in milliseconds.
+  public Map<String, Double> getMeasurements() {
+    return this.measurements;
+  }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram in nanoseconds. start() decides whether this call is sampled; an unsampled
+ * call costs one random draw and never reads the clock, and stop() ignores it. record() is for
+ * rare operations timed by the caller and always counts.
+ */
+public final class Timer {
+  public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private final CatalogMetrics metrics;
+  private final Histogram histogram = new Histogram();
+
+  Timer(CatalogMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public long start() {
+    return this.metrics.sample() ? System.nanoTime() : NOT_SAMPLED;
+  }
+
+  public void stop(long started) {
+    if(started != NOT_SAMPLED) this.histogram.record(System.nanoTime() - started, this.metrics.getSampleEvery());
+  }
+
+  // For a call that already won CatalogMetrics.sample() and was timed by the caller.
+  public void sampled(long nanos) {
+    this.histogram.record(nanos, this.metrics.getSampleEvery());
+  }
+
+  public void record(long duration, TimeUnit unit) {
+    if(this.metrics.isEnabled()) this.histogram.record(unit.toNanos(duration), 1);
+  }
+
+  Histogram histogram() {
+    return this.histogram;
+  }
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fullcycle.FCCatalogo.domain.validation.ValidationResult;
+import com.fullcycle.FCCatalogo.domain.validation.Violation;
+
+/**
+ * Counts IllegalArgumentExceptions and ValidationResults from the domain by the field they name.
+ * The domain's messages start with the field ("yearLaunched must be...", "video files are
+ * marked..."), which is folded to camel case; the tag values stay as few as the messages.
+ */
+public class ValidationFailures {
+  public static final String UNKNOWN_FIELD = "unknown";
+
+  private static final Pattern INDEX = Pattern.compile("\\[\\d+\\]");
+  private static final Pattern FIELD = Pattern.compile("^([A-Za-z][A-Za-z ]{0,40}?) (?:is|are|must|was) ");
+
+  private final CatalogMetrics metrics;
+  private final String source;
+
+  public ValidationFailures(CatalogMetrics metrics, String source) {
+    if(metrics == null) throw new IllegalArgumentException("metrics is marked non-null but is null");
+    if(source == null) throw new IllegalArgumentException("source is marked non-null but is null");
+    this.metrics = metrics;
+    this.source = source;
+  }
+
+  public void record(IllegalArgumentException failure) {
+    if(this.metrics.isEnabled()) this.metrics.counter("catalog.validation.failures", "source", this.source, "field", field(failure.getMessage())).increment();
+  }
+
+  // Violations carry their field; list indexes are dropped so "videoFiles[3].title" counts as "videoFiles.title".
+  public void record(ValidationResult result) {
+    if(!this.metrics.isEnabled()) return;
+    for (Violation violation : result.getViolations()) {
+      this.metrics.counter("catalog.validation.failures", "source", this.source, "field", INDEX.matcher(violation.getField()).replaceAll("")).increment();
+    }
+  }
+
+  static String field(String message) {
+    if(message == null) return UNKNOWN_FIELD;
+    Matcher matcher = FIELD.matcher(message);
+    if(!matcher.find()) return UNKNOWN_FIELD;
+    String[] words = matcher.group(1).split(" ");
+    StringBuilder field = new StringBuilder(words[0].equals(words[0].toUpperCase()) ? words[0].toLowerCase() : Character.toLowerCase(words[0].charAt(0)) + words[0].substring(1));
+    for (int i = 1; i < words.length; i++) {
+      field.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+    }
+    return field.toString();
+  }
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.FCCatalogo.application.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.application.sync.ChangeAction;
+
+/**
+ * A change notification: which entity changed, how, and the version it changed to. It carries no
+ * state; subscribers that need it fetch the entity and can drop notifications older than a version
+ * they have already seen, since relays may publish out of commit order.
+ */
+public class OutboxMessage {
+  private final UUID eventId;
+  private final CatalogEntityType entityType;
+  private final ChangeAction action;
+  private final UUID entityId;
+  private final long version;
+
+  public OutboxMessage(UUID eventId, CatalogEntityType entityType, ChangeAction action, UUID entityId, long version) {
+    if(eventId == null) throw new IllegalArgumentException("eventId is marked non-null but is null");
+    if(entityType == null) throw new IllegalArgumentException("entityType is marked non-null but is null");
+    if(action == null) throw new IllegalArgumentException("action is marked non-null but is null");
+    if(entityId == null) throw new IllegalArgumentException("entityId is marked non-null but is null");
+    this.eventId = eventId;
+    this.entityType = entityType;
+    this.action = action;
+    this.entityId = entityId;
+    this.version = version;
+  }
+
+  public UUID getEventId() {
+    return this.eventId;
+  }
+
+  public CatalogEntityType getEntityType() {
+    return this.entityType;
+  }
+
+  public ChangeAction getAction() {
+    return this.action;
+  }
+
+  public UUID getEntityId() {
+    return this.entityId;
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  // Same envelope CatalogEventParser reads, without a payload.
+  public byte[] toJson() {
+    return ("{\"eventId\":\"" + this.eventId + "\",\"entity\":\"" + this.entityType.getName()
+      + "\",\"action\":\"" + this.action.name().toLowerCase() + "\",\"id\":\"" + this.entityId
+      + "\",\"version\":" + this.version + "}").getBytes(StandardCharsets.UTF_8);
+  }
+}
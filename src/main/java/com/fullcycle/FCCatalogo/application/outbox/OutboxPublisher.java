@@ -0,0 +1,8 @@
+package com.fullcycle.FCCatalogo.application.outbox;
+
+import java.util.List;
+
+public interface OutboxPublisher {
+  // Returns once the broker has accepted every message, throwing otherwise.
+  void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.FCCatalogo.application.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.sync.UnitOfWork;
+
+/**
+ * Moves outbox messages to the broker a batch at a time: claim, publish, delete, in one unit of
+ * work. The claim only locks outbox rows, so entity writers never wait on a relay, and relays
+ * running side by side each take different rows. A failed publish rolls the claim back and the
+ * batch is retried; a crash between publish and commit publishes it again, so delivery is at
+ * least once and subscribers dedupe by event id.
+ */
+public class OutboxRelay {
+  private final OutboxStore outboxStore;
+  private final OutboxPublisher publisher;
+  private final UnitOfWork unitOfWork;
+  private final int batchSize;
+
+  public OutboxRelay(OutboxStore outboxStore, OutboxPublisher publisher, UnitOfWork unitOfWork, int batchSize) {
+    if(outboxStore == null) throw new IllegalArgumentException("outboxStore is marked non-null but is null");
+    if(publisher == null) throw new IllegalArgumentException("publisher is marked non-null but is null");
+    if(unitOfWork == null) throw new IllegalArgumentException("unitOfWork is marked non-null but is null");
+    if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be greater than zero");
+    this.outboxStore = outboxStore;
+    this.publisher = publisher;
+    this.unitOfWork = unitOfWork;
+    this.batchSize = batchSize;
+  }
+
+  public int relayBatch() {
+    return this.unitOfWork.execute(() -> {
+      List<OutboxMessage> claimed = this.outboxStore.claim(this.batchSize);
+      if(claimed.isEmpty()) return 0;
+      this.publisher.publish(claimed);
+      List<UUID> eventIds = new ArrayList<UUID>(claimed.size());
+      for (OutboxMessage message : claimed) {
+        eventIds.add(message.getEventId());
+      }
+      this.outboxStore.delete(eventIds);
+      return claimed.size();
+    });
+  }
+
+  // Relays full batches back to back, so a burst drains without waiting between batches.
+  public int drain() {
+    int relayed = 0;
+    int batch;
+    do {
+      batch = this.relayBatch();
+      relayed += batch;
+    } while (batch == this.batchSize);
+    return relayed;
+  }
+
+  public int getBatchSize() {
+    return this.batchSize;
+  }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.FCCatalogo.application.outbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxStore {
+  // Locks up to limit of the oldest messages, skipping any another relay holds, until the unit of work ends.
+  List<OutboxMessage> claim(int limit);
+
+  void delete(Collection<UUID> eventIds);
+}
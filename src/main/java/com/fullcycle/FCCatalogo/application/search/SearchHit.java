@@ -0,0 +1,21 @@
+package com.fullcycle.FCCatalogo.application.search;
+
+import java.util.UUID;
+
+public class SearchHit {
+  private final UUID videoId;
+  private final float score;
+
+  public SearchHit(UUID videoId, float score) {
+    this.videoId = videoId;
+    this.score = score;
+  }
+
+  public UUID getVideoId() {
+    return this.videoId;
+  }
+
+  public float getScore() {
+    return this.score;
+  }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.FCCatalogo.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lower-cases, strips diacritics (ação -> acao) and splits on anything that is not a letter or digit.
+ * Portuguese and English stop words are dropped.
+ */
+public class Tokenizer {
+  private static final Set<String> STOP_WORDS = new HashSet<String>(Arrays.asList(
+    "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on", "or", "the", "to", "with",
+    "o", "os", "as", "um", "uma", "uns", "umas", "e", "de", "do", "da", "dos", "das", "em", "no", "na", "nos", "nas",
+    "por", "para", "com", "que", "se", "ao", "aos"));
+
+  public List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<String>();
+    if(text == null || text.isEmpty()) return tokens;
+    String folded = fold(text);
+    int start = -1;
+    for (int i = 0; i <= folded.length(); i++) {
+      boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+      if(wordChar && start < 0) {
+        start = i;
+      } else if(!wordChar && start >= 0) {
+        String token = folded.substring(start, i);
+        if(!STOP_WORDS.contains(token)) tokens.add(token);
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  static String fold(String text) {
+    boolean ascii = true;
+    for (int i = 0; i < text.length() && ascii; i++) {
+      ascii = text.charAt(i) < 0x80;
+    }
+    String decomposed = ascii ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+    StringBuilder folded = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if(Character.getType(c) == Character.NON_SPACING_MARK) continue;
+      folded.append(Character.toLowerCase(c));
+    }
+    return folded.toString();
+  }
+}
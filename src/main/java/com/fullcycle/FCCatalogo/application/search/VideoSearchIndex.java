@@ -0,0 +1,437 @@
+package com.fullcycle.FCCatalogo.application.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+/**
+ * Inverted index over video text ranked with BM25. Fields are weighted into one term frequency and
+ * document length (BM25F style). Deletes only flag the document; postings of deleted documents are
+ * skipped while scoring and dropped, with ordinals renumbered, once they outweigh the live ones.
+ *
+ * Category, genre and cast member names are held once per id, with the version they were read at.
+ * A newer version, from a rename or a video carrying a fresher copy, rewrites every document that
+ * references it; an older copy carried by a video is ignored, as is any copy of a deleted one.
+ */
+public class VideoSearchIndex {
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  private static final float TITLE_WEIGHT = 3f;
+  private static final float DESCRIPTION_WEIGHT = 1f;
+  private static final float ASSOCIATION_WEIGHT = 1.5f;
+
+  private final Tokenizer tokenizer;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<UUID, Integer> ordinals = new HashMap<UUID, Integer>();
+  private final Map<String, PostingList> postings = new HashMap<String, PostingList>();
+  private final BitSet live = new BitSet();
+  private final Map<UUID, Reference> references = new HashMap<UUID, Reference>();
+  private final Map<UUID, UUID[]> referencesOf = new HashMap<UUID, UUID[]>();
+  // Pooled rather than thread-local: with a virtual thread per request, every search would allocate a new one.
+  private final ConcurrentLinkedQueue<ScoreBuffer> scoreBuffers = new ConcurrentLinkedQueue<ScoreBuffer>();
+  private UUID[] ids = new UUID[64];
+  private float[] lengths = new float[64];
+  private String[][] terms = new String[64][];
+  private float[][] weights = new float[64][];
+  private int nextOrdinal;
+  private int liveCount;
+  private double totalLength;
+  private long livePostings;
+  private long deadPostings;
+
+  public VideoSearchIndex() {
+    this(new Tokenizer());
+  }
+
+  public VideoSearchIndex(Tokenizer tokenizer) {
+    if(tokenizer == null) throw new IllegalArgumentException("tokenizer is marked non-null but is null");
+    this.tokenizer = tokenizer;
+  }
+
+  public void index(Video video) {
+    if(video == null) throw new IllegalArgumentException("video is marked non-null but is null");
+    if(video.getId() == null) throw new IllegalArgumentException("video ID is marked non-null but is null");
+    Map<String, Float> frequencies = new HashMap<String, Float>();
+    this.addField(frequencies, video.getTitle(), TITLE_WEIGHT);
+    this.addField(frequencies, video.getDescription(), DESCRIPTION_WEIGHT);
+    List<CarriedReference> carried = new ArrayList<CarriedReference>();
+    for (Category category : video.getCategories()) {
+      carried.add(this.carried(category, category.getName()));
+    }
+    for (Genre genre : video.getGenres()) {
+      carried.add(this.carried(genre, genre.getName()));
+    }
+    for (CastMember castMember : video.getCastMembers()) {
+      carried.add(this.carried(castMember, castMember.getName()));
+    }
+    this.lock.writeLock().lock();
+    try {
+      this.unlinkLocked(video.getId());
+      this.removeLocked(video.getId());
+      UUID[] referenceIds = new UUID[carried.size()];
+      for (int i = 0; i < referenceIds.length; i++) {
+        Reference reference = this.referenceLocked(carried.get(i));
+        for (String token : reference.tokens) {
+          frequencies.merge(token, ASSOCIATION_WEIGHT, Float::sum);
+        }
+        reference.videos.add(video.getId());
+        referenceIds[i] = carried.get(i).id;
+      }
+      this.referencesOf.put(video.getId(), referenceIds);
+      this.addLocked(video.getId(), frequencies);
+      this.compactIfNeeded();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  // A committed category, genre or cast member write; ignored unless newer than the copy held, or the held one was deleted.
+  public void rename(BaseEntity reference) {
+    if(reference == null) throw new IllegalArgumentException("reference is marked non-null but is null");
+    if(reference.getId() == null) throw new IllegalArgumentException("reference ID is marked non-null but is null");
+    CarriedReference renamed = this.carried(reference, name(reference));
+    this.lock.writeLock().lock();
+    try {
+      Reference held = this.references.get(renamed.id);
+      if(held == null) {
+        this.references.put(renamed.id, new Reference(renamed.version, renamed.tokens));
+      } else if(held.deleted || renamed.version > held.version) {
+        held.version = renamed.version;
+        held.deleted = false;
+        this.retokenizeLocked(held, renamed.tokens);
+        this.compactIfNeeded();
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  // The name leaves every document; copies of the reference still carried by videos are ignored from now on.
+  public void removeReference(UUID referenceId) {
+    if(referenceId == null) throw new IllegalArgumentException("referenceId is marked non-null but is null");
+    this.lock.writeLock().lock();
+    try {
+      Reference held = this.references.computeIfAbsent(referenceId, id -> new Reference(0, Collections.emptyList()));
+      held.deleted = true;
+      this.retokenizeLocked(held, Collections.emptyList());
+      this.compactIfNeeded();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public boolean remove(UUID videoId) {
+    if(videoId == null) throw new IllegalArgumentException("videoId is marked non-null but is null");
+    this.lock.writeLock().lock();
+    try {
+      this.unlinkLocked(videoId);
+      boolean removed = this.removeLocked(videoId);
+      this.compactIfNeeded();
+      return removed;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    this.lock.readLock().lock();
+    try {
+      return this.liveCount;
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public List<SearchHit> search(String query, int limit) {
+    if(query == null) throw new IllegalArgumentException("query is marked non-null but is null");
+    if(limit <= 0) throw new IllegalArgumentException("limit must be greater than zero");
+    Set<String> queryTerms = new LinkedHashSet<String>(this.tokenizer.tokenize(query));
+    if(queryTerms.isEmpty()) return Collections.emptyList();
+
+    this.lock.readLock().lock();
+    try {
+      if(this.liveCount == 0) return Collections.emptyList();
+      ScoreBuffer pooled = this.scoreBuffers.poll();
+      ScoreBuffer buffer = pooled != null ? pooled : new ScoreBuffer();
+      buffer.ensureCapacity(this.nextOrdinal);
+      try {
+        float averageLength = (float) (this.totalLength / this.liveCount);
+        for (String term : queryTerms) {
+          PostingList posting = this.postings.get(term);
+          if(posting == null || posting.liveDocuments == 0) continue;
+          float idf = (float) Math.log(1 + (this.liveCount - posting.liveDocuments + 0.5d) / (posting.liveDocuments + 0.5d));
+          for (int i = 0; i < posting.size; i++) {
+            int ordinal = posting.ordinals[i];
+            if(!this.live.get(ordinal)) continue;
+            float frequency = posting.frequencies[i];
+            float norm = K1 * (1 - B + B * this.lengths[ordinal] / averageLength);
+            buffer.add(ordinal, idf * frequency * (K1 + 1) / (frequency + norm));
+          }
+        }
+        return this.topHits(buffer, limit);
+      } finally {
+        buffer.reset();
+        this.scoreBuffers.offer(buffer);
+      }
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private List<SearchHit> topHits(ScoreBuffer buffer, int limit) {
+    PriorityQueue<Integer> heap = new PriorityQueue<Integer>(Math.min(limit, buffer.touchedCount) + 1, (a, b) -> {
+      int byScore = Float.compare(buffer.scores[a], buffer.scores[b]);
+      return byScore != 0 ? byScore : Integer.compare(b, a);
+    });
+    for (int i = 0; i < buffer.touchedCount; i++) {
+      int ordinal = buffer.touched[i];
+      if(heap.size() < limit) {
+        heap.add(ordinal);
+      } else if(buffer.scores[ordinal] > buffer.scores[heap.peek()]) {
+        heap.poll();
+        heap.add(ordinal);
+      }
+    }
+    SearchHit[] hits = new SearchHit[heap.size()];
+    for (int i = hits.length - 1; i >= 0; i--) {
+      int ordinal = heap.poll();
+      hits[i] = new SearchHit(this.ids[ordinal], buffer.scores[ordinal]);
+    }
+    return Arrays.asList(hits);
+  }
+
+  private static String name(BaseEntity reference) {
+    if(reference instanceof Category) return ((Category) reference).getName();
+    if(reference instanceof Genre) return ((Genre) reference).getName();
+    if(reference instanceof CastMember) return ((CastMember) reference).getName();
+    throw new IllegalArgumentException("reference must be a category, genre or cast member");
+  }
+
+  // Tokenized before the lock is taken; the persisted version, so an unsaved change to the name is not taken for a rename.
+  private CarriedReference carried(BaseEntity reference, String name) {
+    return new CarriedReference(reference.getId(), reference.getPersistedVersion(), this.tokenizer.tokenize(name));
+  }
+
+  private Reference referenceLocked(CarriedReference carried) {
+    Reference held = this.references.get(carried.id);
+    if(held == null) {
+      held = new Reference(carried.version, carried.tokens);
+      this.references.put(carried.id, held);
+    } else if(!held.deleted && carried.version > held.version) {
+      held.version = carried.version;
+      this.retokenizeLocked(held, carried.tokens);
+    }
+    return held;
+  }
+
+  // Names are summed into the documents, so the old tokens are taken out and the new ones added.
+  private void retokenizeLocked(Reference reference, List<String> tokens) {
+    List<String> previous = reference.tokens;
+    reference.tokens = tokens;
+    if(previous.equals(tokens)) return;
+    for (UUID videoId : reference.videos) {
+      int ordinal = this.ordinals.get(videoId);
+      Map<String, Float> frequencies = new HashMap<String, Float>();
+      for (int t = 0; t < this.terms[ordinal].length; t++) {
+        frequencies.put(this.terms[ordinal][t], this.weights[ordinal][t]);
+      }
+      for (String token : previous) {
+        frequencies.computeIfPresent(token, (term, frequency) -> frequency > ASSOCIATION_WEIGHT ? frequency - ASSOCIATION_WEIGHT : null);
+      }
+      for (String token : tokens) {
+        frequencies.merge(token, ASSOCIATION_WEIGHT, Float::sum);
+      }
+      this.removeLocked(videoId);
+      this.addLocked(videoId, frequencies);
+    }
+  }
+
+  private void unlinkLocked(UUID videoId) {
+    UUID[] referenceIds = this.referencesOf.remove(videoId);
+    if(referenceIds == null) return;
+    for (UUID referenceId : referenceIds) {
+      this.references.get(referenceId).videos.remove(videoId);
+    }
+  }
+
+  private void addField(Map<String, Float> frequencies, String text, float weight) {
+    for (String token : this.tokenizer.tokenize(text)) {
+      frequencies.merge(token, weight, Float::sum);
+    }
+  }
+
+  private void addLocked(UUID id, Map<String, Float> frequencies) {
+    int ordinal = this.nextOrdinal++;
+    if(ordinal == this.ids.length) {
+      int capacity = this.ids.length * 2;
+      this.ids = Arrays.copyOf(this.ids, capacity);
+      this.lengths = Arrays.copyOf(this.lengths, capacity);
+      this.terms = Arrays.copyOf(this.terms, capacity);
+      this.weights = Arrays.copyOf(this.weights, capacity);
+    }
+    float length = 0;
+    String[] documentTerms = new String[frequencies.size()];
+    float[] documentWeights = new float[frequencies.size()];
+    int t = 0;
+    for (Map.Entry<String, Float> frequency : frequencies.entrySet()) {
+      PostingList posting = this.postings.computeIfAbsent(frequency.getKey(), term -> new PostingList());
+      posting.add(ordinal, frequency.getValue());
+      documentTerms[t] = frequency.getKey();
+      documentWeights[t++] = frequency.getValue();
+      length += frequency.getValue();
+    }
+    this.ids[ordinal] = id;
+    this.lengths[ordinal] = length;
+    this.terms[ordinal] = documentTerms;
+    this.weights[ordinal] = documentWeights;
+    this.ordinals.put(id, ordinal);
+    this.live.set(ordinal);
+    this.liveCount++;
+    this.totalLength += length;
+    this.livePostings += documentTerms.length;
+  }
+
+  private boolean removeLocked(UUID id) {
+    Integer ordinal = this.ordinals.remove(id);
+    if(ordinal == null) return false;
+    for (String term : this.terms[ordinal]) {
+      this.postings.get(term).liveDocuments--;
+    }
+    this.live.clear(ordinal);
+    this.liveCount--;
+    this.totalLength -= this.lengths[ordinal];
+    this.livePostings -= this.terms[ordinal].length;
+    this.deadPostings += this.terms[ordinal].length;
+    this.terms[ordinal] = null;
+    this.weights[ordinal] = null;
+    this.ids[ordinal] = null;
+    return true;
+  }
+
+  private void compactIfNeeded() {
+    if(this.deadPostings < 1024 || this.deadPostings < this.livePostings) return;
+    int[] remap = new int[this.nextOrdinal];
+    int next = 0;
+    for (int ordinal = 0; ordinal < this.nextOrdinal; ordinal++) {
+      if(this.live.get(ordinal)) {
+        remap[ordinal] = next;
+        this.ids[next] = this.ids[ordinal];
+        this.lengths[next] = this.lengths[ordinal];
+        this.terms[next] = this.terms[ordinal];
+        this.weights[next] = this.weights[ordinal];
+        this.ordinals.put(this.ids[next], next);
+        next++;
+      } else {
+        remap[ordinal] = -1;
+      }
+    }
+    Arrays.fill(this.ids, next, this.nextOrdinal, null);
+    Arrays.fill(this.terms, next, this.nextOrdinal, null);
+    Arrays.fill(this.weights, next, this.nextOrdinal, null);
+    this.postings.values().removeIf(posting -> posting.compact(remap));
+    this.live.clear();
+    this.live.set(0, next);
+    this.nextOrdinal = next;
+    this.deadPostings = 0;
+  }
+
+  private static final class CarriedReference {
+    private final UUID id;
+    private final long version;
+    private final List<String> tokens;
+
+    private CarriedReference(UUID id, long version, List<String> tokens) {
+      this.id = id;
+      this.version = version;
+      this.tokens = tokens;
+    }
+  }
+
+  // Kept once deleted, so stale copies cannot bring the name back.
+  private static final class Reference {
+    private final Set<UUID> videos = new HashSet<UUID>();
+    private long version;
+    private List<String> tokens;
+    private boolean deleted;
+
+    private Reference(long version, List<String> tokens) {
+      this.version = version;
+      this.tokens = tokens;
+    }
+  }
+
+  private static final class PostingList {
+    private int[] ordinals = new int[4];
+    private float[] frequencies = new float[4];
+    private int size;
+    private int liveDocuments;
+
+    private void add(int ordinal, float frequency) {
+      if(this.size == this.ordinals.length) {
+        this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+        this.frequencies = Arrays.copyOf(this.frequencies, this.size * 2);
+      }
+      this.ordinals[this.size] = ordinal;
+      this.frequencies[this.size] = frequency;
+      this.size++;
+      this.liveDocuments++;
+    }
+
+    // Returns true when nothing is left, so the term can be dropped.
+    private boolean compact(int[] remap) {
+      int kept = 0;
+      for (int i = 0; i < this.size; i++) {
+        int ordinal = remap[this.ordinals[i]];
+        if(ordinal < 0) continue;
+        this.ordinals[kept] = ordinal;
+        this.frequencies[kept] = this.frequencies[i];
+        kept++;
+      }
+      this.size = kept;
+      return kept == 0;
+    }
+  }
+
+  private static final class ScoreBuffer {
+    private float[] scores = new float[0];
+    private int[] touched = new int[16];
+    private int touchedCount;
+
+    private void ensureCapacity(int capacity) {
+      if(this.scores.length < capacity) this.scores = new float[Math.max(capacity, this.scores.length * 2)];
+    }
+
+    private void add(int ordinal, float score) {
+      if(this.scores[ordinal] == 0f) {
+        if(this.touchedCount == this.touched.length) this.touched = Arrays.copyOf(this.touched, this.touchedCount * 2);
+        this.touched[this.touchedCount++] = ordinal;
+      }
+      this.scores[ordinal] += score;
+    }
+
+    private void reset() {
+      for (int i = 0; i < this.touchedCount; i++) {
+        this.scores[this.touched[i]] = 0f;
+      }
+      this.touchedCount = 0;
+    }
+  }
+}
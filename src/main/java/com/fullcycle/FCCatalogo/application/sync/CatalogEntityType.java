@@ -0,0 +1,27 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+// Declared in dependency order: upserts are applied in this order and deletes in reverse.
+public enum CatalogEntityType {
+  CATEGORY("category"),
+  CAST_MEMBER("cast_member"),
+  GENRE("genre"),
+  VIDEO("video");
+
+  private final String name;
+
+  private CatalogEntityType(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public static CatalogEntityType of(String name) {
+    if(name == null) throw new IllegalArgumentException("entity is marked non-null but is null");
+    for (CatalogEntityType type : values()) {
+      if(type.name.equalsIgnoreCase(name)) return type;
+    }
+    throw new IllegalArgumentException("entity must be category, cast_member, genre or video");
+  }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class CatalogEvent {
+  private final UUID eventId;
+  private final CatalogEntityType entityType;
+  private final ChangeAction action;
+  private final UUID entityId;
+  private final JsonNode payload;
+  private final Long version;
+
+  public CatalogEvent(UUID eventId, CatalogEntityType entityType, ChangeAction action, UUID entityId, JsonNode payload) {
+    this(eventId, entityType, action, entityId, payload, null);
+  }
+
+  public CatalogEvent(UUID eventId, CatalogEntityType entityType, ChangeAction action, UUID entityId, JsonNode payload, Long version) {
+    if(eventId == null) throw new IllegalArgumentException("eventId is marked non-null but is null");
+    if(entityType == null) throw new IllegalArgumentException("entityType is marked non-null but is null");
+    if(action == null) throw new IllegalArgumentException("action is marked non-null but is null");
+    if(entityId == null) throw new IllegalArgumentException("entityId is marked non-null but is null");
+    if(action != ChangeAction.DELETED && (payload == null || !payload.isObject())) {
+      throw new IllegalArgumentException("payload must be an object for " + action.name().toLowerCase() + " events");
+    }
+    if(version != null && version < 0) throw new IllegalArgumentException("version must not be negative");
+    this.eventId = eventId;
+    this.entityType = entityType;
+    this.action = action;
+    this.entityId = entityId;
+    this.payload = payload;
+    this.version = version;
+  }
+
+  public UUID getEventId() {
+    return this.eventId;
+  }
+
+  public CatalogEntityType getEntityType() {
+    return this.entityType;
+  }
+
+  public ChangeAction getAction() {
+    return this.action;
+  }
+
+  public UUID getEntityId() {
+    return this.entityId;
+  }
+
+  // The entity's full state after a create or update; null for deletes.
+  public JsonNode getPayload() {
+    return this.payload;
+  }
+
+  // The entity's version at the source after the change; null when the source sends none.
+  public Long getVersion() {
+    return this.version;
+  }
+}
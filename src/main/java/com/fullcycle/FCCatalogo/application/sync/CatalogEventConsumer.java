@@ -0,0 +1,419 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fullcycle.FCCatalogo.application.importing.VideoRecordParser;
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.application.metrics.ValidationFailures;
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.EntityRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+/**
+ * Applies a micro-batch of change events from the admin service in one unit of work. Events
+ * already processed, in this batch or an earlier one, are skipped; of several events for the same
+ * entity only the newest is written, since each carries the entity's whole state. Upserts then go
+ * out with one saveAll per entity type, in dependency order, and deletes in reverse order, so a
+ * batch costs a handful of round trips however many events it holds.
+ *
+ * An event that carries the source version is only applied if it is newer than the stored entity,
+ * which is then written at that version; an older one is recorded as processed and dropped, so a
+ * late redelivery never rolls an entity back. Events without a version overwrite what is stored.
+ * A delete leaves no version behind, so an older update arriving after it creates the entity again.
+ *
+ * When the batch fails it is replayed one entity per unit of work, so a bad event only fails
+ * itself. Invalid events and changes the store rejects are reported as failures; any other error
+ * is rethrown for the transport to redeliver, which is safe because applied event ids are
+ * recorded in the same unit of work as the changes.
+ */
+public class CatalogEventConsumer {
+  private final CategoryRepository categoryRepository;
+  private final CastMemberRepository castMemberRepository;
+  private final GenreRepository genreRepository;
+  private final VideoRepository videoRepository;
+  private final ProcessedEventStore processedEventStore;
+  private final UnitOfWork unitOfWork;
+  private final CatalogEventParser eventParser = new CatalogEventParser();
+  private final VideoRecordParser videoParser = new VideoRecordParser();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ValidationFailures validationFailures;
+
+  public CatalogEventConsumer(CategoryRepository categoryRepository, CastMemberRepository castMemberRepository, GenreRepository genreRepository,
+    VideoRepository videoRepository, ProcessedEventStore processedEventStore, UnitOfWork unitOfWork) {
+    this(categoryRepository, castMemberRepository, genreRepository, videoRepository, processedEventStore, unitOfWork, CatalogMetrics.disabled());
+  }
+
+  public CatalogEventConsumer(CategoryRepository categoryRepository, CastMemberRepository castMemberRepository, GenreRepository genreRepository,
+    VideoRepository videoRepository, ProcessedEventStore processedEventStore, UnitOfWork unitOfWork, CatalogMetrics metrics) {
+    if(categoryRepository == null) throw new IllegalArgumentException("categoryRepository is marked non-null but is null");
+    if(castMemberRepository == null) throw new IllegalArgumentException("castMemberRepository is marked non-null but is null");
+    if(genreRepository == null) throw new IllegalArgumentException("genreRepository is marked non-null but is null");
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    if(processedEventStore == null) throw new IllegalArgumentException("processedEventStore is marked non-null but is null");
+    if(unitOfWork == null) throw new IllegalArgumentException("unitOfWork is marked non-null but is null");
+    if(metrics == null) throw new IllegalArgumentException("metrics is marked non-null but is null");
+    this.categoryRepository = categoryRepository;
+    this.castMemberRepository = castMemberRepository;
+    this.genreRepository = genreRepository;
+    this.videoRepository = videoRepository;
+    this.processedEventStore = processedEventStore;
+    this.unitOfWork = unitOfWork;
+    this.validationFailures = new ValidationFailures(metrics, "sync");
+  }
+
+  public SyncReport consume(List<byte[]> messages) {
+    if(messages == null) throw new IllegalArgumentException("messages are marked non-null but are null");
+    List<SyncFailure> failures = new ArrayList<SyncFailure>();
+    Map<UUID, Received> received = new LinkedHashMap<UUID, Received>();
+    int duplicates = 0;
+    for (int position = 0; position < messages.size(); position++) {
+      try {
+        CatalogEvent event = this.eventParser.parse(messages.get(position));
+        if(received.putIfAbsent(event.getEventId(), new Received(position, event)) != null) duplicates++;
+      } catch (IOException | RuntimeException e) {
+        failures.add(new SyncFailure(position, null, e.getMessage()));
+      }
+    }
+    if(received.isEmpty()) return new SyncReport(messages.size(), duplicates, 0, 0, failures);
+
+    List<Received> events = new ArrayList<Received>(received.values());
+    Batch batch;
+    try {
+      batch = this.unitOfWork.execute(() -> this.apply(events));
+    } catch (RuntimeException batchFailure) {
+      batch = this.unitOfWork.execute(() -> this.pending(events));
+      for (Change change : batch.changes) {
+        try {
+          if(this.unitOfWork.execute(() -> this.write(new Batch(List.of(change), 0, 0))) == 0) {
+            batch.applied++;
+          } else {
+            batch.outdated++;
+          }
+        } catch (IllegalArgumentException | RejectedChangeException e) {
+          if(e instanceof IllegalArgumentException) this.validationFailures.record((IllegalArgumentException) e);
+          for (Received event : change.events) {
+            failures.add(new SyncFailure(event.position, event.event.getEventId(), e.getMessage()));
+          }
+        }
+      }
+    }
+    failures.sort((a, b) -> Integer.compare(a.getPosition(), b.getPosition()));
+    return new SyncReport(messages.size(), duplicates + batch.duplicates, batch.coalesced, batch.applied, batch.outdated, failures);
+  }
+
+  private Batch apply(List<Received> events) {
+    Batch batch = this.pending(events);
+    batch.outdated = this.write(batch);
+    batch.applied = batch.changes.size() - batch.outdated;
+    return batch;
+  }
+
+  // Drops events applied before and folds the rest into one change per entity.
+  private Batch pending(List<Received> events) {
+    List<UUID> eventIds = new ArrayList<UUID>(events.size());
+    for (Received event : events) {
+      eventIds.add(event.event.getEventId());
+    }
+    Set<UUID> processed = this.processedEventStore.findProcessed(eventIds);
+    Map<Key, Change> changes = new LinkedHashMap<Key, Change>();
+    int coalesced = 0;
+    for (Received event : events) {
+      if(processed.contains(event.event.getEventId())) continue;
+      Change change = changes.computeIfAbsent(new Key(event.event.getEntityType(), event.event.getEntityId()), key -> new Change());
+      if(!change.events.isEmpty()) coalesced++;
+      change.events.add(event);
+    }
+    return new Batch(new ArrayList<Change>(changes.values()), processed.size(), coalesced);
+  }
+
+  // Returns how many of the batch's changes were outdated and skipped.
+  private int write(Batch batch) {
+    Map<CatalogEntityType, List<CatalogEvent>> upserts = new EnumMap<CatalogEntityType, List<CatalogEvent>>(CatalogEntityType.class);
+    Map<CatalogEntityType, List<UUID>> deletes = new EnumMap<CatalogEntityType, List<UUID>>(CatalogEntityType.class);
+    List<UUID> eventIds = new ArrayList<UUID>();
+    Map<UUID, Long> stored = this.storedVersions(batch.changes);
+    int outdated = 0;
+    for (Change change : batch.changes) {
+      for (Received event : change.events) {
+        eventIds.add(event.event.getEventId());
+      }
+      CatalogEvent newest = change.newest();
+      Long version = stored.get(newest.getEntityId());
+      if(newest.getVersion() != null && version != null && newest.getVersion() <= version) {
+        outdated++;
+      } else if(newest.getAction() == ChangeAction.DELETED) {
+        deletes.computeIfAbsent(newest.getEntityType(), type -> new ArrayList<UUID>()).add(newest.getEntityId());
+      } else {
+        upserts.computeIfAbsent(newest.getEntityType(), type -> new ArrayList<CatalogEvent>()).add(newest);
+      }
+    }
+
+    References references = new References();
+    List<Category> categories = new ArrayList<Category>();
+    for (CatalogEvent event : upserts.getOrDefault(CatalogEntityType.CATEGORY, List.of())) {
+      Category category = versioned(new Category(event.getEntityId(), text(event.getPayload(), "name")), event, stored);
+      categories.add(references.categories.put(event.getEntityId(), category));
+    }
+    if(!categories.isEmpty()) this.categoryRepository.saveAll(categories);
+
+    List<CastMember> castMembers = new ArrayList<CastMember>();
+    for (CatalogEvent event : upserts.getOrDefault(CatalogEntityType.CAST_MEMBER, List.of())) {
+      JsonNode type = event.getPayload().get("type");
+      CastMember castMember = new CastMember(event.getEntityId(), text(event.getPayload(), "name"),
+        CastMemberType.of(type == null || !type.canConvertToInt() ? null : type.intValue()));
+      castMembers.add(references.castMembers.put(event.getEntityId(), versioned(castMember, event, stored)));
+    }
+    if(!castMembers.isEmpty()) this.castMemberRepository.saveAll(castMembers);
+
+    List<CatalogEvent> genreEvents = upserts.getOrDefault(CatalogEntityType.GENRE, List.of());
+    List<CatalogEvent> videoEvents = upserts.getOrDefault(CatalogEntityType.VIDEO, List.of());
+    references.resolve(genreEvents, videoEvents);
+
+    List<Genre> genres = new ArrayList<Genre>();
+    for (CatalogEvent event : genreEvents) {
+      Genre genre = new Genre(event.getEntityId(), text(event.getPayload(), "name"), references.categories.all(ids(event.getPayload(), "categories")));
+      genres.add(references.genres.put(event.getEntityId(), versioned(genre, event, stored)));
+    }
+    if(!genres.isEmpty()) this.genreRepository.saveAll(genres);
+
+    List<Video> videos = new ArrayList<Video>();
+    for (CatalogEvent event : videoEvents) {
+      Video video = this.parseVideo(event);
+      video.setCategories(references.categories.all(ids(event.getPayload(), "categories")));
+      video.setGenres(references.genres.all(ids(event.getPayload(), "genres")));
+      video.setCastMembers(references.castMembers.all(ids(event.getPayload(), "castMembers")));
+      videos.add(versioned(video, event, stored));
+    }
+    if(!videos.isEmpty()) this.videoRepository.saveAll(videos);
+
+    this.delete(this.videoRepository, deletes.get(CatalogEntityType.VIDEO));
+    this.delete(this.genreRepository, deletes.get(CatalogEntityType.GENRE));
+    this.delete(this.castMemberRepository, deletes.get(CatalogEntityType.CAST_MEMBER));
+    this.delete(this.categoryRepository, deletes.get(CatalogEntityType.CATEGORY));
+
+    this.processedEventStore.markProcessed(eventIds);
+    return outdated;
+  }
+
+  // One findVersions per entity type, only for the ids whose newest event carries a version.
+  private Map<UUID, Long> storedVersions(List<Change> changes) {
+    Map<CatalogEntityType, List<UUID>> versioned = new EnumMap<CatalogEntityType, List<UUID>>(CatalogEntityType.class);
+    for (Change change : changes) {
+      CatalogEvent newest = change.newest();
+      if(newest.getVersion() != null) versioned.computeIfAbsent(newest.getEntityType(), type -> new ArrayList<UUID>()).add(newest.getEntityId());
+    }
+    Map<UUID, Long> stored = new HashMap<UUID, Long>();
+    for (Map.Entry<CatalogEntityType, List<UUID>> ids : versioned.entrySet()) {
+      stored.putAll(this.repository(ids.getKey()).findVersions(ids.getValue()));
+    }
+    return stored;
+  }
+
+  private EntityRepository<?> repository(CatalogEntityType type) {
+    switch (type) {
+      case CATEGORY:
+        return this.categoryRepository;
+      case CAST_MEMBER:
+        return this.castMemberRepository;
+      case GENRE:
+        return this.genreRepository;
+      default:
+        return this.videoRepository;
+    }
+  }
+
+  // Written at the source's version; the stored one goes along, so a write in between fails the save.
+  private static <T extends BaseEntity> T versioned(T entity, CatalogEvent event, Map<UUID, Long> stored) {
+    if(event.getVersion() == null) return entity;
+    Long version = stored.get(event.getEntityId());
+    entity.markPersisted(version == null ? 0 : version);
+    entity.assignVersion(event.getVersion());
+    return entity;
+  }
+
+  private void delete(EntityRepository<?> repository, List<UUID> ids) {
+    if(ids == null) return;
+    for (UUID id : ids) {
+      repository.deleteById(id);
+    }
+  }
+
+  private Video parseVideo(CatalogEvent event) {
+    ObjectNode record = event.getPayload().deepCopy();
+    record.put("id", event.getEntityId().toString());
+    try {
+      return this.videoParser.parse(this.objectMapper.treeAsTokens(record));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String text(JsonNode payload, String field) {
+    JsonNode value = payload.get(field);
+    return value == null || value.isNull() ? null : value.asText();
+  }
+
+  private static List<UUID> ids(JsonNode payload, String field) {
+    JsonNode values = payload.get(field);
+    if(values == null || values.isNull()) return List.of();
+    if(!values.isArray()) throw new IllegalArgumentException(field + " must be an array of ids");
+    List<UUID> ids = new ArrayList<UUID>(values.size());
+    for (JsonNode value : values) {
+      ids.add(UUID.fromString(value.asText()));
+    }
+    return ids;
+  }
+
+  /*
+   * Associations are resolved against the entities written earlier in the batch first, then with
+   * one findAllById per type for the rest.
+   */
+  private final class References {
+    private final Resolved<Category> categories = new Resolved<Category>("category", CatalogEventConsumer.this.categoryRepository);
+    private final Resolved<CastMember> castMembers = new Resolved<CastMember>("cast member", CatalogEventConsumer.this.castMemberRepository);
+    private final Resolved<Genre> genres = new Resolved<Genre>("genre", CatalogEventConsumer.this.genreRepository);
+
+    private void resolve(List<CatalogEvent> genreEvents, List<CatalogEvent> videoEvents) {
+      Set<UUID> genreIds = new LinkedHashSet<UUID>();
+      for (CatalogEvent event : genreEvents) {
+        genreIds.add(event.getEntityId());
+      }
+      for (CatalogEvent event : genreEvents) {
+        this.categories.want(ids(event.getPayload(), "categories"));
+      }
+      for (CatalogEvent event : videoEvents) {
+        this.categories.want(ids(event.getPayload(), "categories"));
+        this.castMembers.want(ids(event.getPayload(), "castMembers"));
+        for (UUID id : ids(event.getPayload(), "genres")) {
+          if(!genreIds.contains(id)) this.genres.want(List.of(id));
+        }
+      }
+      this.categories.load();
+      this.castMembers.load();
+      this.genres.load();
+    }
+  }
+
+  private static final class Resolved<T extends BaseEntity> {
+    private final String name;
+    private final EntityRepository<T> repository;
+    private final Map<UUID, T> entities = new HashMap<UUID, T>();
+    private final Set<UUID> wanted = new LinkedHashSet<UUID>();
+
+    private Resolved(String name, EntityRepository<T> repository) {
+      this.name = name;
+      this.repository = repository;
+    }
+
+    private T put(UUID id, T entity) {
+      this.entities.put(id, entity);
+      return entity;
+    }
+
+    private void want(Collection<UUID> ids) {
+      for (UUID id : ids) {
+        if(!this.entities.containsKey(id)) this.wanted.add(id);
+      }
+    }
+
+    private void load() {
+      if(this.wanted.isEmpty()) return;
+      for (T entity : this.repository.findAllById(this.wanted)) {
+        this.entities.put(entity.getId(), entity);
+      }
+      this.wanted.clear();
+    }
+
+    private List<T> all(List<UUID> ids) {
+      List<T> all = new ArrayList<T>(ids.size());
+      for (UUID id : ids) {
+        T entity = this.entities.get(id);
+        if(entity == null) throw new IllegalArgumentException("unknown " + this.name + " " + id);
+        all.add(entity);
+      }
+      return all;
+    }
+  }
+
+  private static final class Received {
+    private final int position;
+    private final CatalogEvent event;
+
+    private Received(int position, CatalogEvent event) {
+      this.position = position;
+      this.event = event;
+    }
+  }
+
+  private static final class Change {
+    private final List<Received> events = new ArrayList<Received>(1);
+
+    // The highest version; of events without one, or with the same one, the later.
+    private CatalogEvent newest() {
+      CatalogEvent newest = null;
+      for (Received received : this.events) {
+        CatalogEvent event = received.event;
+        if(newest == null || event.getVersion() == null || newest.getVersion() == null || event.getVersion() >= newest.getVersion()) newest = event;
+      }
+      return newest;
+    }
+  }
+
+  private static final class Batch {
+    private final List<Change> changes;
+    private final int duplicates;
+    private final int coalesced;
+    private int applied;
+    private int outdated;
+
+    private Batch(List<Change> changes, int duplicates, int coalesced) {
+      this.changes = changes;
+      this.duplicates = duplicates;
+      this.coalesced = coalesced;
+    }
+  }
+
+  private static final class Key {
+    private final CatalogEntityType type;
+    private final UUID id;
+
+    private Key(CatalogEntityType type, UUID id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if(!(other instanceof Key)) return false;
+      Key key = (Key) other;
+      return this.type == key.type && this.id.equals(key.id);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * this.type.hashCode() + this.id.hashCode();
+    }
+  }
+}
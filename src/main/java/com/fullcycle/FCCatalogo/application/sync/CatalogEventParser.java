@@ -0,0 +1,52 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads one change event as emitted by the admin service:
+ *
+ * {"eventId":"…","entity":"video","action":"updated","id":"…","version":7,"payload":{…}}
+ *
+ * The payload carries the entity's whole state in the import record format, with associations as
+ * id arrays ("categories", "genres", "castMembers"); deletes may omit it. The version is the one
+ * the outbox publishes and is optional.
+
+ */
+public class CatalogEventParser {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  public CatalogEvent parse(byte[] message) throws IOException {
+    if(message == null) throw new IllegalArgumentException("message is marked non-null but is null");
+    JsonNode event = this.objectMapper.readTree(message);
+    if(event == null || !event.isObject()) throw new IllegalArgumentException("event must be a JSON object");
+    JsonNode payload = event.get("payload");
+    return new CatalogEvent(
+      uuid(event, "eventId"),
+      CatalogEntityType.of(text(event, "entity")),
+      ChangeAction.of(text(event, "action")),
+      uuid(event, "id"),
+      payload == null || payload.isNull() ? null : payload,
+      version(event));
+  }
+
+  private static Long version(JsonNode event) {
+    JsonNode value = event.get("version");
+    if(value == null || value.isNull()) return null;
+    if(!value.isIntegralNumber() || !value.canConvertToLong()) throw new IllegalArgumentException("version must be a whole number");
+    return value.longValue();
+  }
+
+  private static String text(JsonNode event, String field) {
+    JsonNode value = event.get(field);
+    if(value == null || !value.isTextual()) throw new IllegalArgumentException(field + " is marked non-null but is null");
+    return value.asText();
+  }
+
+  private static UUID uuid(JsonNode event, String field) {
+    return UUID.fromString(text(event, field));
+  }
+}
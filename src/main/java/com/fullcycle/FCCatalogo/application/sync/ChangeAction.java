@@ -0,0 +1,13 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+public enum ChangeAction {
+  CREATED, UPDATED, DELETED;
+
+  public static ChangeAction of(String name) {
+    if(name == null) throw new IllegalArgumentException("action is marked non-null but is null");
+    for (ChangeAction action : values()) {
+      if(action.name().equalsIgnoreCase(name)) return action;
+    }
+    throw new IllegalArgumentException("action must be created, updated or deleted");
+  }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+// Ids of events already applied. Called inside the unit of work that applies them, so both commit together.
+public interface ProcessedEventStore {
+  Set<UUID> findProcessed(Collection<UUID> eventIds);
+
+  void markProcessed(Collection<UUID> eventIds);
+}
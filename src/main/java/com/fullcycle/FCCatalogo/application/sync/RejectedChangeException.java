@@ -0,0 +1,9 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+public class RejectedChangeException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public RejectedChangeException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.util.UUID;
+
+public class SyncFailure {
+  private final int position;
+  private final UUID eventId;
+  private final String message;
+
+  public SyncFailure(int position, UUID eventId, String message) {
+    this.position = position;
+    this.eventId = eventId;
+    this.message = message;
+  }
+
+  // Index of the message in the batch it arrived in, so the transport can dead-letter it.
+  public int getPosition() {
+    return this.position;
+  }
+
+  // Null when the message could not be parsed.
+  public UUID getEventId() {
+    return this.eventId;
+  }
+
+  public String getMessage() {
+    return this.message;
+  }
+}
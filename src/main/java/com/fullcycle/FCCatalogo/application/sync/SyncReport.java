@@ -0,0 +1,54 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.util.Collections;
+import java.util.List;
+
+public class SyncReport {
+  private final int received;
+  private final int duplicates;
+  private final int coalesced;
+  private final int applied;
+  private final int outdated;
+  private final List<SyncFailure> failures;
+
+  public SyncReport(int received, int duplicates, int coalesced, int applied, List<SyncFailure> failures) {
+    this(received, duplicates, coalesced, applied, 0, failures);
+  }
+
+  public SyncReport(int received, int duplicates, int coalesced, int applied, int outdated, List<SyncFailure> failures) {
+    this.received = received;
+    this.duplicates = duplicates;
+    this.coalesced = coalesced;
+    this.applied = applied;
+    this.outdated = outdated;
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  public int getReceived() {
+    return this.received;
+  }
+
+  // Events seen before, in this batch or an earlier one.
+  public int getDuplicates() {
+    return this.duplicates;
+  }
+
+  // Events superseded by a later event for the same entity in the batch.
+  public int getCoalesced() {
+    return this.coalesced;
+  }
+
+  // Changes written, one per entity.
+  public int getApplied() {
+    return this.applied;
+  }
+
+  // Changes skipped because the stored entity is already at their version or newer, one per entity.
+  public int getOutdated() {
+    return this.outdated;
+  }
+
+  public List<SyncFailure> getFailures() {
+    return this.failures;
+  }
+}
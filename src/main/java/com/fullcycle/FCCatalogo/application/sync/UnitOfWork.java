@@ -0,0 +1,12 @@
+package com.fullcycle.FCCatalogo.application.sync;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs work in one transaction. Implementations throw RejectedChangeException when the store
+ * refuses the data itself, e.g. a foreign key still in use, so callers can tell a bad change
+ * from a store that is unavailable.
+ */
+public interface UnitOfWork {
+  <T> T execute(Supplier<T> work);
+}
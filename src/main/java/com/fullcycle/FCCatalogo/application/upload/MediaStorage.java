@@ -0,0 +1,28 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.List;
+
+/**
+ * Where uploaded media lives. An upload is written to a part addressed by the upload id and, once
+ * complete, published under a key such as "videos/{videoId}/{videoFileId}.mp4".
+ */
+public interface MediaStorage {
+  // Open for reading and writing at any position; created empty if missing.
+  SeekableByteChannel openPart(String uploadId) throws IOException;
+
+  // Bytes written to the part so far, 0 if there is none.
+  long partLength(String uploadId) throws IOException;
+
+  void deletePart(String uploadId) throws IOException;
+
+  // The upload ids there are parts for.
+  List<String> partIds() throws IOException;
+
+  // Moves the part to key, replacing whatever was there.
+  void publish(String uploadId, String key) throws IOException;
+
+  // The url the object under key is served at; known before it is published.
+  String url(String key);
+}
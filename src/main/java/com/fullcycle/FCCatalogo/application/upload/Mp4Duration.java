@@ -0,0 +1,78 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Reads the duration from an MP4/QuickTime movie header (moov/mvhd). Top-level boxes are skipped
+ * by their sizes, so only box headers are read however large the file and wherever moov sits.
+ * The result is in minutes, like the durations the catalog is fed with.
+ */
+final class Mp4Duration {
+  private static final int MOOV = 0x6d6f6f76;
+  private static final int MVHD = 0x6d766864;
+  private static final int MAX_BOXES = 10_000;
+
+  private Mp4Duration() {}
+
+  // Null when the file is not a movie this can read.
+  static Duration read(SeekableByteChannel channel) throws IOException {
+    long[] moov = find(channel, 0, channel.size(), MOOV);
+    if(moov == null) return null;
+    long[] mvhd = find(channel, moov[0], moov[1], MVHD);
+    if(mvhd == null || mvhd[1] - mvhd[0] < 20) return null;
+    ByteBuffer header = ByteBuffer.allocate(32);
+    header.limit((int) Math.min(32, mvhd[1] - mvhd[0]));
+    if(!readFully(channel, mvhd[0], header)) return null;
+    long timescale;
+    long duration;
+    if(header.get(0) == 1) {
+      if(header.limit() < 32) return null;
+      timescale = header.getInt(20) & 0xffffffffL;
+      duration = header.getLong(24);
+      if(duration == -1) return null;
+    } else {
+      timescale = header.getInt(12) & 0xffffffffL;
+      duration = header.getInt(16) & 0xffffffffL;
+      if(duration == 0xffffffffL) return null;
+    }
+    if(timescale == 0 || duration < 0) return null;
+    return Duration.ofHundredths(Math.round(duration * 100d / (timescale * 60d)));
+  }
+
+  // Payload start and end of the first box of the given type in [start, end).
+  private static long[] find(SeekableByteChannel channel, long start, long end, int type) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(8);
+    long position = start;
+    for (int boxes = 0; position + 8 <= end && boxes < MAX_BOXES; boxes++) {
+      header.clear();
+      if(!readFully(channel, position, header)) return null;
+      long size = header.getInt(0) & 0xffffffffL;
+      int boxType = header.getInt(4);
+      long headerSize = 8;
+      if(size == 1) {
+        header.clear();
+        if(!readFully(channel, position + 8, header)) return null;
+        size = header.getLong(0);
+        headerSize = 16;
+      } else if(size == 0) {
+        size = end - position;
+      }
+      if(size < headerSize || size > end - position) return null;
+      if(boxType == type) return new long[] {position + headerSize, position + size};
+      position += size;
+    }
+    return null;
+  }
+
+  private static boolean readFully(SeekableByteChannel channel, long position, ByteBuffer buffer) throws IOException {
+    channel.position(position);
+    while (buffer.hasRemaining()) {
+      if(channel.read(buffer) < 0) return false;
+    }
+    return true;
+  }
+}
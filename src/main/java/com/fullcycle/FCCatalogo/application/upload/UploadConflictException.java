@@ -0,0 +1,18 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+// The chunk does not start where the upload is, or another connection is still writing to it.
+public class UploadConflictException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  private final long offset;
+
+  public UploadConflictException(String message, long offset) {
+    super(message);
+    this.offset = offset;
+  }
+
+  // Where the next chunk has to start.
+  public long getOffset() {
+    return this.offset;
+  }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+// Every byte arrived but the upload cannot be stored: a checksum mismatch, or no duration to give the video file.
+public class UploadRejectedException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public UploadRejectedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,114 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * What an upload was started with. The offset is not part of it: it is however many bytes the
+ * part holds, so a session stays valid whatever a dropped connection managed to write.
+ */
+public final class UploadSession {
+  private final String id;
+  private final UUID videoId;
+  private final UUID videoFileId;
+  private final String title;
+  private final long size;
+  private final String sha256;
+  private final Duration duration;
+  private final String extension;
+  private final long createdAt;
+  private final Duration published;
+  private final String url;
+
+  public UploadSession(String id, UUID videoId, UUID videoFileId, String title, long size, String sha256, Duration duration,
+    String extension, long createdAt, Duration published, String url) {
+    if(id == null) throw new IllegalArgumentException("id is marked non-null but is null");
+    if(videoId == null) throw new IllegalArgumentException("videoId is marked non-null but is null");
+    if(videoFileId == null) throw new IllegalArgumentException("videoFileId is marked non-null but is null");
+    if(title == null) throw new IllegalArgumentException("title is marked non-null but is null");
+    if(size <= 0) throw new IllegalArgumentException("size must be greater than zero");
+    if(extension == null) throw new IllegalArgumentException("extension is marked non-null but is null");
+    this.id = id;
+    this.videoId = videoId;
+    this.videoFileId = videoFileId;
+    this.title = title;
+    this.size = size;
+    this.sha256 = sha256;
+    this.duration = duration;
+    this.extension = extension;
+    this.createdAt = createdAt;
+    this.published = published;
+    this.url = url;
+  }
+
+  public String getId() {
+    return this.id;
+  }
+
+  public UUID getVideoId() {
+    return this.videoId;
+  }
+
+  public UUID getVideoFileId() {
+    return this.videoFileId;
+  }
+
+  public String getTitle() {
+    return this.title;
+  }
+
+  public long getSize() {
+    return this.size;
+  }
+
+  // Lower-case hex, or null when the client did not send one.
+  public String getSha256() {
+    return this.sha256;
+  }
+
+  // Declared by the client; used when the media does not say.
+  public Duration getDuration() {
+    return this.duration;
+  }
+
+  public String getExtension() {
+    return this.extension;
+  }
+
+  public long getCreatedAt() {
+    return this.createdAt;
+  }
+
+  // The media's duration, set once the complete part has passed its checks and before it is moved under the key.
+  public Duration getPublished() {
+    return this.published;
+  }
+
+  public boolean isPublished() {
+    return this.published != null;
+  }
+
+  // Set once the file is stored and attached to the video.
+  public String getUrl() {
+    return this.url;
+  }
+
+  public boolean isComplete() {
+    return this.url != null;
+  }
+
+  public String getKey() {
+    return "videos/" + this.videoId + "/" + this.videoFileId + "." + this.extension;
+  }
+
+  public UploadSession published(Duration published) {
+    return new UploadSession(this.id, this.videoId, this.videoFileId, this.title, this.size, this.sha256, this.duration, this.extension, this.createdAt,
+      published, this.url);
+  }
+
+  public UploadSession complete(String url) {
+    return new UploadSession(this.id, this.videoId, this.videoFileId, this.title, this.size, this.sha256, this.duration, this.extension, this.createdAt,
+      this.published, url);
+  }
+}
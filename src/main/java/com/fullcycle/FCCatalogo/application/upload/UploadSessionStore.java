@@ -0,0 +1,17 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+// Keeps upload sessions across restarts; the bytes themselves are in MediaStorage.
+public interface UploadSessionStore {
+  void save(UploadSession session) throws IOException;
+
+  Optional<UploadSession> find(String id) throws IOException;
+
+  void delete(String id) throws IOException;
+
+  // Every saved session; one deleted while they are read may be left out.
+  List<UploadSession> findAll() throws IOException;
+}
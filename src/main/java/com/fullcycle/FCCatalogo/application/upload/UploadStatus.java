@@ -0,0 +1,50 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import java.util.UUID;
+
+public final class UploadStatus {
+  private final String uploadId;
+  private final UUID videoId;
+  private final UUID videoFileId;
+  private final long offset;
+  private final long size;
+  private final String url;
+
+  public UploadStatus(String uploadId, UUID videoId, UUID videoFileId, long offset, long size, String url) {
+    this.uploadId = uploadId;
+    this.videoId = videoId;
+    this.videoFileId = videoFileId;
+    this.offset = offset;
+    this.size = size;
+    this.url = url;
+  }
+
+  public String getUploadId() {
+    return this.uploadId;
+  }
+
+  public UUID getVideoId() {
+    return this.videoId;
+  }
+
+  public UUID getVideoFileId() {
+    return this.videoFileId;
+  }
+
+  public long getOffset() {
+    return this.offset;
+  }
+
+  public long getSize() {
+    return this.size;
+  }
+
+  // Null until the upload is complete.
+  public String getUrl() {
+    return this.url;
+  }
+
+  public boolean isComplete() {
+    return this.url != null;
+  }
+}
@@ -0,0 +1,352 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.validation.EntityRules;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Resumable uploads of video file media. A client starts an upload with its size, then sends the
+ * bytes in chunks, each starting at the offset the upload is at; after a dropped connection it asks
+ * for the offset and carries on from there. Chunks are copied through one fixed buffer into the
+ * part at their position and hashed on the way, so memory stays the same whatever the file size and
+ * the SHA-256 is ready when the last byte lands. The complete file is checked against the declared
+ * checksum, its duration read from the movie header, and it is published and attached to the
+ * video as a VideoFile with its url and duration.
+ *
+ * The running digest is kept per upload in memory; after a restart the part is hashed once from
+ * the start before the next chunk. Once the complete part has passed its checks the session is saved
+ * as published, before the part is moved, so a restart from then on resumes at the final offset.
+ */
+public class VideoFileUploader {
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+  private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final VideoRepository videoRepository;
+  private final MediaStorage storage;
+  private final UploadSessionStore sessions;
+  private final long maxSize;
+  private final Clock clock;
+  private final ConcurrentMap<String, Progress> active = new ConcurrentHashMap<String, Progress>();
+
+  public VideoFileUploader(VideoRepository videoRepository, MediaStorage storage, UploadSessionStore sessions, long maxSize, Clock clock) {
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    if(storage == null) throw new IllegalArgumentException("storage is marked non-null but is null");
+    if(sessions == null) throw new IllegalArgumentException("sessions is marked non-null but is null");
+    if(maxSize <= 0) throw new IllegalArgumentException("maxSize must be greater than zero");
+    if(clock == null) throw new IllegalArgumentException("clock is marked non-null but is null");
+    this.videoRepository = videoRepository;
+    this.storage = storage;
+    this.sessions = sessions;
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  /**
+   * Empty if the video does not exist. A videoFileId naming one of the video's files replaces that
+   * file's media; without one a new file is added. The duration is only used when the media has no
+   * movie header to read it from.
+   */
+  public Optional<UploadStatus> start(UUID videoId, UUID videoFileId, String title, long size, String sha256, Duration duration, String fileName)
+    throws IOException {
+    if(videoId == null) throw new IllegalArgumentException("videoId is marked non-null but is null");
+    String violation = EntityRules.title(title);
+    if(violation != null) throw new IllegalArgumentException(violation);
+    if(size <= 0) throw new IllegalArgumentException("size must be greater than zero");
+    if(size > this.maxSize) throw new IllegalArgumentException("size must not be greater than " + this.maxSize);
+    if(sha256 != null && !SHA256.matcher(sha256 = sha256.toLowerCase(Locale.ROOT)).matches()) throw new IllegalArgumentException("sha256 must be 64 hex digits");
+    Optional<Video> video = this.videoRepository.findById(videoId, VideoFetchPlan.FULL_GRAPH);
+    if(!video.isPresent()) return Optional.empty();
+    if(videoFileId != null && video.get().getVideoFiles().stream().noneMatch(file -> file.getId().equals(videoFileId))) {
+      throw new IllegalArgumentException("video file " + videoFileId + " does not belong to video " + videoId);
+    }
+    UploadSession session = new UploadSession(UUID.randomUUID().toString(), videoId,
+      videoFileId == null ? BaseEntity.getIdGenerator().generate() : videoFileId, title, size, sha256, duration, extension(fileName),
+      this.clock.millis(), null, null);
+    this.sessions.save(session);
+    this.storage.openPart(session.getId()).close();
+    return Optional.of(status(session, 0));
+  }
+
+  public Optional<UploadStatus> status(String uploadId) throws IOException {
+    Optional<UploadSession> session = this.sessions.find(uploadId);
+    if(!session.isPresent()) return Optional.empty();
+    if(session.get().isComplete() || session.get().isPublished()) return Optional.of(status(session.get(), session.get().getSize()));
+    Progress progress = this.active.get(uploadId);
+    long offset = progress != null && progress.loaded ? progress.offset : this.storage.partLength(uploadId);
+    return Optional.of(status(session.get(), offset));
+  }
+
+  /**
+   * Appends the body at offset, which has to be where the upload is. A body that breaks off keeps
+   * what arrived, so the retry starts after it. Bytes past the declared size are refused. The
+   * chunk that completes the upload also stores it; if that fails, sending an empty chunk at the
+   * final offset tries again; once the session is published only the move and the video write are.
+   */
+  public Optional<UploadStatus> append(String uploadId, long offset, ReadableByteChannel body) throws IOException {
+    if(body == null) throw new IllegalArgumentException("body is marked non-null but is null");
+    Optional<UploadSession> found = this.sessions.find(uploadId);
+    if(!found.isPresent()) return Optional.empty();
+    UploadSession session = found.get();
+    if(session.isComplete()) return Optional.of(completed(session, offset));
+    Progress progress = this.active.computeIfAbsent(uploadId, id -> new Progress());
+    if(!progress.lock.tryLock()) throw new UploadConflictException("upload is being written by another request", progress.offset);
+    try {
+      // Read again under the lock: the request that held it may have published or completed the upload.
+      found = this.sessions.find(uploadId);
+      if(!found.isPresent()) {
+        this.active.remove(uploadId);
+        return Optional.empty();
+      }
+      session = found.get();
+      if(session.isComplete()) {
+        this.active.remove(uploadId);
+        return Optional.of(completed(session, offset));
+      }
+      if(session.isPublished()) {
+        if(offset != session.getSize()) throw new UploadConflictException("upload is at offset " + session.getSize(), session.getSize());
+        return Optional.of(this.complete(session, progress));
+      }
+      try (SeekableByteChannel part = this.storage.openPart(uploadId)) {
+        if(!progress.loaded) this.load(part, progress);
+        if(offset != progress.offset) throw new UploadConflictException("upload is at offset " + progress.offset, progress.offset);
+        // A write that failed half way may have left bytes past the offset.
+        if(part.size() > progress.offset) part.truncate(progress.offset);
+        this.copy(body, part, progress, session.getSize());
+      }
+      if(progress.offset < session.getSize()) return Optional.of(status(session, progress.offset));
+      return Optional.of(this.complete(session, progress));
+    } finally {
+      progress.lock.unlock();
+    }
+  }
+
+  public boolean cancel(String uploadId) throws IOException {
+    if(!this.sessions.find(uploadId).isPresent()) return false;
+    Progress progress = this.active.computeIfAbsent(uploadId, id -> new Progress());
+    progress.lock.lock();
+    try {
+      this.sessions.delete(uploadId);
+      this.storage.deletePart(uploadId);
+      this.active.remove(uploadId);
+      return true;
+    } finally {
+      progress.lock.unlock();
+    }
+  }
+
+  /**
+   * Drops every upload started more than maxAge ago, whatever state it is in, with its part and
+   * running digest, then parts and digests whose session is gone. An upload a request is writing
+   * right now is left to the next sweep. Returns how many uploads were dropped.
+   */
+  public int expire(java.time.Duration maxAge) throws IOException {
+    if(maxAge == null || maxAge.isNegative()) throw new IllegalArgumentException("maxAge must not be negative");
+    long createdBefore = this.clock.millis() - maxAge.toMillis();
+    int expired = 0;
+    for (UploadSession session : this.sessions.findAll()) {
+      if(session.getCreatedAt() < createdBefore && this.drop(session.getId())) expired++;
+    }
+    // start saves the session before it creates the part, so a part without one is left over.
+    for (String uploadId : this.storage.partIds()) {
+      if(!this.sessions.find(uploadId).isPresent()) this.storage.deletePart(uploadId);
+    }
+    for (String uploadId : this.active.keySet()) {
+      if(!this.sessions.find(uploadId).isPresent()) this.active.remove(uploadId);
+    }
+    return expired;
+  }
+
+  private boolean drop(String uploadId) throws IOException {
+    Progress progress = this.active.computeIfAbsent(uploadId, id -> new Progress());
+    if(!progress.lock.tryLock()) return false;
+    try {
+      boolean found = this.sessions.find(uploadId).isPresent();
+      this.sessions.delete(uploadId);
+      this.storage.deletePart(uploadId);
+      this.active.remove(uploadId);
+      return found;
+    } finally {
+      progress.lock.unlock();
+    }
+  }
+
+  private void copy(ReadableByteChannel body, SeekableByteChannel part, Progress progress, long size) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    part.position(progress.offset);
+    while (true) {
+      buffer.clear();
+      // One byte past the declared size is enough to tell the body is too long.
+      buffer.limit((int) Math.min(buffer.capacity(), size - progress.offset + 1));
+      int read = body.read(buffer);
+      if(read < 0) return;
+      if(progress.offset + read > size) {
+        this.write(buffer, part, progress, read - 1);
+        throw new IllegalArgumentException("chunk runs past the declared size of " + size + " bytes");
+      }
+      this.write(buffer, part, progress, read);
+    }
+  }
+
+  // Written before it is hashed, so the digest never covers bytes the part does not have.
+  private void write(ByteBuffer buffer, SeekableByteChannel part, Progress progress, int length) throws IOException {
+    buffer.limit(length).position(0);
+    while (buffer.hasRemaining()) {
+      part.write(buffer);
+    }
+    progress.digest.update(buffer.array(), 0, length);
+    progress.offset += length;
+  }
+
+  private void load(SeekableByteChannel part, Progress progress) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    progress.digest.reset();
+    part.position(0);
+    long offset = 0;
+    int read;
+    while ((read = part.read(buffer)) > 0) {
+      progress.digest.update(buffer.array(), 0, read);
+      offset += read;
+      buffer.clear();
+    }
+    progress.offset = offset;
+    progress.loaded = true;
+  }
+
+  /*
+   * Published before the video is written, so a saved VideoFile never points at media that is not
+   * there. The part is only gone once it has been moved; a restart between saving the published
+   * session and the move still finds all of it and moves it then.
+   */
+  private UploadStatus complete(UploadSession session, Progress progress) throws IOException {
+    UploadSession published = session.isPublished() ? session : session.published(this.check(session, progress));
+    if(!session.isPublished()) this.sessions.save(published);
+    if(this.storage.partLength(published.getId()) == published.getSize()) this.storage.publish(published.getId(), published.getKey());
+    String url = this.storage.url(published.getKey());
+    Video current = this.videoRepository.findById(published.getVideoId(), VideoFetchPlan.FULL_GRAPH)
+      .orElseThrow(() -> new UploadRejectedException("video " + published.getVideoId() + " no longer exists"));
+    this.videoRepository.save(withFile(current, published.getVideoFileId(), published.getTitle(), published.getPublished(), url));
+    this.sessions.save(published.complete(url));
+    this.active.remove(published.getId());
+    return status(published.complete(url), published.getSize());
+  }
+
+  // Checks the part against the declared checksum; returns the media's duration.
+  private Duration check(UploadSession session, Progress progress) throws IOException {
+    // Digested from a copy so a failed completion can be retried without hashing the part again.
+    String sha256 = hex(progress.copyDigest().digest());
+    if(session.getSha256() != null && !session.getSha256().equals(sha256)) {
+      try (SeekableByteChannel part = this.storage.openPart(session.getId())) {
+        part.truncate(0);
+      }
+      progress.digest.reset();
+      progress.offset = 0;
+      throw new UploadRejectedException("sha256 " + sha256 + " does not match " + session.getSha256() + "; the upload starts over from offset 0");
+    }
+    Duration duration;
+    try (SeekableByteChannel part = this.storage.openPart(session.getId())) {
+      duration = Mp4Duration.read(part);
+    }
+    if(duration == null) duration = session.getDuration();
+    if(duration == null) throw new UploadRejectedException("the media has no duration to read and none was declared");
+    return duration;
+  }
+
+  /*
+   * A copy of current with the file added or replaced, since current may be shared with the cache.
+   * It carries current's persisted version, so the save fails if someone else wrote in between.
+   */
+  private static Video withFile(Video current, UUID videoFileId, String title, Duration duration, String url) {
+    Video video = new Video(current.getId(), current.getTitle(), current.getDescription(), current.getYearLaunched(), current.getOpened());
+    video.setRating(current.getRating());
+    if(current.getDuration() != null) video.setDuration(current.getDuration());
+    video.setCategories(current.getCategories());
+    video.setGenres(current.getGenres());
+    video.setCastMembers(current.getCastMembers());
+    VideoFile replaced = null;
+    for (VideoFile file : current.getVideoFiles()) {
+      if(file.getId().equals(videoFileId)) {
+        replaced = file;
+      } else {
+        video.addVideoFile(file);
+      }
+    }
+    VideoFile videoFile = new VideoFile(videoFileId, title, duration, url);
+    if(replaced != null) videoFile.markPersisted(replaced.getPersistedVersion());
+    videoFile.setTitle(title);
+    videoFile.setDuration(duration);
+    videoFile.setUrl(url);
+    video.addVideoFile(videoFile);
+    video.markPersisted(current.getPersistedVersion());
+    return video;
+  }
+
+  private static UploadStatus completed(UploadSession session, long offset) {
+    if(offset != session.getSize()) throw new UploadConflictException("upload is already complete", session.getSize());
+    return status(session, session.getSize());
+  }
+
+  private static UploadStatus status(UploadSession session, long offset) {
+    return new UploadStatus(session.getId(), session.getVideoId(), session.getVideoFileId(), offset, session.getSize(), session.getUrl());
+  }
+
+  private static String extension(String fileName) {
+    if(fileName == null) return "bin";
+    int dot = fileName.lastIndexOf('.');
+    String extension = dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    return EXTENSION.matcher(extension).matches() ? extension : "bin";
+  }
+
+  private static String hex(byte[] bytes) {
+    char[] hex = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      hex[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX[bytes[i] & 0xf];
+    }
+    return new String(hex);
+  }
+
+  private static final class Progress {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MessageDigest digest = sha256();
+    private volatile long offset;
+    private volatile boolean loaded;
+
+    private MessageDigest copyDigest() {
+      try {
+        return (MessageDigest) this.digest.clone();
+      } catch (CloneNotSupportedException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private static MessageDigest sha256() {
+      try {
+        return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
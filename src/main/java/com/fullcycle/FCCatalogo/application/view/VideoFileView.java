@@ -0,0 +1,49 @@
+package com.fullcycle.FCCatalogo.application.view;
+
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+
+public final class VideoFileView {
+  private final long idMostSigBits;
+  private final long idLeastSigBits;
+  private final long version;
+  private final String title;
+  private final long durationHundredths;
+  private final String url;
+
+  private VideoFileView(VideoFile videoFile) {
+    this.idMostSigBits = videoFile.getId().getMostSignificantBits();
+    this.idLeastSigBits = videoFile.getId().getLeastSignificantBits();
+    this.version = videoFile.getVersion();
+    // File titles repeat across the catalog ("Trailer", "Full movie"), so one copy each is kept.
+    this.title = videoFile.getTitle() == null ? null : videoFile.getTitle().intern();
+    this.durationHundredths = videoFile.getDuration() == null ? VideoView.NO_DURATION : videoFile.getDuration().toHundredths();
+    this.url = videoFile.getUrl();
+  }
+
+  static VideoFileView of(VideoFile videoFile) {
+    return new VideoFileView(videoFile);
+  }
+
+  public UUID getId() {
+    return new UUID(this.idMostSigBits, this.idLeastSigBits);
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  public String getTitle() {
+    return this.title;
+  }
+
+  // VideoView.NO_DURATION when the file has none.
+  public long getDurationHundredths() {
+    return this.durationHundredths;
+  }
+
+  public String getUrl() {
+    return this.url;
+  }
+}
@@ -0,0 +1,174 @@
+package com.fullcycle.FCCatalogo.application.view;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+
+/**
+ * Immutable read-side projection of a Video: scalars as primitives, ids as two longs, and each
+ * association as one long[] of id pairs instead of a set of shared entity objects. Names of the
+ * associated entities are not copied; readers resolve them from the reference caches.
+ */
+public final class VideoView {
+  public static final long NO_DURATION = -1;
+
+  private static final long[] NO_IDS = new long[0];
+  private static final VideoFileView[] NO_FILES = new VideoFileView[0];
+  private static final byte OPENED_UNSET = 0;
+  private static final byte OPENED_FALSE = 1;
+  private static final byte OPENED_TRUE = 2;
+
+  private final long idMostSigBits;
+  private final long idLeastSigBits;
+  private final long version;
+  private final long durationHundredths;
+  private final int yearLaunched;
+  private final byte opened;
+  private final String title;
+  private final String description;
+  private final String rating;
+  private final long[] categoryIds;
+  private final long[] genreIds;
+  private final long[] castMemberIds;
+  private final VideoFileView[] videoFiles;
+
+  private VideoView(Video video) {
+    this.idMostSigBits = video.getId().getMostSignificantBits();
+    this.idLeastSigBits = video.getId().getLeastSignificantBits();
+    this.version = video.getVersion();
+    this.durationHundredths = video.getDuration() == null ? NO_DURATION : video.getDuration().toHundredths();
+    this.yearLaunched = video.getYearLaunched();
+    this.opened = video.getOpened() == null ? OPENED_UNSET : video.getOpened() ? OPENED_TRUE : OPENED_FALSE;
+    this.title = video.getTitle();
+    this.description = video.getDescription();
+    // A handful of distinct ratings are shared by every video.
+    this.rating = video.getRating() == null ? null : video.getRating().intern();
+    this.categoryIds = ids(video.getCategories());
+    this.genreIds = ids(video.getGenres());
+    this.castMemberIds = ids(video.getCastMembers());
+    this.videoFiles = files(video.getVideoFiles());
+  }
+
+  public static VideoView of(Video video) {
+    if(video == null) throw new IllegalArgumentException("video is marked non-null but is null");
+    if(video.getId() == null) throw new IllegalArgumentException("video ID is marked non-null but is null");
+    return new VideoView(video);
+  }
+
+  public UUID getId() {
+    return new UUID(this.idMostSigBits, this.idLeastSigBits);
+  }
+
+  boolean hasId(long mostSigBits, long leastSigBits) {
+    return this.idMostSigBits == mostSigBits && this.idLeastSigBits == leastSigBits;
+  }
+
+  long getIdMostSigBits() {
+    return this.idMostSigBits;
+  }
+
+  long getIdLeastSigBits() {
+    return this.idLeastSigBits;
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  public String getTitle() {
+    return this.title;
+  }
+
+  public String getDescription() {
+    return this.description;
+  }
+
+  public int getYearLaunched() {
+    return this.yearLaunched;
+  }
+
+  public Boolean getOpened() {
+    return this.opened == OPENED_UNSET ? null : this.opened == OPENED_TRUE;
+  }
+
+  public String getRating() {
+    return this.rating;
+  }
+
+  // NO_DURATION when the video has none.
+  public long getDurationHundredths() {
+    return this.durationHundredths;
+  }
+
+  public List<UUID> getCategoryIds() {
+    return uuids(this.categoryIds);
+  }
+
+  public List<UUID> getGenreIds() {
+    return uuids(this.genreIds);
+  }
+
+  public List<UUID> getCastMemberIds() {
+    return uuids(this.castMemberIds);
+  }
+
+  public boolean hasCategory(UUID id) {
+    return contains(this.categoryIds, id);
+  }
+
+  public boolean hasGenre(UUID id) {
+    return contains(this.genreIds, id);
+  }
+
+  public boolean hasCastMember(UUID id) {
+    return contains(this.castMemberIds, id);
+  }
+
+  public List<VideoFileView> getVideoFiles() {
+    return List.of(this.videoFiles);
+  }
+
+  private static long[] ids(Collection<? extends BaseEntity> entities) {
+    if(entities.isEmpty()) return NO_IDS;
+    long[] ids = new long[entities.size() * 2];
+    int i = 0;
+    for (BaseEntity entity : entities) {
+      ids[i++] = entity.getId().getMostSignificantBits();
+      ids[i++] = entity.getId().getLeastSignificantBits();
+    }
+    return ids;
+  }
+
+  private static VideoFileView[] files(Collection<VideoFile> videoFiles) {
+    if(videoFiles.isEmpty()) return NO_FILES;
+    VideoFileView[] files = new VideoFileView[videoFiles.size()];
+    int i = 0;
+    for (VideoFile videoFile : videoFiles) {
+      files[i++] = VideoFileView.of(videoFile);
+    }
+    return files;
+  }
+
+  private static List<UUID> uuids(long[] ids) {
+    List<UUID> uuids = new ArrayList<UUID>(ids.length / 2);
+    for (int i = 0; i < ids.length; i += 2) {
+      uuids.add(new UUID(ids[i], ids[i + 1]));
+    }
+    return uuids;
+  }
+
+  private static boolean contains(long[] ids, UUID id) {
+    if(id == null) return false;
+    long mostSigBits = id.getMostSignificantBits();
+    long leastSigBits = id.getLeastSignificantBits();
+    for (int i = 0; i < ids.length; i += 2) {
+      if(ids[i] == mostSigBits && ids[i + 1] == leastSigBits) return true;
+    }
+    return false;
+  }
+}
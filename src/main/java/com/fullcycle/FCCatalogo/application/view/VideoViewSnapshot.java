@@ -0,0 +1,114 @@
+package com.fullcycle.FCCatalogo.application.view;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Immutable id → VideoView table. Views sit in one open-addressed array probed linearly on the
+ * id bits they already hold, so the table costs one reference per slot rather than a map entry
+ * and a boxed key per video. Changes return a new snapshot; the receiver is never modified.
+ */
+public final class VideoViewSnapshot {
+  static final VideoViewSnapshot EMPTY = new VideoViewSnapshot(new VideoView[16], 0);
+
+  private final VideoView[] table;
+  private final int size;
+
+  private VideoViewSnapshot(VideoView[] table, int size) {
+    this.table = table;
+    this.size = size;
+  }
+
+  public VideoView get(UUID id) {
+    if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    long mostSigBits = id.getMostSignificantBits();
+    long leastSigBits = id.getLeastSignificantBits();
+    int mask = this.table.length - 1;
+    for (int slot = slot(mostSigBits, leastSigBits, mask); ; slot = (slot + 1) & mask) {
+      VideoView view = this.table[slot];
+      if(view == null) return null;
+      if(view.hasId(mostSigBits, leastSigBits)) return view;
+    }
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public void forEach(Consumer<VideoView> action) {
+    for (VideoView view : this.table) {
+      if(view != null) action.accept(view);
+    }
+  }
+
+  // Views older than the one already held for an id are ignored, so writers may apply changes out of order.
+  VideoViewSnapshot with(Collection<VideoView> upserts, Collection<UUID> removals) {
+    int capacity = this.table.length;
+    while ((this.size + upserts.size()) * 2 > capacity) {
+      capacity <<= 1;
+    }
+    VideoView[] table;
+    if(capacity == this.table.length) {
+      table = this.table.clone();
+    } else {
+      table = new VideoView[capacity];
+      for (VideoView view : this.table) {
+        if(view != null) insert(table, view);
+      }
+    }
+    int size = this.size;
+    for (VideoView view : upserts) {
+      if(insert(table, view)) size++;
+    }
+    for (UUID id : removals) {
+      if(remove(table, id)) size--;
+    }
+    return new VideoViewSnapshot(table, size);
+  }
+
+  private static boolean insert(VideoView[] table, VideoView view) {
+    int mask = table.length - 1;
+    for (int slot = slot(view.getIdMostSigBits(), view.getIdLeastSigBits(), mask); ; slot = (slot + 1) & mask) {
+      VideoView current = table[slot];
+      if(current == null) {
+        table[slot] = view;
+        return true;
+      }
+      if(current.hasId(view.getIdMostSigBits(), view.getIdLeastSigBits())) {
+        if(view.getVersion() >= current.getVersion()) table[slot] = view;
+        return false;
+      }
+    }
+  }
+
+  // Backward-shift deletion: later entries of the probe run move up so no tombstones are needed.
+  private static boolean remove(VideoView[] table, UUID id) {
+    long mostSigBits = id.getMostSignificantBits();
+    long leastSigBits = id.getLeastSignificantBits();
+    int mask = table.length - 1;
+    int slot = slot(mostSigBits, leastSigBits, mask);
+    while (true) {
+      VideoView view = table[slot];
+      if(view == null) return false;
+      if(view.hasId(mostSigBits, leastSigBits)) break;
+      slot = (slot + 1) & mask;
+    }
+    int hole = slot;
+    for (int next = (hole + 1) & mask; table[next] != null; next = (next + 1) & mask) {
+      int home = slot(table[next].getIdMostSigBits(), table[next].getIdLeastSigBits(), mask);
+      // Move the entry into the hole unless its home lies cyclically after the hole, up to its slot.
+      if(((next - home) & mask) >= ((next - hole) & mask)) {
+        table[hole] = table[next];
+        hole = next;
+      }
+    }
+    table[hole] = null;
+    return true;
+  }
+
+  private static int slot(long mostSigBits, long leastSigBits, int mask) {
+    long hash = (mostSigBits ^ leastSigBits) * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & mask;
+  }
+}
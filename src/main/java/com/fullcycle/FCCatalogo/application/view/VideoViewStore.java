@@ -0,0 +1,49 @@
+package com.fullcycle.FCCatalogo.application.view;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+/**
+ * Copy-on-write holder of the current VideoViewSnapshot. Readers take the volatile snapshot and
+ * never lock; writers build the next snapshot under the store's monitor and publish it with one
+ * write. Each change copies the table, so writers should hand over whole batches.
+ */
+public class VideoViewStore {
+  private volatile VideoViewSnapshot snapshot = VideoViewSnapshot.EMPTY;
+
+  public VideoViewSnapshot snapshot() {
+    return this.snapshot;
+  }
+
+  public Optional<VideoView> get(UUID id) {
+    return Optional.ofNullable(this.snapshot.get(id));
+  }
+
+  public void putAll(Collection<Video> videos) {
+    this.apply(videos, List.of());
+  }
+
+  public void removeAll(Collection<UUID> ids) {
+    this.apply(List.of(), ids);
+  }
+
+  public void apply(Collection<Video> upserts, Collection<UUID> removals) {
+    if(upserts == null) throw new IllegalArgumentException("upserts are marked non-null but are null");
+    if(removals == null) throw new IllegalArgumentException("removals are marked non-null but are null");
+    List<VideoView> views = new ArrayList<VideoView>(upserts.size());
+    for (Video video : upserts) {
+      views.add(VideoView.of(video));
+    }
+    for (UUID id : removals) {
+      if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    }
+    synchronized (this) {
+      this.snapshot = this.snapshot.with(views, removals);
+    }
+  }
+}
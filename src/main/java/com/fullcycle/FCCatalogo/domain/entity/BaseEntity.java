@@ -1,10 +1,25 @@
 package com.fullcycle.FCCatalogo.domain.entity;
 import java.util.UUID;
-import java.util.regex.Pattern;
+
+import com.fullcycle.FCCatalogo.domain.identity.IdGenerator;
+import com.fullcycle.FCCatalogo.domain.identity.RandomIdGenerator;
 
 
 public class BaseEntity {
+  private static volatile IdGenerator idGenerator = new RandomIdGenerator();
+
   private UUID id;
+  private long version;
+  private long persistedVersion;
+
+  public static IdGenerator getIdGenerator() {
+    return idGenerator;
+  }
+
+  public static void setIdGenerator(IdGenerator generator) {
+    if (generator == null) throw new IllegalArgumentException("ID generator is marked as non-null but is null");
+    idGenerator = generator;
+  }
 
   public UUID getId() {
     return this.id;
@@ -12,18 +27,74 @@ public class BaseEntity {
 
   public void setId(UUID id) {
     if (id == null) throw new IllegalArgumentException("ID is marked as non-null but is null");
-    if(!this.isValidUUID(id.toString())) throw new IllegalArgumentException("ID is not a valid UUID");
     this.id = id;
   }
 
+  // Bumped by every setter and by add/remove calls that change a collection.
+  public long getVersion() {
+    return this.version;
+  }
+
+  // Version the store held when this instance was read or last written; 0 when it never was.
+  public long getPersistedVersion() {
+    return this.persistedVersion;
+  }
+
+  public void markPersisted(long version) {
+    if (version < 0) throw new IllegalArgumentException("version must not be negative");
+    this.version = version;
+    this.persistedVersion = version;
+  }
+
+  // Takes the version assigned elsewhere, e.g. by the service the entity is synced from; the persisted version is kept.
+  public void assignVersion(long version) {
+    if (version < this.persistedVersion) throw new IllegalArgumentException("version must not be lower than the persisted version");
+    this.version = version;
+  }
+
+  protected void touch() {
+    this.version++;
+  }
+
   protected UUID generateUUID() {
-    this.id = UUID.randomUUID();
+    this.id = idGenerator.generate();
     return this.id;
   }
 
+  // Same grammar as ^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$ without compiling or allocating.
   protected Boolean isValidUUID(String _id) {
     if(_id == null) return false;
-    Pattern UUID_REGEX_PATTERN = Pattern.compile("^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$");
-    return UUID_REGEX_PATTERN.matcher(_id).matches();
+    int start = 0;
+    int end = _id.length();
+    if(end > 0 && _id.charAt(0) == '{') start++;
+    if(end > start && _id.charAt(end - 1) == '}') end--;
+    if(end - start != 36) return false;
+    for (int i = 0; i < 36; i++) {
+      char c = _id.charAt(start + i);
+      if(i == 8 || i == 13 || i == 18 || i == 23) {
+        if(c != '-') return false;
+      } else if(!isHexDigit(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Entities without an id yet only equal themselves.
+  @Override
+  public boolean equals(Object other) {
+    if(this == other) return true;
+    if(other == null || this.getClass() != other.getClass()) return false;
+    UUID otherId = ((BaseEntity) other).id;
+    return this.id != null && this.id.equals(otherId);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.id != null ? this.id.hashCode() : System.identityHashCode(this);
+  }
+
+  private static boolean isHexDigit(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
   }
 }
@@ -1,36 +1,8 @@
 package com.fullcycle.FCCatalogo.domain.entity;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
-enum CastMemberType {
-  TYPE1(1), TYPE2(2);
-
-  private Integer type;
-  private final static Map values = new HashMap<>();
-
-  private CastMemberType(Integer type) {
-    this.type = type;
-  }
-
-  static {
-    for (CastMemberType type : CastMemberType.values()) {
-      values.put(type.type, type);
-    }
-  }
-
-  public Integer getType() {
-    return this.type;
-  }
-
-  public static Boolean valueOf(CastMemberType type) {
-    CastMemberType castMemberType = (CastMemberType) values.get(type.type);
-    if (castMemberType == null)
-      return false;
-    return true;
-  }
-}
+import com.fullcycle.FCCatalogo.domain.validation.EntityRules;
 
 public class CastMember extends BaseEntity {
   private String name;
@@ -60,11 +32,10 @@ public class CastMember extends BaseEntity {
   }
 
   public void setType(CastMemberType type) {
-    if (type == null)
-      throw new IllegalArgumentException("Type is marked non-null but is null");
-    if (!CastMemberType.valueOf(type))
-      throw new IllegalArgumentException("Type is not a valid enum");
+    String violation = EntityRules.castMemberType(type);
+    if (violation != null) throw new IllegalArgumentException(violation);
     this.type = type;
+    this.touch();
   }
 
   public String getName() {
@@ -72,10 +43,9 @@ public class CastMember extends BaseEntity {
   }
 
   public void setName(String name) {
-    if (name == null)
-      throw new IllegalArgumentException("Name is marked non-null but is null");
-    if (name.length() == 0)
-      throw new IllegalArgumentException("Name is marked non-blank but is blank");
+    String violation = EntityRules.name(name);
+    if (violation != null) throw new IllegalArgumentException(violation);
     this.name = name;
+    this.touch();
   }
 }
@@ -2,6 +2,8 @@ package com.fullcycle.FCCatalogo.domain.entity;
 
 import java.util.UUID;
 
+import com.fullcycle.FCCatalogo.domain.validation.EntityRules;
+
 public class Category extends BaseEntity {
 
   private String name;
@@ -29,10 +31,9 @@ public class Category extends BaseEntity {
   }
 
   public void setName(String name) {
-    if (name == null)
-      throw new IllegalArgumentException("Name is marked as non-null but is null");
-    if (name.length() == 0)
-      throw new IllegalArgumentException("Name is marked as non-blank but is blank");
+    String violation = EntityRules.categoryName(name);
+    if (violation != null) throw new IllegalArgumentException(violation);
     this.name = name;
+    this.touch();
   }
 }
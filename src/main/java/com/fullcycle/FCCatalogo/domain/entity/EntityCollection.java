@@ -0,0 +1,83 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Insertion-ordered set of entities indexed by id: add, remove and contains are O(1)
+ * and adding a second instance with an id already present is a no-op.
+ */
+public class EntityCollection<T extends BaseEntity> extends AbstractSet<T> {
+  private final Map<UUID, T> entities;
+
+  public EntityCollection() {
+    this.entities = new LinkedHashMap<UUID, T>();
+  }
+
+  public EntityCollection(Collection<? extends T> entities) {
+    if(entities == null) throw new IllegalArgumentException("entities are marked non-null but are null");
+    this.entities = new LinkedHashMap<UUID, T>(Math.max(16, (int) (entities.size() / .75f) + 1));
+    for (T entity : entities) {
+      this.add(entity);
+    }
+  }
+
+  @Override
+  public boolean add(T entity) {
+    UUID id = idOf(entity);
+    if(this.entities.containsKey(id)) return false;
+    this.entities.put(id, entity);
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object entity) {
+    if(!(entity instanceof BaseEntity)) return false;
+    UUID id = ((BaseEntity) entity).getId();
+    return id != null && this.entities.remove(id) != null;
+  }
+
+  @Override
+  public boolean contains(Object entity) {
+    if(!(entity instanceof BaseEntity)) return false;
+    UUID id = ((BaseEntity) entity).getId();
+    return id != null && this.entities.containsKey(id);
+  }
+
+  public T get(UUID id) {
+    return this.entities.get(id);
+  }
+
+  public boolean containsId(UUID id) {
+    return this.entities.containsKey(id);
+  }
+
+  public T removeById(UUID id) {
+    return this.entities.remove(id);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return this.entities.values().iterator();
+  }
+
+  @Override
+  public int size() {
+    return this.entities.size();
+  }
+
+  @Override
+  public void clear() {
+    this.entities.clear();
+  }
+
+  private static UUID idOf(BaseEntity entity) {
+    if(entity == null) throw new IllegalArgumentException("entity is marked non-null but is null");
+    if(entity.getId() == null) throw new IllegalArgumentException("entity ID is marked non-null but is null");
+    return entity.getId();
+  }
+}
@@ -0,0 +1,110 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Canonicalizing map of reference entities keyed by id, fed by the code that loads them from a
+ * store. A loaded instance is swapped for the shared one only while that one is unchanged in memory,
+ * at least as new as the load and, through sameReferences, embeds the same shared instances;
+ * otherwise the loaded instance takes its place. Entries are weakly held, so an id disappears once
+ * no aggregate points at it anymore.
+ */
+public class EntityRegistry<T extends BaseEntity> {
+  private final ConcurrentHashMap<UUID, Entry<T>> entries = new ConcurrentHashMap<UUID, Entry<T>>();
+  private final ReferenceQueue<T> collected = new ReferenceQueue<T>();
+  private final BiPredicate<T, T> sameReferences;
+  private volatile boolean enabled = true;
+
+  public EntityRegistry() {
+    this((shared, loaded) -> true);
+  }
+
+  public EntityRegistry(BiPredicate<T, T> sameReferences) {
+    if(sameReferences == null) throw new IllegalArgumentException("sameReferences is marked non-null but is null");
+    this.sameReferences = sameReferences;
+  }
+
+  public T canonicalize(T entity) {
+    if(entity == null) throw new IllegalArgumentException("entity is marked non-null but is null");
+    if(!this.enabled) return entity;
+    UUID id = entity.getId();
+    if(id == null) throw new IllegalArgumentException("entity ID is marked non-null but is null");
+    this.expungeCollected();
+    while (true) {
+      Entry<T> entry = this.entries.get(id);
+      if(entry == null) {
+        if(this.entries.putIfAbsent(id, new Entry<T>(id, entity, this.collected)) == null) return entity;
+        continue;
+      }
+      T canonical = entry.get();
+      if(canonical != null && this.isCurrent(canonical, entity)) return canonical;
+      if(this.entries.replace(id, entry, new Entry<T>(id, entity, this.collected))) return entity;
+    }
+  }
+
+  public T get(UUID id) {
+    Entry<T> entry = this.entries.get(id);
+    return entry == null ? null : entry.get();
+  }
+
+  // The live shared instances, e.g. to find those embedding an entity that just changed.
+  public List<T> values() {
+    List<T> values = new ArrayList<T>(this.entries.size());
+    for (Entry<T> entry : this.entries.values()) {
+      T value = entry.get();
+      if(value != null) values.add(value);
+    }
+    return values;
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if(!enabled) this.clear();
+  }
+
+  public int size() {
+    this.expungeCollected();
+    return this.entries.size();
+  }
+
+  public void clear() {
+    this.entries.clear();
+    while (this.collected.poll() != null);
+  }
+
+  private boolean isCurrent(T canonical, T loaded) {
+    if(canonical == loaded) return true;
+    return canonical.getVersion() == canonical.getPersistedVersion()
+      && canonical.getPersistedVersion() >= loaded.getPersistedVersion()
+      && this.sameReferences.test(canonical, loaded);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void expungeCollected() {
+    Reference<? extends T> reference;
+    while ((reference = this.collected.poll()) != null) {
+      Entry<T> entry = (Entry<T>) reference;
+      this.entries.remove(entry.id, entry);
+    }
+  }
+
+  private static final class Entry<T> extends WeakReference<T> {
+    private final UUID id;
+
+    private Entry(UUID id, T referent, ReferenceQueue<T> queue) {
+      super(referent, queue);
+      this.id = id;
+    }
+  }
+}
@@ -1,12 +1,16 @@
 package com.fullcycle.FCCatalogo.domain.entity;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 
+import com.fullcycle.FCCatalogo.domain.validation.EntityRules;
+
 public class Genre extends BaseEntity {
   private String name;
-  private List<Category> categories = new ArrayList<Category>();
+  private EntityCollection<Category> categories = new EntityCollection<Category>();
+  private Set<Category> categoriesView = Collections.unmodifiableSet(this.categories);
 
   public Genre() {
   }
@@ -16,13 +20,13 @@ public class Genre extends BaseEntity {
     this.setName(name);
   }
 
-  public Genre(String name, List<Category> categories) {
+  public Genre(String name, Collection<Category> categories) {
     super.generateUUID();
     this.setName(name);
     this.setCategories(categories);
   }
 
-  public Genre(UUID id, String name, List<Category> categories) {
+  public Genre(UUID id, String name, Collection<Category> categories) {
     super.setId(id);
     this.setName(name);
     this.setCategories(categories);
@@ -34,29 +38,30 @@ public class Genre extends BaseEntity {
   }
 
   public void setName(String name) {
-    if (name == null)
-      throw new IllegalArgumentException("Name is marked non-null but is null");
-    if (name.length() == 0)
-      throw new IllegalArgumentException("Name is marked non-blank but is blank");
+    String violation = EntityRules.name(name);
+    if (violation != null) throw new IllegalArgumentException(violation);
     this.name = name;
+    this.touch();
   }
 
-  public List<Category> getCategories() {
-    return this.categories;
+  public Set<Category> getCategories() {
+    return this.categoriesView;
   }
 
-  public void setCategories(List<Category> categories) {
+  public void setCategories(Collection<Category> categories) {
     if (categories == null) throw new IllegalArgumentException("Categories is null");
-    this.categories = categories;
+    this.categories = new EntityCollection<Category>(categories);
+    this.categoriesView = Collections.unmodifiableSet(this.categories);
+    this.touch();
   }
 
   public void addCategory(Category category) {
     if (category == null) throw new IllegalArgumentException("Category is null");
-    this.categories.add(category);
+    if(this.categories.add(category)) this.touch();
   }
 
   public void removeCategory(Category category) {
     if (category == null) throw new IllegalArgumentException("Category is null");
-    this.categories.removeIf(c -> c.equals(category));
+    if(this.categories.remove(category)) this.touch();
   }
 }
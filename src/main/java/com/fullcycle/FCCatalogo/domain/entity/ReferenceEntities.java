@@ -0,0 +1,52 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+// Loaders canonicalize; entities built in memory are never swapped for a shared instance.
+public final class ReferenceEntities {
+  private static final EntityRegistry<Category> CATEGORIES = new EntityRegistry<Category>();
+  // A genre loaded with a renamed category replaces the shared genre that still embeds the old one.
+  private static final EntityRegistry<Genre> GENRES = new EntityRegistry<Genre>(
+    (shared, loaded) -> sameInstances(shared.getCategories(), loaded.getCategories()));
+  private static final EntityRegistry<CastMember> CAST_MEMBERS = new EntityRegistry<CastMember>();
+
+  private ReferenceEntities() {}
+
+  public static EntityRegistry<Category> categories() {
+    return CATEGORIES;
+  }
+
+  public static EntityRegistry<Genre> genres() {
+    return GENRES;
+  }
+
+  public static EntityRegistry<CastMember> castMembers() {
+    return CAST_MEMBERS;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    CATEGORIES.setEnabled(enabled);
+    GENRES.setEnabled(enabled);
+    CAST_MEMBERS.setEnabled(enabled);
+  }
+
+  public static <T extends BaseEntity> List<T> canonicalize(Collection<T> loaded, EntityRegistry<T> registry) {
+    List<T> canonical = new ArrayList<T>(loaded.size());
+    for (T entity : loaded) {
+      canonical.add(registry.canonicalize(entity));
+    }
+    return canonical;
+  }
+
+  private static boolean sameInstances(Collection<Category> shared, Collection<Category> loaded) {
+    if(shared.size() != loaded.size()) return false;
+    Set<Category> instances = Collections.newSetFromMap(new IdentityHashMap<Category, Boolean>());
+    instances.addAll(shared);
+    return instances.containsAll(loaded);
+  }
+}
@@ -1,22 +1,29 @@
 package com.fullcycle.FCCatalogo.domain.entity;
 
-import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 
+import com.fullcycle.FCCatalogo.domain.validation.EntityRules;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
 public class Video extends BaseEntity {
   private String title;
   private String description;
   private Integer yearLaunched;
   private Boolean opened;
   private String rating;
-  private Float duration;
-  private List<Category> categories = new ArrayList<Category>();
-  private List<Genre> genres = new ArrayList<Genre>();
-  private List<CastMember> castMembers = new ArrayList<CastMember>();
-  private List<VideoFile> videoFiles = new ArrayList<VideoFile>();
+  private Duration duration;
+  private EntityCollection<Category> categories = new EntityCollection<Category>();
+  private EntityCollection<Genre> genres = new EntityCollection<Genre>();
+  private EntityCollection<CastMember> castMembers = new EntityCollection<CastMember>();
+  private EntityCollection<VideoFile> videoFiles = new EntityCollection<VideoFile>();
+  // Read-only views handed out by the getters, so every change goes through the checks and touch() below.
+  private Set<Category> categoriesView = Collections.unmodifiableSet(this.categories);
+  private Set<Genre> genresView = Collections.unmodifiableSet(this.genres);
+  private Set<CastMember> castMembersView = Collections.unmodifiableSet(this.castMembers);
+  private Set<VideoFile> videoFilesView = Collections.unmodifiableSet(this.videoFiles);
 
 
   public Video() {}
@@ -37,7 +44,7 @@ public class Video extends BaseEntity {
     this.setOpened(opened);
   }
 
-  public Video(String title, String description, Integer yearLaunched, Boolean opened, String rating, Float duration) {
+  public Video(String title, String description, Integer yearLaunched, Boolean opened, String rating, Duration duration) {
     super.generateUUID();
     this.setTitle(title);
     this.setDescription(description);
@@ -47,7 +54,7 @@ public class Video extends BaseEntity {
     this.setDuration(duration);
   }
 
-  public Video(UUID id, String title, String description, Integer yearLaunched, Boolean opened, String rating, Float duration) {
+  public Video(UUID id, String title, String description, Integer yearLaunched, Boolean opened, String rating, Duration duration) {
     super.setId(id);
     this.setTitle(title);
     this.setDescription(description);
@@ -57,7 +64,7 @@ public class Video extends BaseEntity {
     this.setDuration(duration);
   }
 
-  public Video(UUID id, String title, String description, Integer yearLaunched, Float duration) {
+  public Video(UUID id, String title, String description, Integer yearLaunched, Duration duration) {
     super.setId(id);
     this.setTitle(title);
     this.setDescription(description);
@@ -65,7 +72,7 @@ public class Video extends BaseEntity {
     this.setDuration(duration);
   }
 
-  public Video(UUID id, String title, String description, Integer yearLaunched, Float duration, List<VideoFile> videoFiles) {
+  public Video(UUID id, String title, String description, Integer yearLaunched, Duration duration, Collection<VideoFile> videoFiles) {
     super.setId(id);
     this.setTitle(title);
     this.setDescription(description);
@@ -79,9 +86,10 @@ public class Video extends BaseEntity {
   }
 
   public void setTitle(String title) {
-    if(title == null) throw new IllegalArgumentException("title is marked non-null but is null");
-    if(title.length() == 0) throw new IllegalArgumentException("title is marked non-blank but is blank");
+    String violation = EntityRules.title(title);
+    if(violation != null) throw new IllegalArgumentException(violation);
     this.title = title;
+    this.touch();
   }
 
   public String getDescription() {
@@ -90,6 +98,7 @@ public class Video extends BaseEntity {
 
   public void setDescription(String description) {
     this.description = description;
+    this.touch();
   }
 
   public Integer getYearLaunched() {
@@ -97,11 +106,10 @@ public class Video extends BaseEntity {
   }
 
   public void setYearLaunched(Integer yearLaunched) {
-    if(yearLaunched == null) throw new IllegalArgumentException("yearLaunched is marked non-null but is null");
-    int currentYear = Calendar.getInstance().get(Calendar.YEAR);
-    if(yearLaunched >= 0 && yearLaunched < 1700) throw new IllegalArgumentException("yearLaunched must be greather than 1700");
-    if(yearLaunched > currentYear) throw new IllegalArgumentException("year launched is greater than current year");
+    String violation = EntityRules.yearLaunched(yearLaunched);
+    if(violation != null) throw new IllegalArgumentException(violation);
     this.yearLaunched = yearLaunched;
+    this.touch();
   }
 
   public Boolean isOpened() {
@@ -114,6 +122,7 @@ public class Video extends BaseEntity {
 
   public void setOpened(Boolean opened) {
     this.opened = opened;
+    this.touch();
   }
 
   public String getRating() {
@@ -122,82 +131,105 @@ public class Video extends BaseEntity {
 
   public void setRating(String rating) {
     this.rating = rating;
+    this.touch();
   }
 
-  public Float getDuration() {
+  public Duration getDuration() {
     return this.duration;
   }
 
-  public void setDuration(Float duration) {
-    DecimalFormat decimalFormat = new DecimalFormat("#.##");
-    this.duration = Float.valueOf(decimalFormat.format(duration));
+  public void setDuration(Duration duration) {
+    String violation = EntityRules.duration(duration);
+    if(violation != null) throw new IllegalArgumentException(violation);
+    this.duration = duration;
+    this.touch();
   }
 
-  public List<Category> getCategories() {
-    return this.categories;
+  public Set<Category> getCategories() {
+    return this.categoriesView;
   }
 
-  public void setCategories(List<Category> categories) {
+  public void setCategories(Collection<Category> categories) {
     if(categories == null) throw new IllegalArgumentException("categories are marked non-null but are null");
-    this.categories = categories;
+    this.categories = new EntityCollection<Category>(categories);
+    this.categoriesView = Collections.unmodifiableSet(this.categories);
+    this.touch();
   }
 
-  public List<Genre> getGenres() {
-    return this.genres;
+  public Set<Genre> getGenres() {
+    return this.genresView;
   }
 
-  public void setGenres(List<Genre> genres) {
-    this.genres = genres;
+  public void setGenres(Collection<Genre> genres) {
+    if(genres == null) throw new IllegalArgumentException("genres are marked non-null but are null");
+    this.genres = new EntityCollection<Genre>(genres);
+    this.genresView = Collections.unmodifiableSet(this.genres);
+    this.touch();
   }
 
-  public List<CastMember> getCastMembers() {
-    return this.castMembers;
+  public Set<CastMember> getCastMembers() {
+    return this.castMembersView;
   }
 
-  public void setCastMembers(List<CastMember> castMembers) {
-    this.castMembers = castMembers;
+  public void setCastMembers(Collection<CastMember> castMembers) {
+    if(castMembers == null) throw new IllegalArgumentException("castMembers are marked non-null but are null");
+    this.castMembers = new EntityCollection<CastMember>(castMembers);
+    this.castMembersView = Collections.unmodifiableSet(this.castMembers);
+    this.touch();
   }
 
   public void addCategory(Category category) {
     if(category == null) throw new IllegalArgumentException("category is marked non-null but is null");
-    this.categories.add(category);
+    if(this.categories.add(category)) this.touch();
   }
 
   public void removeCategory(Category category) {
     if(category == null) throw new IllegalArgumentException("category is marked non-null but is null");
-    this.categories.removeIf(c -> this.categories.contains(category));
+    if(this.categories.remove(category)) this.touch();
   }
 
   public void addGenre(Genre genre) {
     if(genre == null) throw new IllegalArgumentException("genre is marked non-null but is null");
-    this.genres.add(genre);
+    if(this.genres.add(genre)) this.touch();
   }
 
   public void removeGenre(Genre genre) {
     if(genre == null) throw new IllegalArgumentException("genre is marked non-null but is null");
-    this.genres.removeIf(g -> this.genres.contains(genre));
+    if(this.genres.remove(genre)) this.touch();
   }
 
   public void addCastMember(CastMember castMember) {
     if(castMember == null) throw new IllegalArgumentException("castMember is marked non-null but is null");
-    this.castMembers.add(castMember);
+    if(this.castMembers.add(castMember)) this.touch();
   }
 
   public void removeCastMember(CastMember castMember) {
-    if(castMember == null) throw new IllegalArgumentException("genre is marked non-null but is null");
-    this.castMembers.removeIf(g -> this.castMembers.contains(castMember));
+    if(castMember == null) throw new IllegalArgumentException("castMember is marked non-null but is null");
+    if(this.castMembers.remove(castMember)) this.touch();
   }
 
-  public List<VideoFile> getVideoFiles() {
-    return this.videoFiles;
+  public Set<VideoFile> getVideoFiles() {
+    return this.videoFilesView;
   }
 
-  public void setVideoFiles(List<VideoFile> videoFiles) {
+  public void setVideoFiles(Collection<VideoFile> videoFiles) {
     if(videoFiles == null) throw new IllegalArgumentException("video files are marked non-null but is null");
-    this.videoFiles = videoFiles;
+    this.videoFiles = new EntityCollection<VideoFile>(videoFiles);
+    this.videoFilesView = Collections.unmodifiableSet(this.videoFiles);
+    this.touch();
+  }
+
+  public void addVideoFile(VideoFile videoFile) {
+    if(videoFile == null) throw new IllegalArgumentException("videoFile is marked non-null but is null");
+    if(this.videoFiles.add(videoFile)) this.touch();
+  }
+
+  public void removeVideoFile(VideoFile videoFile) {
+    if(videoFile == null) throw new IllegalArgumentException("videoFile is marked non-null but is null");
+    if(this.videoFiles.remove(videoFile)) this.touch();
   }
 
-  public Video createVideoWithFiles(String title, String description, Integer yearLaunched, Float duration, List<Category> categories, List<Genre> genres, List<CastMember> castMembers, List<VideoFile> videoFiles) {
+  public Video createVideoWithFiles(String title, String description, Integer yearLaunched, Duration duration, Collection<Category> categories, Collection<Genre> genres, Collection<CastMember> castMembers, Collection<VideoFile> videoFiles) {
     super.generateUUID();
     this.setTitle(title);
     this.setDescription(description);
@@ -211,7 +243,7 @@ public class Video extends BaseEntity {
     return this;
   }
 
-  public Video createVideoWithoutFile(String title, String description, Integer yearLaunched, Float duration, List<Category> categories, List<Genre> genres, List<CastMember> castMembers) {
+  public Video createVideoWithoutFile(String title, String description, Integer yearLaunched, Duration duration, Collection<Category> categories, Collection<Genre> genres, Collection<CastMember> castMembers) {
     super.generateUUID();
     this.setTitle(title);
     this.setDescription(description);
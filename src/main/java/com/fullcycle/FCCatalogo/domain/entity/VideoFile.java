@@ -1,21 +1,33 @@
 package com.fullcycle.FCCatalogo.domain.entity;
 
-import java.text.DecimalFormat;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.validation.EntityRules;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
 
 public class VideoFile extends BaseEntity {
   private String title;
-  private Float duration;
+  private Duration duration;
   private String url;
 
   // public VideoFile() {}
 
-  public VideoFile(String title, Float duration, String url) {
+  public VideoFile(String title, Duration duration, String url) {
+    super.generateUUID();
+    this.setTitle(title);
+    this.setDuration(duration);
+    this.setUrl(url);
+  }
+
+  public VideoFile(UUID id, String title, Duration duration, String url) {
+    super.setId(id);
     this.setTitle(title);
     this.setDuration(duration);
     this.setUrl(url);
   }
 
-  public VideoFile(String title, Float duration) {
+  public VideoFile(String title, Duration duration) {
+    super.generateUUID();
     this.setTitle(title);
     this.setDuration(duration);
   }
@@ -27,18 +39,21 @@ public class VideoFile extends BaseEntity {
   }
 
   public void setTitle(String title) {
-    if(title == null) throw new IllegalArgumentException("title is marked non-null but is null");
-    if(title.length() == 0) throw new IllegalArgumentException("title is marked non-blank but is blank");
+    String violation = EntityRules.title(title);
+    if(violation != null) throw new IllegalArgumentException(violation);
     this.title = title;
+    this.touch();
   }
 
-  public Float getDuration() {
+  public Duration getDuration() {
     return this.duration;
   }
 
-  public void setDuration(Float duration) {
-    DecimalFormat decimalFormat = new DecimalFormat("#.##");
-    this.duration = Float.valueOf(decimalFormat.format(duration));
+  public void setDuration(Duration duration) {
+    String violation = EntityRules.duration(duration);
+    if(violation != null) throw new IllegalArgumentException(violation);
+    this.duration = duration;
+    this.touch();
   }
 
   public String getUrl() {
@@ -47,6 +62,7 @@ public class VideoFile extends BaseEntity {
 
   public void setUrl(String url) {
     this.url = url;
+    this.touch();
   }
 
 }
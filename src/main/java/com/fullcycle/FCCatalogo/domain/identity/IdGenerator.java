@@ -0,0 +1,7 @@
+package com.fullcycle.FCCatalogo.domain.identity;
+
+import java.util.UUID;
+
+public interface IdGenerator {
+  UUID generate();
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.FCCatalogo.domain.identity;
+
+import java.util.UUID;
+
+public class RandomIdGenerator implements IdGenerator {
+
+  @Override
+  public UUID generate() {
+    return UUID.randomUUID();
+  }
+}
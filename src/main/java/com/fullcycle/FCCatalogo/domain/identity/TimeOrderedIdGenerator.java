@@ -0,0 +1,49 @@
+package com.fullcycle.FCCatalogo.domain.identity;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 layout: 48-bit unix millis, version, 12-bit sequence, variant and 62 random bits.
+ * The millis and sequence share one atomic counter, so ids are strictly increasing across threads;
+ * a sequence overflow borrows the next millisecond instead of blocking.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+  private static final int SEQUENCE_BITS = 12;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  private final Clock clock;
+  private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+  public TimeOrderedIdGenerator() {
+    this(Clock.systemUTC());
+  }
+
+  public TimeOrderedIdGenerator(Clock clock) {
+    if(clock == null) throw new IllegalArgumentException("clock is marked non-null but is null");
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID generate() {
+    long timestampAndSequence = this.nextTimestampAndSequence();
+    long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+    long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+    long mostSigBits = (timestamp << 16) | VERSION | sequence;
+    long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  private long nextTimestampAndSequence() {
+    long now = this.clock.millis() << SEQUENCE_BITS;
+    while (true) {
+      long last = this.lastTimestampAndSequence.get();
+      long next = now > last ? now : last + 1;
+      if(this.lastTimestampAndSequence.compareAndSet(last, next)) return next;
+    }
+  }
+}
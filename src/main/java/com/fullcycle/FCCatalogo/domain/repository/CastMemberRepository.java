@@ -0,0 +1,6 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+
+public interface CastMemberRepository extends EntityRepository<CastMember> {
+}
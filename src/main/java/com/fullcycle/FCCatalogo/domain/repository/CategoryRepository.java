@@ -0,0 +1,6 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+
+public interface CategoryRepository extends EntityRepository<Category> {
+}
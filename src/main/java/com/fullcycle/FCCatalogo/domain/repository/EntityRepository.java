@@ -0,0 +1,26 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+
+public interface EntityRepository<T extends BaseEntity> {
+  T save(T entity);
+
+  List<T> saveAll(Collection<T> entities);
+
+  Optional<T> findById(UUID id);
+
+  List<T> findAllById(Collection<UUID> ids);
+
+  // Stored versions only, without loading the entities; ids not stored are left out.
+  Map<UUID, Long> findVersions(Collection<UUID> ids);
+
+  boolean deleteById(UUID id);
+
+  long count();
+}
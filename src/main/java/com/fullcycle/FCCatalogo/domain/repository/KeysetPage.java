@@ -0,0 +1,27 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+public class KeysetPage<T> {
+  private final List<T> items;
+  private final String nextCursor;
+
+  public KeysetPage(List<T> items, String nextCursor) {
+    if(items == null) throw new IllegalArgumentException("items are marked non-null but are null");
+    this.items = Collections.unmodifiableList(items);
+    this.nextCursor = nextCursor;
+  }
+
+  public List<T> getItems() {
+    return this.items;
+  }
+
+  public String getNextCursor() {
+    return this.nextCursor;
+  }
+
+  public boolean hasNext() {
+    return this.nextCursor != null;
+  }
+}
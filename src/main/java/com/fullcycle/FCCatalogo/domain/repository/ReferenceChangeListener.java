@@ -0,0 +1,11 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+
+// Told about category, genre and cast member writes once their transaction has committed, one call per transaction and type.
+public interface ReferenceChangeListener {
+  void committed(Collection<? extends BaseEntity> saved, Collection<UUID> deleted);
+}
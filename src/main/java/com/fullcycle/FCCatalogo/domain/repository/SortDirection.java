@@ -0,0 +1,12 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+public enum SortDirection {
+  ASC, DESC;
+
+  public static SortDirection of(String name) {
+    if(name == null) throw new IllegalArgumentException("direction is marked non-null but is null");
+    if(name.equalsIgnoreCase("asc")) return ASC;
+    if(name.equalsIgnoreCase("desc")) return DESC;
+    throw new IllegalArgumentException("direction must be asc or desc");
+  }
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+/**
+ * Passes committed video writes on to a read model, except while the model is loaded from a scan:
+ * hold() keeps the batches back and release() replays them in commit order after the scan. A row
+ * the scan read before a write is overwritten by it and a video deleted under the scan is removed
+ * again, so the model needs neither version checks nor tombstones.
+ */
+public class VideoChangeGate implements VideoChangeListener {
+  private final VideoChangeListener target;
+  private List<Batch> held;
+
+  public VideoChangeGate(VideoChangeListener target) {
+    if(target == null) throw new IllegalArgumentException("target is marked non-null but is null");
+    this.target = target;
+  }
+
+  // Batches pass one at a time, so none can overtake the replay.
+  @Override
+  public synchronized void committed(Collection<Video> saved, Collection<UUID> deleted) {
+    if(this.held == null) {
+      this.target.committed(saved, deleted);
+    } else {
+      this.held.add(new Batch(new ArrayList<Video>(saved), new ArrayList<UUID>(deleted)));
+    }
+  }
+
+  public synchronized void hold() {
+    if(this.held != null) throw new IllegalStateException("changes are already held");
+    this.held = new ArrayList<Batch>();
+  }
+
+  public synchronized void release() {
+    if(this.held == null) throw new IllegalStateException("changes are not held");
+    List<Batch> held = this.held;
+    this.held = null;
+    for (Batch batch : held) {
+      this.target.committed(batch.saved, batch.deleted);
+    }
+  }
+
+  private static final class Batch {
+    private final List<Video> saved;
+    private final List<UUID> deleted;
+
+    private Batch(List<Video> saved, List<UUID> deleted) {
+      this.saved = saved;
+      this.deleted = deleted;
+    }
+  }
+}
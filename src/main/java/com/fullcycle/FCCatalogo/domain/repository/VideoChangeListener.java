@@ -0,0 +1,11 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+// Told about video writes once their transaction has committed, one call per transaction; rolled back writes are never reported.
+public interface VideoChangeListener {
+  void committed(Collection<Video> saved, Collection<UUID> deleted);
+}
@@ -0,0 +1,122 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+/**
+ * Position after the last row of a page: its sort key and id. Encoded as an opaque url-safe token
+ * that also carries the sort it was issued for, so it cannot be replayed against another ordering.
+ */
+public final class VideoCursor {
+  private static final byte FORMAT = 1;
+
+  private final VideoSortField sortField;
+  private final SortDirection direction;
+  private final Object key;
+  private final UUID id;
+
+  private VideoCursor(VideoSortField sortField, SortDirection direction, Object key, UUID id) {
+    this.sortField = sortField;
+    this.direction = direction;
+    this.key = key;
+    this.id = id;
+  }
+
+  public static VideoCursor after(Video video, VideoSortField sortField, SortDirection direction) {
+    if(video == null) throw new IllegalArgumentException("video is marked non-null but is null");
+    if(sortField == null) throw new IllegalArgumentException("sortField is marked non-null but is null");
+    if(direction == null) throw new IllegalArgumentException("direction is marked non-null but is null");
+    Object key;
+    switch (sortField) {
+      case YEAR_LAUNCHED:
+        key = video.getYearLaunched();
+        break;
+      case TITLE:
+        key = video.getTitle();
+        break;
+      default:
+        key = video.getDuration() == null ? null : video.getDuration().toHundredths();
+    }
+    return after(video.getId(), key, sortField, direction);
+  }
+
+  // key is the stored sort value: the year as an Integer, the title, or the duration in hundredths as a Long.
+  public static VideoCursor after(UUID id, Object key, VideoSortField sortField, SortDirection direction) {
+    if(id == null) throw new IllegalArgumentException("id is marked non-null but is null");
+    if(sortField == null) throw new IllegalArgumentException("sortField is marked non-null but is null");
+    if(direction == null) throw new IllegalArgumentException("direction is marked non-null but is null");
+    return new VideoCursor(sortField, direction, key, id);
+  }
+
+  public static VideoCursor decode(String token) {
+    if(token == null) throw new IllegalArgumentException("cursor is marked non-null but is null");
+    try {
+      return read(ByteBuffer.wrap(Base64.getUrlDecoder().decode(token)));
+    } catch (IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("cursor is not valid", e);
+    }
+  }
+
+  private static VideoCursor read(ByteBuffer buffer) {
+    if(buffer.get() != FORMAT) throw new IllegalArgumentException("unknown cursor format");
+    VideoSortField sortField = VideoSortField.values()[buffer.get()];
+    SortDirection direction = SortDirection.values()[buffer.get()];
+    UUID id = new UUID(buffer.getLong(), buffer.getLong());
+    Object key = null;
+    if(buffer.get() == 1) {
+      switch (sortField) {
+        case YEAR_LAUNCHED:
+          key = buffer.getInt();
+          break;
+        case TITLE:
+          int length = buffer.getInt();
+          if(length < 0 || length > buffer.remaining()) throw new IllegalArgumentException("cursor title length is out of range");
+          byte[] title = new byte[length];
+          buffer.get(title);
+          key = new String(title, StandardCharsets.UTF_8);
+          break;
+        default:
+          key = buffer.getLong();
+      }
+    }
+    if(buffer.hasRemaining()) throw new IllegalArgumentException("trailing bytes in cursor");
+    return new VideoCursor(sortField, direction, key, id);
+  }
+
+  public String encode() {
+    byte[] title = this.key instanceof String ? ((String) this.key).getBytes(StandardCharsets.UTF_8) : null;
+    ByteBuffer buffer = ByteBuffer.allocate(3 + 16 + 1 + (title != null ? 4 + title.length : 8));
+    buffer.put(FORMAT);
+    buffer.put((byte) this.sortField.ordinal());
+    buffer.put((byte) this.direction.ordinal());
+    buffer.putLong(this.id.getMostSignificantBits());
+    buffer.putLong(this.id.getLeastSignificantBits());
+    buffer.put((byte) (this.key == null ? 0 : 1));
+    if(this.key instanceof Integer) buffer.putInt((Integer) this.key);
+    if(this.key instanceof Long) buffer.putLong((Long) this.key);
+    if(title != null) buffer.putInt(title.length).put(title);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+  }
+
+  public VideoSortField getSortField() {
+    return this.sortField;
+  }
+
+  public SortDirection getDirection() {
+    return this.direction;
+  }
+
+  public Object getKey() {
+    return this.key;
+  }
+
+  public UUID getId() {
+    return this.id;
+  }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+// How much of the video graph a read loads. Associations left out of a plan come back empty.
+public enum VideoFetchPlan {
+  // Scalars only, for listings.
+  SUMMARY,
+  // Scalars, categories, genres with their categories and cast members.
+  DETAIL,
+  // Everything in DETAIL plus video files.
+  FULL_GRAPH
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+public class VideoPageRequest {
+  public static final int MAX_SIZE = 100;
+
+  private final VideoSortField sortField;
+  private final SortDirection direction;
+  private final int size;
+  private final VideoCursor after;
+
+  public VideoPageRequest(VideoSortField sortField, SortDirection direction, int size, String cursor) {
+    if(sortField == null) throw new IllegalArgumentException("sortField is marked non-null but is null");
+    if(direction == null) throw new IllegalArgumentException("direction is marked non-null but is null");
+    if(size < 1 || size > MAX_SIZE) throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+    this.sortField = sortField;
+    this.direction = direction;
+    this.size = size;
+    this.after = cursor == null || cursor.isEmpty() ? null : VideoCursor.decode(cursor);
+    if(this.after != null && (this.after.getSortField() != sortField || this.after.getDirection() != direction))
+      throw new IllegalArgumentException("cursor was issued for a different sort");
+  }
+
+  public VideoSortField getSortField() {
+    return this.sortField;
+  }
+
+  public SortDirection getDirection() {
+    return this.direction;
+  }
+
+  public int getSize() {
+    return this.size;
+  }
+
+  public VideoCursor getAfter() {
+    return this.after;
+  }
+}
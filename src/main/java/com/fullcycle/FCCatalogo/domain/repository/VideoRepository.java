@@ -0,0 +1,27 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+// findById and findAllById load the FULL_GRAPH plan.
+public interface VideoRepository extends EntityRepository<Video> {
+  Optional<Video> findById(UUID id, VideoFetchPlan plan);
+
+  List<Video> findAllById(Collection<UUID> ids, VideoFetchPlan plan);
+
+  // Seeks past the request's cursor instead of using OFFSET, so every page costs the same. Loads the SUMMARY plan.
+  KeysetPage<Video> findPage(VideoPageRequest request);
+
+  KeysetPage<Video> findPage(VideoPageRequest request, VideoFetchPlan plan);
+
+  // The same page as findPage, ids only, for readers that keep their own copy of each video.
+  KeysetPage<UUID> findPageIds(VideoPageRequest request);
+
+  // Walks every video in id order, one chunk at a time in a single read-only transaction; only the current chunk is held in memory.
+  void forEach(VideoFetchPlan plan, Consumer<Video> action);
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+public enum VideoSortField {
+  YEAR_LAUNCHED("yearLaunched"), TITLE("title"), DURATION("duration");
+
+  private final String name;
+
+  private VideoSortField(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public static VideoSortField of(String name) {
+    if(name == null) throw new IllegalArgumentException("sort is marked non-null but is null");
+    for (VideoSortField field : values()) {
+      if(field.name.equals(name)) return field;
+    }
+    throw new IllegalArgumentException("sort must be one of yearLaunched, title, duration");
+  }
+}
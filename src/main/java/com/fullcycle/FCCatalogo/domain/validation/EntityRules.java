@@ -0,0 +1,64 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * The field rules of the catalog entities, each returning the violation message or null. The
+ * entity setters throw that message, drafts collect it; neither allocates for a valid value.
+ */
+public final class EntityRules {
+  private static volatile YearBoundary yearBoundary = YearBoundary.system();
+
+  private EntityRules() {}
+
+  public static YearBoundary getYearBoundary() {
+    return yearBoundary;
+  }
+
+  public static void setYearBoundary(YearBoundary boundary) {
+    if(boundary == null) throw new IllegalArgumentException("yearBoundary is marked non-null but is null");
+    yearBoundary = boundary;
+  }
+
+  public static String title(String title) {
+    if(title == null) return "title is marked non-null but is null";
+    if(title.length() == 0) return "title is marked non-blank but is blank";
+    return null;
+  }
+
+  public static String yearLaunched(Integer yearLaunched) {
+    return yearLaunched(yearLaunched, yearBoundary);
+  }
+
+  // Negative years are let through, as they always were.
+  public static String yearLaunched(Integer yearLaunched, YearBoundary boundary) {
+    if(yearLaunched == null) return "yearLaunched is marked non-null but is null";
+    if(yearLaunched >= 0 && yearLaunched < 1700) return "yearLaunched must be greather than 1700";
+    if(yearLaunched > boundary.currentYear()) return "year launched is greater than current year";
+    return null;
+  }
+
+  public static String duration(Duration duration) {
+    return duration == null ? "duration is marked non-null but is null" : null;
+  }
+
+  public static String name(String name) {
+    if(name == null) return "Name is marked non-null but is null";
+    if(name.length() == 0) return "Name is marked non-blank but is blank";
+    return null;
+  }
+
+  // Category words it differently.
+  public static String categoryName(String name) {
+    if(name == null) return "Name is marked as non-null but is null";
+    if(name.length() == 0) return "Name is marked as non-blank but is blank";
+    return null;
+  }
+
+  public static String castMemberType(CastMemberType type) {
+    if(type == null) return "Type is marked non-null but is null";
+    if(!CastMemberType.valueOf(type)) return "Type is not a valid enum";
+    return null;
+  }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ValidationResult {
+  public static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+  private final List<Violation> violations;
+
+  private ValidationResult(List<Violation> violations) {
+    this.violations = violations;
+  }
+
+  public static ValidationResult of(List<Violation> violations) {
+    if(violations == null) throw new IllegalArgumentException("violations are marked non-null but are null");
+    return violations.isEmpty() ? VALID : new ValidationResult(Collections.unmodifiableList(new ArrayList<Violation>(violations)));
+  }
+
+  public boolean isValid() {
+    return this.violations.isEmpty();
+  }
+
+  public List<Violation> getViolations() {
+    return this.violations;
+  }
+
+  // Every message, in the order the fields were checked.
+  public String getMessage() {
+    StringBuilder message = new StringBuilder();
+    for (Violation violation : this.violations) {
+      if(message.length() > 0) message.append("; ");
+      message.append(violation.getMessage());
+    }
+    return message.toString();
+  }
+}
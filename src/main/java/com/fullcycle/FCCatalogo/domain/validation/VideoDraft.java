@@ -0,0 +1,102 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Unchecked values for a Video, e.g. one import row. VideoDraftValidator reports every violation
+ * without throwing; toVideo() then builds the entity through the strict setters. A null rating or
+ * duration means the draft leaves it unset.
+ */
+public class VideoDraft {
+  private UUID id;
+  private String title;
+  private String description;
+  private Integer yearLaunched;
+  private Boolean opened;
+  private String rating;
+  private Duration duration;
+  private List<VideoFileDraft> videoFiles = new ArrayList<VideoFileDraft>();
+
+  public UUID getId() {
+    return this.id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public String getTitle() {
+    return this.title;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public String getDescription() {
+    return this.description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public Integer getYearLaunched() {
+    return this.yearLaunched;
+  }
+
+  public void setYearLaunched(Integer yearLaunched) {
+    this.yearLaunched = yearLaunched;
+  }
+
+  public Boolean getOpened() {
+    return this.opened;
+  }
+
+  public void setOpened(Boolean opened) {
+    this.opened = opened;
+  }
+
+  public String getRating() {
+    return this.rating;
+  }
+
+  public void setRating(String rating) {
+    this.rating = rating;
+  }
+
+  public Duration getDuration() {
+    return this.duration;
+  }
+
+  public void setDuration(Duration duration) {
+    this.duration = duration;
+  }
+
+  public List<VideoFileDraft> getVideoFiles() {
+    return this.videoFiles;
+  }
+
+  public void setVideoFiles(List<VideoFileDraft> videoFiles) {
+    if(videoFiles == null) throw new IllegalArgumentException("video files are marked non-null but is null");
+    this.videoFiles = videoFiles;
+  }
+
+  // Through the strict constructors and setters; throws on the first violation.
+  public Video toVideo() {
+    Video video = this.id == null
+      ? new Video(this.title, this.description, this.yearLaunched, this.opened)
+      : new Video(this.id, this.title, this.description, this.yearLaunched, this.opened);
+    if(this.rating != null) video.setRating(this.rating);
+    if(this.duration != null) video.setDuration(this.duration);
+    for (VideoFileDraft videoFile : this.videoFiles) {
+      video.addVideoFile(videoFile.toVideoFile());
+    }
+    return video;
+  }
+}
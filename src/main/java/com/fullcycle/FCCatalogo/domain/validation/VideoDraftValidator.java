@@ -0,0 +1,59 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks whole drafts against EntityRules and collects every violation instead of throwing at the
+ * first, so a rejected import row costs no stack trace and reports all its problems. A valid
+ * draft allocates nothing and gets ValidationResult.VALID.
+ */
+public class VideoDraftValidator {
+  private final YearBoundary yearBoundary;
+
+  public VideoDraftValidator() {
+    this(EntityRules.getYearBoundary());
+  }
+
+  public VideoDraftValidator(YearBoundary yearBoundary) {
+    if(yearBoundary == null) throw new IllegalArgumentException("yearBoundary is marked non-null but is null");
+    this.yearBoundary = yearBoundary;
+  }
+
+  public ValidationResult validate(VideoDraft draft) {
+    if(draft == null) throw new IllegalArgumentException("draft is marked non-null but is null");
+    List<Violation> violations = null;
+    violations = add(violations, "title", EntityRules.title(draft.getTitle()));
+    violations = add(violations, "yearLaunched", EntityRules.yearLaunched(draft.getYearLaunched(), this.yearBoundary));
+    List<VideoFileDraft> videoFiles = draft.getVideoFiles();
+    for (int i = 0; i < videoFiles.size(); i++) {
+      VideoFileDraft videoFile = videoFiles.get(i);
+      if(videoFile == null) {
+        violations = add(violations, "videoFiles[" + i + "]", "video file is marked non-null but is null");
+        continue;
+      }
+      String title = EntityRules.title(videoFile.getTitle());
+      if(title != null) violations = add(violations, "videoFiles[" + i + "].title", title);
+      String duration = EntityRules.duration(videoFile.getDuration());
+      if(duration != null) violations = add(violations, "videoFiles[" + i + "].duration", duration);
+    }
+    return violations == null ? ValidationResult.VALID : ValidationResult.of(violations);
+  }
+
+  // One result per draft, in order.
+  public List<ValidationResult> validateAll(List<VideoDraft> drafts) {
+    if(drafts == null) throw new IllegalArgumentException("drafts are marked non-null but are null");
+    List<ValidationResult> results = new ArrayList<ValidationResult>(drafts.size());
+    for (VideoDraft draft : drafts) {
+      results.add(this.validate(draft));
+    }
+    return results;
+  }
+
+  private static List<Violation> add(List<Violation> violations, String field, String message) {
+    if(message == null) return violations;
+    if(violations == null) violations = new ArrayList<Violation>(2);
+    violations.add(new Violation(field, message));
+    return violations;
+  }
+}
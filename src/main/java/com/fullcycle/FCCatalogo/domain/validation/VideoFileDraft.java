@@ -0,0 +1,60 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+// Unchecked values for a VideoFile; VideoDraftValidator checks them as part of the video.
+public class VideoFileDraft {
+  private UUID id;
+  private String title;
+  private Duration duration;
+  private String url;
+
+  public VideoFileDraft() {}
+
+  public VideoFileDraft(UUID id, String title, Duration duration, String url) {
+    this.id = id;
+    this.title = title;
+    this.duration = duration;
+    this.url = url;
+  }
+
+  public UUID getId() {
+    return this.id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public String getTitle() {
+    return this.title;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public Duration getDuration() {
+    return this.duration;
+  }
+
+  public void setDuration(Duration duration) {
+    this.duration = duration;
+  }
+
+  public String getUrl() {
+    return this.url;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  // Through the strict constructors; throws on the first violation.
+  public VideoFile toVideoFile() {
+    return this.id == null ? new VideoFile(this.title, this.duration, this.url) : new VideoFile(this.id, this.title, this.duration, this.url);
+  }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+public class Violation {
+  private final String field;
+  private final String message;
+
+  public Violation(String field, String message) {
+    if(field == null) throw new IllegalArgumentException("field is marked non-null but is null");
+    if(message == null) throw new IllegalArgumentException("message is marked non-null but is null");
+    this.field = field;
+    this.message = message;
+  }
+
+  // Property path within the draft, e.g. title or videoFiles[2].duration.
+  public String getField() {
+    return this.field;
+  }
+
+  // The message the strict setter throws for the same value.
+  public String getMessage() {
+    return this.message;
+  }
+
+  @Override
+  public String toString() {
+    return this.field + ": " + this.message;
+  }
+}
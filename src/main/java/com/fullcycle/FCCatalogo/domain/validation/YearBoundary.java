@@ -0,0 +1,55 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * The current year by an injected clock. The year and the instants where it starts and ends are
+ * cached, so a check within the same year is one clock read and two comparisons.
+ */
+public final class YearBoundary {
+  private final Clock clock;
+  private volatile Year year;
+
+  public YearBoundary(Clock clock) {
+    if(clock == null) throw new IllegalArgumentException("clock is marked non-null but is null");
+    this.clock = clock;
+  }
+
+  // The zone Calendar.getInstance() used to take the year from.
+  public static YearBoundary system() {
+    return new YearBoundary(Clock.systemDefaultZone());
+  }
+
+  public int currentYear() {
+    long now = this.clock.millis();
+    Year year = this.year;
+    if(year == null || now < year.start || now >= year.end) {
+      year = Year.of(now, this.clock);
+      this.year = year;
+    }
+    return year.value;
+  }
+
+  private static final class Year {
+    private final int value;
+    private final long start;
+    private final long end;
+
+    private Year(int value, long start, long end) {
+      this.value = value;
+      this.start = start;
+      this.end = end;
+    }
+
+    private static Year of(long now, Clock clock) {
+      ZonedDateTime time = Instant.ofEpochMilli(now).atZone(clock.getZone());
+      LocalDate first = LocalDate.of(time.getYear(), 1, 1);
+      return new Year(time.getYear(),
+        first.atStartOfDay(clock.getZone()).toInstant().toEpochMilli(),
+        first.plusYears(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.fullcycle.FCCatalogo.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Non-negative duration with two decimal places, stored as a primitive count of hundredths.
+ * Conversions round half-up on the decimal value the caller wrote, independently of the default locale.
+ */
+public final class Duration implements Comparable<Duration> {
+  public static final Duration ZERO = new Duration(0);
+
+  private static final int SCALE = 100;
+
+  private final long hundredths;
+
+  private Duration(long hundredths) {
+    this.hundredths = hundredths;
+  }
+
+  public static Duration ofHundredths(long hundredths) {
+    if(hundredths < 0) throw new IllegalArgumentException("duration must not be negative");
+    return hundredths == 0 ? ZERO : new Duration(hundredths);
+  }
+
+  public static Duration of(long whole) {
+    return ofHundredths(Math.multiplyExact(whole, SCALE));
+  }
+
+  public static Duration of(double value) {
+    checkFinite(value);
+    double scaled = value * SCALE;
+    // Only values sitting on a rounding tie need exact decimal arithmetic; everything else rounds in place.
+    if(Math.abs(scaled - Math.floor(scaled) - 0.5d) > Math.ulp(scaled) * 4) return ofHundredths(Math.round(scaled));
+    return ofHundredths(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+  }
+
+  public static Duration of(float value) {
+    checkFinite(value);
+    double scaled = (double) value * SCALE;
+    if(Math.abs(scaled - Math.floor(scaled) - 0.5d) > Math.ulp(value) * SCALE) return ofHundredths(Math.round(scaled));
+    return ofHundredths(new BigDecimal(Float.toString(value)).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+  }
+
+  public static Duration of(Float value) {
+    if(value == null) throw new IllegalArgumentException("duration is marked non-null but is null");
+    return of(value.floatValue());
+  }
+
+  public static Duration parse(CharSequence text) {
+    if(text == null) throw new IllegalArgumentException("duration is marked non-null but is null");
+    int length = text.length();
+    if(length == 0) throw new IllegalArgumentException("duration is marked non-blank but is blank");
+    long whole = 0;
+    long fraction = 0;
+    int fractionDigits = 0;
+    boolean dot = false;
+    boolean roundUp = false;
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if(c == '.' && !dot) {
+        dot = true;
+      } else if(c >= '0' && c <= '9') {
+        int digit = c - '0';
+        if(!dot) {
+          whole = Math.addExact(Math.multiplyExact(whole, 10), digit);
+        } else if(fractionDigits < 2) {
+          fraction = fraction * 10 + digit;
+          fractionDigits++;
+        } else if(fractionDigits == 2) {
+          roundUp = digit >= 5;
+          fractionDigits++;
+        }
+      } else {
+        throw new IllegalArgumentException("duration is not a valid decimal number: " + text);
+      }
+    }
+    if(dot && (length == 1)) throw new IllegalArgumentException("duration is not a valid decimal number: " + text);
+    if(fractionDigits == 1) fraction *= 10;
+    long hundredths = Math.addExact(Math.multiplyExact(whole, SCALE), fraction);
+    return ofHundredths(roundUp ? Math.addExact(hundredths, 1) : hundredths);
+  }
+
+  private static void checkFinite(double value) {
+    if(Double.isNaN(value) || Double.isInfinite(value)) throw new IllegalArgumentException("duration must be a finite number");
+  }
+
+  public long toHundredths() {
+    return this.hundredths;
+  }
+
+  public double toDouble() {
+    return this.hundredths / (double) SCALE;
+  }
+
+  public float toFloat() {
+    return (float) this.toDouble();
+  }
+
+  public Duration plus(Duration other) {
+    if(other == null) throw new IllegalArgumentException("duration is marked non-null but is null");
+    return ofHundredths(Math.addExact(this.hundredths, other.hundredths));
+  }
+
+  public Duration minus(Duration other) {
+    if(other == null) throw new IllegalArgumentException("duration is marked non-null but is null");
+    return ofHundredths(Math.subtractExact(this.hundredths, other.hundredths));
+  }
+
+  public Duration multipliedBy(long factor) {
+    return ofHundredths(Math.multiplyExact(this.hundredths, factor));
+  }
+
+  public boolean isZero() {
+    return this.hundredths == 0;
+  }
+
+  @Override
+  public int compareTo(Duration other) {
+    return Long.compare(this.hundredths, other.hundredths);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if(this == other) return true;
+    if(!(other instanceof Duration)) return false;
+    return this.hundredths == ((Duration) other).hundredths;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.hundredths);
+  }
+
+  // Same shape the old "#.##" DecimalFormat produced: no trailing zeros, '.' as separator.
+  @Override
+  public String toString() {
+    long whole = this.hundredths / SCALE;
+    int fraction = (int) (this.hundredths % SCALE);
+    if(fraction == 0) return Long.toString(whole);
+    if(fraction % 10 == 0) return whole + "." + (fraction / 10);
+    return whole + (fraction < 10 ? ".0" : ".") + fraction;
+  }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.time.Duration;
+
+public class CacheSettings {
+  private final long maximumWeight;
+  private final Duration expireAfterWrite;
+
+  public CacheSettings(long maximumWeight, Duration expireAfterWrite) {
+    if(maximumWeight < 0) throw new IllegalArgumentException("maximumWeight must not be negative");
+    if(expireAfterWrite == null) throw new IllegalArgumentException("expireAfterWrite is marked non-null but is null");
+    this.maximumWeight = maximumWeight;
+    this.expireAfterWrite = expireAfterWrite;
+  }
+
+  public long getMaximumWeight() {
+    return this.maximumWeight;
+  }
+
+  public Duration getExpireAfterWrite() {
+    return this.expireAfterWrite;
+  }
+}
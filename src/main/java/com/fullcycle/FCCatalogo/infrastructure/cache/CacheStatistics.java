@@ -0,0 +1,45 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public class CacheStatistics {
+  private final long size;
+  private final long hits;
+  private final long misses;
+  private final long evictions;
+  private final long evictionWeight;
+  private final double hitRate;
+
+  public CacheStatistics(long size, CacheStats stats) {
+    this.size = size;
+    this.hits = stats.hitCount();
+    this.misses = stats.missCount();
+    this.evictions = stats.evictionCount();
+    this.evictionWeight = stats.evictionWeight();
+    this.hitRate = stats.hitRate();
+  }
+
+  public long getSize() {
+    return this.size;
+  }
+
+  public long getHits() {
+    return this.hits;
+  }
+
+  public long getMisses() {
+    return this.misses;
+  }
+
+  public long getEvictions() {
+    return this.evictions;
+  }
+
+  public long getEvictionWeight() {
+    return this.evictionWeight;
+  }
+
+  public double getHitRate() {
+    return this.hitRate;
+  }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+
+public class CachingCastMemberRepository extends CachingRepository<CastMember, CastMemberRepository> implements CastMemberRepository {
+
+  public CachingCastMemberRepository(CastMemberRepository delegate, CatalogCache cache) {
+    super(delegate, cache);
+  }
+
+  @Override
+  protected CastMember cached(UUID id, Function<UUID, CastMember> loader) {
+    return this.cache.castMember(id, loader);
+  }
+
+  @Override
+  protected Map<UUID, CastMember> cachedAll(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, CastMember>> loader) {
+    return this.cache.castMembers(ids, loader);
+  }
+
+  @Override
+  protected void invalidate(Collection<UUID> ids) {
+    this.cache.invalidateCastMembers(ids);
+  }
+}
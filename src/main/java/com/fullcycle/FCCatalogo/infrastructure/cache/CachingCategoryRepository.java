@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+
+public class CachingCategoryRepository extends CachingRepository<Category, CategoryRepository> implements CategoryRepository {
+
+  public CachingCategoryRepository(CategoryRepository delegate, CatalogCache cache) {
+    super(delegate, cache);
+  }
+
+  @Override
+  protected Category cached(UUID id, Function<UUID, Category> loader) {
+    return this.cache.category(id, loader);
+  }
+
+  @Override
+  protected Map<UUID, Category> cachedAll(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, Category>> loader) {
+    return this.cache.categories(ids, loader);
+  }
+
+  @Override
+  protected void invalidate(Collection<UUID> ids) {
+    this.cache.invalidateCategories(ids);
+  }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+
+public class CachingGenreRepository extends CachingRepository<Genre, GenreRepository> implements GenreRepository {
+
+  public CachingGenreRepository(GenreRepository delegate, CatalogCache cache) {
+    super(delegate, cache);
+  }
+
+  @Override
+  protected Genre cached(UUID id, Function<UUID, Genre> loader) {
+    return this.cache.genre(id, loader);
+  }
+
+  @Override
+  protected Map<UUID, Genre> cachedAll(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, Genre>> loader) {
+    return this.cache.genres(ids, loader);
+  }
+
+  @Override
+  protected void invalidate(Collection<UUID> ids) {
+    this.cache.invalidateGenres(ids);
+  }
+}
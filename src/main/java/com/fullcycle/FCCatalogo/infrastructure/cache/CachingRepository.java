@@ -0,0 +1,117 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.repository.EntityRepository;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through decorator over a repository. Reads by id go through the cache; writes go to the
+ * delegate and invalidate after the transaction commits, so no reader can reload the old row
+ * between the invalidation and the commit. Entities handed out are shared with the cache and
+ * must be saved after being changed.
+ */
+public abstract class CachingRepository<T extends BaseEntity, R extends EntityRepository<T>> implements EntityRepository<T> {
+  protected final R delegate;
+  protected final CatalogCache cache;
+
+  protected CachingRepository(R delegate, CatalogCache cache) {
+    if(delegate == null) throw new IllegalArgumentException("delegate is marked non-null but is null");
+    if(cache == null) throw new IllegalArgumentException("cache is marked non-null but is null");
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  protected abstract T cached(UUID id, Function<UUID, T> loader);
+
+  protected abstract Map<UUID, T> cachedAll(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, T>> loader);
+
+  protected abstract void invalidate(Collection<UUID> ids);
+
+  @Override
+  public T save(T entity) {
+    T saved = this.delegate.save(entity);
+    this.invalidateAfterCommit(Collections.singletonList(entity.getId()));
+    return saved;
+  }
+
+  @Override
+  public List<T> saveAll(Collection<T> entities) {
+    List<T> saved = this.delegate.saveAll(entities);
+    List<UUID> ids = new ArrayList<UUID>(saved.size());
+    for (T entity : saved) {
+      ids.add(entity.getId());
+    }
+    this.invalidateAfterCommit(ids);
+    return saved;
+  }
+
+  @Override
+  public Optional<T> findById(UUID id) {
+    if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    return Optional.ofNullable(this.cached(id, key -> this.delegate.findById(key).orElse(null)));
+  }
+
+  @Override
+  public List<T> findAllById(Collection<UUID> ids) {
+    if(ids == null) throw new IllegalArgumentException("ids are marked non-null but are null");
+    Map<UUID, T> found = this.cachedAll(new LinkedHashSet<UUID>(ids), missing -> byId(this.delegate.findAllById(missing)));
+    List<T> entities = new ArrayList<T>(found.size());
+    for (UUID id : new LinkedHashSet<UUID>(ids)) {
+      T entity = found.get(id);
+      if(entity != null) entities.add(entity);
+    }
+    return entities;
+  }
+
+  // Always from the store, since the point is to check copies like the cached ones.
+  @Override
+  public Map<UUID, Long> findVersions(Collection<UUID> ids) {
+    return this.delegate.findVersions(ids);
+  }
+
+  @Override
+  public boolean deleteById(UUID id) {
+    boolean deleted = this.delegate.deleteById(id);
+    if(deleted) this.invalidateAfterCommit(Collections.singletonList(id));
+    return deleted;
+  }
+
+  @Override
+  public long count() {
+    return this.delegate.count();
+  }
+
+  protected void invalidateAfterCommit(Collection<UUID> ids) {
+    if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+      this.invalidate(ids);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        CachingRepository.this.invalidate(ids);
+      }
+    });
+  }
+
+  protected static <T extends BaseEntity> Map<UUID, T> byId(Collection<T> entities) {
+    Map<UUID, T> byId = new HashMap<UUID, T>(entities.size() * 2);
+    for (T entity : entities) {
+      byId.put(entity.getId(), entity);
+    }
+    return byId;
+  }
+}
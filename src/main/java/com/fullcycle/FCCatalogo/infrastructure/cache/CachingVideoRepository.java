@@ -0,0 +1,68 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.KeysetPage;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoPageRequest;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+// Only FULL_GRAPH reads by id are cached; the lighter plans, pages and full scans go to the database.
+public class CachingVideoRepository extends CachingRepository<Video, VideoRepository> implements VideoRepository {
+
+  public CachingVideoRepository(VideoRepository delegate, CatalogCache cache) {
+    super(delegate, cache);
+  }
+
+  @Override
+  public Optional<Video> findById(UUID id, VideoFetchPlan plan) {
+    return plan == VideoFetchPlan.FULL_GRAPH ? this.findById(id) : this.delegate.findById(id, plan);
+  }
+
+  @Override
+  public List<Video> findAllById(Collection<UUID> ids, VideoFetchPlan plan) {
+    return plan == VideoFetchPlan.FULL_GRAPH ? this.findAllById(ids) : this.delegate.findAllById(ids, plan);
+  }
+
+  @Override
+  public KeysetPage<Video> findPage(VideoPageRequest request) {
+    return this.delegate.findPage(request);
+  }
+
+  @Override
+  public KeysetPage<Video> findPage(VideoPageRequest request, VideoFetchPlan plan) {
+    return this.delegate.findPage(request, plan);
+  }
+
+  @Override
+  public KeysetPage<UUID> findPageIds(VideoPageRequest request) {
+    return this.delegate.findPageIds(request);
+  }
+
+  @Override
+  public void forEach(VideoFetchPlan plan, Consumer<Video> action) {
+    this.delegate.forEach(plan, action);
+  }
+
+  @Override
+  protected Video cached(UUID id, Function<UUID, Video> loader) {
+    return this.cache.video(id, loader);
+  }
+
+  @Override
+  protected Map<UUID, Video> cachedAll(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, Video>> loader) {
+    return this.cache.videos(ids, loader);
+  }
+
+  @Override
+  protected void invalidate(Collection<UUID> ids) {
+    this.cache.invalidateVideos(ids);
+  }
+}
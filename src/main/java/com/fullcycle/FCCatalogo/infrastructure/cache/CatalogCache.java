@@ -0,0 +1,286 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.ReferenceEntities;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Caffeine caches (W-TinyLFU admission, weight-bounded, per-type TTL) for the catalog entities, plus
+ * reverse indexes from a referenced entity to the cached videos and genres that embed it, so a
+ * mutation invalidates exactly the entries that show it. A load that overlaps an invalidation is
+ * dropped after the fact instead of being trusted, so a stale read is never kept.
+ */
+public class CatalogCache {
+  private final Cache<UUID, Video> videos;
+  private final Cache<UUID, Genre> genres;
+  private final Cache<UUID, Category> categories;
+  private final Cache<UUID, CastMember> castMembers;
+  private final Map<UUID, Set<UUID>> videosByReference = new ConcurrentHashMap<UUID, Set<UUID>>();
+  private final Map<UUID, Set<UUID>> genresByCategory = new ConcurrentHashMap<UUID, Set<UUID>>();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public CatalogCache(CacheSettings videos, CacheSettings genres, CacheSettings categories, CacheSettings castMembers) {
+    this.videos = build(videos, (UUID id, Video video) -> 1 + video.getCategories().size() + video.getGenres().size()
+      + video.getCastMembers().size() + video.getVideoFiles().size(), this::forgetVideo);
+    this.genres = build(genres, (UUID id, Genre genre) -> 1 + genre.getCategories().size(), this::forgetGenre);
+    this.categories = build(categories, (UUID id, Category category) -> 1, (key, category) -> {});
+    this.castMembers = build(castMembers, (UUID id, CastMember castMember) -> 1, (key, castMember) -> {});
+  }
+
+  // The eviction listener runs atomically with the eviction, so an entry and its index links go together.
+  private static <T> Cache<UUID, T> build(CacheSettings settings, Weigher<UUID, T> weigher, BiConsumer<UUID, T> forget) {
+    return Caffeine.newBuilder()
+      .maximumWeight(settings.getMaximumWeight())
+      .weigher(weigher)
+      .expireAfterWrite(settings.getExpireAfterWrite())
+      .evictionListener((UUID id, T value, RemovalCause cause) -> {
+        if(value != null) forget.accept(id, value);
+      })
+      .recordStats()
+      .build();
+  }
+
+  public Video video(UUID id, Function<UUID, Video> loader) {
+    return this.load(this.videos, id, loader, this::rememberVideo, this::forgetVideo);
+  }
+
+  public Map<UUID, Video> videos(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, Video>> loader) {
+    return this.loadAll(this.videos, ids, loader, this::rememberVideo, this::forgetVideo);
+  }
+
+  public Genre genre(UUID id, Function<UUID, Genre> loader) {
+    return this.load(this.genres, id, loader, this::rememberGenre, this::forgetGenre);
+  }
+
+  public Map<UUID, Genre> genres(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, Genre>> loader) {
+    return this.loadAll(this.genres, ids, loader, this::rememberGenre, this::forgetGenre);
+  }
+
+  public Category category(UUID id, Function<UUID, Category> loader) {
+    return this.load(this.categories, id, loader, category -> {}, (key, category) -> {});
+  }
+
+  public Map<UUID, Category> categories(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, Category>> loader) {
+    return this.loadAll(this.categories, ids, loader, category -> {}, (key, category) -> {});
+  }
+
+  public CastMember castMember(UUID id, Function<UUID, CastMember> loader) {
+    return this.load(this.castMembers, id, loader, castMember -> {}, (key, castMember) -> {});
+  }
+
+  public Map<UUID, CastMember> castMembers(Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, CastMember>> loader) {
+    return this.loadAll(this.castMembers, ids, loader, castMember -> {}, (key, castMember) -> {});
+  }
+
+  // Counts invalidations; read it before reading what a seed is built from.
+  public long generation() {
+    return this.invalidations.get();
+  }
+
+  /*
+   * Caches entries read elsewhere, e.g. from a snapshot, unless an id is already cached. The seed is
+   * dropped if anything was invalidated since generation, which must have been taken before the
+   * entries were checked against the database.
+   */
+  public void seedVideos(Map<UUID, Video> videos, long generation) {
+    this.loadAll(this.videos, videos.keySet(), missing -> only(videos, missing), this::rememberVideo, this::forgetVideo, generation);
+  }
+
+  public void seedGenres(Map<UUID, Genre> genres, long generation) {
+    this.loadAll(this.genres, genres.keySet(), missing -> only(genres, missing), this::rememberGenre, this::forgetGenre, generation);
+  }
+
+  public void seedCategories(Map<UUID, Category> categories, long generation) {
+    this.loadAll(this.categories, categories.keySet(), missing -> only(categories, missing), category -> {}, (key, category) -> {}, generation);
+  }
+
+  public void seedCastMembers(Map<UUID, CastMember> castMembers, long generation) {
+    this.loadAll(this.castMembers, castMembers.keySet(), missing -> only(castMembers, missing), castMember -> {}, (key, castMember) -> {}, generation);
+  }
+
+  public void invalidateVideos(Collection<UUID> ids) {
+    this.invalidations.incrementAndGet();
+    for (UUID id : ids) {
+      remove(this.videos, id, this::forgetVideo);
+    }
+  }
+
+  public void invalidateGenres(Collection<UUID> ids) {
+    this.invalidations.incrementAndGet();
+    for (UUID id : ids) {
+      remove(this.genres, id, this::forgetGenre);
+      this.invalidateDependentVideos(id);
+    }
+  }
+
+  // A category shows up in videos directly and through their genres.
+  public void invalidateCategories(Collection<UUID> ids) {
+    this.invalidations.incrementAndGet();
+    for (UUID id : ids) {
+      remove(this.categories, id, (key, category) -> {});
+      // Genres are shared instances too, and may be held outside the cache, e.g. by a video being edited.
+      Set<UUID> genreIds = new HashSet<UUID>(this.genresByCategory.getOrDefault(id, Set.of()));
+      for (Genre genre : ReferenceEntities.genres().values()) {
+        if(genre.getCategories().stream().anyMatch(category -> id.equals(category.getId()))) genreIds.add(genre.getId());
+      }
+      this.invalidateGenres(genreIds);
+      this.invalidateDependentVideos(id);
+    }
+  }
+
+  public void invalidateCastMembers(Collection<UUID> ids) {
+    this.invalidations.incrementAndGet();
+    for (UUID id : ids) {
+      remove(this.castMembers, id, (key, castMember) -> {});
+      this.invalidateDependentVideos(id);
+    }
+  }
+
+  public Map<String, CacheStatistics> statistics() {
+    Map<String, CacheStatistics> statistics = new LinkedHashMap<String, CacheStatistics>();
+    statistics.put("videos", new CacheStatistics(this.videos.estimatedSize(), this.videos.stats()));
+    statistics.put("genres", new CacheStatistics(this.genres.estimatedSize(), this.genres.stats()));
+    statistics.put("categories", new CacheStatistics(this.categories.estimatedSize(), this.categories.stats()));
+    statistics.put("castMembers", new CacheStatistics(this.castMembers.estimatedSize(), this.castMembers.stats()));
+    return statistics;
+  }
+
+  // Evictions run lazily; tests and diagnostics call this to settle sizes and statistics first.
+  public void cleanUp() {
+    this.videos.cleanUp();
+    this.genres.cleanUp();
+    this.categories.cleanUp();
+    this.castMembers.cleanUp();
+  }
+
+  private void invalidateDependentVideos(UUID referenceId) {
+    Set<UUID> videoIds = this.videosByReference.get(referenceId);
+    if(videoIds == null) return;
+    for (UUID videoId : Set.copyOf(videoIds)) {
+      remove(this.videos, videoId, this::forgetVideo);
+    }
+  }
+
+  // Unlinks inside the map's per-key lock, so a reload of the same id cannot interleave with it.
+  private static <T> void remove(Cache<UUID, T> cache, UUID id, BiConsumer<UUID, T> forget) {
+    cache.asMap().computeIfPresent(id, (key, value) -> {
+      forget.accept(key, value);
+      return null;
+    });
+  }
+
+  private <T> T load(Cache<UUID, T> cache, UUID id, Function<UUID, T> loader, Consumer<T> remember, BiConsumer<UUID, T> forget) {
+    long before = this.invalidations.get();
+    boolean[] loaded = { false };
+    T value = cache.get(id, key -> {
+      T found = loader.apply(key);
+      if(found != null) remember.accept(found);
+      loaded[0] = true;
+      return found;
+    });
+    if(loaded[0] && this.invalidations.get() != before) remove(cache, id, forget);
+    return value;
+  }
+
+  private <T> Map<UUID, T> loadAll(Cache<UUID, T> cache, Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, T>> loader, Consumer<T> remember, BiConsumer<UUID, T> forget) {
+    return this.loadAll(cache, ids, loader, remember, forget, this.invalidations.get());
+  }
+
+  private <T> Map<UUID, T> loadAll(Cache<UUID, T> cache, Collection<UUID> ids, Function<Collection<UUID>, Map<UUID, T>> loader, Consumer<T> remember, BiConsumer<UUID, T> forget,
+    long before) {
+    boolean[] loaded = { false };
+    Map<UUID, T> values = cache.getAll(ids, missing -> {
+      @SuppressWarnings("unchecked")
+      Map<UUID, T> found = loader.apply((Collection<UUID>) missing);
+      found.values().forEach(remember);
+      loaded[0] = true;
+      return found;
+    });
+    if(loaded[0] && this.invalidations.get() != before) {
+      for (UUID id : ids) {
+        remove(cache, id, forget);
+      }
+    }
+    return values;
+  }
+
+  private static <T> Map<UUID, T> only(Map<UUID, T> entries, Collection<UUID> ids) {
+    Map<UUID, T> selected = new HashMap<UUID, T>();
+    for (UUID id : ids) {
+      selected.put(id, entries.get(id));
+    }
+    return selected;
+  }
+
+  private void rememberVideo(Video video) {
+    for (Category category : video.getCategories()) {
+      this.link(this.videosByReference, category.getId(), video.getId());
+    }
+    for (Genre genre : video.getGenres()) {
+      this.link(this.videosByReference, genre.getId(), video.getId());
+      for (Category category : genre.getCategories()) {
+        this.link(this.videosByReference, category.getId(), video.getId());
+      }
+    }
+    for (CastMember castMember : video.getCastMembers()) {
+      this.link(this.videosByReference, castMember.getId(), video.getId());
+    }
+  }
+
+  private void rememberGenre(Genre genre) {
+    for (Category category : genre.getCategories()) {
+      this.link(this.genresByCategory, category.getId(), genre.getId());
+    }
+  }
+
+  private void forgetVideo(UUID id, Video video) {
+    for (Category category : video.getCategories()) {
+      this.unlink(this.videosByReference, category.getId(), id);
+    }
+    for (Genre genre : video.getGenres()) {
+      this.unlink(this.videosByReference, genre.getId(), id);
+      for (Category category : genre.getCategories()) {
+        this.unlink(this.videosByReference, category.getId(), id);
+      }
+    }
+    for (CastMember castMember : video.getCastMembers()) {
+      this.unlink(this.videosByReference, castMember.getId(), id);
+    }
+  }
+
+  private void forgetGenre(UUID id, Genre genre) {
+    for (Category category : genre.getCategories()) {
+      this.unlink(this.genresByCategory, category.getId(), id);
+    }
+  }
+
+  private void link(Map<UUID, Set<UUID>> index, UUID referenceId, UUID dependentId) {
+    index.computeIfAbsent(referenceId, key -> ConcurrentHashMap.newKeySet()).add(dependentId);
+  }
+
+  private void unlink(Map<UUID, Set<UUID>> index, UUID referenceId, UUID dependentId) {
+    index.computeIfPresent(referenceId, (key, dependents) -> {
+      dependents.remove(dependentId);
+      return dependents.isEmpty() ? null : dependents;
+    });
+  }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.FCCatalogo.infrastructure.cli;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.exporting.ExportFormat;
+import com.fullcycle.FCCatalogo.application.exporting.VideoExporter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports the catalog to a file and exits instead of serving requests:
+ * java -jar catalogo.jar --export-to=/data/videos.csv.gz --export-format=csv
+ */
+@Component
+public class VideoExportCommand implements ApplicationRunner {
+  private static final Logger LOGGER = LoggerFactory.getLogger(VideoExportCommand.class);
+
+  private final VideoExporter videoExporter;
+  private final ConfigurableApplicationContext context;
+
+  public VideoExportCommand(VideoExporter videoExporter, ConfigurableApplicationContext context) {
+    this.videoExporter = videoExporter;
+    this.context = context;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    List<String> target = args.getOptionValues("export-to");
+    if(target == null || target.isEmpty()) return;
+    List<String> format = args.getOptionValues("export-format");
+    ExportFormat exportFormat = ExportFormat.of(format == null || format.isEmpty() ? "ndjson" : format.get(0));
+    long written = this.videoExporter.export(Paths.get(target.get(0)), exportFormat);
+    LOGGER.info("Exported {} videos to {}", written, target.get(0));
+    System.exit(SpringApplication.exit(this.context, () -> 0));
+  }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.FCCatalogo.infrastructure.concurrent;
+
+public enum ExecutionMode {
+  PLATFORM, VIRTUAL;
+
+  public static ExecutionMode of(String name) {
+    if(name == null) throw new IllegalArgumentException("execution mode is marked non-null but is null");
+    if(name.equalsIgnoreCase("platform")) return PLATFORM;
+    if(name.equalsIgnoreCase("virtual")) return VIRTUAL;
+    throw new IllegalArgumentException("execution mode must be platform or virtual");
+  }
+
+  // Virtual threads need Java 21; the build targets 11, so on older runtimes VIRTUAL degrades to PLATFORM.
+  public ExecutionMode orFallback() {
+    return this == VIRTUAL && !VirtualThreads.isSupported() ? PLATFORM : this;
+  }
+}
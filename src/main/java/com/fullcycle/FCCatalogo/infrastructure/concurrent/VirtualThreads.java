@@ -0,0 +1,67 @@
+package com.fullcycle.FCCatalogo.infrastructure.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reaches the Java 21 virtual thread API by reflection so the code still compiles for Java 11.
+ * The lookups run once; creating the executor is the only reflective call at runtime.
+ */
+public final class VirtualThreads {
+  private static final Method OF_VIRTUAL = method(Thread.class, "ofVirtual");
+  private static final Method NAME = method(type("java.lang.Thread$Builder"), "name", String.class, long.class);
+  private static final Method FACTORY = method(type("java.lang.Thread$Builder"), "factory");
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR = method(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+  private static final Method IS_VIRTUAL = method(Thread.class, "isVirtual");
+
+  private VirtualThreads() {
+  }
+
+  // Java 19 and 20 have the methods too but reject them unless preview features are enabled.
+  public static boolean isSupported() {
+    return Runtime.version().feature() >= 21 && OF_VIRTUAL != null && NAME != null && FACTORY != null
+      && NEW_THREAD_PER_TASK_EXECUTOR != null && IS_VIRTUAL != null;
+  }
+
+  // Starts one virtual thread per task, named prefix0, prefix1, ...
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+    if(namePrefix == null) throw new IllegalArgumentException("namePrefix is marked non-null but is null");
+    if(!isSupported()) throw new UnsupportedOperationException("virtual threads need Java 21 or later");
+    try {
+      Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, FACTORY.invoke(builder));
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("could not create a virtual thread executor", e);
+    }
+  }
+
+  public static boolean isVirtual(Thread thread) {
+    if(thread == null) throw new IllegalArgumentException("thread is marked non-null but is null");
+    if(IS_VIRTUAL == null) return false;
+    try {
+      return (Boolean) IS_VIRTUAL.invoke(thread);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("could not inspect thread", e);
+    }
+  }
+
+  private static Class<?> type(String name) {
+    try {
+      return Class.forName(name);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  private static Method method(Class<?> type, String name, Class<?>... parameterTypes) {
+    if(type == null) return null;
+    try {
+      return type.getMethod(name, parameterTypes);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.application.aggregate.CatalogAggregates;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Counted once by the shared startup scan, never through the cache; from then on the adapter keeps them current.
+@Configuration
+public class AggregatesConfig {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AggregatesConfig.class);
+
+  @Bean
+  public CatalogAggregates catalogAggregates() {
+    return new CatalogAggregates();
+  }
+
+  // Writes overlapping the shared scan make its count untrustworthy; the aggregates then count again on their own.
+  @Bean
+  @ConditionalOnProperty(name = "catalog.aggregates.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+  public ReadModelLoad catalogAggregatesRebuild(CatalogAggregates aggregates, VideoRepositoryAdapter videos) {
+    return new ReadModelLoad() {
+      private CatalogAggregates.Recount recount;
+
+      @Override
+      public VideoFetchPlan plan() {
+        return VideoFetchPlan.DETAIL;
+      }
+
+      @Override
+      public void begin() {
+        this.recount = aggregates.recount();
+      }
+
+      @Override
+      public void accept(Video video) {
+        this.recount.add(video);
+      }
+
+      @Override
+      public void end(boolean scanned) {
+        if(scanned && this.recount.finish()) return;
+        if(!aggregates.rebuild(videos)) LOGGER.warn("catalog aggregates were not counted, videos kept changing; POST /aggregates/rebuild to retry");
+      }
+    };
+  }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.infrastructure.cache.CacheSettings;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CachingCastMemberRepository;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CachingCategoryRepository;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CachingGenreRepository;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CachingVideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CatalogCache;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.CastMemberRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.CategoryRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.GenreRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// The caching decorators are primary, so everything injecting a repository interface reads through the cache.
+@Configuration
+public class CacheConfig {
+
+  @Bean
+  public CatalogCache catalogCache(
+    @Value("${catalog.cache.videos.maximum-weight:200000}") long videosWeight,
+    @Value("${catalog.cache.videos.ttl:10m}") Duration videosTtl,
+    @Value("${catalog.cache.genres.maximum-weight:20000}") long genresWeight,
+    @Value("${catalog.cache.genres.ttl:1h}") Duration genresTtl,
+    @Value("${catalog.cache.categories.maximum-weight:20000}") long categoriesWeight,
+    @Value("${catalog.cache.categories.ttl:1h}") Duration categoriesTtl,
+    @Value("${catalog.cache.cast-members.maximum-weight:50000}") long castMembersWeight,
+    @Value("${catalog.cache.cast-members.ttl:1h}") Duration castMembersTtl) {
+    return new CatalogCache(
+      new CacheSettings(videosWeight, videosTtl),
+      new CacheSettings(genresWeight, genresTtl),
+      new CacheSettings(categoriesWeight, categoriesTtl),
+      new CacheSettings(castMembersWeight, castMembersTtl));
+  }
+
+  @Bean
+  @Primary
+  public CachingVideoRepository cachingVideoRepository(VideoRepositoryAdapter adapter, CatalogCache cache) {
+    return new CachingVideoRepository(adapter, cache);
+  }
+
+  @Bean
+  @Primary
+  public CachingGenreRepository cachingGenreRepository(GenreRepositoryAdapter adapter, CatalogCache cache) {
+    return new CachingGenreRepository(adapter, cache);
+  }
+
+  @Bean
+  @Primary
+  public CachingCategoryRepository cachingCategoryRepository(CategoryRepositoryAdapter adapter, CatalogCache cache) {
+    return new CachingCategoryRepository(adapter, cache);
+  }
+
+  @Bean
+  @Primary
+  public CachingCastMemberRepository cachingCastMemberRepository(CastMemberRepositoryAdapter adapter, CatalogCache cache) {
+    return new CachingCastMemberRepository(adapter, cache);
+  }
+}
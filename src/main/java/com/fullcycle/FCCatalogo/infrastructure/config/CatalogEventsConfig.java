@@ -0,0 +1,79 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.application.sync.CatalogEventConsumer;
+import com.fullcycle.FCCatalogo.application.sync.ProcessedEventStore;
+import com.fullcycle.FCCatalogo.application.sync.UnitOfWork;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.messaging.AmqpCatalogEventListener;
+import com.fullcycle.FCCatalogo.infrastructure.messaging.InMemoryCatalogEventTransport;
+
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// catalog.events.transport picks where change events come from: amqp in production, in-memory for tests and local runs.
+@Configuration
+public class CatalogEventsConfig {
+
+  @Bean
+  public CatalogEventConsumer catalogEventConsumer(CategoryRepository categoryRepository, CastMemberRepository castMemberRepository,
+    GenreRepository genreRepository, VideoRepository videoRepository, ProcessedEventStore processedEventStore, UnitOfWork unitOfWork,
+    CatalogMetrics catalogMetrics) {
+    return new CatalogEventConsumer(categoryRepository, castMemberRepository, genreRepository, videoRepository, processedEventStore, unitOfWork, catalogMetrics);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "catalog.events.transport", havingValue = "in-memory", matchIfMissing = true)
+  public InMemoryCatalogEventTransport inMemoryCatalogEventTransport(CatalogEventConsumer consumer) {
+    return new InMemoryCatalogEventTransport(consumer);
+  }
+
+  @Configuration
+  @ConditionalOnProperty(name = "catalog.events.transport", havingValue = "amqp")
+  static class Amqp {
+
+    @Bean
+    public Queue catalogEventsQueue(@Value("${catalog.events.queue:catalog.events}") String queue) {
+      return new Queue(queue);
+    }
+
+    @Bean
+    public Queue catalogEventsDeadLetterQueue(@Value("${catalog.events.queue:catalog.events}") String queue) {
+      return new Queue(queue + ".dead");
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory catalogEventsContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      @Value("${catalog.events.batch-size:500}") int batchSize,
+      @Value("${catalog.events.receive-timeout:200ms}") Duration receiveTimeout) {
+      SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+      configurer.configure(factory, connectionFactory);
+      factory.setBatchListener(true);
+      factory.setConsumerBatchEnabled(true);
+      factory.setBatchSize(batchSize);
+      factory.setPrefetchCount(batchSize);
+      factory.setReceiveTimeout(receiveTimeout.toMillis());
+      return factory;
+    }
+
+    @Bean
+    public AmqpCatalogEventListener amqpCatalogEventListener(CatalogEventConsumer consumer, RabbitTemplate rabbitTemplate,
+      @Value("${catalog.events.queue:catalog.events}") String queue) {
+      return new AmqpCatalogEventListener(consumer, rabbitTemplate, queue + ".dead");
+    }
+  }
+}
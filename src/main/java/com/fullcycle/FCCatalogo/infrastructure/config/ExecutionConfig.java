@@ -0,0 +1,25 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.infrastructure.concurrent.ExecutionMode;
+import com.fullcycle.FCCatalogo.infrastructure.web.RequestExecutorCustomizer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutionConfig {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionConfig.class);
+
+  @Bean
+  public RequestExecutorCustomizer requestExecutorCustomizer(@Value("${catalog.execution.mode:platform}") String mode) {
+    ExecutionMode requested = ExecutionMode.of(mode);
+    ExecutionMode effective = requested.orFallback();
+    if(effective != requested) {
+      LOGGER.warn("Virtual threads need Java 21, running on {}; serving requests on platform threads", Runtime.version());
+    }
+    return new RequestExecutorCustomizer(effective);
+  }
+}
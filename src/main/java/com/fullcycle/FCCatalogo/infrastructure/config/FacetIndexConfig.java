@@ -0,0 +1,58 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.application.index.VideoFacetIndex;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeGate;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Filled by the shared startup scan; from then on every committed video write is indexed or
+ * removed. The index keeps no versions, so writes committed during the load are held back and
+ * applied after it, over whatever the scan read.
+ */
+@Configuration
+public class FacetIndexConfig {
+  @Bean
+  public VideoFacetIndex videoFacetIndex() {
+    return new VideoFacetIndex();
+  }
+
+  @Bean
+  public VideoChangeGate videoFacetIndexer(VideoFacetIndex index) {
+    return new VideoChangeGate((saved, deleted) -> {
+      saved.forEach(index::index);
+      deleted.forEach(index::remove);
+    });
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "catalog.facets.index-on-startup", havingValue = "true", matchIfMissing = true)
+  public ReadModelLoad videoFacetIndexLoad(VideoFacetIndex index, VideoChangeGate videoFacetIndexer) {
+    return new ReadModelLoad() {
+      @Override
+      public VideoFetchPlan plan() {
+        return VideoFetchPlan.DETAIL;
+      }
+
+      @Override
+      public void begin() {
+        videoFacetIndexer.hold();
+      }
+
+      @Override
+      public void accept(Video video) {
+        index.index(video);
+      }
+
+      @Override
+      public void end(boolean scanned) {
+        videoFacetIndexer.release();
+        index.optimize();
+      }
+    };
+  }
+}
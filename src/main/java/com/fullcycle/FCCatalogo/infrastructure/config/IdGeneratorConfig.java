@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.identity.IdGenerator;
+import com.fullcycle.FCCatalogo.domain.identity.RandomIdGenerator;
+import com.fullcycle.FCCatalogo.domain.identity.TimeOrderedIdGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+  @Bean
+  public IdGenerator idGenerator(@Value("${catalog.id-generator:random}") String strategy) {
+    IdGenerator generator;
+    switch (strategy) {
+      case "random":
+        generator = new RandomIdGenerator();
+        break;
+      case "time-ordered":
+        generator = new TimeOrderedIdGenerator();
+        break;
+      default:
+        throw new IllegalArgumentException("catalog.id-generator must be one of: random, time-ordered");
+    }
+    BaseEntity.setIdGenerator(generator);
+    return generator;
+  }
+}
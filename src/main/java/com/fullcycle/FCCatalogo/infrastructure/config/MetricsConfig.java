@@ -0,0 +1,30 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CatalogCache;
+import com.fullcycle.FCCatalogo.infrastructure.metrics.RepositoryMetricsAspect;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// catalog.metrics.sample-every: 1 times every call, N one call in N, 0 turns metrics off.
+@Configuration
+public class MetricsConfig {
+  private static final String[] CACHES = { "videos", "genres", "categories", "castMembers" };
+
+  @Bean
+  public CatalogMetrics catalogMetrics(@Value("${catalog.metrics.sample-every:1}") int sampleEvery, CatalogCache catalogCache) {
+    CatalogMetrics metrics = new CatalogMetrics(sampleEvery);
+    for (String cache : CACHES) {
+      metrics.gauge("catalog.cache.hit.ratio", () -> catalogCache.statistics().get(cache).getHitRate(), "cache", cache);
+      metrics.gauge("catalog.cache.size", () -> catalogCache.statistics().get(cache).getSize(), "cache", cache);
+    }
+    return metrics;
+  }
+
+  @Bean
+  public RepositoryMetricsAspect repositoryMetricsAspect(CatalogMetrics catalogMetrics) {
+    return new RepositoryMetricsAspect(catalogMetrics);
+  }
+}
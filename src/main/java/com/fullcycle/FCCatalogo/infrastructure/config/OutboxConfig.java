@@ -0,0 +1,60 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxPublisher;
+import com.fullcycle.FCCatalogo.application.outbox.OutboxRelay;
+import com.fullcycle.FCCatalogo.application.outbox.OutboxStore;
+import com.fullcycle.FCCatalogo.application.sync.UnitOfWork;
+import com.fullcycle.FCCatalogo.infrastructure.messaging.AmqpOutboxPublisher;
+import com.fullcycle.FCCatalogo.infrastructure.messaging.InMemoryOutboxPublisher;
+import com.fullcycle.FCCatalogo.infrastructure.messaging.OutboxRelayWorker;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Publishes through the same transport as catalog.events.transport; the relay threads can be switched off, e.g. in tests.
+@Configuration
+public class OutboxConfig {
+
+  @Bean
+  public OutboxRelay outboxRelay(OutboxStore outboxStore, OutboxPublisher publisher, UnitOfWork unitOfWork,
+    @Value("${catalog.outbox.batch-size:500}") int batchSize) {
+    return new OutboxRelay(outboxStore, publisher, unitOfWork, batchSize);
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnProperty(name = "catalog.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+  public OutboxRelayWorker outboxRelayWorker(OutboxRelay relay,
+    @Value("${catalog.outbox.relay.threads:1}") int threads,
+    @Value("${catalog.outbox.relay.poll-interval:200ms}") Duration pollInterval) {
+    return new OutboxRelayWorker(relay, threads, pollInterval);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "catalog.events.transport", havingValue = "in-memory", matchIfMissing = true)
+  public InMemoryOutboxPublisher inMemoryOutboxPublisher() {
+    return new InMemoryOutboxPublisher();
+  }
+
+  @Configuration
+  @ConditionalOnProperty(name = "catalog.events.transport", havingValue = "amqp")
+  static class Amqp {
+
+    @Bean
+    public TopicExchange catalogChangesExchange(@Value("${catalog.outbox.exchange:catalog.changes}") String exchange) {
+      return new TopicExchange(exchange);
+    }
+
+    @Bean
+    public AmqpOutboxPublisher amqpOutboxPublisher(RabbitTemplate rabbitTemplate,
+      @Value("${catalog.outbox.exchange:catalog.changes}") String exchange,
+      @Value("${catalog.outbox.confirm-timeout:5s}") Duration confirmTimeout) {
+      return new AmqpOutboxPublisher(rabbitTemplate, exchange, confirmTimeout);
+    }
+  }
+}
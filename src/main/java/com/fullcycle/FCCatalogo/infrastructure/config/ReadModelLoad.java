@@ -0,0 +1,15 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+
+// A read model filled from the one catalog scan at startup: begin() before it, accept() per video, end() after, also when the scan failed.
+public interface ReadModelLoad {
+  VideoFetchPlan plan();
+
+  void begin();
+
+  void accept(Video video);
+
+  void end(boolean scanned);
+}
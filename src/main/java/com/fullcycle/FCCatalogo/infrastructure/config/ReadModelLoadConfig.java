@@ -0,0 +1,43 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// One pass over the catalog at startup feeds every ReadModelLoad, instead of one scan per read model.
+@Configuration
+public class ReadModelLoadConfig {
+
+  @Bean
+  public ApplicationRunner readModelLoad(ObjectProvider<ReadModelLoad> readModelLoads, VideoRepositoryAdapter videos) {
+    return args -> {
+      List<ReadModelLoad> loads = readModelLoads.orderedStream().collect(Collectors.toList());
+      if(loads.isEmpty()) return;
+      VideoFetchPlan plan = VideoFetchPlan.SUMMARY;
+      for (ReadModelLoad load : loads) {
+        if(load.plan().compareTo(plan) > 0) plan = load.plan();
+      }
+      loads.forEach(ReadModelLoad::begin);
+      boolean scanned = false;
+      try {
+        videos.forEach(plan, video -> {
+          for (ReadModelLoad load : loads) {
+            load.accept(video);
+          }
+        });
+        scanned = true;
+      } finally {
+        for (ReadModelLoad load : loads) {
+          load.end(scanned);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.domain.entity.ReferenceEntities;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReferenceEntitiesConfig {
+
+  public ReferenceEntitiesConfig(@Value("${catalog.reference-entities.canonicalize:true}") boolean canonicalize) {
+    ReferenceEntities.setEnabled(canonicalize);
+  }
+}
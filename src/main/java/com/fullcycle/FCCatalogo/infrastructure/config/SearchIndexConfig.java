@@ -0,0 +1,67 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.application.search.VideoSearchIndex;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.ReferenceChangeListener;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeGate;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Filled by the shared startup scan, with association names; from then on every committed
+ * video write is reindexed or removed. The index keeps no video versions, so writes committed during
+ * the load are held back and applied after it, over whatever the scan read. Committed category, genre
+ * and cast member writes rename the references in place; those are versioned and need no gate.
+ */
+@Configuration
+public class SearchIndexConfig {
+  @Bean
+  public VideoSearchIndex videoSearchIndex() {
+    return new VideoSearchIndex();
+  }
+
+  @Bean
+  public VideoChangeGate videoSearchIndexer(VideoSearchIndex index) {
+    return new VideoChangeGate((saved, deleted) -> {
+      saved.forEach(index::index);
+      deleted.forEach(index::remove);
+    });
+  }
+
+  @Bean
+  public ReferenceChangeListener videoSearchRenamer(VideoSearchIndex index) {
+    return (saved, deleted) -> {
+      saved.forEach(index::rename);
+      deleted.forEach(index::removeReference);
+    };
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "catalog.search.index-on-startup", havingValue = "true", matchIfMissing = true)
+  public ReadModelLoad videoSearchIndexLoad(VideoSearchIndex index, VideoChangeGate videoSearchIndexer) {
+    return new ReadModelLoad() {
+      @Override
+      public VideoFetchPlan plan() {
+        return VideoFetchPlan.DETAIL;
+      }
+
+      @Override
+      public void begin() {
+        videoSearchIndexer.hold();
+      }
+
+      @Override
+      public void accept(Video video) {
+        index.index(video);
+      }
+
+      @Override
+      public void end(boolean scanned) {
+        videoSearchIndexer.release();
+      }
+    };
+  }
+}
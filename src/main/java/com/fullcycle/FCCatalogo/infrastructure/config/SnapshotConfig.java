@@ -0,0 +1,45 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.infrastructure.cache.CatalogCache;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.CastMemberRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.CategoryRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.GenreRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.snapshot.CatalogSnapshotLoader;
+import com.fullcycle.FCCatalogo.infrastructure.snapshot.CatalogSnapshotWriter;
+import com.fullcycle.FCCatalogo.infrastructure.snapshot.CatalogSnapshotWorker;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// The snapshot is read and written against the adapters, so it never reflects the cache it warms.
+@Configuration
+public class SnapshotConfig {
+
+  @Bean
+  public CatalogSnapshotWriter catalogSnapshotWriter(VideoRepositoryAdapter videos) {
+    return new CatalogSnapshotWriter(videos, Clock.systemUTC());
+  }
+
+  @Bean
+  public CatalogSnapshotLoader catalogSnapshotLoader(CatalogCache cache, CategoryRepositoryAdapter categories, CastMemberRepositoryAdapter castMembers,
+    GenreRepositoryAdapter genres, VideoRepositoryAdapter videos,
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+    return new CatalogSnapshotLoader(cache, categories, castMembers, genres, videos, batchSize);
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnProperty(name = "catalog.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+  public CatalogSnapshotWorker catalogSnapshotWorker(CatalogSnapshotLoader loader, CatalogSnapshotWriter writer,
+    @Value("${catalog.snapshot.path:data/catalog.snapshot}") String path,
+    @Value("${catalog.snapshot.max-age:6h}") Duration maxAge,
+    @Value("${catalog.snapshot.write-interval:1h}") Duration writeInterval) {
+    return new CatalogSnapshotWorker(loader, writer, Path.of(path), maxAge, writeInterval, Clock.systemUTC());
+  }
+}
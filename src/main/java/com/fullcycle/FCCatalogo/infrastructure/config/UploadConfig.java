@@ -0,0 +1,48 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.application.upload.VideoFileUploader;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.storage.LocalMediaStorage;
+import com.fullcycle.FCCatalogo.infrastructure.storage.LocalUploadSessionStore;
+import com.fullcycle.FCCatalogo.infrastructure.storage.UploadExpiryWorker;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class UploadConfig {
+
+  @Bean
+  public LocalMediaStorage localMediaStorage(
+    @Value("${catalog.storage.local.root:data/media}") String root,
+    @Value("${catalog.storage.local.base-url:/media/}") String baseUrl) throws IOException {
+    return new LocalMediaStorage(Path.of(root), baseUrl);
+  }
+
+  @Bean
+  public LocalUploadSessionStore localUploadSessionStore(LocalMediaStorage storage) throws IOException {
+    return new LocalUploadSessionStore(storage.getRoot().resolve(".uploads"));
+  }
+
+  @Bean
+  public VideoFileUploader videoFileUploader(VideoRepository videoRepository, LocalMediaStorage storage, LocalUploadSessionStore sessions,
+    @Value("${catalog.upload.max-size:50GB}") DataSize maxSize) {
+    return new VideoFileUploader(videoRepository, storage, sessions, maxSize.toBytes(), Clock.systemUTC());
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnProperty(name = "catalog.upload.expiry.enabled", havingValue = "true", matchIfMissing = true)
+  public UploadExpiryWorker uploadExpiryWorker(VideoFileUploader uploader,
+    @Value("${catalog.upload.expiry.expire-after:24h}") Duration expireAfter,
+    @Value("${catalog.upload.expiry.interval:1h}") Duration interval) {
+    return new UploadExpiryWorker(uploader, expireAfter, interval);
+  }
+}
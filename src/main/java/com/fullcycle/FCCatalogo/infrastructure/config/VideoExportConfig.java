@@ -0,0 +1,17 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.application.exporting.VideoExporter;
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VideoExportConfig {
+
+  @Bean
+  public VideoExporter videoExporter(VideoRepository videoRepository, CatalogMetrics catalogMetrics) {
+    return new VideoExporter(videoRepository, catalogMetrics);
+  }
+}
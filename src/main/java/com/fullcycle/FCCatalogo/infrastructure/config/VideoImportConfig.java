@@ -0,0 +1,23 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import com.fullcycle.FCCatalogo.application.importing.VideoImporter;
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VideoImportConfig {
+
+  @Bean
+  public VideoImporter videoImporter(
+    VideoRepository videoRepository,
+    @Value("${catalog.import.batch-size:${spring.jpa.properties.hibernate.jdbc.batch_size:500}}") int batchSize,
+    @Value("${catalog.import.workers:0}") int workers,
+    @Value("${catalog.import.writers:2}") int writers,
+    CatalogMetrics catalogMetrics) {
+    return new VideoImporter(videoRepository, batchSize, workers > 0 ? workers : Runtime.getRuntime().availableProcessors(), writers, catalogMetrics);
+  }
+}
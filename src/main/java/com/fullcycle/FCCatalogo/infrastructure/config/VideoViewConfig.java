@@ -0,0 +1,71 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.view.VideoViewStore;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeGate;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Filled by the shared startup scan and then given each committed transaction as one batch. Writes
+ * committed during the load are held back and applied after it, so a video deleted under the scan
+ * does not come back from the row it read earlier.
+ */
+@Configuration
+public class VideoViewConfig {
+  // Every batch copies the store's table, so the load hands views over in large ones.
+  private static final int LOAD_BATCH_SIZE = 5_000;
+
+  @Bean
+  public VideoViewStore videoViewStore() {
+    return new VideoViewStore();
+  }
+
+  @Bean
+  public VideoChangeGate videoViewPublisher(VideoViewStore store) {
+    return new VideoChangeGate(store::apply);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "catalog.views.load-on-startup", havingValue = "true", matchIfMissing = true)
+  public ReadModelLoad videoViewLoad(VideoViewStore store, VideoChangeGate videoViewPublisher) {
+    return new ReadModelLoad() {
+      private final List<Video> batch = new ArrayList<Video>(LOAD_BATCH_SIZE);
+
+      @Override
+      public VideoFetchPlan plan() {
+        return VideoFetchPlan.FULL_GRAPH;
+      }
+
+      @Override
+      public void begin() {
+        videoViewPublisher.hold();
+      }
+
+      @Override
+      public void accept(Video video) {
+        this.batch.add(video);
+        if(this.batch.size() == LOAD_BATCH_SIZE) {
+          store.putAll(this.batch);
+          this.batch.clear();
+        }
+      }
+
+      @Override
+      public void end(boolean scanned) {
+        try {
+          store.putAll(this.batch);
+          this.batch.clear();
+        } finally {
+          videoViewPublisher.release();
+        }
+      }
+    };
+  }
+}
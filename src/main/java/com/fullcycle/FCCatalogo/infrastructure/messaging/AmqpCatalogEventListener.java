@@ -0,0 +1,51 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEventConsumer;
+import com.fullcycle.FCCatalogo.application.sync.SyncFailure;
+import com.fullcycle.FCCatalogo.application.sync.SyncReport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Receives consumer-side batches: the container collects up to the batch size, or what arrived
+ * within the receive timeout, and acks them together once consume returns. Failed events are
+ * moved to the dead-letter queue; an exception rejects the batch so the broker redelivers it.
+ */
+public class AmqpCatalogEventListener {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AmqpCatalogEventListener.class);
+
+  private final CatalogEventConsumer consumer;
+  private final RabbitTemplate rabbitTemplate;
+  private final String deadLetterQueue;
+
+  public AmqpCatalogEventListener(CatalogEventConsumer consumer, RabbitTemplate rabbitTemplate, String deadLetterQueue) {
+    if(consumer == null) throw new IllegalArgumentException("consumer is marked non-null but is null");
+    if(rabbitTemplate == null) throw new IllegalArgumentException("rabbitTemplate is marked non-null but is null");
+    if(deadLetterQueue == null) throw new IllegalArgumentException("deadLetterQueue is marked non-null but is null");
+    this.consumer = consumer;
+    this.rabbitTemplate = rabbitTemplate;
+    this.deadLetterQueue = deadLetterQueue;
+  }
+
+  @RabbitListener(queues = "${catalog.events.queue:catalog.events}", containerFactory = "catalogEventsContainerFactory")
+  public void onMessages(List<Message> messages) {
+    List<byte[]> bodies = new ArrayList<byte[]>(messages.size());
+    for (Message message : messages) {
+      bodies.add(message.getBody());
+    }
+    SyncReport report = this.consumer.consume(bodies);
+    for (SyncFailure failure : report.getFailures()) {
+      LOGGER.warn("Dead-lettering catalog event {}: {}", failure.getEventId(), failure.getMessage());
+      this.rabbitTemplate.send("", this.deadLetterQueue, messages.get(failure.getPosition()));
+    }
+    LOGGER.debug("Applied {} catalog changes from {} events ({} duplicates, {} coalesced, {} outdated)",
+      report.getApplied(), report.getReceived(), report.getDuplicates(), report.getCoalesced(), report.getOutdated());
+  }
+}
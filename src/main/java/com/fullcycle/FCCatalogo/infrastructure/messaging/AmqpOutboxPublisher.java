@@ -0,0 +1,54 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxMessage;
+import com.fullcycle.FCCatalogo.application.outbox.OutboxPublisher;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Pipelines a batch on one channel: every message is sent without waiting, then a single wait
+ * collects the publisher confirms for all of them, so a batch costs one broker round trip rather
+ * than one per message. Needs spring.rabbitmq.publisher-confirm-type=simple.
+ */
+public class AmqpOutboxPublisher implements OutboxPublisher {
+  private final RabbitTemplate rabbitTemplate;
+  private final String exchange;
+  private final Duration confirmTimeout;
+
+  public AmqpOutboxPublisher(RabbitTemplate rabbitTemplate, String exchange, Duration confirmTimeout) {
+    if(rabbitTemplate == null) throw new IllegalArgumentException("rabbitTemplate is marked non-null but is null");
+    if(exchange == null) throw new IllegalArgumentException("exchange is marked non-null but is null");
+    if(confirmTimeout == null) throw new IllegalArgumentException("confirmTimeout is marked non-null but is null");
+    this.rabbitTemplate = rabbitTemplate;
+    this.exchange = exchange;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    if(messages == null) throw new IllegalArgumentException("messages are marked non-null but are null");
+    if(messages.isEmpty()) return;
+    this.rabbitTemplate.invoke(operations -> {
+      for (OutboxMessage message : messages) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setMessageId(message.getEventId().toString());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        operations.send(this.exchange, routingKey(message), new Message(message.toJson(), properties));
+      }
+      operations.waitForConfirmsOrDie(this.confirmTimeout.toMillis());
+      return null;
+    });
+  }
+
+  // e.g. video.updated, so subscribers can bind to one entity type or action.
+  private static String routingKey(OutboxMessage message) {
+    return message.getEntityType().getName() + "." + message.getAction().name().toLowerCase();
+  }
+}
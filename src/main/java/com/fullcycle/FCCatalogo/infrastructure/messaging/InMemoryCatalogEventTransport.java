@@ -0,0 +1,68 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEventConsumer;
+import com.fullcycle.FCCatalogo.application.sync.SyncFailure;
+import com.fullcycle.FCCatalogo.application.sync.SyncReport;
+
+/**
+ * Broker stand-in with the same delivery contract as the AMQP listener: messages are handed to the
+ * consumer in micro-batches, failed ones are dead-lettered, and a batch the consumer throws on is
+ * put back at the head of the queue to be redelivered whole.
+ */
+public class InMemoryCatalogEventTransport {
+  private final BlockingDeque<byte[]> queue = new LinkedBlockingDeque<byte[]>();
+  private final List<byte[]> deadLetters = Collections.synchronizedList(new ArrayList<byte[]>());
+  private final CatalogEventConsumer consumer;
+
+  public InMemoryCatalogEventTransport(CatalogEventConsumer consumer) {
+    if(consumer == null) throw new IllegalArgumentException("consumer is marked non-null but is null");
+    this.consumer = consumer;
+  }
+
+  public void publish(byte[] message) {
+    if(message == null) throw new IllegalArgumentException("message is marked non-null but is null");
+    this.queue.addLast(message);
+  }
+
+  // Waits up to wait for a first message, then takes whatever else is queued up to maxBatch.
+  public SyncReport drain(int maxBatch, Duration wait) throws InterruptedException {
+    if(maxBatch <= 0) throw new IllegalArgumentException("maxBatch must be greater than zero");
+    if(wait == null) throw new IllegalArgumentException("wait is marked non-null but is null");
+    byte[] first = this.queue.pollFirst(wait.toNanos(), TimeUnit.NANOSECONDS);
+    if(first == null) return new SyncReport(0, 0, 0, 0, List.of());
+    List<byte[]> batch = new ArrayList<byte[]>(maxBatch);
+    batch.add(first);
+    this.queue.drainTo(batch, maxBatch - 1);
+    SyncReport report;
+    try {
+      report = this.consumer.consume(batch);
+    } catch (RuntimeException e) {
+      for (int i = batch.size() - 1; i >= 0; i--) {
+        this.queue.addFirst(batch.get(i));
+      }
+      throw e;
+    }
+    for (SyncFailure failure : report.getFailures()) {
+      this.deadLetters.add(batch.get(failure.getPosition()));
+    }
+    return report;
+  }
+
+  public int pending() {
+    return this.queue.size();
+  }
+
+  public List<byte[]> getDeadLetters() {
+    synchronized (this.deadLetters) {
+      return new ArrayList<byte[]>(this.deadLetters);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxMessage;
+import com.fullcycle.FCCatalogo.application.outbox.OutboxPublisher;
+
+// Broker stand-in that keeps what was published; it can be made unavailable to exercise retries.
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+  private final List<OutboxMessage> published = Collections.synchronizedList(new ArrayList<OutboxMessage>());
+  private volatile boolean available = true;
+
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    if(messages == null) throw new IllegalArgumentException("messages are marked non-null but are null");
+    if(!this.available) throw new IllegalStateException("broker is unavailable");
+    this.published.addAll(messages);
+  }
+
+  public List<OutboxMessage> getPublished() {
+    synchronized (this.published) {
+      return new ArrayList<OutboxMessage>(this.published);
+    }
+  }
+
+  public void clear() {
+    this.published.clear();
+  }
+
+  public void setAvailable(boolean available) {
+    this.available = available;
+  }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxRelay;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background threads draining the outbox. Each drains until a batch comes back short, then sleeps
+ * for the poll interval; after a failure it backs off by the same interval, doubling up to a
+ * minute, so an unavailable broker is not hammered.
+ */
+public class OutboxRelayWorker {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelayWorker.class);
+  private static final long MAX_BACKOFF_MILLIS = 60000;
+
+  private final OutboxRelay relay;
+  private final int threads;
+  private final Duration pollInterval;
+  private final Thread[] workers;
+  private volatile boolean running;
+
+  public OutboxRelayWorker(OutboxRelay relay, int threads, Duration pollInterval) {
+    if(relay == null) throw new IllegalArgumentException("relay is marked non-null but is null");
+    if(threads <= 0) throw new IllegalArgumentException("threads must be greater than zero");
+    if(pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) throw new IllegalArgumentException("pollInterval must be positive");
+    this.relay = relay;
+    this.threads = threads;
+    this.pollInterval = pollInterval;
+    this.workers = new Thread[threads];
+  }
+
+  public synchronized void start() {
+    if(this.running) return;
+    this.running = true;
+    for (int i = 0; i < this.threads; i++) {
+      this.workers[i] = new Thread(this::run, "outbox-relay-" + i);
+      this.workers[i].setDaemon(true);
+      this.workers[i].start();
+    }
+  }
+
+  public synchronized void stop() throws InterruptedException {
+    this.running = false;
+    for (Thread worker : this.workers) {
+      if(worker == null) continue;
+      worker.interrupt();
+      worker.join();
+    }
+  }
+
+  private void run() {
+    long backoff = this.pollInterval.toMillis();
+    while (this.running) {
+      try {
+        this.relay.drain();
+        backoff = this.pollInterval.toMillis();
+        Thread.sleep(backoff);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.warn("Relaying outbox failed, retrying in {} ms", backoff, e);
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+      }
+    }
+  }
+}
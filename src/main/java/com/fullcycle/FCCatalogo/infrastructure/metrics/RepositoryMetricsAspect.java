@@ -0,0 +1,52 @@
+package com.fullcycle.FCCatalogo.infrastructure.metrics;
+
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times every public call on the repository adapters by query shape: repository, method and, for
+ * video queries, the fetch plan. Calls made inside an adapter do not go through the proxy, so each
+ * call from outside is timed once. The timer is only looked up for sampled calls.
+ */
+@Aspect
+public class RepositoryMetricsAspect {
+  private final CatalogMetrics metrics;
+
+  public RepositoryMetricsAspect(CatalogMetrics metrics) {
+    if(metrics == null) throw new IllegalArgumentException("metrics is marked non-null but is null");
+    this.metrics = metrics;
+  }
+
+  @Around("within(com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.AbstractRepositoryAdapter+) && execution(public * *(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    if(!this.metrics.sample()) return joinPoint.proceed();
+    long started = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      long elapsed = System.nanoTime() - started;
+      this.metrics.timer("catalog.repository.latency",
+        "repository", repository(joinPoint.getTarget().getClass().getSimpleName()),
+        "query", joinPoint.getSignature().getName(),
+        "plan", plan(joinPoint.getArgs())).sampled(elapsed);
+    }
+  }
+
+  // CastMemberRepositoryAdapter, or its CGLIB subclass, becomes castMember.
+  private static String repository(String className) {
+    int end = className.indexOf("RepositoryAdapter");
+    String name = end > 0 ? className.substring(0, end) : className;
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static String plan(Object[] args) {
+    for (Object arg : args) {
+      if(arg instanceof VideoFetchPlan) return ((VideoFetchPlan) arg).name();
+    }
+    return "default";
+  }
+}
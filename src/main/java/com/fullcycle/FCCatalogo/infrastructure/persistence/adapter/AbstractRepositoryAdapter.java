@@ -0,0 +1,236 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.application.sync.ChangeAction;
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.repository.EntityRepository;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.AbstractJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.OutboxJpaEntity;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes go out in chunks of the JDBC batch size: one IN query finds which rows already exist,
+ * new rows are persisted and existing ones updated in place, then the chunk is flushed as JDBC
+ * batches and the persistence context cleared so memory stays flat on large imports.
+ *
+ * The version column is written from the domain version. An entity that was read from the store
+ * must still find its persisted version there, otherwise the write fails with an optimistic-lock
+ * conflict; the rows are locked by that same IN query, so the check cannot race another writer.
+ * Entities never read (imports, new ids) are written blindly. Each write stores a version above
+ * the current one, so a version is never reused for different content.
+ *
+ * Every write also records an outbox row in the same transaction, flushed in the same JDBC
+ * batches as the entity rows, for OutboxRelay to publish once it commits.
+ */
+public abstract class AbstractRepositoryAdapter<D extends BaseEntity, J extends AbstractJpaEntity> implements EntityRepository<D> {
+  protected final EntityManager entityManager;
+  protected final int batchSize;
+  private final Class<J> jpaType;
+  private final CatalogEntityType entityType;
+
+  protected AbstractRepositoryAdapter(EntityManager entityManager, Class<J> jpaType, CatalogEntityType entityType, int batchSize) {
+    if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be greater than zero");
+    this.entityManager = entityManager;
+    this.jpaType = jpaType;
+    this.entityType = entityType;
+    this.batchSize = batchSize;
+  }
+
+  protected abstract J newJpaEntity();
+
+  protected abstract void copy(D entity, J jpaEntity);
+
+  protected abstract D toDomain(J jpaEntity);
+
+  @Override
+  @Transactional
+  public D save(D entity) {
+    this.saveAll(Collections.singletonList(entity));
+    return entity;
+  }
+
+  @Override
+  @Transactional
+  public List<D> saveAll(Collection<D> entities) {
+    if(entities == null) throw new IllegalArgumentException("entities are marked non-null but are null");
+    List<D> saved = new ArrayList<D>(entities);
+    for (D entity : saved) {
+      if(entity == null || entity.getId() == null) throw new IllegalArgumentException("entity ID is marked non-null but is null");
+    }
+    for (int from = 0; from < saved.size(); from += this.batchSize) {
+      List<D> chunk = saved.subList(from, Math.min(from + this.batchSize, saved.size()));
+      Map<UUID, J> existing = this.findManaged(ids(chunk), LockModeType.PESSIMISTIC_WRITE);
+      if(!existing.isEmpty()) this.fetchAssociations(existing.keySet());
+      for (D entity : chunk) {
+        J jpaEntity = existing.get(entity.getId());
+        long stored = jpaEntity == null ? 0 : jpaEntity.getVersion();
+        if(entity.getPersistedVersion() != 0 && entity.getPersistedVersion() != stored) {
+          throw new ObjectOptimisticLockingFailureException(entity.getClass(), entity.getId());
+        }
+        long version = Math.max(entity.getVersion(), stored + 1);
+        this.recordChange(jpaEntity, entity);
+        if(jpaEntity == null) {
+          jpaEntity = this.newJpaEntity();
+          jpaEntity.setId(entity.getId());
+          jpaEntity.setVersion(version);
+          this.copy(entity, jpaEntity);
+          this.entityManager.persist(jpaEntity);
+          existing.put(entity.getId(), jpaEntity);
+          this.entityManager.persist(OutboxJpaEntity.of(this.entityType, ChangeAction.CREATED, entity.getId(), version));
+        } else {
+          jpaEntity.setVersion(version);
+          this.copy(entity, jpaEntity);
+          this.entityManager.persist(OutboxJpaEntity.of(this.entityType, ChangeAction.UPDATED, entity.getId(), version));
+        }
+        this.markPersistedAfterCommit(entity, version);
+      }
+      this.entityManager.flush();
+      this.entityManager.clear();
+    }
+    return saved;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<D> findById(UUID id) {
+    if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    return Optional.ofNullable(this.entityManager.find(this.jpaType, id)).map(this::toDomain);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<D> findAllById(Collection<UUID> ids) {
+    if(ids == null) throw new IllegalArgumentException("ids are marked non-null but are null");
+    List<D> entities = new ArrayList<D>(ids.size());
+    for (J jpaEntity : this.findManaged(ids).values()) {
+      entities.add(this.toDomain(jpaEntity));
+    }
+    return entities;
+  }
+
+  // Stored versions only, for checking cached or snapshot copies without loading the rows.
+  @Override
+  @Transactional(readOnly = true)
+  public Map<UUID, Long> findVersions(Collection<UUID> ids) {
+    if(ids == null) throw new IllegalArgumentException("ids are marked non-null but are null");
+    Map<UUID, Long> versions = new HashMap<UUID, Long>();
+    if(ids.isEmpty()) return versions;
+    List<Object[]> rows = this.entityManager
+      .createQuery("select e.id, e.version from " + this.jpaType.getSimpleName() + " e where e.id in :ids", Object[].class)
+      .setParameter("ids", ids)
+      .getResultList();
+    for (Object[] row : rows) {
+      versions.put((UUID) row[0], (Long) row[1]);
+    }
+    return versions;
+  }
+
+  @Override
+  @Transactional
+  public boolean deleteById(UUID id) {
+    if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    J jpaEntity = this.entityManager.find(this.jpaType, id);
+    if(jpaEntity == null) return false;
+    this.recordChange(jpaEntity, null);
+    this.entityManager.remove(jpaEntity);
+    this.entityManager.persist(OutboxJpaEntity.of(this.entityType, ChangeAction.DELETED, id, jpaEntity.getVersion() + 1));
+    return true;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long count() {
+    return this.entityManager.createQuery("select count(e) from " + this.jpaType.getSimpleName() + " e", Long.class).getSingleResult();
+  }
+
+  protected Map<UUID, J> findManaged(Collection<UUID> ids) {
+    return this.findManaged(ids, LockModeType.NONE);
+  }
+
+  protected Map<UUID, J> findManaged(Collection<UUID> ids, LockModeType lockMode) {
+    Map<UUID, J> managed = new HashMap<UUID, J>();
+    if(ids.isEmpty()) return managed;
+    List<J> found = this.entityManager
+      .createQuery("select e from " + this.jpaType.getSimpleName() + " e where e.id in :ids", this.jpaType)
+      .setParameter("ids", ids)
+      .setLockMode(lockMode)
+      .getResultList();
+    for (J jpaEntity : found) {
+      managed.put(jpaEntity.getId(), jpaEntity);
+    }
+    return managed;
+  }
+
+  // A rolled back write leaves the entity at the version the store still holds.
+  private void markPersistedAfterCommit(D entity, long version) {
+    if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+      entity.markPersisted(version);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        entity.markPersisted(version);
+      }
+    });
+  }
+
+  // Initializes the collections copy() will diff in a fixed number of queries instead of one per row.
+  protected void fetchAssociations(Collection<UUID> ids) {
+  }
+
+  // Sees each write before it is applied: stored is null for a new row, entity for a delete.
+  protected void recordChange(J stored, D entity) {
+  }
+
+  protected void fetchCollection(String association, Collection<UUID> ids) {
+    this.entityManager
+      .createQuery("select distinct e from " + this.jpaType.getSimpleName() + " e left join fetch e." + association + " where e.id in :ids", this.jpaType)
+      .setParameter("ids", ids)
+      .getResultList();
+  }
+
+  // Makes the association hold exactly the given ids, adding references without loading them.
+  protected <R extends AbstractJpaEntity> void replaceReferences(Set<R> association, Collection<? extends BaseEntity> entities, Class<R> referenceType) {
+    Set<UUID> wanted = new LinkedHashSet<UUID>(ids(entities));
+    association.removeIf(reference -> !wanted.remove(reference.getId()));
+    for (UUID id : wanted) {
+      association.add(this.entityManager.getReference(referenceType, id));
+    }
+  }
+
+  protected static List<UUID> ids(Collection<? extends BaseEntity> entities) {
+    List<UUID> ids = new ArrayList<UUID>(entities.size());
+    for (BaseEntity entity : entities) {
+      ids.add(entity.getId());
+    }
+    return ids;
+  }
+
+  protected static <T, R> List<R> map(Collection<T> source, Function<T, R> mapper) {
+    List<R> mapped = new ArrayList<R>(source.size());
+    for (T item : source) {
+      mapped.add(mapper.apply(item));
+    }
+    return mapped;
+  }
+}
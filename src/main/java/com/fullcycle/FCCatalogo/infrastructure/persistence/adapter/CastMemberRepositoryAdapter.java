@@ -0,0 +1,38 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.ReferenceChangeListener;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.CastMemberJpaEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CastMemberRepositoryAdapter extends ReferenceRepositoryAdapter<CastMember, CastMemberJpaEntity> implements CastMemberRepository {
+
+  public CastMemberRepositoryAdapter(EntityManager entityManager, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize,
+    List<ReferenceChangeListener> listeners) {
+    super(entityManager, CastMemberJpaEntity.class, CatalogEntityType.CAST_MEMBER, batchSize, listeners);
+  }
+
+  @Override
+  protected CastMemberJpaEntity newJpaEntity() {
+    return new CastMemberJpaEntity();
+  }
+
+  @Override
+  protected void copy(CastMember category, CastMemberJpaEntity jpaEntity) {
+    jpaEntity.copyFrom(category);
+  }
+
+  @Override
+  protected CastMember toDomain(CastMemberJpaEntity jpaEntity) {
+    return jpaEntity.toDomain();
+  }
+}
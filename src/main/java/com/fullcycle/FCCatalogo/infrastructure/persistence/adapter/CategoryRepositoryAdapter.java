@@ -0,0 +1,38 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.ReferenceChangeListener;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.CategoryJpaEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CategoryRepositoryAdapter extends ReferenceRepositoryAdapter<Category, CategoryJpaEntity> implements CategoryRepository {
+
+  public CategoryRepositoryAdapter(EntityManager entityManager, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize,
+    List<ReferenceChangeListener> listeners) {
+    super(entityManager, CategoryJpaEntity.class, CatalogEntityType.CATEGORY, batchSize, listeners);
+  }
+
+  @Override
+  protected CategoryJpaEntity newJpaEntity() {
+    return new CategoryJpaEntity();
+  }
+
+  @Override
+  protected void copy(Category category, CategoryJpaEntity jpaEntity) {
+    jpaEntity.copyFrom(category);
+  }
+
+  @Override
+  protected Category toDomain(CategoryJpaEntity jpaEntity) {
+    return jpaEntity.toDomain();
+  }
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.ReferenceChangeListener;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.CategoryJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.GenreJpaEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class GenreRepositoryAdapter extends ReferenceRepositoryAdapter<Genre, GenreJpaEntity> implements GenreRepository {
+
+  public GenreRepositoryAdapter(EntityManager entityManager, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize,
+    List<ReferenceChangeListener> listeners) {
+    super(entityManager, GenreJpaEntity.class, CatalogEntityType.GENRE, batchSize, listeners);
+  }
+
+  @Override
+  protected GenreJpaEntity newJpaEntity() {
+    return new GenreJpaEntity();
+  }
+
+  @Override
+  protected void copy(Genre genre, GenreJpaEntity jpaEntity) {
+    jpaEntity.setName(genre.getName());
+    this.replaceReferences(jpaEntity.getCategories(), genre.getCategories(), CategoryJpaEntity.class);
+  }
+
+  @Override
+  protected void fetchAssociations(Collection<UUID> ids) {
+    this.fetchCollection("categories", ids);
+  }
+
+  @Override
+  protected Genre toDomain(GenreJpaEntity jpaEntity) {
+    return jpaEntity.toDomain();
+  }
+}
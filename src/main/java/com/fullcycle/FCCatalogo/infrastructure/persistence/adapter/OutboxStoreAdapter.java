@@ -0,0 +1,60 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxMessage;
+import com.fullcycle.FCCatalogo.application.outbox.OutboxStore;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.OutboxJpaEntity;
+
+import org.hibernate.LockOptions;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The claim is a FOR UPDATE with the skip-locked timeout, which the dialect renders as
+ * FOR UPDATE SKIP LOCKED on MySQL 8; dialects without it fall back to a plain FOR UPDATE, which
+ * is still correct but makes concurrent relays take turns.
+ */
+@Repository
+public class OutboxStoreAdapter implements OutboxStore {
+  private final EntityManager entityManager;
+
+  public OutboxStoreAdapter(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<OutboxMessage> claim(int limit) {
+    if(limit <= 0) throw new IllegalArgumentException("limit must be greater than zero");
+    List<OutboxJpaEntity> claimed = this.entityManager
+      .createQuery("select e from OutboxJpaEntity e order by e.id", OutboxJpaEntity.class)
+      .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+      .setHint("javax.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+      .setMaxResults(limit)
+      .getResultList();
+    List<OutboxMessage> messages = new ArrayList<OutboxMessage>(claimed.size());
+    for (OutboxJpaEntity entity : claimed) {
+      messages.add(entity.toMessage());
+    }
+    this.entityManager.clear();
+    return messages;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void delete(Collection<UUID> eventIds) {
+    if(eventIds == null) throw new IllegalArgumentException("eventIds are marked non-null but are null");
+    if(eventIds.isEmpty()) return;
+    this.entityManager.createQuery("delete from OutboxJpaEntity e where e.id in :ids")
+      .setParameter("ids", eventIds)
+      .executeUpdate();
+  }
+}
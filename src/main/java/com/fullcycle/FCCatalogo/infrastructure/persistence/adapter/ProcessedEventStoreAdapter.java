@@ -0,0 +1,61 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+
+import com.fullcycle.FCCatalogo.application.sync.ProcessedEventStore;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.ProcessedEventJpaEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class ProcessedEventStoreAdapter implements ProcessedEventStore {
+  private final EntityManager entityManager;
+  private final int batchSize;
+
+  public ProcessedEventStoreAdapter(EntityManager entityManager, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+    if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be greater than zero");
+    this.entityManager = entityManager;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+  public Set<UUID> findProcessed(Collection<UUID> eventIds) {
+    if(eventIds == null) throw new IllegalArgumentException("eventIds are marked non-null but are null");
+    Set<UUID> processed = new HashSet<UUID>();
+    if(eventIds.isEmpty()) return processed;
+    List<UUID> found = this.entityManager
+      .createQuery("select e.id from ProcessedEventJpaEntity e where e.id in :ids", UUID.class)
+      .setParameter("ids", eventIds)
+      .getResultList();
+    processed.addAll(found);
+    return processed;
+  }
+
+  // Inserts go out as JDBC batches with the entity writes of the same transaction.
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void markProcessed(Collection<UUID> eventIds) {
+    if(eventIds == null) throw new IllegalArgumentException("eventIds are marked non-null but are null");
+    Instant now = Instant.now();
+    int pending = 0;
+    for (UUID eventId : eventIds) {
+      this.entityManager.persist(new ProcessedEventJpaEntity(eventId, now));
+      if(++pending % this.batchSize == 0) {
+        this.entityManager.flush();
+        this.entityManager.clear();
+      }
+    }
+    this.entityManager.flush();
+  }
+}
@@ -0,0 +1,88 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.repository.ReferenceChangeListener;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.AbstractJpaEntity;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Categories, genres and cast members: the read models holding their names hear about each committed transaction.
+public abstract class ReferenceRepositoryAdapter<D extends BaseEntity, J extends AbstractJpaEntity> extends AbstractRepositoryAdapter<D, J> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceRepositoryAdapter.class);
+
+  private final List<ReferenceChangeListener> listeners;
+
+  protected ReferenceRepositoryAdapter(EntityManager entityManager, Class<J> jpaType, CatalogEntityType entityType, int batchSize,
+    List<ReferenceChangeListener> listeners) {
+    super(entityManager, jpaType, entityType, batchSize);
+    if(listeners == null) throw new IllegalArgumentException("listeners are marked non-null but are null");
+    this.listeners = listeners;
+  }
+
+  @Override
+  protected void recordChange(J stored, D entity) {
+    UUID id = stored == null ? entity.getId() : stored.getId();
+    if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+      Committed<D> committed = new Committed<D>();
+      committed.record(id, entity);
+      this.publish(committed);
+      return;
+    }
+    this.committedOfTransaction().record(id, entity);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Committed<D> committedOfTransaction() {
+    Committed<D> bound = (Committed<D>) TransactionSynchronizationManager.getResource(this);
+    if(bound != null) return bound;
+    Committed<D> committed = new Committed<D>();
+    TransactionSynchronizationManager.bindResource(this, committed);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceRepositoryAdapter.this);
+        if(status == STATUS_COMMITTED) ReferenceRepositoryAdapter.this.publish(committed);
+      }
+    });
+    return committed;
+  }
+
+  // Runs after afterCommit, so the saved entities already carry their persisted versions.
+  private void publish(Committed<D> committed) {
+    for (ReferenceChangeListener listener : this.listeners) {
+      try {
+        listener.committed(committed.saved.values(), committed.deleted);
+      } catch (RuntimeException e) {
+        LOGGER.warn("reference change listener {} failed; its read model misses this commit", listener, e);
+      }
+    }
+  }
+
+  private static final class Committed<D> {
+    private final Map<UUID, D> saved = new LinkedHashMap<UUID, D>();
+    private final Set<UUID> deleted = new LinkedHashSet<UUID>();
+
+    private void record(UUID id, D entity) {
+      if(entity == null) {
+        this.saved.remove(id);
+        this.deleted.add(id);
+      } else {
+        this.deleted.remove(id);
+        this.saved.put(id, entity);
+      }
+    }
+  }
+}
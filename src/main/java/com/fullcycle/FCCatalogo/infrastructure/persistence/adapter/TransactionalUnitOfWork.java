@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.function.Supplier;
+
+import com.fullcycle.FCCatalogo.application.sync.RejectedChangeException;
+import com.fullcycle.FCCatalogo.application.sync.UnitOfWork;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TransactionalUnitOfWork implements UnitOfWork {
+  private final TransactionTemplate transactionTemplate;
+
+  public TransactionalUnitOfWork(PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  // Constraint violations surface on flush or commit, so they are translated outside the transaction.
+  @Override
+  public <T> T execute(Supplier<T> work) {
+    if(work == null) throw new IllegalArgumentException("work is marked non-null but is null");
+    try {
+      return this.transactionTemplate.execute(status -> work.get());
+    } catch (DataIntegrityViolationException e) {
+      throw new RejectedChangeException(e.getMostSpecificCause().getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,421 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import com.fullcycle.FCCatalogo.application.aggregate.CatalogAggregates;
+import com.fullcycle.FCCatalogo.application.aggregate.VideoFacets;
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.application.metrics.Distribution;
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.domain.entity.ReferenceEntities;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.KeysetPage;
+import com.fullcycle.FCCatalogo.domain.repository.SortDirection;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeListener;
+import com.fullcycle.FCCatalogo.domain.repository.VideoCursor;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoPageRequest;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.AbstractJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.CastMemberJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.CategoryJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.GenreJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.VideoFileJpaEntity;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.entity.VideoJpaEntity;
+
+import org.hibernate.jpa.QueryHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Repository
+public class VideoRepositoryAdapter extends AbstractRepositoryAdapter<Video, VideoJpaEntity> implements VideoRepository {
+  private static final Logger LOGGER = LoggerFactory.getLogger(VideoRepositoryAdapter.class);
+
+  private final CatalogMetrics metrics;
+  private final CatalogAggregates aggregates;
+  private final List<VideoChangeListener> listeners;
+  private final Distribution categoriesPerVideo;
+  private final Distribution genresPerVideo;
+  private final Distribution castMembersPerVideo;
+  private final Distribution videoFilesPerVideo;
+
+  public VideoRepositoryAdapter(EntityManager entityManager, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize, CatalogMetrics metrics,
+    CatalogAggregates aggregates, List<VideoChangeListener> listeners) {
+    super(entityManager, VideoJpaEntity.class, CatalogEntityType.VIDEO, batchSize);
+    if(metrics == null) throw new IllegalArgumentException("metrics is marked non-null but is null");
+    if(aggregates == null) throw new IllegalArgumentException("aggregates is marked non-null but is null");
+    if(listeners == null) throw new IllegalArgumentException("listeners are marked non-null but are null");
+    this.metrics = metrics;
+    this.aggregates = aggregates;
+    this.listeners = listeners;
+    this.categoriesPerVideo = metrics.distribution("catalog.video.associations", "association", "categories");
+    this.genresPerVideo = metrics.distribution("catalog.video.associations", "association", "genres");
+    this.castMembersPerVideo = metrics.distribution("catalog.video.associations", "association", "castMembers");
+    this.videoFilesPerVideo = metrics.distribution("catalog.video.associations", "association", "videoFiles");
+  }
+
+  @Override
+  public Optional<Video> findById(UUID id) {
+    return this.findById(id, VideoFetchPlan.FULL_GRAPH);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Video> findById(UUID id, VideoFetchPlan plan) {
+    if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    return this.findAllById(Collections.singletonList(id), plan).stream().findFirst();
+  }
+
+  @Override
+  public List<Video> findAllById(Collection<UUID> ids) {
+    return this.findAllById(ids, VideoFetchPlan.FULL_GRAPH);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Video> findAllById(Collection<UUID> ids, VideoFetchPlan plan) {
+    if(ids == null) throw new IllegalArgumentException("ids are marked non-null but are null");
+    if(plan == null) throw new IllegalArgumentException("plan is marked non-null but is null");
+    List<UUID> wanted = new ArrayList<UUID>(new LinkedHashSet<UUID>(ids));
+    List<Video> videos = new ArrayList<Video>(wanted.size());
+    for (int from = 0; from < wanted.size(); from += this.batchSize) {
+      List<UUID> chunk = wanted.subList(from, Math.min(from + this.batchSize, wanted.size()));
+      Map<UUID, VideoJpaEntity> found = this.findManaged(chunk);
+      List<VideoJpaEntity> rows = new ArrayList<VideoJpaEntity>(found.size());
+      for (UUID id : chunk) {
+        if(found.containsKey(id)) rows.add(found.get(id));
+      }
+      videos.addAll(this.load(rows, plan));
+      this.entityManager.clear();
+    }
+    return videos;
+  }
+
+  @Override
+  public KeysetPage<Video> findPage(VideoPageRequest request) {
+    return this.findPage(request, VideoFetchPlan.SUMMARY);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPage<Video> findPage(VideoPageRequest request, VideoFetchPlan plan) {
+    if(request == null) throw new IllegalArgumentException("request is marked non-null but is null");
+    if(plan == null) throw new IllegalArgumentException("plan is marked non-null but is null");
+    List<VideoJpaEntity> rows = this.seek(request, "v", VideoJpaEntity.class);
+
+    boolean hasNext = rows.size() > request.getSize();
+    List<Video> videos = this.load(hasNext ? rows.subList(0, request.getSize()) : rows, plan);
+    String nextCursor = hasNext
+      ? VideoCursor.after(videos.get(videos.size() - 1), request.getSortField(), request.getDirection()).encode()
+      : null;
+    return new KeysetPage<Video>(videos, nextCursor);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPage<UUID> findPageIds(VideoPageRequest request) {
+    if(request == null) throw new IllegalArgumentException("request is marked non-null but is null");
+    List<Object[]> rows = this.seek(request, "v.id, v." + property(request), Object[].class);
+
+    boolean hasNext = rows.size() > request.getSize();
+    List<UUID> ids = new ArrayList<UUID>(Math.min(rows.size(), request.getSize()));
+    for (Object[] row : hasNext ? rows.subList(0, request.getSize()) : rows) {
+      ids.add((UUID) row[0]);
+    }
+    Object[] last = hasNext ? rows.get(request.getSize() - 1) : null;
+    String nextCursor = hasNext
+      ? VideoCursor.after((UUID) last[0], last[1], request.getSortField(), request.getDirection()).encode()
+      : null;
+    return new KeysetPage<UUID>(ids, nextCursor);
+  }
+
+  /*
+   * Seeks on (key, id) so the (key, id) indexes serve every page, however deep. Only duration is
+   * nullable; nulls sort low on MySQL, so they come first ascending and last descending. Fetches one
+   * row past the page, so the caller knows whether there is a next one.
+   */
+  private <R> List<R> seek(VideoPageRequest request, String select, Class<R> resultType) {
+    boolean ascending = request.getDirection() == SortDirection.ASC;
+    String key = "v." + property(request);
+    String direction = ascending ? " asc" : " desc";
+    VideoCursor after = request.getAfter();
+
+    StringBuilder jpql = new StringBuilder("select ").append(select).append(" from VideoJpaEntity v");
+    if(after != null) {
+      String compare = ascending ? " > " : " < ";
+      if(after.getKey() == null) {
+        jpql.append(ascending
+          ? " where (" + key + " is null and v.id > :id) or " + key + " is not null"
+          : " where " + key + " is null and v.id < :id");
+      } else {
+        jpql.append(" where ").append(key).append(compare).append(":key or (").append(key).append(" = :key and v.id").append(compare).append(":id)");
+        if(!ascending) jpql.append(" or ").append(key).append(" is null");
+      }
+    }
+    jpql.append(" order by ").append(key).append(direction).append(", v.id").append(direction);
+
+    TypedQuery<R> query = this.entityManager.createQuery(jpql.toString(), resultType);
+    if(after != null) {
+      query.setParameter("id", after.getId());
+      if(after.getKey() != null) query.setParameter("key", after.getKey());
+    }
+    return query.setMaxResults(request.getSize() + 1).getResultList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void forEach(VideoFetchPlan plan, Consumer<Video> action) {
+    if(plan == null) throw new IllegalArgumentException("plan is marked non-null but is null");
+    if(action == null) throw new IllegalArgumentException("action is marked non-null but is null");
+    UUID after = null;
+    while (true) {
+      TypedQuery<VideoJpaEntity> query = this.entityManager
+        .createQuery("select v from VideoJpaEntity v" + (after == null ? "" : " where v.id > :after") + " order by v.id", VideoJpaEntity.class)
+        .setHint(QueryHints.HINT_FETCH_SIZE, this.batchSize)
+        .setMaxResults(this.batchSize);
+      if(after != null) query.setParameter("after", after);
+      List<VideoJpaEntity> rows = query.getResultList();
+      if(rows.isEmpty()) return;
+      List<Video> videos = this.load(rows, plan);
+      after = rows.get(rows.size() - 1).getId();
+      this.entityManager.clear();
+      videos.forEach(action);
+      if(rows.size() < this.batchSize) return;
+    }
+  }
+
+  /*
+   * One query per association for the whole set of rows, never per row: SUMMARY adds none, DETAIL
+   * four (categories, genres, cast members, then the genres' categories) and FULL_GRAPH five.
+   */
+  private List<Video> load(List<VideoJpaEntity> rows, VideoFetchPlan plan) {
+    List<Video> videos = new ArrayList<Video>(rows.size());
+    if(plan == VideoFetchPlan.SUMMARY) {
+      for (VideoJpaEntity row : rows) {
+        videos.add(row.toDomain());
+      }
+      return videos;
+    }
+    if(!rows.isEmpty()) {
+      List<UUID> ids = new ArrayList<UUID>(rows.size());
+      Set<UUID> genreIds = new HashSet<UUID>();
+      for (VideoJpaEntity row : rows) {
+        ids.add(row.getId());
+      }
+      this.fetchCollection("categories", ids);
+      this.fetchCollection("genres", ids);
+      this.fetchCollection("castMembers", ids);
+      if(plan == VideoFetchPlan.FULL_GRAPH) this.fetchCollection("videoFiles", ids);
+      for (VideoJpaEntity row : rows) {
+        for (GenreJpaEntity genre : row.getGenres()) {
+          genreIds.add(genre.getId());
+        }
+      }
+      if(!genreIds.isEmpty()) {
+        this.entityManager
+          .createQuery("select distinct g from GenreJpaEntity g left join fetch g.categories where g.id in :ids", GenreJpaEntity.class)
+          .setParameter("ids", genreIds)
+          .getResultList();
+      }
+    }
+    for (VideoJpaEntity row : rows) {
+      if(plan == VideoFetchPlan.FULL_GRAPH) {
+        videos.add(this.toDomain(row));
+        continue;
+      }
+      Video video = row.toDomain();
+      setReferences(video, row);
+      video.markPersisted(row.getVersion());
+      videos.add(video);
+    }
+    return videos;
+  }
+
+  private static String property(VideoPageRequest request) {
+    switch (request.getSortField()) {
+      case YEAR_LAUNCHED:
+        return "yearLaunched";
+      case TITLE:
+        return "title";
+      default:
+        return "durationHundredths";
+    }
+  }
+
+  @Override
+  protected VideoJpaEntity newJpaEntity() {
+    return new VideoJpaEntity();
+  }
+
+  @Override
+  protected void copy(Video video, VideoJpaEntity jpaEntity) {
+    this.recordAssociations(video);
+    jpaEntity.copyFrom(video);
+    this.replaceReferences(jpaEntity.getCategories(), video.getCategories(), CategoryJpaEntity.class);
+    this.replaceReferences(jpaEntity.getGenres(), video.getGenres(), GenreJpaEntity.class);
+    this.replaceReferences(jpaEntity.getCastMembers(), video.getCastMembers(), CastMemberJpaEntity.class);
+    this.replaceVideoFiles(video, jpaEntity);
+  }
+
+  // Sizes as written, so every saved video is counted once per save.
+  private void recordAssociations(Video video) {
+    if(!this.metrics.sample()) return;
+    this.categoriesPerVideo.sampled(video.getCategories().size());
+    this.genresPerVideo.sampled(video.getGenres().size());
+    this.castMembersPerVideo.sampled(video.getCastMembers().size());
+    this.videoFilesPerVideo.sampled(video.getVideoFiles().size());
+  }
+
+  @Override
+  protected void fetchAssociations(Collection<UUID> ids) {
+    this.fetchCollection("categories", ids);
+    this.fetchCollection("genres", ids);
+    this.fetchCollection("castMembers", ids);
+    this.fetchCollection("videoFiles", ids);
+  }
+
+  // The stored row is the before-image, so the delta is right even when the video was never read.
+  @Override
+  protected void recordChange(VideoJpaEntity stored, Video video) {
+    VideoFacets before = stored == null ? null : facets(stored);
+    VideoFacets after = video == null ? null : VideoFacets.of(video);
+    if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+      Committed committed = new Committed(this.aggregates.begin());
+      committed.record(stored == null ? video.getId() : stored.getId(), before, video, after);
+      this.publish(committed);
+      return;
+    }
+    this.committedOfTransaction().record(stored == null ? video.getId() : stored.getId(), before, video, after);
+  }
+
+  // One batch per transaction, bound to it as a resource: published once it commits, dropped if it rolls back.
+  private Committed committedOfTransaction() {
+    Committed bound = (Committed) TransactionSynchronizationManager.getResource(this);
+    if(bound != null) return bound;
+    Committed committed = new Committed(this.aggregates.begin());
+    TransactionSynchronizationManager.bindResource(this, committed);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(VideoRepositoryAdapter.this);
+        if(status == STATUS_COMMITTED) {
+          VideoRepositoryAdapter.this.publish(committed);
+        } else {
+          committed.aggregates.abort();
+        }
+      }
+    });
+    return committed;
+  }
+
+  // Runs after afterCommit, so the saved videos already carry their persisted versions.
+  private void publish(Committed committed) {
+    committed.aggregates.commit();
+    if(committed.saved.isEmpty() && committed.deleted.isEmpty()) return;
+    for (VideoChangeListener listener : this.listeners) {
+      try {
+        listener.committed(committed.saved.values(), committed.deleted);
+      } catch (RuntimeException e) {
+        LOGGER.warn("video change listener {} failed; its read model misses this commit", listener, e);
+      }
+    }
+  }
+
+  private static VideoFacets facets(VideoJpaEntity row) {
+    return new VideoFacets(jpaIds(row.getCategories()), jpaIds(row.getGenres()), jpaIds(row.getCastMembers()), row.getRating(), row.getYearLaunched(),
+      row.getDurationHundredths() == null ? 0 : row.getDurationHundredths());
+  }
+
+  private static Set<UUID> jpaIds(Collection<? extends AbstractJpaEntity> rows) {
+    Set<UUID> ids = new HashSet<UUID>(rows.size() * 2);
+    for (AbstractJpaEntity row : rows) {
+      ids.add(row.getId());
+    }
+    return ids;
+  }
+
+  @Override
+  protected Video toDomain(VideoJpaEntity jpaEntity) {
+    Video video = jpaEntity.toDomain();
+    setReferences(video, jpaEntity);
+    video.setVideoFiles(map(jpaEntity.getVideoFiles(), VideoFileJpaEntity::toDomain));
+    video.markPersisted(jpaEntity.getVersion());
+    return video;
+  }
+
+  // Loaded references are shared across videos unless this load has a newer copy.
+  private static void setReferences(Video video, VideoJpaEntity row) {
+    video.setCategories(ReferenceEntities.canonicalize(map(row.getCategories(), CategoryJpaEntity::toDomain), ReferenceEntities.categories()));
+    video.setGenres(ReferenceEntities.canonicalize(map(row.getGenres(), GenreJpaEntity::toDomain), ReferenceEntities.genres()));
+    video.setCastMembers(ReferenceEntities.canonicalize(map(row.getCastMembers(), CastMemberJpaEntity::toDomain), ReferenceEntities.castMembers()));
+  }
+
+  private void replaceVideoFiles(Video video, VideoJpaEntity jpaEntity) {
+    Map<UUID, VideoFile> wanted = new HashMap<UUID, VideoFile>();
+    for (VideoFile videoFile : video.getVideoFiles()) {
+      wanted.put(videoFile.getId(), videoFile);
+    }
+    Iterator<VideoFileJpaEntity> current = jpaEntity.getVideoFiles().iterator();
+    while (current.hasNext()) {
+      VideoFileJpaEntity file = current.next();
+      VideoFile videoFile = wanted.remove(file.getId());
+      if(videoFile == null) {
+        current.remove();
+      } else {
+        file.copyFrom(videoFile);
+      }
+    }
+    for (VideoFile videoFile : video.getVideoFiles()) {
+      if(!wanted.containsKey(videoFile.getId())) continue;
+      VideoFileJpaEntity file = new VideoFileJpaEntity();
+      file.setId(videoFile.getId());
+      file.copyFrom(videoFile);
+      file.setVideo(jpaEntity);
+      jpaEntity.getVideoFiles().add(file);
+    }
+  }
+
+  // A video saved and then deleted in the same transaction is only reported as deleted, and the other way round.
+  private static final class Committed {
+    private final CatalogAggregates.Changes aggregates;
+    private final Map<UUID, Video> saved = new LinkedHashMap<UUID, Video>();
+    private final Set<UUID> deleted = new LinkedHashSet<UUID>();
+
+    private Committed(CatalogAggregates.Changes aggregates) {
+      this.aggregates = aggregates;
+    }
+
+    private void record(UUID id, VideoFacets before, Video video, VideoFacets after) {
+      this.aggregates.change(before, after);
+      if(video == null) {
+        this.saved.remove(id);
+        this.deleted.add(id);
+      } else {
+        this.deleted.remove(id);
+        this.saved.put(id, video);
+      }
+    }
+  }
+}
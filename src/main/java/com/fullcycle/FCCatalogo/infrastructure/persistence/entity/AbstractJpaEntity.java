@@ -0,0 +1,57 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+// Ids are assigned by the domain, so the entity tracks newness itself instead of
+// letting Spring Data issue a SELECT (merge) before every insert.
+@MappedSuperclass
+public abstract class AbstractJpaEntity implements Persistable<UUID> {
+
+  @Id
+  @Column(columnDefinition = "BINARY(16)")
+  private UUID id;
+
+  // Written from the domain version, not managed by Hibernate, so it only ever counts up.
+  @Column(nullable = false)
+  private long version;
+
+  @Transient
+  private boolean isNew = true;
+
+  @Override
+  public UUID getId() {
+    return this.id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  @Override
+  public boolean isNew() {
+    return this.isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+}
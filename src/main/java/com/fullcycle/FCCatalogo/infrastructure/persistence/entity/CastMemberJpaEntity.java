@@ -0,0 +1,46 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "cast_members")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CastMemberJpaEntity extends AbstractJpaEntity {
+
+  @Column(nullable = false)
+  private String name;
+
+  private Integer type;
+
+  public static CastMemberJpaEntity from(CastMember castMember) {
+    CastMemberJpaEntity entity = new CastMemberJpaEntity();
+    entity.setId(castMember.getId());
+    entity.copyFrom(castMember);
+    return entity;
+  }
+
+  public void copyFrom(CastMember castMember) {
+    this.name = castMember.getName();
+    this.type = castMember.getType() == null ? null : castMember.getType().getType();
+  }
+
+  public CastMember toDomain() {
+    CastMember castMember = new CastMember();
+    castMember.setId(this.getId());
+    castMember.setName(this.name);
+    if(this.type != null) castMember.setType(CastMemberType.of(this.type));
+    castMember.markPersisted(this.getVersion());
+    return castMember;
+  }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "categories")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CategoryJpaEntity extends AbstractJpaEntity {
+
+  @Column(nullable = false)
+  private String name;
+
+  public static CategoryJpaEntity from(Category category) {
+    CategoryJpaEntity entity = new CategoryJpaEntity();
+    entity.setId(category.getId());
+    entity.copyFrom(category);
+    return entity;
+  }
+
+  public void copyFrom(Category category) {
+    this.name = category.getName();
+  }
+
+  public Category toDomain() {
+    Category category = new Category(this.getId(), this.name);
+    category.markPersisted(this.getVersion());
+    return category;
+  }
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.Table;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.ReferenceEntities;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "genres")
+@Getter
+@Setter
+@NoArgsConstructor
+public class GenreJpaEntity extends AbstractJpaEntity {
+
+  @Column(nullable = false)
+  private String name;
+
+  @ManyToMany
+  @JoinTable(name = "genres_categories",
+    joinColumns = @JoinColumn(name = "genre_id", columnDefinition = "BINARY(16)"),
+    inverseJoinColumns = @JoinColumn(name = "category_id", columnDefinition = "BINARY(16)"))
+  private Set<CategoryJpaEntity> categories = new LinkedHashSet<CategoryJpaEntity>();
+
+  public Genre toDomain() {
+    List<Category> categories = new ArrayList<Category>(this.categories.size());
+    for (CategoryJpaEntity category : this.categories) {
+      categories.add(ReferenceEntities.categories().canonicalize(category.toDomain()));
+    }
+    Genre genre = new Genre(this.getId(), this.name, categories);
+    genre.markPersisted(this.getVersion());
+    return genre;
+  }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxMessage;
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.application.sync.ChangeAction;
+import com.fullcycle.FCCatalogo.domain.identity.IdGenerator;
+import com.fullcycle.FCCatalogo.domain.identity.TimeOrderedIdGenerator;
+
+import org.springframework.data.domain.Persistable;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Ids are time ordered, so the primary key is also the relay's claim order and inserts append to the index.
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxJpaEntity implements Persistable<UUID> {
+  private static final IdGenerator IDS = new TimeOrderedIdGenerator();
+
+  @Id
+  @Column(columnDefinition = "BINARY(16)")
+  private UUID id;
+
+  @Column(name = "entity_type", nullable = false, length = 32)
+  private String entityType;
+
+  @Column(name = "entity_id", nullable = false, columnDefinition = "BINARY(16)")
+  private UUID entityId;
+
+  @Column(nullable = false, length = 16)
+  private String action;
+
+  @Column(name = "entity_version", nullable = false)
+  private long entityVersion;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  public static OutboxJpaEntity of(CatalogEntityType entityType, ChangeAction action, UUID entityId, long entityVersion) {
+    OutboxJpaEntity entity = new OutboxJpaEntity();
+    entity.id = IDS.generate();
+    entity.entityType = entityType.getName();
+    entity.action = action.name();
+    entity.entityId = entityId;
+    entity.entityVersion = entityVersion;
+    entity.createdAt = Instant.now();
+    return entity;
+  }
+
+  public OutboxMessage toMessage() {
+    return new OutboxMessage(this.id, CatalogEntityType.of(this.entityType), ChangeAction.of(this.action), this.entityId, this.entityVersion);
+  }
+
+  @Override
+  @Transient
+  public boolean isNew() {
+    return true;
+  }
+}
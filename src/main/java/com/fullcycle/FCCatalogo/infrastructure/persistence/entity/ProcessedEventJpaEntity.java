@@ -0,0 +1,43 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Rows are only ever inserted, so the entity is always new and persist never selects first.
+@Entity
+@Table(name = "processed_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProcessedEventJpaEntity implements Persistable<UUID> {
+
+  @Id
+  @Column(columnDefinition = "BINARY(16)")
+  private UUID id;
+
+  @Column(name = "processed_at", nullable = false)
+  private Instant processedAt;
+
+  public ProcessedEventJpaEntity(UUID id, Instant processedAt) {
+    this.id = id;
+    this.processedAt = processedAt;
+  }
+
+  @Override
+  @Transient
+  public boolean isNew() {
+    return true;
+  }
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "video_files")
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoFileJpaEntity extends AbstractJpaEntity {
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(name = "duration", nullable = false)
+  private long durationHundredths;
+
+  private String url;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "video_id", nullable = false, columnDefinition = "BINARY(16)")
+  private VideoJpaEntity video;
+
+  public void copyFrom(VideoFile videoFile) {
+    this.title = videoFile.getTitle();
+    this.durationHundredths = videoFile.getDuration().toHundredths();
+    this.url = videoFile.getUrl();
+    this.setVersion(videoFile.getVersion());
+  }
+
+  public VideoFile toDomain() {
+    VideoFile videoFile = new VideoFile(this.getId(), this.title, Duration.ofHundredths(this.durationHundredths), this.url);
+    videoFile.markPersisted(this.getVersion());
+    return videoFile;
+  }
+}
@@ -0,0 +1,89 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.entity;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "videos", indexes = {
+  @Index(name = "idx_videos_year_launched_id", columnList = "year_launched, id"),
+  @Index(name = "idx_videos_title_id", columnList = "title, id"),
+  @Index(name = "idx_videos_duration_id", columnList = "duration, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoJpaEntity extends AbstractJpaEntity {
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(columnDefinition = "TEXT")
+  private String description;
+
+  @Column(name = "year_launched", nullable = false)
+  private Integer yearLaunched;
+
+  private Boolean opened;
+
+  private String rating;
+
+  @Column(name = "duration")
+  private Long durationHundredths;
+
+  @ManyToMany
+  @JoinTable(name = "videos_categories",
+    joinColumns = @JoinColumn(name = "video_id", columnDefinition = "BINARY(16)"),
+    inverseJoinColumns = @JoinColumn(name = "category_id", columnDefinition = "BINARY(16)"))
+  private Set<CategoryJpaEntity> categories = new LinkedHashSet<CategoryJpaEntity>();
+
+  @ManyToMany
+  @JoinTable(name = "videos_genres",
+    joinColumns = @JoinColumn(name = "video_id", columnDefinition = "BINARY(16)"),
+    inverseJoinColumns = @JoinColumn(name = "genre_id", columnDefinition = "BINARY(16)"))
+  private Set<GenreJpaEntity> genres = new LinkedHashSet<GenreJpaEntity>();
+
+  @ManyToMany
+  @JoinTable(name = "videos_cast_members",
+    joinColumns = @JoinColumn(name = "video_id", columnDefinition = "BINARY(16)"),
+    inverseJoinColumns = @JoinColumn(name = "cast_member_id", columnDefinition = "BINARY(16)"))
+  private Set<CastMemberJpaEntity> castMembers = new LinkedHashSet<CastMemberJpaEntity>();
+
+  @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+  private Set<VideoFileJpaEntity> videoFiles = new LinkedHashSet<VideoFileJpaEntity>();
+
+  public void copyFrom(Video video) {
+    this.title = video.getTitle();
+    this.description = video.getDescription();
+    this.yearLaunched = video.getYearLaunched();
+    this.opened = video.isOpened();
+    this.rating = video.getRating();
+    this.durationHundredths = video.getDuration() == null ? null : video.getDuration().toHundredths();
+  }
+
+  // Scalar state only; associations are attached by the caller so it controls how they are fetched,
+  // and the caller marks the version persisted again once they are.
+  public Video toDomain() {
+    Video video = new Video(this.getId(), this.title, this.description, this.yearLaunched, this.opened);
+    video.setRating(this.rating);
+    if(this.durationHundredths != null) video.setDuration(Duration.ofHundredths(this.durationHundredths));
+    video.markPersisted(this.getVersion());
+    return video;
+  }
+}
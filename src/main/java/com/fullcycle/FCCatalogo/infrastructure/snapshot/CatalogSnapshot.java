@@ -0,0 +1,292 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.CAST_MEMBERS;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.CATEGORIES;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.GENRES;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.VIDEOS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.ReferenceEntities;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+
+/**
+ * A snapshot file mapped read-only. Opening it checks the header, the format version, the age and
+ * the CRC32C of every section before anything is read, so a truncated, corrupt or stale file is
+ * rejected as a whole. Lookups binary search a section's id index in the mapping and decode only
+ * the record found; the page cache, not the heap, holds the rest.
+ */
+public final class CatalogSnapshot {
+  private final ByteBuffer buffer;
+  private final Instant createdAt;
+  private final int[] counts = new int[SnapshotFormat.SECTIONS];
+  private final int[] indexOffsets = new int[SnapshotFormat.SECTIONS];
+
+  private CatalogSnapshot(ByteBuffer buffer, Instant createdAt) {
+    this.buffer = buffer;
+    this.createdAt = createdAt;
+  }
+
+  public static CatalogSnapshot open(Path file, Duration maxAge, Clock clock) throws IOException {
+    if(file == null) throw new IllegalArgumentException("file is marked non-null but is null");
+    if(maxAge == null) throw new IllegalArgumentException("maxAge is marked non-null but is null");
+    if(clock == null) throw new IllegalArgumentException("clock is marked non-null but is null");
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if(size < SnapshotFormat.HEADER_SIZE) throw new CorruptSnapshotException("snapshot is truncated");
+      if(size > Integer.MAX_VALUE) throw new CorruptSnapshotException("snapshot is larger than 2 GB");
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.duplicate().limit(SnapshotFormat.HEADER_SIZE - 4));
+    if(buffer.getInt(0) != SnapshotFormat.MAGIC) throw new CorruptSnapshotException("not a catalog snapshot");
+    if(buffer.getInt(SnapshotFormat.HEADER_SIZE - 4) != (int) crc.getValue()) throw new CorruptSnapshotException("snapshot header checksum mismatch");
+    if(buffer.getInt(4) != SnapshotFormat.VERSION) throw new CorruptSnapshotException("unsupported snapshot format version " + buffer.getInt(4));
+    Instant createdAt = Instant.ofEpochMilli(buffer.getLong(8));
+    if(createdAt.plus(maxAge).isBefore(clock.instant())) throw new CorruptSnapshotException("snapshot from " + createdAt + " is older than " + maxAge);
+    if(buffer.getInt(16) != SnapshotFormat.SECTIONS) throw new CorruptSnapshotException("unexpected section count");
+
+    CatalogSnapshot snapshot = new CatalogSnapshot(buffer, createdAt);
+    for (int i = 0; i < SnapshotFormat.SECTIONS; i++) {
+      int entry = 20 + i * SnapshotFormat.SECTION_ENTRY_SIZE;
+      int kind = buffer.getInt(entry);
+      int count = buffer.getInt(entry + 4);
+      long recordsOffset = buffer.getLong(entry + 8);
+      long indexOffset = buffer.getLong(entry + 16);
+      long end = buffer.getLong(entry + 24);
+      if(kind < 1 || kind > SnapshotFormat.SECTIONS || snapshot.counts[kind - 1] != 0 || count < 0
+        || recordsOffset < SnapshotFormat.HEADER_SIZE || indexOffset < recordsOffset || end > buffer.capacity()
+        || end - indexOffset != (long) count * SnapshotFormat.INDEX_ENTRY_SIZE) {
+        throw new CorruptSnapshotException("snapshot section table is inconsistent");
+      }
+      crc.reset();
+      crc.update(buffer.duplicate().position((int) recordsOffset).limit((int) end));
+      if(buffer.getInt(entry + 32) != (int) crc.getValue()) throw new CorruptSnapshotException("snapshot section " + kind + " checksum mismatch");
+      snapshot.counts[kind - 1] = count;
+      snapshot.indexOffsets[kind - 1] = (int) indexOffset;
+    }
+    return snapshot;
+  }
+
+  public Instant getCreatedAt() {
+    return this.createdAt;
+  }
+
+  public int getVideoCount() {
+    return this.counts[VIDEOS - 1];
+  }
+
+  public Optional<Category> findCategory(UUID id) {
+    int offset = this.find(CATEGORIES, id);
+    return offset < 0 ? Optional.empty() : Optional.of(this.category(offset));
+  }
+
+  public Optional<CastMember> findCastMember(UUID id) {
+    int offset = this.find(CAST_MEMBERS, id);
+    return offset < 0 ? Optional.empty() : Optional.of(this.castMember(offset));
+  }
+
+  public Optional<Genre> findGenre(UUID id) {
+    int offset = this.find(GENRES, id);
+    return offset < 0 ? Optional.empty() : Optional.of(this.genre(offset));
+  }
+
+  public Optional<Video> findVideo(UUID id) {
+    int offset = this.find(VIDEOS, id);
+    return offset < 0 ? Optional.empty() : Optional.of(this.video(offset));
+  }
+
+  int count(int kind) {
+    return this.counts[kind - 1];
+  }
+
+  // Index entries are in unsigned id order.
+  UUID id(int kind, int position) {
+    int entry = this.indexOffsets[kind - 1] + position * SnapshotFormat.INDEX_ENTRY_SIZE;
+    return new UUID(this.buffer.getLong(entry), this.buffer.getLong(entry + 8));
+  }
+
+  long version(int kind, int position) {
+    return this.buffer.getLong(this.recordOffset(kind, position) + 16);
+  }
+
+  // The ids a genre or video record refers to, read without decoding the record.
+  List<UUID> references(int kind, int position) {
+    if(kind != GENRES && kind != VIDEOS) return List.of();
+    Record record = new Record(this.buffer, this.recordOffset(kind, position));
+    record.string();
+    if(kind == GENRES) return record.ids();
+    record.string();
+    record.in.position(record.in.position() + 4 + 1);
+    record.string();
+    record.in.getLong();
+    List<UUID> references = record.ids();
+    references.addAll(record.ids());
+    references.addAll(record.ids());
+    return references;
+  }
+
+  Object decode(int kind, int position) {
+    int offset = this.recordOffset(kind, position);
+    switch (kind) {
+      case CATEGORIES:
+        return this.category(offset);
+      case CAST_MEMBERS:
+        return this.castMember(offset);
+      case GENRES:
+        return this.genre(offset);
+      default:
+        return this.video(offset);
+    }
+  }
+
+  private int recordOffset(int kind, int position) {
+    return this.buffer.getInt(this.indexOffsets[kind - 1] + position * SnapshotFormat.INDEX_ENTRY_SIZE + 16);
+  }
+
+  private int find(int kind, UUID id) {
+    if(id == null) throw new IllegalArgumentException("ID is marked non-null but is null");
+    long mostSigBits = id.getMostSignificantBits();
+    long leastSigBits = id.getLeastSignificantBits();
+    int indexOffset = this.indexOffsets[kind - 1];
+    int low = 0;
+    int high = this.counts[kind - 1] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int entry = indexOffset + middle * SnapshotFormat.INDEX_ENTRY_SIZE;
+      int compared = SnapshotFormat.compareIds(this.buffer.getLong(entry), this.buffer.getLong(entry + 8), mostSigBits, leastSigBits);
+      if(compared == 0) return this.buffer.getInt(entry + 16);
+      if(compared < 0) low = middle + 1;
+      else high = middle - 1;
+    }
+    return -1;
+  }
+
+  private Category category(int offset) {
+    Record record = new Record(this.buffer, offset);
+    Category category = new Category(record.id, record.string());
+    category.markPersisted(record.version);
+    return category;
+  }
+
+  private CastMember castMember(int offset) {
+    Record record = new Record(this.buffer, offset);
+    CastMember castMember = new CastMember();
+    castMember.setId(record.id);
+    int type = record.in.getInt();
+    castMember.setName(record.string());
+    if(type != 0) castMember.setType(CastMemberType.of(type));
+    castMember.markPersisted(record.version);
+    return castMember;
+  }
+
+  private Genre genre(int offset) {
+    Record record = new Record(this.buffer, offset);
+    String name = record.string();
+    List<Category> categories = new ArrayList<Category>();
+    for (UUID id : record.ids()) {
+      categories.add(ReferenceEntities.categories().canonicalize(this.reference(CATEGORIES, id, this::category)));
+    }
+    Genre genre = new Genre(record.id, name, categories);
+    genre.markPersisted(record.version);
+    return genre;
+  }
+
+  private Video video(int offset) {
+    Record record = new Record(this.buffer, offset);
+    String title = record.string();
+    String description = record.string();
+    int yearLaunched = record.in.getInt();
+    byte opened = record.in.get();
+    Video video = new Video(record.id, title, description, yearLaunched, opened == SnapshotFormat.OPENED_UNSET ? null : opened == SnapshotFormat.OPENED_TRUE);
+    String rating = record.string();
+    if(rating != null) video.setRating(rating);
+    long duration = record.in.getLong();
+    if(duration != SnapshotFormat.NO_DURATION) video.setDuration(com.fullcycle.FCCatalogo.domain.valueobject.Duration.ofHundredths(duration));
+    List<Category> categories = new ArrayList<Category>();
+    for (UUID id : record.ids()) {
+      categories.add(this.reference(CATEGORIES, id, this::category));
+    }
+    List<Genre> genres = new ArrayList<Genre>();
+    for (UUID id : record.ids()) {
+      genres.add(this.reference(GENRES, id, this::genre));
+    }
+    List<CastMember> castMembers = new ArrayList<CastMember>();
+    for (UUID id : record.ids()) {
+      castMembers.add(this.reference(CAST_MEMBERS, id, this::castMember));
+    }
+    video.setCategories(ReferenceEntities.canonicalize(categories, ReferenceEntities.categories()));
+    video.setGenres(ReferenceEntities.canonicalize(genres, ReferenceEntities.genres()));
+    video.setCastMembers(ReferenceEntities.canonicalize(castMembers, ReferenceEntities.castMembers()));
+    int files = record.in.getInt();
+    List<VideoFile> videoFiles = new ArrayList<VideoFile>(files);
+    for (int i = 0; i < files; i++) {
+      UUID id = new UUID(record.in.getLong(), record.in.getLong());
+      long version = record.in.getLong();
+      VideoFile videoFile = new VideoFile(id, record.string(), com.fullcycle.FCCatalogo.domain.valueobject.Duration.ofHundredths(record.in.getLong()), record.string());
+      videoFile.markPersisted(version);
+      videoFiles.add(videoFile);
+    }
+    video.setVideoFiles(videoFiles);
+    video.markPersisted(record.version);
+    return video;
+  }
+
+  private <T> T reference(int kind, UUID id, IntFunction<T> decoder) {
+    int offset = this.find(kind, id);
+    if(offset < 0) throw new IllegalStateException("snapshot references missing entity " + id);
+    return decoder.apply(offset);
+  }
+
+  // A private read position over the shared mapping, so concurrent lookups do not interfere.
+  private static final class Record {
+    private final ByteBuffer in;
+    private final UUID id;
+    private final long version;
+
+    private Record(ByteBuffer buffer, int offset) {
+      this.in = buffer.duplicate();
+      this.in.position(offset);
+      this.id = new UUID(this.in.getLong(), this.in.getLong());
+      this.version = this.in.getLong();
+    }
+
+    private String string() {
+      int length = this.in.getInt();
+      if(length < 0) return null;
+      byte[] bytes = new byte[length];
+      this.in.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<UUID> ids() {
+      int count = this.in.getInt();
+      List<UUID> ids = new ArrayList<UUID>(count);
+      for (int i = 0; i < count; i++) {
+        ids.add(new UUID(this.in.getLong(), this.in.getLong()));
+      }
+      return ids;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.CAST_MEMBERS;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.CATEGORIES;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.GENRES;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.VIDEOS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CatalogCache;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.AbstractRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.CastMemberRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.CategoryRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.GenreRepositoryAdapter;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+/**
+ * Seeds the CatalogCache from a snapshot while the application already serves reads. Each chunk of
+ * ids is checked against the versions in the database, one query per chunk, and only entries whose
+ * version still matches are decoded and cached; a changed or deleted entity is left to load from
+ * the database, and so is everything that embeds it. References come before the genres and videos
+ * that embed them, so a stale reference is known by the time its dependents are checked.
+ */
+public class CatalogSnapshotLoader {
+  private final CatalogCache cache;
+  private final CategoryRepositoryAdapter categories;
+  private final CastMemberRepositoryAdapter castMembers;
+  private final GenreRepositoryAdapter genres;
+  private final VideoRepositoryAdapter videos;
+  private final int batchSize;
+
+  public CatalogSnapshotLoader(CatalogCache cache, CategoryRepositoryAdapter categories, CastMemberRepositoryAdapter castMembers,
+    GenreRepositoryAdapter genres, VideoRepositoryAdapter videos, int batchSize) {
+    if(cache == null) throw new IllegalArgumentException("cache is marked non-null but is null");
+    if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be greater than zero");
+    this.cache = cache;
+    this.categories = categories;
+    this.castMembers = castMembers;
+    this.genres = genres;
+    this.videos = videos;
+    this.batchSize = batchSize;
+  }
+
+  public SnapshotLoadReport load(CatalogSnapshot snapshot) {
+    if(snapshot == null) throw new IllegalArgumentException("snapshot is marked non-null but is null");
+    Set<UUID> stale = new HashSet<UUID>();
+    int seeded = this.<Category>warm(snapshot, CATEGORIES, this.categories, stale, this.cache::seedCategories);
+    seeded += this.<CastMember>warm(snapshot, CAST_MEMBERS, this.castMembers, stale, this.cache::seedCastMembers);
+    seeded += this.<Genre>warm(snapshot, GENRES, this.genres, stale, this.cache::seedGenres);
+    seeded += this.<Video>warm(snapshot, VIDEOS, this.videos, stale, this.cache::seedVideos);
+    return new SnapshotLoadReport(seeded, stale.size());
+  }
+
+  /*
+   * References are checked before decoding, so a stale entity never gets into the shared reference
+   * registries. The cache generation is taken before the versions are read: a write committed after
+   * that read invalidates after it too, and the cache then drops the chunk.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> int warm(CatalogSnapshot snapshot, int kind, AbstractRepositoryAdapter<?, ?> adapter, Set<UUID> stale, BiConsumer<Map<UUID, T>, Long> seed) {
+    int seeded = 0;
+    int count = snapshot.count(kind);
+    for (int from = 0; from < count; from += this.batchSize) {
+      int to = Math.min(from + this.batchSize, count);
+      List<UUID> ids = new ArrayList<UUID>(to - from);
+      for (int position = from; position < to; position++) {
+        ids.add(snapshot.id(kind, position));
+      }
+      long generation = this.cache.generation();
+      Map<UUID, Long> versions = adapter.findVersions(ids);
+      Map<UUID, T> fresh = new HashMap<UUID, T>();
+      for (int position = from; position < to; position++) {
+        UUID id = ids.get(position - from);
+        Long version = versions.get(id);
+        if(version == null || version != snapshot.version(kind, position) || !Collections.disjoint(snapshot.references(kind, position), stale)) {
+          stale.add(id);
+          continue;
+        }
+        fresh.put(id, (T) snapshot.decode(kind, position));
+      }
+      if(!fresh.isEmpty()) seed.accept(fresh, generation);
+      seeded += fresh.size();
+    }
+    return seeded;
+  }
+}
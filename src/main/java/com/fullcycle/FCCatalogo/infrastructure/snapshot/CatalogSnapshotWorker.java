@@ -0,0 +1,104 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One background thread that warms the cache from the snapshot at startup and then rewrites the
+ * snapshot every write interval. Startup does not wait for it: until an entry is seeded, reads load
+ * it from the database as usual. A missing or rejected snapshot is replaced right away instead of
+ * after the first interval.
+ */
+public class CatalogSnapshotWorker {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CatalogSnapshotWorker.class);
+
+  private final CatalogSnapshotLoader loader;
+  private final CatalogSnapshotWriter writer;
+  private final Path path;
+  private final Duration maxAge;
+  private final Duration writeInterval;
+  private final Clock clock;
+  private Thread worker;
+  private volatile boolean running;
+
+  public CatalogSnapshotWorker(CatalogSnapshotLoader loader, CatalogSnapshotWriter writer, Path path, Duration maxAge, Duration writeInterval, Clock clock) {
+    if(loader == null) throw new IllegalArgumentException("loader is marked non-null but is null");
+    if(writer == null) throw new IllegalArgumentException("writer is marked non-null but is null");
+    if(path == null) throw new IllegalArgumentException("path is marked non-null but is null");
+    if(maxAge == null || maxAge.isNegative() || maxAge.isZero()) throw new IllegalArgumentException("maxAge must be positive");
+    if(writeInterval == null || writeInterval.isNegative()) throw new IllegalArgumentException("writeInterval must not be negative");
+    if(clock == null) throw new IllegalArgumentException("clock is marked non-null but is null");
+    this.loader = loader;
+    this.writer = writer;
+    this.path = path;
+    this.maxAge = maxAge;
+    this.writeInterval = writeInterval;
+    this.clock = clock;
+  }
+
+  public synchronized void start() {
+    if(this.running) return;
+    this.running = true;
+    this.worker = new Thread(this::run, "catalog-snapshot");
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  public synchronized void stop() throws InterruptedException {
+    this.running = false;
+    if(this.worker == null) return;
+    this.worker.interrupt();
+    this.worker.join();
+  }
+
+  private void run() {
+    boolean loaded = this.load();
+    if(this.writeInterval.isZero()) return;
+    try {
+      if(!loaded) this.write();
+      while (this.running) {
+        Thread.sleep(this.writeInterval.toMillis());
+        this.write();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean load() {
+    try {
+      long started = System.nanoTime();
+      CatalogSnapshot snapshot = CatalogSnapshot.open(this.path, this.maxAge, this.clock);
+      SnapshotLoadReport report = this.loader.load(snapshot);
+      LOGGER.info("Warmed the catalog cache from the snapshot of {}: {} entities seeded, {} stale, in {} ms",
+        snapshot.getCreatedAt(), report.getSeeded(), report.getStale(), (System.nanoTime() - started) / 1000000);
+      return true;
+    } catch (NoSuchFileException e) {
+      LOGGER.info("No catalog snapshot at {}, starting cold", this.path);
+    } catch (CorruptSnapshotException e) {
+      LOGGER.warn("Rejected catalog snapshot {}: {}", this.path, e.getMessage());
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Loading catalog snapshot {} failed", this.path, e);
+    }
+    return false;
+  }
+
+  private void write() {
+    if(!this.running) return;
+    try {
+      long started = System.nanoTime();
+      long videos = this.writer.write(this.path);
+      LOGGER.info("Wrote catalog snapshot {} with {} videos ({} bytes) in {} ms",
+        this.path, videos, Files.size(this.path), (System.nanoTime() - started) / 1000000);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Writing catalog snapshot {} failed", this.path, e);
+    }
+  }
+}
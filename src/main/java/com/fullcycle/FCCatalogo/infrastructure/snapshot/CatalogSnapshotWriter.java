@@ -0,0 +1,261 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.CAST_MEMBERS;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.CATEGORIES;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.GENRES;
+import static com.fullcycle.FCCatalogo.infrastructure.snapshot.SnapshotFormat.VIDEOS;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+/**
+ * Writes the catalog in SnapshotFormat from one VideoRepository.forEach walk, so every record
+ * comes from the same read-only transaction. Categories, genres and cast members are the ones the
+ * videos reference; anything else is read through on first use like any cache miss. The file is
+ * written next to the target and renamed over it, so readers only ever map a complete snapshot.
+ */
+public class CatalogSnapshotWriter {
+  private final VideoRepository videoRepository;
+  private final Clock clock;
+
+  public CatalogSnapshotWriter(VideoRepository videoRepository, Clock clock) {
+    if(videoRepository == null) throw new IllegalArgumentException("videoRepository is marked non-null but is null");
+    if(clock == null) throw new IllegalArgumentException("clock is marked non-null but is null");
+    this.videoRepository = videoRepository;
+    this.clock = clock;
+  }
+
+  // Returns the number of videos written.
+  public long write(Path target) throws IOException {
+    if(target == null) throw new IllegalArgumentException("target is marked non-null but is null");
+    Path directory = target.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path partial = Files.createTempFile(directory, target.getFileName().toString(), ".partial");
+    try {
+      long createdAt = this.clock.millis();
+      Section[] sections = new Section[SnapshotFormat.SECTIONS];
+      CRC32C crc = new CRC32C();
+      try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16), crc))) {
+        out.write(new byte[SnapshotFormat.HEADER_SIZE]);
+        Map<UUID, Category> categories = new LinkedHashMap<UUID, Category>();
+        Map<UUID, Genre> genres = new LinkedHashMap<UUID, Genre>();
+        Map<UUID, CastMember> castMembers = new LinkedHashMap<UUID, CastMember>();
+
+        SectionWriter videos = new SectionWriter(VIDEOS, out, crc);
+        this.videoRepository.forEach(VideoFetchPlan.FULL_GRAPH, video -> {
+          try {
+            videos.begin(video);
+            writeVideo(out, video);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          collect(video.getCategories(), categories);
+          collect(video.getGenres(), genres);
+          collect(video.getCastMembers(), castMembers);
+          for (Genre genre : video.getGenres()) {
+            collect(genre.getCategories(), categories);
+          }
+        });
+        sections[VIDEOS - 1] = videos.finish();
+
+        SectionWriter section = new SectionWriter(CATEGORIES, out, crc);
+        for (Category category : categories.values()) {
+          section.begin(category);
+          writeString(out, category.getName());
+        }
+        sections[CATEGORIES - 1] = section.finish();
+
+        section = new SectionWriter(CAST_MEMBERS, out, crc);
+        for (CastMember castMember : castMembers.values()) {
+          section.begin(castMember);
+          out.writeInt(castMember.getType() == null ? 0 : castMember.getType().getType());
+          writeString(out, castMember.getName());
+        }
+        sections[CAST_MEMBERS - 1] = section.finish();
+
+        section = new SectionWriter(GENRES, out, crc);
+        for (Genre genre : genres.values()) {
+          section.begin(genre);
+          writeString(out, genre.getName());
+          writeIds(out, genre.getCategories());
+        }
+        sections[GENRES - 1] = section.finish();
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writeHeader(partial, createdAt, sections);
+      Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return sections[VIDEOS - 1].count;
+    } finally {
+      Files.deleteIfExists(partial);
+    }
+  }
+
+  private static void writeVideo(DataOutputStream out, Video video) throws IOException {
+    writeString(out, video.getTitle());
+    writeString(out, video.getDescription());
+    out.writeInt(video.getYearLaunched());
+    out.writeByte(video.getOpened() == null ? SnapshotFormat.OPENED_UNSET : video.getOpened() ? SnapshotFormat.OPENED_TRUE : SnapshotFormat.OPENED_FALSE);
+    writeString(out, video.getRating());
+    out.writeLong(video.getDuration() == null ? SnapshotFormat.NO_DURATION : video.getDuration().toHundredths());
+    writeIds(out, video.getCategories());
+    writeIds(out, video.getGenres());
+    writeIds(out, video.getCastMembers());
+    out.writeInt(video.getVideoFiles().size());
+    for (VideoFile videoFile : video.getVideoFiles()) {
+      writeId(out, videoFile);
+      writeString(out, videoFile.getTitle());
+      out.writeLong(videoFile.getDuration().toHundredths());
+      writeString(out, videoFile.getUrl());
+    }
+  }
+
+  private static <T extends BaseEntity> void collect(Collection<T> entities, Map<UUID, T> collected) {
+    for (T entity : entities) {
+      collected.putIfAbsent(entity.getId(), entity);
+    }
+  }
+
+  private static void writeIds(DataOutputStream out, Collection<? extends BaseEntity> entities) throws IOException {
+    out.writeInt(entities.size());
+    for (BaseEntity entity : entities) {
+      out.writeLong(entity.getId().getMostSignificantBits());
+      out.writeLong(entity.getId().getLeastSignificantBits());
+    }
+  }
+
+  // Id and version, the part of every record the loader reads without decoding the rest.
+  private static void writeId(DataOutputStream out, BaseEntity entity) throws IOException {
+    out.writeLong(entity.getId().getMostSignificantBits());
+    out.writeLong(entity.getId().getLeastSignificantBits());
+    out.writeLong(entity.getPersistedVersion());
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if(value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeHeader(Path file, long createdAt, Section[] sections) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_SIZE);
+    header.putInt(SnapshotFormat.MAGIC);
+    header.putInt(SnapshotFormat.VERSION);
+    header.putLong(createdAt);
+    header.putInt(sections.length);
+    for (Section section : sections) {
+      header.putInt(section.kind);
+      header.putInt(section.count);
+      header.putLong(section.recordsOffset);
+      header.putLong(section.indexOffset);
+      header.putLong(section.end);
+      header.putInt(section.crc);
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(header.array(), 0, header.position());
+    header.putInt((int) crc.getValue());
+    header.flip();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      while (header.hasRemaining()) {
+        channel.write(header, header.position());
+      }
+      channel.force(true);
+    }
+  }
+
+  private static final class SectionWriter {
+    private final int kind;
+    private final DataOutputStream out;
+    private final CRC32C crc;
+    private final long recordsOffset;
+    private final List<IndexEntry> index = new ArrayList<IndexEntry>();
+
+    private SectionWriter(int kind, DataOutputStream out, CRC32C crc) {
+      this.kind = kind;
+      this.out = out;
+      this.crc = crc;
+      this.recordsOffset = out.size();
+      crc.reset();
+    }
+
+    private void begin(BaseEntity entity) throws IOException {
+      int offset = this.out.size();
+      if(offset == Integer.MAX_VALUE) throw new IOException("catalog snapshot would exceed 2 GB");
+      this.index.add(new IndexEntry(entity.getId().getMostSignificantBits(), entity.getId().getLeastSignificantBits(), offset));
+      writeId(this.out, entity);
+    }
+
+    private Section finish() throws IOException {
+      long indexOffset = this.out.size();
+      this.index.sort((a, b) -> SnapshotFormat.compareIds(a.mostSigBits, a.leastSigBits, b.mostSigBits, b.leastSigBits));
+      for (IndexEntry entry : this.index) {
+        this.out.writeLong(entry.mostSigBits);
+        this.out.writeLong(entry.leastSigBits);
+        this.out.writeInt(entry.offset);
+      }
+      if(this.out.size() == Integer.MAX_VALUE) throw new IOException("catalog snapshot would exceed 2 GB");
+      return new Section(this.kind, this.index.size(), this.recordsOffset, indexOffset, this.out.size(), (int) this.crc.getValue());
+    }
+  }
+
+  private static final class IndexEntry {
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final int offset;
+
+    private IndexEntry(long mostSigBits, long leastSigBits, int offset) {
+      this.mostSigBits = mostSigBits;
+      this.leastSigBits = leastSigBits;
+      this.offset = offset;
+    }
+  }
+
+  private static final class Section {
+    private final int kind;
+    private final int count;
+    private final long recordsOffset;
+    private final long indexOffset;
+    private final long end;
+    private final int crc;
+
+    private Section(int kind, int count, long recordsOffset, long indexOffset, long end, int crc) {
+      this.kind = kind;
+      this.count = count;
+      this.recordsOffset = recordsOffset;
+      this.indexOffset = indexOffset;
+      this.end = end;
+      this.crc = crc;
+    }
+  }
+}
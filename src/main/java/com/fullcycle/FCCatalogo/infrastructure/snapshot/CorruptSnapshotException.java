@@ -0,0 +1,12 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+import java.io.IOException;
+
+// The file is not a usable snapshot: truncated, checksum mismatch, unknown format version or too old.
+public class CorruptSnapshotException extends IOException {
+  private static final long serialVersionUID = 1L;
+
+  public CorruptSnapshotException(String message) {
+    super(message);
+  }
+}
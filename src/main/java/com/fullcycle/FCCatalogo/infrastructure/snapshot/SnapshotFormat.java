@@ -0,0 +1,39 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+/**
+ * Layout of a catalog snapshot file, all big-endian:
+ *
+ *   header   magic, format version, created-at millis, section count, then per section its kind,
+ *            record count, records offset, index offset, end offset and the CRC32C of records and
+ *            index; closed by the CRC32C of the header itself
+ *   section  records, then an index of (id most, id least, record offset) sorted by unsigned id
+ *
+ * Strings are an int byte length (-1 for null) and UTF-8 bytes. Offsets are absolute, and the
+ * whole file is mapped at once, so a snapshot is limited to 2 GB.
+ */
+final class SnapshotFormat {
+  static final int MAGIC = 0x46434353;
+  static final int VERSION = 1;
+  static final int SECTIONS = 4;
+  static final int SECTION_ENTRY_SIZE = 36;
+  static final int HEADER_SIZE = 20 + SECTIONS * SECTION_ENTRY_SIZE + 4;
+  static final int INDEX_ENTRY_SIZE = 20;
+
+  static final int CATEGORIES = 1;
+  static final int CAST_MEMBERS = 2;
+  static final int GENRES = 3;
+  static final int VIDEOS = 4;
+
+  static final long NO_DURATION = -1;
+  static final byte OPENED_UNSET = 0;
+  static final byte OPENED_FALSE = 1;
+  static final byte OPENED_TRUE = 2;
+
+  private SnapshotFormat() {
+  }
+
+  static int compareIds(long mostSigBits, long leastSigBits, long otherMostSigBits, long otherLeastSigBits) {
+    int compared = Long.compareUnsigned(mostSigBits, otherMostSigBits);
+    return compared != 0 ? compared : Long.compareUnsigned(leastSigBits, otherLeastSigBits);
+  }
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+public class SnapshotLoadReport {
+  private final int seeded;
+  private final int stale;
+
+  public SnapshotLoadReport(int seeded, int stale) {
+    this.seeded = seeded;
+    this.stale = stale;
+  }
+
+  // Entities put in the cache from the snapshot.
+  public int getSeeded() {
+    return this.seeded;
+  }
+
+  // Entities changed or deleted since the snapshot, or referring to one that was; left to load from the database.
+  public int getStale() {
+    return this.stale;
+  }
+}
@@ -0,0 +1,114 @@
+package com.fullcycle.FCCatalogo.infrastructure.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.upload.MediaStorage;
+
+/**
+ * Media on the local filesystem. Parts are FileChannels under root/.uploads, written in place at
+ * their position; publishing renames the part into root/key, so the bytes are never copied.
+ */
+public class LocalMediaStorage implements MediaStorage {
+  private final Path root;
+  private final Path uploads;
+  private final String baseUrl;
+
+  public LocalMediaStorage(Path root, String baseUrl) throws IOException {
+    if(root == null) throw new IllegalArgumentException("root is marked non-null but is null");
+    if(baseUrl == null) throw new IllegalArgumentException("baseUrl is marked non-null but is null");
+    this.root = root.toAbsolutePath().normalize();
+    this.uploads = this.root.resolve(".uploads");
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    Files.createDirectories(this.uploads);
+  }
+
+  public Path getRoot() {
+    return this.root;
+  }
+
+  @Override
+  public SeekableByteChannel openPart(String uploadId) throws IOException {
+    return FileChannel.open(this.part(uploadId), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  @Override
+  public long partLength(String uploadId) throws IOException {
+    try {
+      return Files.size(this.part(uploadId));
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+  }
+
+  @Override
+  public void deletePart(String uploadId) throws IOException {
+    Files.deleteIfExists(this.part(uploadId));
+  }
+
+  @Override
+  public List<String> partIds() throws IOException {
+    List<String> ids = new ArrayList<String>();
+    try (DirectoryStream<Path> parts = Files.newDirectoryStream(this.uploads, "*.part")) {
+      for (Path part : parts) {
+        String name = part.getFileName().toString();
+        ids.add(name.substring(0, name.length() - ".part".length()));
+      }
+    }
+    return ids;
+  }
+
+  @Override
+  public void publish(String uploadId, String key) throws IOException {
+    Path target = this.resolve(key);
+    Files.createDirectories(target.getParent());
+    try (FileChannel part = FileChannel.open(this.part(uploadId), StandardOpenOption.WRITE)) {
+      part.force(true);
+    }
+    Files.move(this.part(uploadId), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Override
+  public String url(String key) {
+    return this.baseUrl + key;
+  }
+
+  // Null unless url is one of this storage's, naming a file under root.
+  public Path resolveUrl(String url) {
+    if(url == null || !url.startsWith(this.baseUrl)) return null;
+    try {
+      return this.resolve(url.substring(this.baseUrl.length()));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private Path resolve(String key) {
+    Path path = this.root.resolve(key).normalize();
+    if(!path.startsWith(this.root) || path.startsWith(this.uploads) || path.equals(this.root)) throw new IllegalArgumentException("key must name a file under the media root");
+    return path;
+  }
+
+  private Path part(String uploadId) {
+    return this.uploads.resolve(checkId(uploadId) + ".part");
+  }
+
+  static String checkId(String uploadId) {
+    if(uploadId == null) throw new IllegalArgumentException("uploadId is marked non-null but is null");
+    if(uploadId.isEmpty()) throw new IllegalArgumentException("uploadId is not a valid upload id");
+    for (int i = 0; i < uploadId.length(); i++) {
+      char c = uploadId.charAt(i);
+      if(!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '-')) throw new IllegalArgumentException("uploadId is not a valid upload id");
+    }
+    return uploadId;
+  }
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.FCCatalogo.infrastructure.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.upload.UploadSession;
+import com.fullcycle.FCCatalogo.application.upload.UploadSessionStore;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+// One properties file per session next to its part, replaced atomically on every save.
+public class LocalUploadSessionStore implements UploadSessionStore {
+  private final Path directory;
+
+  public LocalUploadSessionStore(Path directory) throws IOException {
+    if(directory == null) throw new IllegalArgumentException("directory is marked non-null but is null");
+    this.directory = directory;
+    Files.createDirectories(directory);
+  }
+
+  @Override
+  public void save(UploadSession session) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty("videoId", session.getVideoId().toString());
+    properties.setProperty("videoFileId", session.getVideoFileId().toString());
+    properties.setProperty("title", session.getTitle());
+    properties.setProperty("size", Long.toString(session.getSize()));
+    if(session.getSha256() != null) properties.setProperty("sha256", session.getSha256());
+    if(session.getDuration() != null) properties.setProperty("duration", Long.toString(session.getDuration().toHundredths()));
+    properties.setProperty("extension", session.getExtension());
+    properties.setProperty("createdAt", Long.toString(session.getCreatedAt()));
+    if(session.getPublished() != null) properties.setProperty("published", Long.toString(session.getPublished().toHundredths()));
+    if(session.getUrl() != null) properties.setProperty("url", session.getUrl());
+    Path file = this.file(session.getId());
+    Path partial = Files.createTempFile(this.directory, session.getId(), ".partial");
+    try {
+      try (OutputStream out = Files.newOutputStream(partial)) {
+        properties.store(out, null);
+      }
+      Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(partial);
+    }
+  }
+
+  @Override
+  public Optional<UploadSession> find(String id) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(this.file(id))) {
+      properties.load(in);
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    }
+    String duration = properties.getProperty("duration");
+    String published = properties.getProperty("published");
+    return Optional.of(new UploadSession(id,
+      UUID.fromString(properties.getProperty("videoId")),
+      UUID.fromString(properties.getProperty("videoFileId")),
+      properties.getProperty("title"),
+      Long.parseLong(properties.getProperty("size")),
+      properties.getProperty("sha256"),
+      duration == null ? null : Duration.ofHundredths(Long.parseLong(duration)),
+      properties.getProperty("extension"),
+      Long.parseLong(properties.getProperty("createdAt")),
+      published == null ? null : Duration.ofHundredths(Long.parseLong(published)),
+      properties.getProperty("url")));
+  }
+
+  @Override
+  public void delete(String id) throws IOException {
+    Files.deleteIfExists(this.file(id));
+  }
+
+  @Override
+  public List<UploadSession> findAll() throws IOException {
+    List<UploadSession> sessions = new ArrayList<UploadSession>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*.upload")) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        this.find(name.substring(0, name.length() - ".upload".length())).ifPresent(sessions::add);
+      }
+    }
+    return sessions;
+  }
+
+  private Path file(String id) {
+    return this.directory.resolve(LocalMediaStorage.checkId(id) + ".upload");
+  }
+}
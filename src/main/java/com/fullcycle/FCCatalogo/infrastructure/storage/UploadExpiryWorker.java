@@ -0,0 +1,67 @@
+package com.fullcycle.FCCatalogo.infrastructure.storage;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import com.fullcycle.FCCatalogo.application.upload.VideoFileUploader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One background thread that drops uploads older than the expiry, once at startup and then every
+ * interval, so abandoned sessions, parts and running digests do not pile up.
+ */
+public class UploadExpiryWorker {
+  private static final Logger LOGGER = LoggerFactory.getLogger(UploadExpiryWorker.class);
+
+  private final VideoFileUploader uploader;
+  private final Duration expireAfter;
+  private final Duration interval;
+  private Thread worker;
+  private volatile boolean running;
+
+  public UploadExpiryWorker(VideoFileUploader uploader, Duration expireAfter, Duration interval) {
+    if(uploader == null) throw new IllegalArgumentException("uploader is marked non-null but is null");
+    if(expireAfter == null || expireAfter.isNegative() || expireAfter.isZero()) throw new IllegalArgumentException("expireAfter must be positive");
+    if(interval == null || interval.isNegative() || interval.isZero()) throw new IllegalArgumentException("interval must be positive");
+    this.uploader = uploader;
+    this.expireAfter = expireAfter;
+    this.interval = interval;
+  }
+
+  public synchronized void start() {
+    if(this.running) return;
+    this.running = true;
+    this.worker = new Thread(this::run, "upload-expiry");
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  public synchronized void stop() throws InterruptedException {
+    this.running = false;
+    if(this.worker == null) return;
+    this.worker.interrupt();
+    this.worker.join();
+  }
+
+  private void run() {
+    try {
+      while (this.running) {
+        this.expire();
+        Thread.sleep(this.interval.toMillis());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void expire() {
+    try {
+      int expired = this.uploader.expire(this.expireAfter);
+      if(expired > 0) LOGGER.info("Dropped {} uploads started more than {} ago", expired, this.expireAfter);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Expiring uploads failed", e);
+    }
+  }
+}
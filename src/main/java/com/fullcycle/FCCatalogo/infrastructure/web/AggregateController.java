@@ -0,0 +1,73 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.fullcycle.FCCatalogo.application.aggregate.AggregateFacet;
+import com.fullcycle.FCCatalogo.application.aggregate.CatalogAggregates;
+import com.fullcycle.FCCatalogo.application.aggregate.Totals;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reads never touch the database. verify and rebuild scan the adapter, not the cache, so they
+ * count what is stored.
+ */
+@RestController
+public class AggregateController {
+  private static final Comparator<AggregateResponse> BY_COUNT = Comparator.comparingLong(AggregateResponse::getCount).reversed()
+    .thenComparing(response -> response.getValue().toString());
+
+  private final CatalogAggregates aggregates;
+  private final VideoRepositoryAdapter videos;
+
+  public AggregateController(CatalogAggregates aggregates, VideoRepositoryAdapter videos) {
+    this.aggregates = aggregates;
+    this.videos = videos;
+  }
+
+  @GetMapping("/aggregates")
+  public AggregateResponse total() {
+    return CatalogMapper.toResponse(null, null, this.aggregates.total());
+  }
+
+  // Every value with at least one video, most videos first.
+  @GetMapping("/aggregates/{facet}")
+  public List<AggregateResponse> facet(@PathVariable String facet) {
+    AggregateFacet aggregateFacet = AggregateFacet.of(facet);
+    Map<Object, Totals> values = this.aggregates.get(aggregateFacet);
+    List<AggregateResponse> responses = new ArrayList<AggregateResponse>(values.size());
+    for (Map.Entry<Object, Totals> value : values.entrySet()) {
+      responses.add(CatalogMapper.toResponse(aggregateFacet, value.getKey(), value.getValue()));
+    }
+    responses.sort(BY_COUNT);
+    return responses;
+  }
+
+  @GetMapping("/aggregates/{facet}/{value}")
+  public AggregateResponse value(@PathVariable String facet, @PathVariable String value) {
+    AggregateFacet aggregateFacet = AggregateFacet.of(facet);
+    Object parsed = aggregateFacet.parse(value);
+    return CatalogMapper.toResponse(aggregateFacet, parsed, this.aggregates.get(aggregateFacet, parsed));
+  }
+
+  @PostMapping("/aggregates/verify")
+  public AggregateReportResponse verify() {
+    return CatalogMapper.toResponse(this.aggregates.verify(this.videos));
+  }
+
+  // 409 when writes kept overlapping the recount; the maintained values are left as they were.
+  @PostMapping("/aggregates/rebuild")
+  public ResponseEntity<AggregateResponse> rebuild() {
+    if(!this.aggregates.rebuild(this.videos)) return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    return ResponseEntity.ok(this.total());
+  }
+}
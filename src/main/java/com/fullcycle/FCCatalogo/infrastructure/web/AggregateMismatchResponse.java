@@ -0,0 +1,13 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AggregateMismatchResponse {
+  private AggregateResponse expected;
+  private AggregateResponse actual;
+}
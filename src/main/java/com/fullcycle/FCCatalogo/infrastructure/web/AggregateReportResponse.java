@@ -0,0 +1,16 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AggregateReportResponse {
+  private boolean conclusive;
+  private long videos;
+  private List<AggregateMismatchResponse> mismatches;
+}
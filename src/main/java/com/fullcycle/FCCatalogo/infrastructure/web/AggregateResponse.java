@@ -0,0 +1,15 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AggregateResponse {
+  private String facet;
+  private Object value;
+  private long count;
+  private Double duration;
+}
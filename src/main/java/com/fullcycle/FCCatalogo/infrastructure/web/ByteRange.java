@@ -0,0 +1,90 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// One satisfiable range of a representation, inclusive at both ends like the Content-Range it becomes.
+final class ByteRange {
+  static final int MAX_RANGES = 16;
+
+  private final long start;
+  private final long end;
+
+  ByteRange(long start, long end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  long getStart() {
+    return this.start;
+  }
+
+  long getEnd() {
+    return this.end;
+  }
+
+  long length() {
+    return this.end - this.start + 1;
+  }
+
+  String contentRange(long total) {
+    return "bytes " + this.start + "-" + this.end + "/" + total;
+  }
+
+  /**
+   * Parses a Range header against the representation length. Null means the header is absent,
+   * malformed or asks for more than MAX_RANGES ranges and is ignored, so the whole body is sent;
+   * an empty list means none of it can be satisfied. Overlapping and adjacent ranges are merged,
+   * so a client cannot make one byte be sent many times.
+   */
+  static List<ByteRange> parse(String header, long length) {
+    if(header == null || !header.regionMatches(true, 0, "bytes=", 0, 6)) return null;
+    String[] specs = header.substring(6).split(",", -1);
+    if(specs.length > MAX_RANGES) return null;
+    List<ByteRange> ranges = new ArrayList<ByteRange>(specs.length);
+    for (String spec : specs) {
+      spec = spec.trim();
+      int dash = spec.indexOf('-');
+      if(dash < 0) return null;
+      long first = number(spec, 0, dash);
+      long last = number(spec, dash + 1, spec.length());
+      if(first == -2 || last == -2 || first == -1 && last == -1) return null;
+      if(first == -1) {
+        // Suffix range: the last n bytes.
+        if(last > 0 && length > 0) ranges.add(new ByteRange(Math.max(0, length - last), length - 1));
+      } else {
+        if(last != -1 && last < first) return null;
+        if(first < length) ranges.add(new ByteRange(first, last == -1 ? length - 1 : Math.min(last, length - 1)));
+      }
+    }
+    if(ranges.size() < 2) return ranges;
+    ranges.sort(Comparator.comparingLong(ByteRange::getStart));
+    List<ByteRange> merged = new ArrayList<ByteRange>(ranges.size());
+    ByteRange current = ranges.get(0);
+    for (int i = 1; i < ranges.size(); i++) {
+      ByteRange next = ranges.get(i);
+      if(next.start <= current.end + 1) {
+        current = new ByteRange(current.start, Math.max(current.end, next.end));
+      } else {
+        merged.add(current);
+        current = next;
+      }
+    }
+    merged.add(current);
+    return merged;
+  }
+
+  // -1 for an empty field, -2 for anything but digits or a value past Long.MAX_VALUE.
+  private static long number(String spec, int from, int to) {
+    if(from == to) return -1;
+    if(to - from > 18) return -2;
+    long value = 0;
+    for (int i = from; i < to; i++) {
+      char c = spec.charAt(i);
+      if(c < '0' || c > '9') return -2;
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.Map;
+
+import com.fullcycle.FCCatalogo.infrastructure.cache.CacheStatistics;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CatalogCache;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class CacheController {
+  private final CatalogCache catalogCache;
+
+  public CacheController(CatalogCache catalogCache) {
+    this.catalogCache = catalogCache;
+  }
+
+  @GetMapping("/caches")
+  public Map<String, CacheStatistics> statistics() {
+    this.catalogCache.cleanUp();
+    return this.catalogCache.statistics();
+  }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CastMemberResponse {
+  private UUID id;
+  private String name;
+  private Integer type;
+}
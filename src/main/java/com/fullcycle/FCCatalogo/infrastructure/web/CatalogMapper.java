@@ -0,0 +1,262 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.aggregate.AggregateFacet;
+import com.fullcycle.FCCatalogo.application.aggregate.AggregateMismatch;
+import com.fullcycle.FCCatalogo.application.aggregate.AggregateReport;
+import com.fullcycle.FCCatalogo.application.aggregate.Totals;
+import com.fullcycle.FCCatalogo.application.index.FacetCounts;
+import com.fullcycle.FCCatalogo.application.search.SearchHit;
+import com.fullcycle.FCCatalogo.application.upload.UploadStatus;
+import com.fullcycle.FCCatalogo.application.view.VideoFileView;
+import com.fullcycle.FCCatalogo.application.view.VideoView;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+/**
+ * Hand-written DTO mapping: plain getter/setter calls the JIT can inline, no reflection or
+ * per-call type lookups. Nested collections are mapped straight into an exactly sized list.
+ * Requests go through the entity constructors and setters, so they are validated as usual.
+ */
+public final class CatalogMapper {
+
+  private CatalogMapper() {
+  }
+
+  public static CategoryResponse toResponse(Category category) {
+    CategoryResponse response = new CategoryResponse();
+    response.setId(category.getId());
+    response.setName(category.getName());
+    return response;
+  }
+
+  public static CastMemberResponse toResponse(CastMember castMember) {
+    CastMemberResponse response = new CastMemberResponse();
+    response.setId(castMember.getId());
+    response.setName(castMember.getName());
+    response.setType(castMember.getType() == null ? null : castMember.getType().getType());
+    return response;
+  }
+
+  public static GenreResponse toResponse(Genre genre) {
+    GenreResponse response = new GenreResponse();
+    response.setId(genre.getId());
+    response.setName(genre.getName());
+    response.setCategories(categories(genre.getCategories()));
+    return response;
+  }
+
+  public static VideoFileResponse toResponse(VideoFile videoFile) {
+    VideoFileResponse response = new VideoFileResponse();
+    response.setId(videoFile.getId());
+    response.setTitle(videoFile.getTitle());
+    response.setDuration(toDouble(videoFile.getDuration()));
+    response.setUrl(videoFile.getUrl());
+    return response;
+  }
+
+  public static VideoFileResponse toResponse(VideoFileView videoFile) {
+    VideoFileResponse response = new VideoFileResponse();
+    response.setId(videoFile.getId());
+    response.setTitle(videoFile.getTitle());
+    response.setDuration(toDouble(videoFile.getDurationHundredths()));
+    response.setUrl(videoFile.getUrl());
+    return response;
+  }
+
+  public static UploadResponse toResponse(UploadStatus status) {
+    UploadResponse response = new UploadResponse();
+    response.setUploadId(status.getUploadId());
+    response.setVideoId(status.getVideoId());
+    response.setVideoFileId(status.getVideoFileId());
+    response.setOffset(status.getOffset());
+    response.setSize(status.getSize());
+    response.setComplete(status.isComplete());
+    response.setUrl(status.getUrl());
+    return response;
+  }
+
+  // A null facet is the whole catalog.
+  public static AggregateResponse toResponse(AggregateFacet facet, Object value, Totals totals) {
+    AggregateResponse response = new AggregateResponse();
+    response.setFacet(facet == null ? null : facet.getName());
+    response.setValue(value);
+    response.setCount(totals.getCount());
+    response.setDuration(toDouble(totals.getDuration()));
+    return response;
+  }
+
+  public static AggregateReportResponse toResponse(AggregateReport report) {
+    AggregateReportResponse response = new AggregateReportResponse();
+    response.setConclusive(report.isConclusive());
+    response.setVideos(report.getVideos());
+    List<AggregateMismatchResponse> mismatches = new ArrayList<AggregateMismatchResponse>(report.getMismatches().size());
+    for (AggregateMismatch mismatch : report.getMismatches()) {
+      AggregateMismatchResponse mismatchResponse = new AggregateMismatchResponse();
+      mismatchResponse.setExpected(toResponse(mismatch.getFacet(), mismatch.getValue(), mismatch.getExpected()));
+      mismatchResponse.setActual(toResponse(mismatch.getFacet(), mismatch.getValue(), mismatch.getActual()));
+      mismatches.add(mismatchResponse);
+    }
+    response.setMismatches(mismatches);
+    return response;
+  }
+
+  public static FacetCountsResponse toResponse(FacetCounts counts) {
+    FacetCountsResponse response = new FacetCountsResponse();
+    response.setTotal(counts.getTotal());
+    response.setCategories(counts.getCategories());
+    response.setGenres(counts.getGenres());
+    response.setCastMembers(counts.getCastMembers());
+    response.setYearsLaunched(counts.getYearsLaunched());
+    response.setRatings(counts.getRatings());
+    response.setOpened(counts.getOpened());
+    response.setNotOpened(counts.getNotOpened());
+    return response;
+  }
+
+  public static SearchHitResponse toResponse(SearchHit hit, Video video) {
+    SearchHitResponse response = new SearchHitResponse();
+    response.setScore(hit.getScore());
+    response.setVideo(toResponse(video));
+    return response;
+  }
+
+  public static SearchHitResponse toResponse(SearchHit hit, VideoView video) {
+    SearchHitResponse response = new SearchHitResponse();
+    response.setScore(hit.getScore());
+    response.setVideo(toResponse(video));
+    return response;
+  }
+
+  public static VideoResponse toResponse(Video video) {
+    return copyScalars(video, new VideoResponse());
+  }
+
+  public static VideoDetailResponse toDetailResponse(Video video) {
+    VideoDetailResponse response = copyScalars(video, new VideoDetailResponse());
+    response.setCategories(categories(video.getCategories()));
+    List<GenreResponse> genres = new ArrayList<GenreResponse>(video.getGenres().size());
+    for (Genre genre : video.getGenres()) {
+      genres.add(toResponse(genre));
+    }
+    response.setGenres(genres);
+    List<CastMemberResponse> castMembers = new ArrayList<CastMemberResponse>(video.getCastMembers().size());
+    for (CastMember castMember : video.getCastMembers()) {
+      castMembers.add(toResponse(castMember));
+    }
+    response.setCastMembers(castMembers);
+    List<VideoFileResponse> videoFiles = new ArrayList<VideoFileResponse>(video.getVideoFiles().size());
+    for (VideoFile videoFile : video.getVideoFiles()) {
+      videoFiles.add(toResponse(videoFile));
+    }
+    response.setVideoFiles(videoFiles);
+    return response;
+  }
+
+  public static VideoResponse toResponse(VideoView video) {
+    return copyScalars(video, new VideoResponse());
+  }
+
+  // The view carries only association ids; the entities come from the reference caches.
+  public static VideoDetailResponse toDetailResponse(VideoView video, List<Category> categories, List<Genre> genres, List<CastMember> castMembers) {
+    VideoDetailResponse response = copyScalars(video, new VideoDetailResponse());
+    response.setCategories(categories(categories));
+    List<GenreResponse> genreResponses = new ArrayList<GenreResponse>(genres.size());
+    for (Genre genre : genres) {
+      genreResponses.add(toResponse(genre));
+    }
+    response.setGenres(genreResponses);
+    List<CastMemberResponse> castMemberResponses = new ArrayList<CastMemberResponse>(castMembers.size());
+    for (CastMember castMember : castMembers) {
+      castMemberResponses.add(toResponse(castMember));
+    }
+    response.setCastMembers(castMemberResponses);
+    List<VideoFileView> videoFiles = video.getVideoFiles();
+    List<VideoFileResponse> videoFileResponses = new ArrayList<VideoFileResponse>(videoFiles.size());
+    for (VideoFileView videoFile : videoFiles) {
+      videoFileResponses.add(toResponse(videoFile));
+    }
+    response.setVideoFiles(videoFileResponses);
+    return response;
+  }
+
+  public static Video toVideo(VideoRequest request) {
+    if(request == null) throw new IllegalArgumentException("request is marked non-null but is null");
+    return copyRequest(request, new Video(request.getTitle(), request.getDescription(), request.getYearLaunched(), request.getOpened()));
+  }
+
+  /*
+   * Replacement for a stored video: scalars, and files when given, come from the request while the
+   * associations are kept. It is a new instance, since current may be shared with the cache, that
+   * carries current's persisted version so saving it fails if someone else wrote in between.
+   */
+  public static Video toVideo(VideoRequest request, Video current) {
+    if(request == null) throw new IllegalArgumentException("request is marked non-null but is null");
+    if(current == null) throw new IllegalArgumentException("current is marked non-null but is null");
+    Video video = new Video(current.getId(), request.getTitle(), request.getDescription(), request.getYearLaunched(), request.getOpened());
+    video.setCategories(current.getCategories());
+    video.setGenres(current.getGenres());
+    video.setCastMembers(current.getCastMembers());
+    if(request.getVideoFiles() == null) video.setVideoFiles(current.getVideoFiles());
+    copyRequest(request, video);
+    video.markPersisted(current.getPersistedVersion());
+    return video;
+  }
+
+  private static Video copyRequest(VideoRequest request, Video video) {
+    video.setRating(request.getRating());
+    if(request.getDuration() != null) video.setDuration(Duration.of(request.getDuration()));
+    if(request.getVideoFiles() != null) {
+      for (VideoFileRequest file : request.getVideoFiles()) {
+        if(file == null) throw new IllegalArgumentException("video file is marked non-null but is null");
+        video.addVideoFile(new VideoFile(file.getTitle(), file.getDuration() == null ? null : Duration.of(file.getDuration()), file.getUrl()));
+      }
+    }
+    return video;
+  }
+
+  private static <R extends VideoResponse> R copyScalars(Video video, R response) {
+    response.setId(video.getId());
+    response.setTitle(video.getTitle());
+    response.setDescription(video.getDescription());
+    response.setYearLaunched(video.getYearLaunched());
+    response.setOpened(video.getOpened());
+    response.setRating(video.getRating());
+    response.setDuration(toDouble(video.getDuration()));
+    return response;
+  }
+
+  private static <R extends VideoResponse> R copyScalars(VideoView video, R response) {
+    response.setId(video.getId());
+    response.setTitle(video.getTitle());
+    response.setDescription(video.getDescription());
+    response.setYearLaunched(video.getYearLaunched());
+    response.setOpened(video.getOpened());
+    response.setRating(video.getRating());
+    response.setDuration(toDouble(video.getDurationHundredths()));
+    return response;
+  }
+
+  private static List<CategoryResponse> categories(Collection<Category> categories) {
+    List<CategoryResponse> responses = new ArrayList<CategoryResponse>(categories.size());
+    for (Category category : categories) {
+      responses.add(toResponse(category));
+    }
+    return responses;
+  }
+
+  private static Double toDouble(Duration duration) {
+    return duration == null ? null : duration.toDouble();
+  }
+
+  private static Double toDouble(long hundredths) {
+    return hundredths == VideoView.NO_DURATION ? null : Duration.ofHundredths(hundredths).toDouble();
+  }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CategoryResponse {
+  private UUID id;
+  private String name;
+}
@@ -0,0 +1,103 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.view.VideoFileView;
+import com.fullcycle.FCCatalogo.application.view.VideoView;
+import com.fullcycle.FCCatalogo.domain.entity.BaseEntity;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+
+/**
+ * Strong ETags built from entity versions, so checking one never maps or serializes the body.
+ * A representation also shows its associations, whose changes do not bump the owner's version,
+ * so their ids and versions are folded into a hash next to it: "version-hash". The fold is a
+ * sum, so the tag does not depend on the order the associations were loaded in.
+ */
+final class EntityTags {
+  private static final long PRIME = 0x100000001b3L;
+  private static final long CATEGORY = 1;
+  private static final long GENRE = 2;
+  private static final long CAST_MEMBER = 3;
+  private static final long VIDEO_FILE = 4;
+
+  private EntityTags() {
+  }
+
+  static String of(Genre genre) {
+    return tag(genre.getVersion(), categories(genre));
+  }
+
+  static String of(Video video) {
+    long hash = 0;
+    for (Category category : video.getCategories()) {
+      hash += mix(CATEGORY, category);
+    }
+    for (Genre genre : video.getGenres()) {
+      hash += mix(GENRE, genre) * PRIME + categories(genre);
+    }
+    for (CastMember castMember : video.getCastMembers()) {
+      hash += mix(CAST_MEMBER, castMember);
+    }
+    for (VideoFile videoFile : video.getVideoFiles()) {
+      hash += mix(VIDEO_FILE, videoFile);
+    }
+    return tag(video.getVersion(), hash);
+  }
+
+  // The same tag as of(Video) for the video the view was taken from, given its associations as stored now.
+  static String of(VideoView video, Collection<Category> categories, Collection<Genre> genres, Collection<CastMember> castMembers) {
+    long hash = 0;
+    for (Category category : categories) {
+      hash += mix(CATEGORY, category);
+    }
+    for (Genre genre : genres) {
+      hash += mix(GENRE, genre) * PRIME + categories(genre);
+    }
+    for (CastMember castMember : castMembers) {
+      hash += mix(CAST_MEMBER, castMember);
+    }
+    for (VideoFileView videoFile : video.getVideoFiles()) {
+      hash += mix(VIDEO_FILE, videoFile.getId(), videoFile.getVersion());
+    }
+    return tag(video.getVersion(), hash);
+  }
+
+  // If-Match holds "*" or a comma separated list of tags; weak tags never match for updates.
+  static boolean matches(String ifMatch, String tag) {
+    if(ifMatch == null) return true;
+    for (String candidate : ifMatch.split(",")) {
+      String trimmed = candidate.trim();
+      if(trimmed.equals("*") || trimmed.equals(tag)) return true;
+    }
+    return false;
+  }
+
+  private static long categories(Genre genre) {
+    long hash = 0;
+    for (Category category : genre.getCategories()) {
+      hash += mix(CATEGORY, category);
+    }
+    return hash;
+  }
+
+  private static long mix(long kind, BaseEntity entity) {
+    return mix(kind, entity.getId(), entity.getVersion());
+  }
+
+  private static long mix(long kind, UUID id, long version) {
+    long hash = kind;
+    hash = (hash ^ id.getMostSignificantBits()) * PRIME;
+    hash = (hash ^ id.getLeastSignificantBits()) * PRIME;
+    hash = (hash ^ version) * PRIME;
+    return hash ^ (hash >>> 29);
+  }
+
+  private static String tag(long version, long hash) {
+    return "\"" + version + "-" + Long.toHexString(hash) + "\"";
+  }
+}
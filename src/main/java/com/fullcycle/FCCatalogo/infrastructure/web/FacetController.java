@@ -0,0 +1,69 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.index.FacetQuery;
+import com.fullcycle.FCCatalogo.application.index.VideoFacetIndex;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Filters videos by facet from the in-memory index; every given parameter must match. Reads never
+ * touch the database, and the video ids come back in index order, not sorted.
+ */
+@RestController
+@RequestMapping("/facets")
+public class FacetController {
+  private final VideoFacetIndex index;
+
+  public FacetController(VideoFacetIndex index) {
+    this.index = index;
+  }
+
+  // How many of the matching videos carry each facet value.
+  @GetMapping
+  public FacetCountsResponse counts(
+    @RequestParam(required = false) UUID category,
+    @RequestParam(required = false) UUID genre,
+    @RequestParam(name = "cast-member", required = false) UUID castMember,
+    @RequestParam(name = "year-from", required = false) Integer yearFrom,
+    @RequestParam(name = "year-to", required = false) Integer yearTo,
+    @RequestParam(required = false) String rating,
+    @RequestParam(required = false) Boolean opened) {
+    return CatalogMapper.toResponse(this.index.facetCounts(query(category, genre, castMember, yearFrom, yearTo, rating, opened)));
+  }
+
+  @GetMapping("/videos")
+  public FacetVideosResponse videos(
+    @RequestParam(required = false) UUID category,
+    @RequestParam(required = false) UUID genre,
+    @RequestParam(name = "cast-member", required = false) UUID castMember,
+    @RequestParam(name = "year-from", required = false) Integer yearFrom,
+    @RequestParam(name = "year-to", required = false) Integer yearTo,
+    @RequestParam(required = false) String rating,
+    @RequestParam(required = false) Boolean opened,
+    @RequestParam(defaultValue = "0") int offset,
+    @RequestParam(defaultValue = "25") int limit) {
+    FacetQuery query = query(category, genre, castMember, yearFrom, yearTo, rating, opened);
+    FacetVideosResponse response = new FacetVideosResponse();
+    response.setTotal(this.index.count(query));
+    response.setVideoIds(this.index.find(query, offset, limit));
+    return response;
+  }
+
+  private static FacetQuery query(UUID category, UUID genre, UUID castMember, Integer yearFrom, Integer yearTo, String rating, Boolean opened) {
+    List<FacetQuery> queries = new ArrayList<FacetQuery>();
+    if(category != null) queries.add(FacetQuery.category(category));
+    if(genre != null) queries.add(FacetQuery.genre(genre));
+    if(castMember != null) queries.add(FacetQuery.castMember(castMember));
+    if(yearFrom != null || yearTo != null) queries.add(FacetQuery.yearLaunchedBetween(yearFrom == null ? Integer.MIN_VALUE : yearFrom, yearTo == null ? Integer.MAX_VALUE : yearTo));
+    if(rating != null) queries.add(FacetQuery.rating(rating));
+    if(opened != null) queries.add(FacetQuery.opened(opened));
+    return queries.isEmpty() ? FacetQuery.all() : FacetQuery.and(queries.toArray(new FacetQuery[0]));
+  }
+}
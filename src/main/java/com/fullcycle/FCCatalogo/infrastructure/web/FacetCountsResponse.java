@@ -0,0 +1,22 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class FacetCountsResponse {
+  private int total;
+  private Map<UUID, Integer> categories;
+  private Map<UUID, Integer> genres;
+  private Map<UUID, Integer> castMembers;
+  private Map<Integer, Integer> yearsLaunched;
+  private Map<String, Integer> ratings;
+  private int opened;
+  private int notOpened;
+}
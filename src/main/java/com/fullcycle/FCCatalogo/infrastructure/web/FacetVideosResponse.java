@@ -0,0 +1,16 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class FacetVideosResponse {
+  private int total;
+  private List<UUID> videoIds;
+}
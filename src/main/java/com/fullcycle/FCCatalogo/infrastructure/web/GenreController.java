@@ -0,0 +1,34 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/genres")
+public class GenreController {
+  private final GenreRepository genreRepository;
+
+  public GenreController(GenreRepository genreRepository) {
+    this.genreRepository = genreRepository;
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<GenreResponse> get(@PathVariable UUID id, WebRequest webRequest) {
+    Optional<Genre> genre = this.genreRepository.findById(id);
+    if(!genre.isPresent()) return ResponseEntity.notFound().build();
+    String tag = EntityTags.of(genre.get());
+    if(webRequest.checkNotModified(tag)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    return ResponseEntity.ok().eTag(tag).body(CatalogMapper.toResponse(genre.get()));
+  }
+}
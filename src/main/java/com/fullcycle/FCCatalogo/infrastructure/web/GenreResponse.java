@@ -0,0 +1,17 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class GenreResponse {
+  private UUID id;
+  private String name;
+  private List<CategoryResponse> categories;
+}
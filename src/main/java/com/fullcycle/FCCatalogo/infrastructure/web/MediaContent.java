@@ -0,0 +1,152 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Serves a file with conditional requests, Range and If-Range: one range is a 206 with its
+ * Content-Range, several are a multipart/byteranges 206, none satisfiable is a 416. On Tomcat a
+ * single body is handed to the connector's sendfile, so the bytes go from the page cache to the
+ * socket without entering the heap. Otherwise they are copied through one 64 KiB buffer:
+ * transferTo into a servlet stream would go through the JDK's 8 KiB chunks and is slower than
+ * that (see MediaTransferBenchmark).
+ */
+final class MediaContent {
+  static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private MediaContent() {
+  }
+
+  static void serve(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+    if(!attributes.isRegularFile()) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+    long length = attributes.size();
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    String tag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    if(new ServletWebRequest(request, response).checkNotModified(tag, lastModified)) return;
+
+    String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString()).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    List<ByteRange> ranges = ifRange(request.getHeader(HttpHeaders.IF_RANGE), tag, lastModified)
+      ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length)
+      : null;
+    boolean head = "HEAD".equals(request.getMethod());
+
+    if(ranges == null) {
+      response.setContentType(contentType);
+      response.setContentLengthLong(length);
+      if(!head) send(file, 0, length, request, response);
+    } else if(ranges.isEmpty()) {
+      response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+      response.setContentLength(0);
+    } else if(ranges.size() == 1) {
+      ByteRange range = ranges.get(0);
+      response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+      response.setContentType(contentType);
+      response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(length));
+      response.setContentLengthLong(range.length());
+      if(!head) send(file, range.getStart(), range.length(), request, response);
+    } else {
+      sendMultipart(file, contentType, length, ranges, head, response);
+    }
+  }
+
+  static void copy(FileChannel channel, long position, long count, OutputStream out, byte[] buffer) throws IOException {
+    ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+    long end = position + count;
+    while (position < end) {
+      wrapped.clear().limit((int) Math.min(buffer.length, end - position));
+      int read = channel.read(wrapped, position);
+      if(read <= 0) throw new IOException("file ended " + (end - position) + " bytes early");
+      out.write(buffer, 0, read);
+      position += read;
+    }
+  }
+
+  // A weak or unparseable validator fails the check, and then the whole representation is sent.
+  private static boolean ifRange(String ifRange, String tag, long lastModified) {
+    if(ifRange == null) return true;
+    ifRange = ifRange.trim();
+    if(ifRange.startsWith("\"")) return ifRange.equals(tag);
+    if(ifRange.startsWith("W/")) return false;
+    try {
+      return ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond() == lastModified / 1000;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private static void send(Path file, long position, long count, HttpServletRequest request, HttpServletResponse response) throws IOException {
+    if(Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, position);
+      request.setAttribute(SENDFILE_END, position + count);
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      copy(channel, position, count, response.getOutputStream(), new byte[(int) Math.min(BUFFER_SIZE, count)]);
+    }
+  }
+
+  private static void sendMultipart(Path file, String contentType, long length, List<ByteRange> ranges, boolean head, HttpServletResponse response)
+    throws IOException {
+    String boundary = UUID.randomUUID().toString().replace("-", "");
+    byte[][] partHeaders = new byte[ranges.size()][];
+    byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    long contentLength = closing.length;
+    for (int i = 0; i < ranges.size(); i++) {
+      partHeaders[i] = ("\r\n--" + boundary + "\r\n" + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+        + HttpHeaders.CONTENT_RANGE + ": " + ranges.get(i).contentRange(length) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+      contentLength += partHeaders[i].length + ranges.get(i).length();
+    }
+    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+    response.setContentType("multipart/byteranges; boundary=" + boundary);
+    response.setContentLengthLong(contentLength);
+    if(head) return;
+    OutputStream out = response.getOutputStream();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      for (int i = 0; i < ranges.size(); i++) {
+        out.write(partHeaders[i]);
+        copy(channel, ranges.get(i).getStart(), ranges.get(i).length(), out, buffer);
+      }
+    }
+    out.write(closing);
+  }
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.storage.LocalMediaStorage;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+// Video file media from local storage, by video file or by the url stored on it. GET mappings answer HEAD too.
+@RestController
+public class MediaController {
+  private final VideoRepository videoRepository;
+  private final LocalMediaStorage storage;
+
+  public MediaController(VideoRepository videoRepository, LocalMediaStorage storage) {
+    this.videoRepository = videoRepository;
+    this.storage = storage;
+  }
+
+  @GetMapping("/videos/{videoId}/files/{videoFileId}/content")
+  public void videoFileContent(@PathVariable UUID videoId, @PathVariable UUID videoFileId, HttpServletRequest request, HttpServletResponse response)
+    throws IOException {
+    Optional<Video> video = this.videoRepository.findById(videoId, VideoFetchPlan.FULL_GRAPH);
+    Path file = null;
+    if(video.isPresent()) {
+      for (VideoFile videoFile : video.get().getVideoFiles()) {
+        if(videoFile.getId().equals(videoFileId)) file = this.storage.resolveUrl(videoFile.getUrl());
+      }
+    }
+    if(file == null) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+    MediaContent.serve(file, request, response);
+  }
+
+  @GetMapping("${catalog.storage.local.base-url:/media/}**")
+  public void media(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    Path file = this.storage.resolveUrl(request.getRequestURI().substring(request.getContextPath().length()));
+    if(file == null) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+    MediaContent.serve(file, request, response);
+  }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.application.metrics.MetricSnapshot;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MetricsController {
+  private final CatalogMetrics catalogMetrics;
+
+  public MetricsController(CatalogMetrics catalogMetrics) {
+    this.catalogMetrics = catalogMetrics;
+  }
+
+  @GetMapping("/metrics")
+  public List<MetricSnapshot> metrics() {
+    return this.catalogMetrics.snapshot();
+  }
+
+  // Every tag combination of one metric, e.g. /metrics/catalog.repository.latency.
+  @GetMapping("/metrics/{name:.+}")
+  public List<MetricSnapshot> metric(@PathVariable String name) {
+    return this.catalogMetrics.snapshot().stream().filter(metric -> metric.getName().equals(name)).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+
+public class PageResponse<T> {
+  private final List<T> items;
+  private final String nextCursor;
+
+  public PageResponse(List<T> items, String nextCursor) {
+    this.items = items;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<T> getItems() {
+    return this.items;
+  }
+
+  // Opaque; pass back as the cursor parameter with the same sort to get the next page. Null on the last page.
+  public String getNextCursor() {
+    return this.nextCursor;
+  }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.concurrent.ExecutorService;
+
+import com.fullcycle.FCCatalogo.infrastructure.concurrent.ExecutionMode;
+import com.fullcycle.FCCatalogo.infrastructure.concurrent.VirtualThreads;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+/**
+ * In VIRTUAL mode Tomcat hands every request to a fresh virtual thread instead of its bounded
+ * worker pool, so a request blocked on JDBC parks and frees its carrier; repository calls run on
+ * the request thread and park the same way. server.tomcat.threads.max no longer applies, which
+ * leaves server.tomcat.max-connections and the connection pool size as the concurrency limits.
+ * In PLATFORM mode Tomcat keeps its own pool.
+ */
+public class RequestExecutorCustomizer implements TomcatProtocolHandlerCustomizer<ProtocolHandler>, DisposableBean {
+  private final ExecutionMode mode;
+  private ExecutorService executor;
+
+  public RequestExecutorCustomizer(ExecutionMode mode) {
+    if(mode == null) throw new IllegalArgumentException("mode is marked non-null but is null");
+    this.mode = mode;
+  }
+
+  @Override
+  public void customize(ProtocolHandler protocolHandler) {
+    if(this.mode != ExecutionMode.VIRTUAL) return;
+    this.executor = VirtualThreads.newThreadPerTaskExecutor("http-virtual-");
+    protocolHandler.setExecutor(this.executor);
+  }
+
+  // Tomcat only shuts down executors it created itself.
+  @Override
+  public void destroy() {
+    if(this.executor != null) this.executor.shutdown();
+  }
+
+  public ExecutionMode getMode() {
+    return this.mode;
+  }
+}
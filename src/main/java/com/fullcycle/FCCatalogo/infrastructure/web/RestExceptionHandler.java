@@ -0,0 +1,54 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.fullcycle.FCCatalogo.application.metrics.CatalogMetrics;
+import com.fullcycle.FCCatalogo.application.metrics.ValidationFailures;
+import com.fullcycle.FCCatalogo.application.upload.UploadConflictException;
+import com.fullcycle.FCCatalogo.application.upload.UploadRejectedException;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+  private final ValidationFailures validationFailures;
+
+  public RestExceptionHandler(CatalogMetrics catalogMetrics) {
+    this.validationFailures = new ValidationFailures(catalogMetrics, "web");
+  }
+
+  // Domain objects reject bad input with IllegalArgumentException; that is the client's fault.
+  @ExceptionHandler(IllegalArgumentException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public Map<String, String> handleIllegalArgument(IllegalArgumentException e) {
+    this.validationFailures.record(e);
+    return Collections.singletonMap("message", e.getMessage());
+  }
+
+  // Someone else saved the entity since it was read; the client has to reload and retry.
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public Map<String, String> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+    return Collections.singletonMap("message", e.getMessage());
+  }
+
+  // The chunk started at the wrong offset; the header says where to resume.
+  @ExceptionHandler(UploadConflictException.class)
+  public ResponseEntity<Map<String, String>> handleUploadConflict(UploadConflictException e) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+      .header(VideoFileUploadController.UPLOAD_OFFSET, Long.toString(e.getOffset()))
+      .body(Collections.singletonMap("message", e.getMessage()));
+  }
+
+  @ExceptionHandler(UploadRejectedException.class)
+  @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+  public Map<String, String> handleUploadRejected(UploadRejectedException e) {
+    return Collections.singletonMap("message", e.getMessage());
+  }
+}
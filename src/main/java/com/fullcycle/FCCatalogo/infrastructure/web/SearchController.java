@@ -0,0 +1,64 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fullcycle.FCCatalogo.application.search.SearchHit;
+import com.fullcycle.FCCatalogo.application.search.VideoSearchIndex;
+import com.fullcycle.FCCatalogo.application.view.VideoView;
+import com.fullcycle.FCCatalogo.application.view.VideoViewSnapshot;
+import com.fullcycle.FCCatalogo.application.view.VideoViewStore;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoPageRequest;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Full-text search over title, description and association names, best match first. Ranking comes
+ * from the in-memory index and the hits from the VideoViewStore, as on GET /videos; a hit the store
+ * does not hold yet is read from the repository.
+ */
+@RestController
+public class SearchController {
+  private final VideoSearchIndex index;
+  private final VideoRepository videoRepository;
+  private final VideoViewStore videoViewStore;
+
+  public SearchController(VideoSearchIndex index, VideoRepository videoRepository, VideoViewStore videoViewStore) {
+    this.index = index;
+    this.videoRepository = videoRepository;
+    this.videoViewStore = videoViewStore;
+  }
+
+  // A hit deleted since it was ranked is left out.
+  @GetMapping("/videos/search")
+  public List<SearchHitResponse> search(@RequestParam String q, @RequestParam(defaultValue = "25") int limit) {
+    if(limit < 1 || limit > VideoPageRequest.MAX_SIZE) throw new IllegalArgumentException("limit must be between 1 and " + VideoPageRequest.MAX_SIZE);
+    List<SearchHit> hits = this.index.search(q, limit);
+    VideoViewSnapshot views = this.videoViewStore.snapshot();
+    List<UUID> missing = new ArrayList<UUID>();
+    for (SearchHit hit : hits) {
+      if(views.get(hit.getVideoId()) == null) missing.add(hit.getVideoId());
+    }
+    Map<UUID, Video> loaded = missing.isEmpty() ? Map.of() : this.videoRepository.findAllById(missing, VideoFetchPlan.SUMMARY).stream()
+      .collect(Collectors.toMap(Video::getId, Function.identity()));
+    List<SearchHitResponse> responses = new ArrayList<SearchHitResponse>(hits.size());
+    for (SearchHit hit : hits) {
+      VideoView view = views.get(hit.getVideoId());
+      if(view != null) {
+        responses.add(CatalogMapper.toResponse(hit, view));
+      } else if(loaded.containsKey(hit.getVideoId())) {
+        responses.add(CatalogMapper.toResponse(hit, loaded.get(hit.getVideoId())));
+      }
+    }
+    return responses;
+  }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SearchHitResponse {
+  private float score;
+  private VideoResponse video;
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UploadResponse {
+  private String uploadId;
+  private UUID videoId;
+  private UUID videoFileId;
+  private long offset;
+  private long size;
+  private boolean complete;
+  private String url;
+}
@@ -0,0 +1,155 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fullcycle.FCCatalogo.application.exporting.ExportFormat;
+import com.fullcycle.FCCatalogo.application.exporting.VideoExporter;
+import com.fullcycle.FCCatalogo.application.importing.ImportReport;
+import com.fullcycle.FCCatalogo.application.importing.VideoImporter;
+import com.fullcycle.FCCatalogo.application.view.VideoView;
+import com.fullcycle.FCCatalogo.application.view.VideoViewSnapshot;
+import com.fullcycle.FCCatalogo.application.view.VideoViewStore;
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.KeysetPage;
+import com.fullcycle.FCCatalogo.domain.repository.SortDirection;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoPageRequest;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoSortField;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Reads are served from the VideoViewStore, which holds every committed video; the database only
+ * supplies the order of a page. A video the store does not hold yet is read from the repository.
+ */
+@RestController
+@RequestMapping("/videos")
+public class VideoController {
+  private final VideoRepository videoRepository;
+  private final CategoryRepository categoryRepository;
+  private final GenreRepository genreRepository;
+  private final CastMemberRepository castMemberRepository;
+  private final VideoViewStore videoViewStore;
+  private final VideoImporter videoImporter;
+  private final VideoExporter videoExporter;
+
+  public VideoController(VideoRepository videoRepository, CategoryRepository categoryRepository, GenreRepository genreRepository,
+    CastMemberRepository castMemberRepository, VideoViewStore videoViewStore, VideoImporter videoImporter, VideoExporter videoExporter) {
+    this.videoRepository = videoRepository;
+    this.categoryRepository = categoryRepository;
+    this.genreRepository = genreRepository;
+    this.castMemberRepository = castMemberRepository;
+    this.videoViewStore = videoViewStore;
+    this.videoImporter = videoImporter;
+    this.videoExporter = videoExporter;
+  }
+
+  @GetMapping
+  public PageResponse<VideoResponse> list(
+    @RequestParam(defaultValue = "title") String sort,
+    @RequestParam(defaultValue = "asc") String direction,
+    @RequestParam(defaultValue = "25") int size,
+    @RequestParam(required = false) String cursor) {
+    VideoPageRequest request = new VideoPageRequest(VideoSortField.of(sort), SortDirection.of(direction), size, cursor);
+    KeysetPage<UUID> page = this.videoRepository.findPageIds(request);
+    VideoViewSnapshot views = this.videoViewStore.snapshot();
+    List<UUID> missing = new ArrayList<UUID>();
+    for (UUID id : page.getItems()) {
+      if(views.get(id) == null) missing.add(id);
+    }
+    Map<UUID, Video> loaded = missing.isEmpty() ? Map.of() : this.videoRepository.findAllById(missing, VideoFetchPlan.SUMMARY).stream()
+      .collect(Collectors.toMap(Video::getId, Function.identity()));
+    List<VideoResponse> items = new ArrayList<VideoResponse>(page.getItems().size());
+    for (UUID id : page.getItems()) {
+      VideoView view = views.get(id);
+      if(view != null) {
+        items.add(CatalogMapper.toResponse(view));
+      } else if(loaded.containsKey(id)) {
+        items.add(CatalogMapper.toResponse(loaded.get(id)));
+      }
+    }
+    return new PageResponse<VideoResponse>(items, page.getNextCursor());
+  }
+
+  // If-None-Match is checked against the tag before the entity is mapped, so a 304 costs no serialization.
+  @GetMapping("/{id}")
+  public ResponseEntity<VideoDetailResponse> get(@PathVariable UUID id, WebRequest webRequest) {
+    Optional<VideoView> view = this.videoViewStore.get(id);
+    if(view.isPresent()) {
+      List<Category> categories = this.categoryRepository.findAllById(view.get().getCategoryIds());
+      List<Genre> genres = this.genreRepository.findAllById(view.get().getGenreIds());
+      List<CastMember> castMembers = this.castMemberRepository.findAllById(view.get().getCastMemberIds());
+      String tag = EntityTags.of(view.get(), categories, genres, castMembers);
+      if(webRequest.checkNotModified(tag)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+      return ResponseEntity.ok().eTag(tag).body(CatalogMapper.toDetailResponse(view.get(), categories, genres, castMembers));
+    }
+    Optional<Video> video = this.videoRepository.findById(id, VideoFetchPlan.FULL_GRAPH);
+    if(!video.isPresent()) return ResponseEntity.notFound().build();
+    String tag = EntityTags.of(video.get());
+    if(webRequest.checkNotModified(tag)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    return ResponseEntity.ok().eTag(tag).body(CatalogMapper.toDetailResponse(video.get()));
+  }
+
+  @PostMapping
+  public ResponseEntity<VideoDetailResponse> create(@RequestBody VideoRequest request) {
+    Video video = this.videoRepository.save(CatalogMapper.toVideo(request));
+    return ResponseEntity.created(URI.create("/videos/" + video.getId())).eTag(EntityTags.of(video)).body(CatalogMapper.toDetailResponse(video));
+  }
+
+  // A stale If-Match is refused up front; a write that lands in between fails the version check with 409.
+  @PutMapping("/{id}")
+  public ResponseEntity<VideoDetailResponse> update(@PathVariable UUID id,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+    @RequestBody VideoRequest request) {
+    Optional<Video> current = this.videoRepository.findById(id, VideoFetchPlan.FULL_GRAPH);
+    if(!current.isPresent()) return ResponseEntity.notFound().build();
+    if(!EntityTags.matches(ifMatch, EntityTags.of(current.get()))) return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    Video video = this.videoRepository.save(CatalogMapper.toVideo(request, current.get()));
+    return ResponseEntity.ok().eTag(EntityTags.of(video)).body(CatalogMapper.toDetailResponse(video));
+  }
+
+  // Reads the request body as it arrives; the upload is never buffered whole.
+  @PostMapping(path = "/import", consumes = "application/x-ndjson")
+  public ImportReport importVideos(HttpServletRequest request) throws IOException {
+    return this.videoImporter.importNdjson(request.getInputStream());
+  }
+
+  // Written straight to the response as rows are read, so the download starts at once and is never buffered.
+  @GetMapping("/export")
+  public void exportVideos(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+    ExportFormat exportFormat = ExportFormat.of(format);
+    response.setContentType(exportFormat.getContentType());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.getFileName() + "\"");
+    this.videoExporter.export(response.getOutputStream(), exportFormat);
+  }
+}
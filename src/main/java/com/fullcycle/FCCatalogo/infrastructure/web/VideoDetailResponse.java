@@ -0,0 +1,17 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoDetailResponse extends VideoResponse {
+  private List<CategoryResponse> categories;
+  private List<GenreResponse> genres;
+  private List<CastMemberResponse> castMembers;
+  private List<VideoFileResponse> videoFiles;
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoFileRequest {
+  private String title;
+  private Double duration;
+  private String url;
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoFileResponse {
+  private UUID id;
+  private String title;
+  private Double duration;
+  private String url;
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.fullcycle.FCCatalogo.application.upload.UploadStatus;
+import com.fullcycle.FCCatalogo.application.upload.VideoFileUploader;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Resumable uploads in the style of tus: POST starts one and answers with its location, HEAD tells
+ * the offset to resume from, PATCH appends the body at the Upload-Offset it names, DELETE drops it.
+ * The body is read as it arrives, never buffered whole.
+ */
+@RestController
+public class VideoFileUploadController {
+  public static final String UPLOAD_OFFSET = "Upload-Offset";
+  public static final String UPLOAD_LENGTH = "Upload-Length";
+
+  private final VideoFileUploader uploader;
+
+  public VideoFileUploadController(VideoFileUploader uploader) {
+    this.uploader = uploader;
+  }
+
+  @PostMapping("/videos/{videoId}/uploads")
+  public ResponseEntity<UploadResponse> start(@PathVariable UUID videoId, @RequestBody VideoFileUploadRequest request) throws IOException {
+    if(request.getSize() == null) throw new IllegalArgumentException("size is marked non-null but is null");
+    Optional<UploadStatus> status = this.uploader.start(videoId, request.getVideoFileId(), request.getTitle(), request.getSize(), request.getSha256(),
+      request.getDuration() == null ? null : Duration.of(request.getDuration()), request.getFileName());
+    if(!status.isPresent()) return ResponseEntity.notFound().build();
+    return ResponseEntity.created(URI.create("/uploads/" + status.get().getUploadId()))
+      .header(UPLOAD_OFFSET, Long.toString(status.get().getOffset()))
+      .body(CatalogMapper.toResponse(status.get()));
+  }
+
+  @RequestMapping(path = "/uploads/{id}", method = RequestMethod.HEAD)
+  public ResponseEntity<Void> offset(@PathVariable String id) throws IOException {
+    Optional<UploadStatus> status = this.uploader.status(id);
+    if(!status.isPresent()) return ResponseEntity.notFound().build();
+    return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+      .header(UPLOAD_OFFSET, Long.toString(status.get().getOffset()))
+      .header(UPLOAD_LENGTH, Long.toString(status.get().getSize()))
+      .build();
+  }
+
+  @GetMapping("/uploads/{id}")
+  public ResponseEntity<UploadResponse> get(@PathVariable String id) throws IOException {
+    Optional<UploadStatus> status = this.uploader.status(id);
+    if(!status.isPresent()) return ResponseEntity.notFound().build();
+    return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(CatalogMapper.toResponse(status.get()));
+  }
+
+  @PatchMapping(path = "/uploads/{id}", consumes = { "application/offset+octet-stream", "application/octet-stream" })
+  public ResponseEntity<UploadResponse> append(@PathVariable String id, @RequestHeader(UPLOAD_OFFSET) long offset, HttpServletRequest request)
+    throws IOException {
+    Optional<UploadStatus> status = this.uploader.append(id, offset, Channels.newChannel(request.getInputStream()));
+    if(!status.isPresent()) return ResponseEntity.notFound().build();
+    return ResponseEntity.ok().header(UPLOAD_OFFSET, Long.toString(status.get().getOffset())).body(CatalogMapper.toResponse(status.get()));
+  }
+
+  @DeleteMapping("/uploads/{id}")
+  public ResponseEntity<Void> cancel(@PathVariable String id) throws IOException {
+    return this.uploader.cancel(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+  }
+}
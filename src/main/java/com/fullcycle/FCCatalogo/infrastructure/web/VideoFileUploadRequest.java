@@ -0,0 +1,19 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoFileUploadRequest {
+  private UUID videoFileId;
+  private String title;
+  private Long size;
+  private String sha256;
+  private Double duration;
+  private String fileName;
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoRequest {
+  private String title;
+  private String description;
+  private Integer yearLaunched;
+  private Boolean opened;
+  private String rating;
+  private Double duration;
+  private List<VideoFileRequest> videoFiles;
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class VideoResponse {
+  private UUID id;
+  private String title;
+  private String description;
+  private Integer yearLaunched;
+  private Boolean opened;
+  private String rating;
+  private Double duration;
+}
@@ -0,0 +1,138 @@
+package com.fullcycle.FCCatalogo.application.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+public class CatalogAggregatesTests {
+  @Autowired
+  private CatalogAggregates aggregates;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private VideoRepositoryAdapter videoRepositoryAdapter;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private GenreRepository genreRepository;
+  @Autowired
+  private CastMemberRepository castMemberRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final String rating = "R" + UUID.randomUUID();
+  private Category drama;
+  private Category comedy;
+  private Genre genre;
+  private CastMember castMember;
+
+  // Other tests clear the videos with plain JDBC, which no delta sees.
+  @BeforeEach
+  public void setUp() {
+    assertTrue(this.aggregates.rebuild(this.videoRepositoryAdapter));
+    this.drama = this.categoryRepository.save(new Category("Drama"));
+    this.comedy = this.categoryRepository.save(new Category("Comedy"));
+    this.genre = this.genreRepository.save(new Genre("Feature", Arrays.asList(this.drama)));
+    this.castMember = this.castMemberRepository.save(new CastMember("Lead", CastMemberType.TYPE1));
+  }
+
+  @Test
+  public void applyDeltasOnCreateChangeAndDeleteTest() {
+    final Totals total = this.aggregates.total();
+    final Video first = new Video("First", "", 1999, true, this.rating, Duration.of(1.5));
+    first.addCategory(this.drama);
+    first.addGenre(this.genre);
+    first.addCastMember(this.castMember);
+    this.videoRepository.save(first);
+    final Video second = new Video("Second", "", 2001, true, this.rating, Duration.of(2));
+    second.setCategories(Arrays.asList(this.drama, this.comedy));
+    this.videoRepository.save(second);
+
+    assertEquals(new Totals(2, 350), this.aggregates.get(AggregateFacet.CATEGORY, this.drama.getId()));
+    assertEquals(new Totals(1, 200), this.aggregates.get(AggregateFacet.CATEGORY, this.comedy.getId()));
+    assertEquals(new Totals(1, 150), this.aggregates.get(AggregateFacet.CAST_MEMBER, this.castMember.getId()));
+    assertEquals(new Totals(2, 350), this.aggregates.get(AggregateFacet.RATING, this.rating));
+
+    // Read back, so the write is checked against the stored version.
+    final Video changed = this.videoRepository.findById(first.getId(), VideoFetchPlan.FULL_GRAPH).get();
+    changed.removeCategory(this.drama);
+    changed.addCategory(this.comedy);
+    changed.removeGenre(this.genre);
+    changed.setDuration(Duration.of(3));
+    changed.setRating(null);
+    this.videoRepository.save(changed);
+
+    assertEquals(new Totals(1, 200), this.aggregates.get(AggregateFacet.CATEGORY, this.drama.getId()));
+    assertEquals(new Totals(2, 500), this.aggregates.get(AggregateFacet.CATEGORY, this.comedy.getId()));
+    assertEquals(Totals.ZERO, this.aggregates.get(AggregateFacet.GENRE, this.genre.getId()));
+    assertEquals(new Totals(1, 300), this.aggregates.get(AggregateFacet.CAST_MEMBER, this.castMember.getId()));
+    assertEquals(new Totals(1, 200), this.aggregates.get(AggregateFacet.RATING, this.rating));
+    assertEquals(new Totals(total.getCount() + 2, total.getDurationHundredths() + 500), this.aggregates.total());
+
+    assertTrue(this.videoRepository.deleteById(second.getId()));
+    assertEquals(Totals.ZERO, this.aggregates.get(AggregateFacet.CATEGORY, this.drama.getId()));
+    assertFalse(this.aggregates.get(AggregateFacet.CATEGORY).containsKey(this.drama.getId()));
+    assertEquals(new Totals(1, 300), this.aggregates.get(AggregateFacet.CATEGORY, this.comedy.getId()));
+    assertEquals(Totals.ZERO, this.aggregates.get(AggregateFacet.RATING, this.rating));
+
+    final AggregateReport report = this.aggregates.verify(this.videoRepositoryAdapter);
+    assertTrue(report.isConsistent(), report.getMismatches().toString());
+  }
+
+  @Test
+  public void countOnlyCommittedWritesTest() {
+    this.transactionTemplate.executeWithoutResult(status -> {
+      final Video video = new Video("Rolled back", "", 2010, true, this.rating, Duration.of(1));
+      video.addCategory(this.drama);
+      this.videoRepository.save(video);
+      status.setRollbackOnly();
+    });
+    assertEquals(Totals.ZERO, this.aggregates.get(AggregateFacet.CATEGORY, this.drama.getId()));
+
+    // Deltas still waiting for their commit make a recount inconclusive.
+    final CatalogAggregates.Changes open = this.aggregates.begin();
+    assertFalse(this.aggregates.verify(this.videoRepositoryAdapter).isConclusive());
+    assertFalse(this.aggregates.rebuild(this.videoRepositoryAdapter));
+    open.abort();
+    assertTrue(this.aggregates.verify(this.videoRepositoryAdapter).isConsistent());
+  }
+
+  @Test
+  public void dropARecountOverlappedByAWriteTest() {
+    final CatalogAggregates.Recount overlapped = this.aggregates.recount();
+    this.videoRepositoryAdapter.forEach(VideoFetchPlan.DETAIL, overlapped::add);
+    final Video video = new Video("Counted", "", 2010, true, this.rating, Duration.of(1));
+    this.videoRepository.save(video);
+
+    assertFalse(overlapped.finish());
+    assertEquals(1, this.aggregates.get(AggregateFacet.RATING, this.rating).getCount());
+
+    final CatalogAggregates.Recount quiet = this.aggregates.recount();
+    this.videoRepositoryAdapter.forEach(VideoFetchPlan.DETAIL, quiet::add);
+    assertTrue(quiet.finish());
+    assertEquals(1, this.aggregates.get(AggregateFacet.RATING, this.rating).getCount());
+  }
+}
@@ -0,0 +1,105 @@
+package com.fullcycle.FCCatalogo.application.exporting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.StatementRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+public class VideoExporterTests {
+  @Autowired
+  private VideoExporter videoExporter;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private StatementRecorder statementRecorder;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  public void setUp() {
+    this.jdbcTemplate.update("delete from video_files");
+    this.jdbcTemplate.update("delete from videos_categories");
+    this.jdbcTemplate.update("delete from videos_genres");
+    this.jdbcTemplate.update("delete from videos_cast_members");
+    this.jdbcTemplate.update("delete from videos");
+    final Category category = new Category("Drama");
+    this.categoryRepository.save(category);
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 1200; i++) {
+      final Video video = new Video("Video, part " + i, "Say \"hi\"", 2000, true, "L", Duration.of(90L));
+      video.addCategory(category);
+      video.addVideoFile(new VideoFile("Trailer", Duration.of(2.5d), "trailer-" + i + ".mp4"));
+      videos.add(video);
+    }
+    this.videoRepository.saveAll(videos);
+  }
+
+  @Test
+  public void exportNdjsonOneChunkAtATimeTest() throws Exception {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    this.statementRecorder.reset();
+    assertEquals(1200, this.videoExporter.export(output, ExportFormat.NDJSON));
+
+    // Chunks of 500 rows, each a FULL_GRAPH load; with no genres its genre categories select is skipped.
+    assertEquals(3 * 5, this.statementRecorder.getSelects());
+    final List<String> lines = this.lines(output.toByteArray());
+    assertEquals(1200, lines.size());
+    final JsonNode first = this.objectMapper.readTree(lines.get(0));
+    assertEquals("Say \"hi\"", first.get("description").asText());
+    assertEquals("Drama", first.get("categories").get(0).get("name").asText());
+    assertEquals(2.5d, first.get("videoFiles").get(0).get("duration").asDouble());
+    assertEquals(1200, lines.stream().map(line -> line.substring(8, 44)).collect(Collectors.toSet()).size());
+  }
+
+  @Test
+  public void exportGzipCsvToFileTest(@TempDir Path directory) throws Exception {
+    final Path target = directory.resolve("videos.csv.gz");
+
+    assertEquals(1200, this.videoExporter.export(target, ExportFormat.CSV_GZIP));
+
+    final List<String> lines = this.lines(new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(target))).readAllBytes());
+    assertEquals(1201, lines.size());
+    assertEquals("id,title,description,year_launched,opened,rating,duration,categories,genres,cast_members,video_files", lines.get(0));
+    assertTrue(lines.get(1).matches("[0-9a-f-]{36},\"Video, part \\d+\",\"Say \"\"hi\"\"\",2000,true,L,90,Drama,,,trailer-\\d+\\.mp4"), lines.get(1));
+    assertEquals(1, Files.list(directory).count());
+  }
+
+  private List<String> lines(byte[] bytes) throws Exception {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8))) {
+      return reader.lines().collect(Collectors.toList());
+    }
+  }
+}
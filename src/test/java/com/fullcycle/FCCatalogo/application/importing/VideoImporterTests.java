@@ -0,0 +1,194 @@
+package com.fullcycle.FCCatalogo.application.importing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.KeysetPage;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoPageRequest;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+import org.junit.jupiter.api.Test;
+
+public class VideoImporterTests {
+
+  @Test
+  public void reportBadLinesAndImportTheRestTest() throws Exception {
+    final InMemoryVideoRepository repository = new InMemoryVideoRepository();
+    final String ndjson = String.join("\n",
+      "{\"title\":\"Cidade de Deus\",\"yearLaunched\":2002,\"opened\":true,\"rating\":\"16\",\"duration\":130.5,"
+        + "\"videoFiles\":[{\"title\":\"Trailer\",\"duration\":2.5,\"url\":\"trailer.mp4\"}]}",
+      "",
+      "{\"title\":\"\",\"yearLaunched\":2002}",
+      "not json",
+      "{\"title\":\"Tropa de Elite\",\"yearLaunched\":2007,\"unknown\":{\"nested\":[1,2]}}",
+      "{\"title\":\"Future\",\"yearLaunched\":3000}");
+
+    final ImportReport report = new VideoImporter(repository, 2, 2, 1).importNdjson(this.stream(ndjson));
+
+    assertEquals(2, report.getImported());
+    assertEquals(3, report.getFailed());
+    assertEquals(3, report.getErrors().get(0).getLine());
+    assertEquals("title is marked non-blank but is blank", report.getErrors().get(0).getMessage());
+    assertEquals(4, report.getErrors().get(1).getLine());
+    assertEquals(6, report.getErrors().get(2).getLine());
+    final Video imported = repository.videos.values().stream().filter(video -> video.getTitle().equals("Cidade de Deus")).findFirst().get();
+    assertEquals(13050L, imported.getDuration().toHundredths());
+    assertEquals(1, imported.getVideoFiles().size());
+  }
+
+  @Test
+  public void retryRejectedBatchRowByRowTest() throws Exception {
+    final InMemoryVideoRepository repository = new InMemoryVideoRepository();
+    final StringBuilder ndjson = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      ndjson.append("{\"title\":\"").append(i == 7 ? "reject" : "Video " + i).append("\",\"yearLaunched\":2000}\n");
+    }
+
+    final ImportReport report = new VideoImporter(repository, 5, 1, 1).importNdjson(this.stream(ndjson.toString()));
+
+    assertEquals(9, report.getImported());
+    assertEquals(1, report.getFailed());
+    assertEquals(8, report.getErrors().get(0).getLine());
+  }
+
+  @Test
+  public void keepReaderWithinBoundedDistanceOfWritersTest() throws Exception {
+    final InMemoryVideoRepository repository = new InMemoryVideoRepository();
+    repository.delayMillis = 2;
+    final GeneratedInput input = new GeneratedInput(20000);
+    repository.source = input;
+
+    final ImportReport report = new VideoImporter(repository, 100, 2, 1).importNdjson(input);
+
+    assertEquals(20000, report.getImported());
+    // Queues hold 6 batches and each of the 4 threads one more; the rest is the reader's buffer.
+    assertTrue(repository.maxAhead.get() < 20 * 100, "lines in flight: " + repository.maxAhead.get());
+  }
+
+  private InputStream stream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // Produces NDJSON lines only as they are read, like a slow network upload of an unbounded file.
+  private static final class GeneratedInput extends InputStream {
+    private final int lines;
+    private final AtomicLong produced = new AtomicLong();
+    private byte[] current = new byte[0];
+    private int position;
+
+    private GeneratedInput(int lines) {
+      this.lines = lines;
+    }
+
+    @Override
+    public int read() {
+      if(this.position == this.current.length) {
+        if(this.produced.get() == this.lines) return -1;
+        this.current = ("{\"title\":\"Video " + this.produced.incrementAndGet() + "\",\"yearLaunched\":2000}\n").getBytes(StandardCharsets.UTF_8);
+        this.position = 0;
+      }
+      return this.current[this.position++];
+    }
+  }
+
+  private static final class InMemoryVideoRepository implements VideoRepository {
+    private final Map<UUID, Video> videos = new ConcurrentHashMap<UUID, Video>();
+    private final AtomicLong maxAhead = new AtomicLong();
+    private volatile GeneratedInput source;
+    private volatile long delayMillis;
+
+    @Override
+    public Video save(Video video) {
+      if(video.getTitle().equals("reject")) throw new IllegalStateException("constraint violated");
+      this.videos.put(video.getId(), video);
+      return video;
+    }
+
+    @Override
+    public synchronized List<Video> saveAll(Collection<Video> videos) {
+      for (Video video : videos) {
+        if(video.getTitle().equals("reject")) throw new IllegalStateException("constraint violated");
+      }
+      for (Video video : videos) {
+        this.videos.put(video.getId(), video);
+      }
+      if(this.source != null) this.maxAhead.accumulateAndGet(this.source.produced.get() - this.videos.size(), Math::max);
+      try {
+        Thread.sleep(this.delayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new ArrayList<Video>(videos);
+    }
+
+    @Override
+    public Optional<Video> findById(UUID id) {
+      return Optional.ofNullable(this.videos.get(id));
+    }
+
+    @Override
+    public List<Video> findAllById(Collection<UUID> ids) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<UUID, Long> findVersions(Collection<UUID> ids) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+      return this.videos.remove(id) != null;
+    }
+
+    @Override
+    public long count() {
+      return this.videos.size();
+    }
+
+    @Override
+    public Optional<Video> findById(UUID id, VideoFetchPlan plan) {
+      return this.findById(id);
+    }
+
+    @Override
+    public List<Video> findAllById(Collection<UUID> ids, VideoFetchPlan plan) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public KeysetPage<Video> findPage(VideoPageRequest request) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public KeysetPage<Video> findPage(VideoPageRequest request, VideoFetchPlan plan) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public KeysetPage<UUID> findPageIds(VideoPageRequest request) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forEach(VideoFetchPlan plan, Consumer<Video> action) {
+      this.videos.values().forEach(action);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.fullcycle.FCCatalogo.application.index;
+
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.and;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.category;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.genre;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.not;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.opened;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.or;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.rating;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.yearLaunched;
+import static com.fullcycle.FCCatalogo.application.index.FacetQuery.yearLaunchedBetween;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeGate;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class VideoFacetIndexTests {
+  private final Category action = new Category("Action");
+  private final Category drama = new Category("Drama");
+  private final Genre thriller = new Genre("Thriller");
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenVideoIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> new VideoFacetIndex().index(null));
+  }
+
+  @Test
+  public void answerBooleanFacetQueriesTest() {
+    final VideoFacetIndex index = new VideoFacetIndex();
+    final Video first = this.video(2019, true, "L", this.action);
+    final Video second = this.video(2020, false, "12", this.action, this.drama);
+    final Video third = this.video(2020, true, "12", this.drama);
+    third.addGenre(this.thriller);
+    index.indexAll(Arrays.asList(first, second, third));
+
+    assertEquals(ids(first, second), new HashSet<UUID>(index.find(category(this.action.getId()), 0, 10)));
+    assertEquals(ids(second), new HashSet<UUID>(index.find(and(category(this.action.getId()), category(this.drama.getId())), 0, 10)));
+    assertEquals(ids(first, third), new HashSet<UUID>(index.find(or(yearLaunched(2019), genre(this.thriller.getId())), 0, 10)));
+    assertEquals(ids(third), new HashSet<UUID>(index.find(category(this.drama.getId()).andNot(category(this.action.getId())), 0, 10)));
+    assertEquals(ids(second), new HashSet<UUID>(index.find(opened(false), 0, 10)));
+    assertEquals(2, index.count(and(rating("12"), yearLaunchedBetween(2020, 2021))));
+    assertEquals(0, index.count(category(UUID.randomUUID())));
+    assertEquals(3, index.count(not(category(UUID.randomUUID()))));
+  }
+
+  @Test
+  public void countFacetValuesWithinResultTest() {
+    final VideoFacetIndex index = new VideoFacetIndex();
+    index.index(this.video(2019, true, "L", this.action));
+    index.index(this.video(2020, false, "12", this.action, this.drama));
+    index.index(this.video(2020, true, "12", this.drama));
+
+    final FacetCounts counts = index.facetCounts(category(this.action.getId()));
+
+    assertEquals(2, counts.getTotal());
+    assertEquals(2, counts.getCategories().get(this.action.getId()));
+    assertEquals(1, counts.getCategories().get(this.drama.getId()));
+    assertEquals(1, counts.getYearsLaunched().get(2019));
+    assertEquals(1, counts.getRatings().get("12"));
+    assertEquals(1, counts.getOpened());
+    assertEquals(1, counts.getNotOpened());
+  }
+
+  @Test
+  public void updateAndRemoveIncrementallyTest() {
+    final VideoFacetIndex index = new VideoFacetIndex();
+    final Video video = this.video(2019, true, "L", this.action);
+    index.index(video);
+
+    video.removeCategory(this.action);
+    video.addCategory(this.drama);
+    video.setYearLaunched(2020);
+    index.index(video);
+
+    assertEquals(0, index.count(category(this.action.getId())));
+    assertEquals(1, index.count(category(this.drama.getId())));
+    assertEquals(0, index.count(yearLaunched(2019)));
+    assertEquals(1, index.size());
+
+    assertTrue(index.remove(video.getId()));
+    assertFalse(index.remove(video.getId()));
+    assertEquals(0, index.count(category(this.drama.getId())));
+    assertEquals(0, index.count(FacetQuery.all()));
+    assertNull(index.facetCounts(FacetQuery.all()).getCategories().get(this.drama.getId()));
+  }
+
+  @Test
+  public void applyWritesCommittedDuringTheLoadAfterItTest() {
+    final VideoFacetIndex index = new VideoFacetIndex();
+    final VideoChangeGate gate = new VideoChangeGate((saved, deleted) -> {
+      saved.forEach(index::index);
+      deleted.forEach(index::remove);
+    });
+    final Video deleted = this.video(2019, true, "L", this.action);
+    final Video changed = this.video(2019, true, "L", this.action);
+    final Video committed = new Video(changed.getId(), "Video", "Description random", 2020, true, "L", Duration.of(10L));
+    committed.addCategory(this.drama);
+
+    gate.hold();
+    gate.committed(Arrays.asList(committed), Arrays.asList(deleted.getId()));
+    index.index(deleted);
+    index.index(changed);
+    gate.release();
+
+    assertEquals(1, index.size());
+    assertEquals(0, index.count(category(this.action.getId())));
+    assertEquals(Arrays.asList(changed.getId()), index.find(category(this.drama.getId()), 0, 10));
+    assertEquals(1, index.count(yearLaunched(2020)));
+  }
+
+  @Test
+  public void matchBruteForceOverRandomCatalogTest() {
+    final Random random = new Random(7);
+    final List<Category> categories = new ArrayList<Category>();
+    for (int i = 0; i < 10; i++) {
+      categories.add(new Category("Category " + i));
+    }
+    final List<Video> videos = new ArrayList<Video>();
+    final VideoFacetIndex index = new VideoFacetIndex();
+    for (int i = 0; i < 2000; i++) {
+      final Video video = this.video(1990 + random.nextInt(30), random.nextBoolean(), random.nextBoolean() ? "L" : "16");
+      for (int j = 0; j < 3; j++) {
+        video.addCategory(categories.get(random.nextInt(categories.size())));
+      }
+      videos.add(video);
+      index.index(video);
+    }
+    for (int i = 0; i < 500; i++) {
+      index.remove(videos.remove(random.nextInt(videos.size())).getId());
+    }
+
+    final UUID first = categories.get(0).getId();
+    final UUID second = categories.get(1).getId();
+    final FacetQuery query = and(or(category(first), category(second)), not(yearLaunchedBetween(2000, 2009)), opened(true));
+    final Predicate<Video> expected = video -> (video.getCategories().contains(categories.get(0)) || video.getCategories().contains(categories.get(1)))
+      && (video.getYearLaunched() < 2000 || video.getYearLaunched() > 2009) && video.isOpened();
+
+    final Set<UUID> matches = videos.stream().filter(expected).map(Video::getId).collect(Collectors.toSet());
+    assertEquals(matches, new HashSet<UUID>(index.find(query, 0, Integer.MAX_VALUE)));
+    assertEquals(matches.size(), index.facetCounts(query).getTotal());
+  }
+
+  private Video video(int yearLaunched, boolean opened, String rating, Category... categories) {
+    final Video video = new Video("Video", "Description random", yearLaunched, opened, rating, Duration.of(10L));
+    for (Category category : categories) {
+      video.addCategory(category);
+    }
+    return video;
+  }
+
+  private static Set<UUID> ids(Video... videos) {
+    return Arrays.stream(videos).map(Video::getId).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.FCCatalogo.application.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CatalogMetricsTests {
+
+  @Test
+  public void estimatePercentilesWithinOneBucketTest() {
+    final CatalogMetrics metrics = new CatalogMetrics(1);
+    final Distribution distribution = metrics.distribution("sizes");
+    for (int value = 1; value <= 1000; value++) {
+      distribution.record(value);
+    }
+
+    final Map<String, Double> measurements = metrics.snapshot().get(0).getMeasurements();
+
+    assertEquals(1000, measurements.get("count"));
+    assertEquals(500.5, measurements.get("mean"));
+    assertEquals(1000, measurements.get("max"));
+    assertTrue(Math.abs(measurements.get("p50") - 500) <= 500 / 8.0, "p50: " + measurements.get("p50"));
+    assertTrue(Math.abs(measurements.get("p99") - 990) <= 990 / 8.0, "p99: " + measurements.get("p99"));
+  }
+
+  @Test
+  public void scaleSampledCallsBackToAllCallsTest() {
+    final CatalogMetrics metrics = new CatalogMetrics(16);
+    final Timer timer = metrics.timer("calls");
+    for (int i = 0; i < 160000; i++) {
+      timer.stop(timer.start());
+    }
+    metrics.timer("exact").record(3, TimeUnit.MILLISECONDS);
+    metrics.counter("counted", "outcome", "ok").increment(7);
+
+    final double estimated = metrics.snapshot().stream().filter(metric -> metric.getName().equals("calls")).findFirst().get().getMeasurements().get("count");
+    assertTrue(Math.abs(estimated - 160000) < 160000 * 0.05, "estimated: " + estimated);
+    assertEquals(3.0, metrics.snapshot().stream().filter(metric -> metric.getName().equals("exact")).findFirst().get().getMeasurements().get("total"), 3 / 8.0);
+    assertEquals(7, metrics.counter("counted", "outcome", "ok").count());
+    assertEquals(Timer.NOT_SAMPLED, CatalogMetrics.disabled().timer("calls").start());
+  }
+
+  @Test
+  public void nameTheFieldOfDomainMessagesTest() {
+    assertEquals("yearLaunched", ValidationFailures.field("yearLaunched must be greather than 1700"));
+    assertEquals("yearLaunched", ValidationFailures.field("year launched is greater than current year"));
+    assertEquals("videoFiles", ValidationFailures.field("video files are marked non-null but is null"));
+    assertEquals("id", ValidationFailures.field("ID is marked non-null but is null"));
+    assertEquals("name", ValidationFailures.field("Name is marked non-blank but is blank"));
+    assertEquals(ValidationFailures.UNKNOWN_FIELD, ValidationFailures.field("Unexpected character ('x')"));
+  }
+}
@@ -0,0 +1,171 @@
+package com.fullcycle.FCCatalogo.application.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeGate;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class VideoSearchIndexTests {
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenLimitIsNotPositive() {
+    assertThrows(IllegalArgumentException.class, () -> new VideoSearchIndex().search("video", 0));
+  }
+
+  @Test
+  public void foldAccentsAndDropStopWordsTest() {
+    final Tokenizer tokenizer = new Tokenizer();
+
+    assertEquals(Arrays.asList("acao", "coracao", "sao", "paulo"), tokenizer.tokenize("Ação do Coração: São-Paulo"));
+    assertEquals(Arrays.asList("lord", "rings"), tokenizer.tokenize("The Lord of the Rings"));
+    assertTrue(tokenizer.tokenize(null).isEmpty());
+  }
+
+  @Test
+  public void rankTitleMatchesAboveDescriptionMatchesTest() {
+    final VideoSearchIndex index = new VideoSearchIndex();
+    final Video inTitle = this.video("Tropa de Elite", "Policiais no Rio de Janeiro");
+    final Video inDescription = this.video("Cidade de Deus", "Jovens e policiais, uma tropa de amigos");
+    final Video unrelated = this.video("Central do Brasil", "Uma viagem pelo sertão");
+    index.index(inTitle);
+    index.index(inDescription);
+    index.index(unrelated);
+
+    final List<UUID> hits = ids(index.search("tropa", 10));
+
+    assertEquals(Arrays.asList(inTitle.getId(), inDescription.getId()), hits);
+  }
+
+  @Test
+  public void matchAccentInsensitiveAcrossAssociationsTest() {
+    final VideoSearchIndex index = new VideoSearchIndex();
+    final Video video = this.video("Filme", "Descrição");
+    video.addCategory(new Category("Ação"));
+    video.addCastMember(new CastMember("Wagner Moura"));
+    index.index(video);
+
+    assertEquals(Arrays.asList(video.getId()), ids(index.search("ACAO", 10)));
+    assertEquals(Arrays.asList(video.getId()), ids(index.search("moura", 10)));
+    assertEquals(Arrays.asList(video.getId()), ids(index.search("descricao", 10)));
+    assertTrue(index.search("comédia", 10).isEmpty());
+  }
+
+  @Test
+  public void updateAndDeleteIncrementallyTest() {
+    final VideoSearchIndex index = new VideoSearchIndex();
+    final Video video = this.video("Old title", "Description");
+    index.index(video);
+
+    video.setTitle("New title");
+    index.index(video);
+
+    assertTrue(index.search("old", 10).isEmpty());
+    assertEquals(1, index.search("new", 10).size());
+    assertEquals(1, index.size());
+
+    assertTrue(index.remove(video.getId()));
+    assertFalse(index.remove(video.getId()));
+    assertTrue(index.search("new", 10).isEmpty());
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void keepTopKHitsAcrossCompactionsTest() {
+    final VideoSearchIndex index = new VideoSearchIndex();
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 5000; i++) {
+      final Video video = this.video("Episode " + i, i % 2 == 0 ? "space opera" : "space western opera opera");
+      videos.add(video);
+      index.index(video);
+    }
+    for (int i = 0; i < 4000; i++) {
+      index.remove(videos.get(i).getId());
+    }
+
+    final List<SearchHit> hits = index.search("opera", 5);
+
+    assertEquals(5, hits.size());
+    for (int i = 1; i < hits.size(); i++) {
+      assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+    }
+    for (SearchHit hit : hits) {
+      assertTrue(videos.subList(4000, 5000).stream().anyMatch(video -> video.getId().equals(hit.getVideoId())));
+    }
+    assertEquals(1, index.search("episode 4321", 1).size());
+    assertEquals(videos.get(4321).getId(), index.search("4321", 1).get(0).getVideoId());
+  }
+
+  @Test
+  public void findVideosByTheNewNameOfARenamedReferenceTest() {
+    final VideoSearchIndex index = new VideoSearchIndex();
+    final Category drama = new Category("Drama");
+    drama.markPersisted(1);
+    final Video first = this.video("Central do Brasil", "Uma carta");
+    first.addCategory(drama);
+    final Video second = this.video("Tropa de Elite", "Policiais");
+    second.addCategory(drama);
+    index.index(first);
+    index.index(second);
+    final Category renamed = new Category(drama.getId(), "Suspense");
+    renamed.markPersisted(2);
+
+    index.rename(renamed);
+    index.index(first);
+
+    assertTrue(index.search("drama", 10).isEmpty());
+    assertEquals(2, index.search("suspense", 10).size());
+    assertEquals(Arrays.asList(first.getId()), ids(index.search("carta", 10)));
+
+    index.removeReference(drama.getId());
+    index.index(second);
+
+    assertTrue(index.search("suspense", 10).isEmpty());
+    assertTrue(index.search("drama", 10).isEmpty());
+    assertEquals(Arrays.asList(second.getId()), ids(index.search("policiais", 10)));
+  }
+
+  @Test
+  public void applyWritesCommittedDuringTheLoadAfterItTest() {
+    final VideoSearchIndex index = new VideoSearchIndex();
+    final VideoChangeGate gate = new VideoChangeGate((saved, deleted) -> {
+      saved.forEach(index::index);
+      deleted.forEach(index::remove);
+    });
+    final Video deleted = this.video("Central do Brasil", "Uma carta");
+    final Video changed = this.video("Tropa de Elite", "Policiais");
+    final Video committed = new Video(changed.getId(), "Tropa de Elite 2", "Milicianos", 2010, true, "L", Duration.of(90L));
+
+    gate.hold();
+    gate.committed(Arrays.asList(committed), Arrays.asList(deleted.getId()));
+    index.index(deleted);
+    index.index(changed);
+    gate.release();
+
+    assertEquals(1, index.size());
+    assertTrue(index.search("carta", 10).isEmpty());
+    assertTrue(index.search("policiais", 10).isEmpty());
+    assertEquals(Arrays.asList(changed.getId()), ids(index.search("milicianos", 10)));
+  }
+
+  private Video video(String title, String description) {
+    return new Video(title, description, 2020, true, "L", Duration.of(90L));
+  }
+
+  private static List<UUID> ids(List<SearchHit> hits) {
+    return hits.stream().map(SearchHit::getVideoId).collect(Collectors.toList());
+  }
+}
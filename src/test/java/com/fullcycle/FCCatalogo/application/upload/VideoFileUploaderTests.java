@@ -0,0 +1,214 @@
+package com.fullcycle.FCCatalogo.application.upload;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Random;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.fullcycle.FCCatalogo.infrastructure.storage.LocalMediaStorage;
+import com.fullcycle.FCCatalogo.infrastructure.storage.LocalUploadSessionStore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class VideoFileUploaderTests {
+  @Autowired
+  private VideoFileUploader uploader;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private LocalMediaStorage storage;
+  @Autowired
+  private LocalUploadSessionStore sessions;
+
+  @Test
+  public void resumeAfterDroppedConnectionAndRestartTest() throws Exception {
+    final Video video = this.videoRepository.save(new Video("Uploaded", "", 2020, true));
+    final byte[] media = movie(300_000, 600, 90_000);
+    final String id = this.uploader.start(video.getId(), null, "Feature", media.length, sha256(media), null, "feature.MP4").get().getUploadId();
+
+    assertThrows(IOException.class, () -> this.uploader.append(id, 0, new Body(media, 0, 100_000)));
+    assertEquals(100_000, this.uploader.status(id).get().getOffset());
+    final UploadConflictException conflict = assertThrows(UploadConflictException.class, () -> this.uploader.append(id, 0, new Body(media, 0, -1)));
+    assertEquals(100_000, conflict.getOffset());
+
+    // A new instance has no running digest and hashes what the part already holds.
+    final VideoFileUploader restarted = new VideoFileUploader(this.videoRepository, this.storage, this.sessions, Long.MAX_VALUE, Clock.systemUTC());
+    final UploadStatus status = restarted.append(id, 100_000, new Body(media, 100_000, -1)).get();
+
+    assertTrue(status.isComplete());
+    assertEquals("/media/videos/" + video.getId() + "/" + status.getVideoFileId() + ".mp4", status.getUrl());
+    final VideoFile videoFile = this.videoRepository.findById(video.getId(), VideoFetchPlan.FULL_GRAPH).get().getVideoFiles().iterator().next();
+    assertEquals(status.getUrl(), videoFile.getUrl());
+    assertEquals(Duration.of(2.5), videoFile.getDuration());
+    assertArrayEquals(media, Files.readAllBytes(this.storage.resolveUrl(status.getUrl())));
+    assertEquals(media.length, restarted.append(id, media.length, new Body(media, media.length, -1)).get().getOffset());
+  }
+
+  @Test
+  public void startOverWhenTheChecksumDoesNotMatchTest() throws Exception {
+    final Video video = this.videoRepository.save(new Video("Corrupted", "", 2020, true));
+    final byte[] media = new byte[5000];
+    new Random(7).nextBytes(media);
+    final String id = this.uploader.start(video.getId(), null, "Trailer", media.length, sha256(new byte[5000]), Duration.of(1.25), "trailer.webm").get().getUploadId();
+
+    assertThrows(UploadRejectedException.class, () -> this.uploader.append(id, 0, new Body(media, 0, -1)));
+    assertEquals(0, this.uploader.status(id).get().getOffset());
+    assertThrows(IllegalArgumentException.class, () -> this.uploader.append(id, 0, new Body(new byte[5001], 0, -1)));
+    assertEquals(5000, this.uploader.status(id).get().getOffset());
+    assertTrue(this.uploader.cancel(id));
+    assertFalse(this.uploader.status(id).isPresent());
+    assertTrue(this.videoRepository.findById(video.getId(), VideoFetchPlan.FULL_GRAPH).get().getVideoFiles().isEmpty());
+  }
+
+  @Test
+  public void replaceAFileOfTheVideoWithoutChangingTheLoadedOneTest() throws Exception {
+    final Video video = new Video("Replaced", "", 2020, true);
+    video.addVideoFile(new VideoFile("Trailer", Duration.of(1), "old.mp4"));
+    this.videoRepository.save(video);
+    final Video other = this.videoRepository.save(new Video("Other", "", 2020, true));
+    final Video loaded = this.videoRepository.findById(video.getId(), VideoFetchPlan.FULL_GRAPH).get();
+    final VideoFile trailer = loaded.getVideoFiles().iterator().next();
+    final byte[] media = new byte[3000];
+
+    assertThrows(IllegalArgumentException.class, () -> this.uploader.start(other.getId(), trailer.getId(), "Trailer", media.length, null, Duration.of(2), "t.mp4"));
+    final String id = this.uploader.start(video.getId(), trailer.getId(), "New trailer", media.length, null, Duration.of(2), "t.mp4").get().getUploadId();
+    final UploadStatus status = this.uploader.append(id, 0, new Body(media, 0, -1)).get();
+
+    assertEquals("old.mp4", trailer.getUrl());
+    final Video stored = this.videoRepository.findById(video.getId(), VideoFetchPlan.FULL_GRAPH).get();
+    assertEquals(1, stored.getVideoFiles().size());
+    final VideoFile replaced = stored.getVideoFiles().iterator().next();
+    assertEquals(trailer.getId(), replaced.getId());
+    assertEquals("New trailer", replaced.getTitle());
+    assertEquals(status.getUrl(), replaced.getUrl());
+    assertTrue(replaced.getVersion() > trailer.getVersion());
+  }
+
+  @Test
+  public void resumeAPublishedUploadAfterARestartTest() throws Exception {
+    final Video video = this.videoRepository.save(new Video("Published", "", 2020, true));
+    final byte[] media = movie(20_000, 600, 36_000);
+    // Stops like a process killed after the part was moved and before the video was written.
+    final VideoRepository crashing = (VideoRepository) Proxy.newProxyInstance(VideoRepository.class.getClassLoader(), new Class<?>[] { VideoRepository.class },
+      (proxy, method, args) -> {
+        if(method.getName().equals("save")) throw new IllegalStateException("killed");
+        try {
+          return method.invoke(this.videoRepository, args);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      });
+    final VideoFileUploader killed = new VideoFileUploader(crashing, this.storage, this.sessions, Long.MAX_VALUE, Clock.systemUTC());
+    final String id = killed.start(video.getId(), null, "Feature", media.length, sha256(media), null, "feature.mp4").get().getUploadId();
+
+    assertThrows(IllegalStateException.class, () -> killed.append(id, 0, new Body(media, 0, -1)));
+    assertEquals(0, this.storage.partLength(id));
+
+    final VideoFileUploader restarted = new VideoFileUploader(this.videoRepository, this.storage, this.sessions, Long.MAX_VALUE, Clock.systemUTC());
+    assertEquals(media.length, restarted.status(id).get().getOffset());
+    assertThrows(UploadConflictException.class, () -> restarted.append(id, 0, new Body(media, 0, -1)));
+    final UploadStatus status = restarted.append(id, media.length, new Body(media, media.length, -1)).get();
+
+    assertTrue(status.isComplete());
+    final VideoFile videoFile = this.videoRepository.findById(video.getId(), VideoFetchPlan.FULL_GRAPH).get().getVideoFiles().iterator().next();
+    assertEquals(status.getUrl(), videoFile.getUrl());
+    assertEquals(Duration.of(1.0), videoFile.getDuration());
+    assertArrayEquals(media, Files.readAllBytes(this.storage.resolveUrl(status.getUrl())));
+  }
+
+  @Test
+  public void expireUploadsStartedBeforeTheMaxAgeTest() throws Exception {
+    final Video video = this.videoRepository.save(new Video("Abandoned", "", 2020, true));
+    final byte[] media = new byte[4000];
+    final VideoFileUploader yesterday = new VideoFileUploader(this.videoRepository, this.storage, this.sessions, Long.MAX_VALUE,
+      Clock.offset(Clock.systemUTC(), java.time.Duration.ofHours(-25)));
+    final String abandoned = yesterday.start(video.getId(), null, "Abandoned", media.length, null, Duration.of(1), "a.mp4").get().getUploadId();
+    assertThrows(IOException.class, () -> yesterday.append(abandoned, 0, new Body(media, 0, 1000)));
+    final String fresh = this.uploader.start(video.getId(), null, "Fresh", media.length, null, Duration.of(1), "f.mp4").get().getUploadId();
+    assertThrows(IOException.class, () -> this.uploader.append(fresh, 0, new Body(media, 0, 1000)));
+    this.storage.openPart("left-over").close();
+
+    assertTrue(this.uploader.expire(java.time.Duration.ofHours(24)) >= 1);
+
+    assertFalse(this.uploader.status(abandoned).isPresent());
+    assertFalse(yesterday.append(abandoned, 1000, new Body(media, 1000, -1)).isPresent());
+    assertFalse(this.storage.partIds().contains(abandoned));
+    assertFalse(this.storage.partIds().contains("left-over"));
+    assertEquals(1000, this.uploader.status(fresh).get().getOffset());
+    assertTrue(this.storage.partIds().contains(fresh));
+  }
+
+  // ftyp, mdat with the payload, then moov/mvhd (version 0) at the end as most encoders leave it.
+  static byte[] movie(int payload, int timescale, int duration) {
+    final ByteBuffer movie = ByteBuffer.allocate(16 + 8 + payload + 8 + 8 + 100);
+    movie.putInt(16).put("ftyp".getBytes()).put("isom".getBytes()).putInt(512);
+    movie.putInt(8 + payload).put("mdat".getBytes());
+    final byte[] bytes = new byte[payload];
+    new Random(payload).nextBytes(bytes);
+    movie.put(bytes);
+    movie.putInt(8 + 8 + 100).put("moov".getBytes());
+    movie.putInt(8 + 100).put("mvhd".getBytes());
+    movie.putInt(0).putInt(0).putInt(0).putInt(timescale).putInt(duration);
+    return movie.array();
+  }
+
+  static String sha256(byte[] bytes) throws Exception {
+    final StringBuilder hex = new StringBuilder();
+    for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  // Hands out the bytes in small reads and, with a breakAt, fails there like a dropped connection.
+  private static final class Body implements ReadableByteChannel {
+    private final byte[] bytes;
+    private final int breakAt;
+    private int position;
+
+    private Body(byte[] bytes, int from, int breakAt) {
+      this.bytes = bytes;
+      this.position = from;
+      this.breakAt = breakAt;
+    }
+
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+      if(this.position == this.breakAt) throw new IOException("connection reset");
+      if(this.position == this.bytes.length) return -1;
+      final int end = this.breakAt < 0 ? this.bytes.length : this.breakAt;
+      final int length = Math.min(Math.min(buffer.remaining(), 7000), end - this.position);
+      buffer.put(this.bytes, this.position, length);
+      this.position += length;
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
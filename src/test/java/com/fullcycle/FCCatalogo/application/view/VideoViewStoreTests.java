@@ -0,0 +1,123 @@
+package com.fullcycle.FCCatalogo.application.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoChangeGate;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class VideoViewStoreTests {
+
+  @Test
+  public void projectScalarsAndAssociationIdsTest() {
+    final Category category = new Category("Drama");
+    final Genre genre = new Genre("Crime", Arrays.asList(category));
+    final CastMember castMember = new CastMember("Alice Braga");
+    final Video video = new Video("Cidade de Deus", "Description", 2002, null, new String("16"), Duration.parse("130.5"));
+    video.addCategory(category);
+    video.addGenre(genre);
+    video.addCastMember(castMember);
+    video.setVideoFiles(Arrays.asList(new VideoFile("Trailer", Duration.of(2L), "trailer.mp4")));
+
+    final VideoView view = VideoView.of(video);
+
+    assertEquals(video.getId(), view.getId());
+    assertEquals("Cidade de Deus", view.getTitle());
+    assertEquals(2002, view.getYearLaunched());
+    assertNull(view.getOpened());
+    assertSame("16", view.getRating());
+    assertEquals(13050L, view.getDurationHundredths());
+    assertEquals(Arrays.asList(category.getId()), view.getCategoryIds());
+    assertEquals(Arrays.asList(genre.getId()), view.getGenreIds());
+    assertTrue(view.hasCastMember(castMember.getId()));
+    assertFalse(view.hasCategory(genre.getId()));
+    assertEquals("Trailer", view.getVideoFiles().get(0).getTitle());
+    assertEquals(video.getVersion(), view.getVersion());
+  }
+
+  @Test
+  public void keepPublishedSnapshotsUnchangedByLaterWritesTest() {
+    final VideoViewStore store = new VideoViewStore();
+    final Video video = this.video("Original");
+    store.putAll(Arrays.asList(video));
+    final VideoViewSnapshot before = store.snapshot();
+
+    final Video updated = this.copy(video, "Updated");
+    store.putAll(Arrays.asList(updated));
+
+    assertEquals("Original", before.get(video.getId()).getTitle());
+    assertEquals("Updated", store.get(video.getId()).get().getTitle());
+    store.putAll(Arrays.asList(video));
+    assertEquals("Updated", store.get(video.getId()).get().getTitle());
+  }
+
+  @Test
+  public void findEveryRemainingViewAfterRemovalsTest() {
+    final VideoViewStore store = new VideoViewStore();
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 5000; i++) {
+      videos.add(this.video("Video " + i));
+    }
+    store.putAll(videos);
+    final List<UUID> removed = new ArrayList<UUID>();
+    for (int i = 0; i < 5000; i += 3) {
+      removed.add(videos.get(i).getId());
+    }
+
+    store.removeAll(removed);
+
+    assertEquals(5000 - removed.size(), store.snapshot().size());
+    for (int i = 0; i < 5000; i++) {
+      assertEquals(i % 3 != 0, store.get(videos.get(i).getId()).isPresent(), "video " + i);
+    }
+    final int[] counted = new int[1];
+    store.snapshot().forEach(view -> counted[0]++);
+    assertEquals(store.snapshot().size(), counted[0]);
+  }
+
+  @Test
+  public void keepAVideoDeletedDuringTheLoadOutTest() {
+    final VideoViewStore store = new VideoViewStore();
+    final VideoChangeGate gate = new VideoChangeGate(store::apply);
+    final Video video = this.video("Deleted");
+    final Video kept = this.video("Kept");
+
+    gate.hold();
+    final List<Video> scanned = Arrays.asList(video, kept);
+    gate.committed(List.of(), List.of(video.getId()));
+    gate.committed(List.of(this.copy(kept, "Renamed")), List.of());
+    store.putAll(scanned);
+    assertTrue(store.get(video.getId()).isPresent());
+    gate.release();
+
+    assertFalse(store.get(video.getId()).isPresent());
+    assertEquals("Renamed", store.get(kept.getId()).get().getTitle());
+    gate.committed(List.of(), List.of(kept.getId()));
+    assertEquals(0, store.snapshot().size());
+  }
+
+  private Video video(String title) {
+    return new Video(title, "Description", 2020, true, "L", Duration.of(90L));
+  }
+
+  private Video copy(Video video, String title) {
+    final Video copy = new Video(video.getId(), title, video.getDescription(), video.getYearLaunched(), video.getOpened(), video.getRating(), video.getDuration());
+    copy.markPersisted(video.getVersion() + 1);
+    return copy;
+  }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.identity.IdGenerator;
+import com.fullcycle.FCCatalogo.domain.identity.TimeOrderedIdGenerator;
+
+import org.junit.jupiter.api.Test;
+
+public class BaseEntityTests {
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenIDIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> new BaseEntity().setId(null));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenIdGeneratorIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> BaseEntity.setIdGenerator(null));
+  }
+
+  @Test
+  public void isValidUUIDTest() {
+    final BaseEntity entity = new BaseEntity();
+
+    assertTrue(entity.isValidUUID("123e4567-e89b-12d3-a456-426614174000"));
+    assertTrue(entity.isValidUUID("123E4567-E89B-12D3-A456-426614174000"));
+    assertTrue(entity.isValidUUID("{123e4567-e89b-12d3-a456-426614174000}"));
+    assertTrue(entity.isValidUUID("{123e4567-e89b-12d3-a456-426614174000"));
+    assertTrue(entity.isValidUUID("123e4567-e89b-12d3-a456-426614174000}"));
+    assertFalse(entity.isValidUUID(null));
+    assertFalse(entity.isValidUUID(""));
+    assertFalse(entity.isValidUUID("{}"));
+    assertFalse(entity.isValidUUID("123e4567-e89b-12d3-a456-42661417400"));
+    assertFalse(entity.isValidUUID("123e4567-e89b-12d3-a456-4266141740000"));
+    assertFalse(entity.isValidUUID("123e4567_e89b-12d3-a456-426614174000"));
+    assertFalse(entity.isValidUUID("123e4567-e89b-12d3-a456-42661417400g"));
+    assertFalse(entity.isValidUUID("{{123e4567-e89b-12d3-a456-426614174000}"));
+  }
+
+  @Test
+  public void bumpVersionOnEveryMutationTest() {
+    final Video video = new Video("Title", "Description", 2020, true);
+    final Category category = new Category("Category");
+    final long created = video.getVersion();
+
+    video.setTitle("Other title");
+    video.addCategory(category);
+    video.addCategory(category);
+    assertEquals(created + 2, video.getVersion());
+    video.removeCategory(category);
+    assertEquals(created + 3, video.getVersion());
+    assertEquals(0, video.getPersistedVersion());
+
+    video.markPersisted(10);
+    video.setRating("L");
+    assertEquals(11, video.getVersion());
+    assertEquals(10, video.getPersistedVersion());
+    assertThrows(IllegalArgumentException.class, () -> video.markPersisted(-1));
+  }
+
+  @Test
+  public void generateUUIDWithConfiguredIdGeneratorTest() {
+    final IdGenerator previous = BaseEntity.getIdGenerator();
+    try {
+      BaseEntity.setIdGenerator(new TimeOrderedIdGenerator());
+      final Category entity = new Category("Category 1");
+
+      assertEquals(7, entity.getId().version());
+    } finally {
+      BaseEntity.setIdGenerator(previous);
+    }
+  }
+
+  @Test
+  public void setIdTest() {
+    final UUID id = UUID.randomUUID();
+    final BaseEntity entity = new BaseEntity();
+    entity.setId(id);
+
+    assertEquals(id, entity.getId());
+  }
+
+  @Test
+  public void equalityByIdTest() {
+    final UUID id = UUID.randomUUID();
+
+    assertEquals(new Category(id, "Category 1"), new Category(id, "Category 2"));
+    assertEquals(new Category(id, "Category 1").hashCode(), new Category(id, "Category 2").hashCode());
+    assertNotEquals(new Category(id, "Category 1"), new Genre(id, "Genre 1", new ArrayList<Category>()));
+    assertNotEquals(new Category(), new Category());
+  }
+}
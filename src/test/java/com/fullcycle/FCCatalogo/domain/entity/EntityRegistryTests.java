@@ -0,0 +1,113 @@
+package com.fullcycle.FCCatalogo.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class EntityRegistryTests {
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenEntityIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> new EntityRegistry<Category>().canonicalize(null));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenEntityHasNoId() {
+    assertThrows(IllegalArgumentException.class, () -> new EntityRegistry<Category>().canonicalize(new Category()));
+  }
+
+  @Test
+  public void shareTheLoadedInstanceForTheSameIdTest() {
+    final EntityRegistry<Category> registry = new EntityRegistry<Category>();
+    final UUID id = UUID.randomUUID();
+    final Category first = loaded(new Category(id, "Category 1"), 1);
+
+    assertSame(first, registry.canonicalize(first));
+    assertSame(first, registry.canonicalize(loaded(new Category(id, "Category 1"), 1)));
+    assertSame(first, registry.get(id));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void replaceTheSharedInstanceWithANewerOrUnchangedOneTest() {
+    final EntityRegistry<Category> registry = new EntityRegistry<Category>();
+    final UUID id = UUID.randomUUID();
+    final Category first = registry.canonicalize(loaded(new Category(id, "Category 1"), 1));
+
+    final Category renamed = loaded(new Category(id, "Renamed elsewhere"), 2);
+    assertSame(renamed, registry.canonicalize(renamed));
+    assertSame(renamed, registry.canonicalize(first));
+
+    // Edited in memory and not saved yet: a fresh load must not come back as the edited copy.
+    renamed.setName("Unsaved");
+    final Category reloaded = loaded(new Category(id, "Renamed elsewhere"), 2);
+    assertSame(reloaded, registry.canonicalize(reloaded));
+  }
+
+  @Test
+  public void passThroughWhenDisabledTest() {
+    final EntityRegistry<Category> registry = new EntityRegistry<Category>();
+    registry.setEnabled(false);
+    final UUID id = UUID.randomUUID();
+    final Category second = new Category(id, "Category 1");
+    registry.canonicalize(new Category(id, "Category 1"));
+
+    assertSame(second, registry.canonicalize(second));
+    assertNull(registry.get(id));
+  }
+
+  @Test
+  public void keepWhatIsAddedToAVideoTest() {
+    final UUID id = UUID.randomUUID();
+    ReferenceEntities.categories().canonicalize(loaded(new Category(id, "Category 1"), 1));
+    final Video video = new Video("Video 1", "Description random", 2020, false, "L", Duration.of(10L));
+    video.addCategory(new Category(id, "Renamed"));
+
+    assertEquals("Renamed", video.getCategories().iterator().next().getName());
+  }
+
+  @Test
+  public void shareLoadedReferenceEntitiesAcrossVideosTest() {
+    final UUID categoryId = UUID.randomUUID();
+    final UUID genreId = UUID.randomUUID();
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 3; i++) {
+      final Video video = new Video("Video " + i, "Description random", 2020, false, "L", Duration.of(10L));
+      final List<Category> categories = new ArrayList<Category>();
+      categories.add(loaded(new Category(categoryId, "Category 1"), 1));
+      final List<Category> genreCategories = ReferenceEntities.canonicalize(categories, ReferenceEntities.categories());
+      final List<Genre> genres = new ArrayList<Genre>();
+      genres.add(loaded(new Genre(genreId, "Genre 1", genreCategories), 1));
+      video.setCategories(ReferenceEntities.canonicalize(categories, ReferenceEntities.categories()));
+      video.setGenres(ReferenceEntities.canonicalize(genres, ReferenceEntities.genres()));
+      videos.add(video);
+    }
+
+    final Category shared = videos.get(0).getCategories().iterator().next();
+    final Genre sharedGenre = videos.get(0).getGenres().iterator().next();
+    for (Video video : videos) {
+      assertSame(shared, video.getCategories().iterator().next());
+      assertSame(sharedGenre, video.getGenres().iterator().next());
+      assertSame(shared, video.getGenres().iterator().next().getCategories().iterator().next());
+    }
+
+    // The genre loaded after its category was renamed embeds the new category, so it replaces the shared genre.
+    final Category renamed = ReferenceEntities.categories().canonicalize(loaded(new Category(categoryId, "Renamed"), 2));
+    final Genre reloaded = loaded(new Genre(genreId, "Genre 1", List.of(renamed)), 1);
+    assertSame(reloaded, ReferenceEntities.genres().canonicalize(reloaded));
+  }
+
+  private static <T extends BaseEntity> T loaded(T entity, long version) {
+    entity.markPersisted(version);
+    return entity;
+  }
+}
@@ -107,4 +107,19 @@ public class GenreTests {
 
     assertNotNull(entity.getCategories());
   }
+
+  @Test
+  public void changeCategoriesOnlyThroughTheGenreTest() {
+    final Genre entity = new Genre("Genre 1");
+    entity.addCategory(new Category("Category 1"));
+
+    assertThrows(UnsupportedOperationException.class, () -> entity.getCategories().add(new Category("Category 2")));
+    assertThrows(UnsupportedOperationException.class, () -> entity.getCategories().iterator().remove());
+    assertThrows(UnsupportedOperationException.class, () -> entity.getCategories().clear());
+
+    final long version = entity.getVersion();
+    entity.addCategory(new Category("Category 2"));
+    assertTrue(entity.getVersion() > version);
+    assertEquals(2, entity.getCategories().size());
+  }
 }
@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.UUID;
 
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -58,7 +60,7 @@ public class VideoTests {
 
   @Test
   public void createVideoWithTitleAndYearLanchedAndRatingAndDurationTest() {
-    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", (Float) 13.0f);
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
 
     assertNotNull(entity);
     assertEquals(entity.getTitle(), "Video 1");
@@ -98,7 +100,7 @@ public class VideoTests {
     Video entity = new Video();
     assertNotNull(entity);
 
-    Video videoCreated = entity.createVideoWithoutFile("Video 1", "Description random", 2019, (Float) 10.0f, categories, genres, castMembers);
+    Video videoCreated = entity.createVideoWithoutFile("Video 1", "Description random", 2019, Duration.of(10.0f), categories, genres, castMembers);
 
     assertNotNull(videoCreated);
     assertEquals(videoCreated.getTitle(), "Video 1");
@@ -121,7 +123,7 @@ public class VideoTests {
     categories.add(category1);
     categories.add(category2);
 
-    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", (Float) 13.0f);
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
 
     entity.setCategories(categories);
     
@@ -144,7 +146,7 @@ public class VideoTests {
     assertNotNull(category1);
     assertNotNull(category2);
 
-    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", (Float) 13.0f);
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
 
     entity.addCategory(category1);
     entity.addCategory(category2);
@@ -167,7 +169,7 @@ public class VideoTests {
     assertNotNull(genre1);
     assertNotNull(genre2);
 
-    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", (Float) 13.0f);
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
 
     entity.addGenre(genre1);
     entity.addGenre(genre2);
@@ -190,7 +192,7 @@ public class VideoTests {
     assertNotNull(castMember1);
     assertNotNull(castMember2);
 
-    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", (Float) 13.0f);
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
 
     entity.addCastMember(castMember1);
     entity.addCastMember(castMember2);
@@ -204,4 +206,88 @@ public class VideoTests {
     assertTrue(castMember2.isValidUUID(castMember2.getId().toString()));
     assertEquals(2, entity.getCastMembers().size());
   }
+
+  @Test
+  public void removeOnlyTheGivenAssociationsTest() {
+    final Category category1 = new Category("Category 1");
+    final Category category2 = new Category("Category 2");
+    final Genre genre1 = new Genre("Genre 1");
+    final Genre genre2 = new Genre("Genre 2");
+    final CastMember castMember1 = new CastMember("CastMember 1");
+    final CastMember castMember2 = new CastMember("CastMember 2");
+
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
+    entity.addCategory(category1);
+    entity.addCategory(category2);
+    entity.addGenre(genre1);
+    entity.addGenre(genre2);
+    entity.addCastMember(castMember1);
+    entity.addCastMember(castMember2);
+
+    entity.removeCategory(category1);
+    entity.removeGenre(genre2);
+    entity.removeCastMember(new CastMember(castMember1.getId(), "CastMember 1", CastMemberType.TYPE1));
+
+    assertEquals(1, entity.getCategories().size());
+    assertTrue(entity.getCategories().contains(category2));
+    assertEquals(1, entity.getGenres().size());
+    assertTrue(entity.getGenres().contains(genre1));
+    assertEquals(1, entity.getCastMembers().size());
+    assertTrue(entity.getCastMembers().contains(castMember2));
+  }
+
+  @Test
+  public void ignoreDuplicatedAssociationsTest() {
+    final Category category = new Category("Category 1");
+
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
+    entity.addCategory(category);
+    entity.addCategory(new Category(category.getId(), "Category 1"));
+
+    List<Category> categories = new ArrayList<Category>();
+    categories.add(category);
+    categories.add(category);
+    entity.setCategories(categories);
+
+    assertEquals(1, entity.getCategories().size());
+  }
+
+  @Test
+  public void keepInsertionOrderOfAssociationsTest() {
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
+    List<Category> categories = new ArrayList<Category>();
+    for (int i = 0; i < 100; i++) {
+      final Category category = new Category("Category " + i);
+      categories.add(category);
+      entity.addCategory(category);
+    }
+
+    assertEquals(categories, new ArrayList<Category>(entity.getCategories()));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenAssociationHasNoId() {
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
+
+    assertThrows(IllegalArgumentException.class, () -> entity.addCategory(new Category()));
+  }
+
+  @Test
+  public void changeAssociationsOnlyThroughTheVideoTest() {
+    final Video entity = new Video("Video 1", "Description random", 2020, false, "Rating 10", Duration.of(13.0f));
+    final Category category = new Category("Category 1");
+    entity.addCategory(category);
+
+    assertThrows(UnsupportedOperationException.class, () -> entity.getCategories().add(new Category("Category 2")));
+    assertThrows(UnsupportedOperationException.class, () -> entity.getCategories().iterator().remove());
+    assertThrows(UnsupportedOperationException.class, () -> entity.getVideoFiles().add(new VideoFile("Trailer", Duration.of(2.5d), "trailer.mp4")));
+
+    final long version = entity.getVersion();
+    final VideoFile videoFile = new VideoFile("Trailer", Duration.of(2.5d), "trailer.mp4");
+    entity.addVideoFile(videoFile);
+    assertTrue(entity.getVersion() > version);
+    entity.removeVideoFile(videoFile);
+    assertTrue(entity.getVideoFiles().isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> entity.addVideoFile(null));
+  }
 }
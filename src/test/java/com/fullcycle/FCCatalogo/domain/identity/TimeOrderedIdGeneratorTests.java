@@ -0,0 +1,44 @@
+package com.fullcycle.FCCatalogo.domain.identity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedIdGeneratorTests {
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenClockIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(null));
+  }
+
+  @Test
+  public void generateVersion7UUIDWithTimestampTest() {
+    final Instant now = Instant.parse("2021-11-25T12:00:00Z");
+    final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(now, ZoneOffset.UTC));
+
+    final UUID id = generator.generate();
+
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(now.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  public void generateIncreasingUUIDsWithinTheSameMillisecondTest() {
+    final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+    UUID previous = generator.generate();
+    for (int i = 0; i < 10000; i++) {
+      final UUID next = generator.generate();
+      assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+      previous = next;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.FCCatalogo.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class VideoCursorTests {
+
+  @Test
+  public void roundTripEverySortKeyTest() {
+    final Video video = new Video("Cidade de Deus", "Description", 2002, true, "L", Duration.of(130.25d));
+
+    final VideoCursor byTitle = VideoCursor.decode(VideoCursor.after(video, VideoSortField.TITLE, SortDirection.ASC).encode());
+    final VideoCursor byYear = VideoCursor.decode(VideoCursor.after(video, VideoSortField.YEAR_LAUNCHED, SortDirection.DESC).encode());
+    final VideoCursor byDuration = VideoCursor.decode(VideoCursor.after(video, VideoSortField.DURATION, SortDirection.ASC).encode());
+
+    assertEquals("Cidade de Deus", byTitle.getKey());
+    assertEquals(video.getId(), byTitle.getId());
+    assertEquals(2002, byYear.getKey());
+    assertEquals(SortDirection.DESC, byYear.getDirection());
+    assertEquals(13025L, byDuration.getKey());
+  }
+
+  @Test
+  public void roundTripMissingDurationTest() {
+    final Video video = new Video("Title", "Description", 2002, true);
+
+    final VideoCursor cursor = VideoCursor.decode(VideoCursor.after(video, VideoSortField.DURATION, SortDirection.DESC).encode());
+
+    assertNull(cursor.getKey());
+    assertEquals(video.getId(), cursor.getId());
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenCursorIsTamperedOrReusedTest() {
+    final String token = VideoCursor.after(new Video("Title", "Description", 2002, true), VideoSortField.TITLE, SortDirection.ASC).encode();
+
+    assertThrows(IllegalArgumentException.class, () -> VideoCursor.decode("not a cursor"));
+    assertThrows(IllegalArgumentException.class, () -> VideoCursor.decode(token.substring(0, 10)));
+    assertThrows(IllegalArgumentException.class, () -> new VideoPageRequest(VideoSortField.YEAR_LAUNCHED, SortDirection.ASC, 10, token));
+    assertThrows(IllegalArgumentException.class, () -> new VideoPageRequest(VideoSortField.TITLE, SortDirection.ASC, 0, null));
+    assertThrows(IllegalArgumentException.class, () -> new VideoPageRequest(VideoSortField.TITLE, SortDirection.ASC, 101, null));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenTitleLengthIsOutOfRangeTest() {
+    final byte[] bytes = Base64.getUrlDecoder().decode(VideoCursor.after(new Video("Title", "Description", 2002, true), VideoSortField.TITLE, SortDirection.ASC).encode());
+    final int length = 3 + 16 + 1;
+
+    ByteBuffer.wrap(bytes).putInt(length, -1);
+    final String negative = Base64.getUrlEncoder().encodeToString(bytes);
+    ByteBuffer.wrap(bytes).putInt(length, Integer.MAX_VALUE);
+    final String oversized = Base64.getUrlEncoder().encodeToString(bytes);
+
+    assertThrows(IllegalArgumentException.class, () -> VideoCursor.decode(negative));
+    assertThrows(IllegalArgumentException.class, () -> VideoCursor.decode(oversized));
+  }
+}
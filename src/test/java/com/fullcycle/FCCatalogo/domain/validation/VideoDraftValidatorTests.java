@@ -0,0 +1,76 @@
+package com.fullcycle.FCCatalogo.domain.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class VideoDraftValidatorTests {
+  private final VideoDraftValidator validator = new VideoDraftValidator(
+    new YearBoundary(Clock.fixed(Instant.parse("2020-06-01T00:00:00Z"), ZoneOffset.UTC)));
+
+  @Test
+  public void collectEveryViolationWithoutThrowingTest() {
+    final VideoDraft draft = draft("", 1600);
+    draft.getVideoFiles().add(new VideoFileDraft(null, "Trailer", Duration.of(2.5), "trailer.mp4"));
+    draft.getVideoFiles().add(new VideoFileDraft(null, null, null, "broken.mp4"));
+
+    final ValidationResult result = this.validator.validate(draft);
+
+    assertEquals(4, result.getViolations().size());
+    assertEquals("title", result.getViolations().get(0).getField());
+    assertEquals("yearLaunched", result.getViolations().get(1).getField());
+    assertEquals("videoFiles[1].title", result.getViolations().get(2).getField());
+    assertEquals("videoFiles[1].duration", result.getViolations().get(3).getField());
+    assertTrue(result.getMessage().startsWith("title is marked non-blank but is blank; yearLaunched "));
+    // The strict path still stops at the first violation.
+    assertThrows(IllegalArgumentException.class, () -> draft.toVideo());
+  }
+
+  @Test
+  public void takeTheCurrentYearFromTheClockTest() {
+    assertSame(ValidationResult.VALID, this.validator.validate(draft("Tenet", 2020)));
+    assertEquals("yearLaunched", this.validator.validate(draft("Dune", 2021)).getViolations().get(0).getField());
+
+    final YearBoundary previous = EntityRules.getYearBoundary();
+    EntityRules.setYearBoundary(new YearBoundary(Clock.fixed(Instant.parse("2020-12-31T23:59:59Z"), ZoneOffset.UTC)));
+    try {
+      assertThrows(IllegalArgumentException.class, () -> new Video("Dune", "", 2021, true));
+    } finally {
+      EntityRules.setYearBoundary(previous);
+    }
+  }
+
+  @Test
+  public void validateBatchInOrderAndBuildValidDraftsTest() {
+    final List<ValidationResult> results = this.validator.validateAll(Arrays.asList(draft("Up", 2009), draft(null, null), draft("Coco", 2017)));
+
+    assertEquals(3, results.size());
+    assertTrue(results.get(0).isValid());
+    assertEquals(2, results.get(1).getViolations().size());
+    assertTrue(results.get(2).isValid());
+    final Video video = draft("Coco", 2017).toVideo();
+    assertEquals("Coco", video.getTitle());
+    assertEquals(2017, video.getYearLaunched());
+  }
+
+  private static VideoDraft draft(String title, Integer yearLaunched) {
+    final VideoDraft draft = new VideoDraft();
+    draft.setTitle(title);
+    draft.setDescription("");
+    draft.setYearLaunched(yearLaunched);
+    draft.setOpened(true);
+    return draft;
+  }
+}
@@ -0,0 +1,88 @@
+package com.fullcycle.FCCatalogo.domain.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class DurationTests {
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenDurationIsNegative() {
+    assertThrows(IllegalArgumentException.class, () -> Duration.ofHundredths(-1));
+    assertThrows(IllegalArgumentException.class, () -> Duration.of(-0.5d));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenDurationIsNotFinite() {
+    assertThrows(IllegalArgumentException.class, () -> Duration.of(Float.NaN));
+    assertThrows(IllegalArgumentException.class, () -> Duration.of(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenDurationIsNull() {
+    assertThrows(IllegalArgumentException.class, () -> Duration.of((Float) null));
+    assertThrows(IllegalArgumentException.class, () -> Duration.parse(null));
+  }
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenTextIsNotADecimal() {
+    assertThrows(IllegalArgumentException.class, () -> Duration.parse(""));
+    assertThrows(IllegalArgumentException.class, () -> Duration.parse("."));
+    assertThrows(IllegalArgumentException.class, () -> Duration.parse("12,5"));
+    assertThrows(IllegalArgumentException.class, () -> Duration.parse("1.2.3"));
+  }
+
+  @Test
+  public void roundHalfUpToHundredthsTest() {
+    assertEquals(1337, Duration.of(13.37f).toHundredths());
+    assertEquals(1300, Duration.of(13.0f).toHundredths());
+    assertEquals(101, Duration.of(1.005f).toHundredths());
+    assertEquals(101, Duration.of(1.005d).toHundredths());
+    assertEquals(100, Duration.of(1.004d).toHundredths());
+    assertEquals(235, Duration.of(2.345d).toHundredths());
+    assertEquals(1, Duration.of(0.005f).toHundredths());
+    assertEquals(101, Duration.parse("1.005").toHundredths());
+    assertEquals(100, Duration.parse("1.0049").toHundredths());
+    assertEquals(150, Duration.parse("1.5").toHundredths());
+    assertEquals(50, Duration.parse(".5").toHundredths());
+    assertEquals(700, Duration.parse("7").toHundredths());
+  }
+
+  @Test
+  public void ignoreDefaultLocaleTest() {
+    final Locale previous = Locale.getDefault();
+    try {
+      Locale.setDefault(new Locale("pt", "BR"));
+      assertEquals("13.37", Duration.of(13.37f).toString());
+      assertEquals(1337, Duration.parse("13.37").toHundredths());
+    } finally {
+      Locale.setDefault(previous);
+    }
+  }
+
+  @Test
+  public void arithmeticAndComparisonTest() {
+    final Duration first = Duration.of(1.25d);
+    final Duration second = Duration.of(2.5d);
+
+    assertEquals(Duration.ofHundredths(375), first.plus(second));
+    assertEquals(Duration.ofHundredths(125), second.minus(first));
+    assertEquals(Duration.ofHundredths(500), second.multipliedBy(2));
+    assertTrue(first.compareTo(second) < 0);
+    assertEquals(first, Duration.parse("1.25"));
+    assertEquals(first.hashCode(), Duration.parse("1.25").hashCode());
+    assertThrows(IllegalArgumentException.class, () -> first.minus(second));
+  }
+
+  @Test
+  public void formatWithoutTrailingZerosTest() {
+    assertEquals("13", Duration.of(13L).toString());
+    assertEquals("13.5", Duration.parse("13.50").toString());
+    assertEquals("13.05", Duration.parse("13.05").toString());
+    assertEquals("0.01", Duration.ofHundredths(1).toString());
+  }
+}
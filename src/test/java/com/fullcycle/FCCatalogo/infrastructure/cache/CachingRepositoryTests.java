@@ -0,0 +1,82 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.StatementRecorder;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+public class CachingRepositoryTests {
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private GenreRepository genreRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private StatementRecorder statementRecorder;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Test
+  public void serveRepeatedReadsFromCacheTest() {
+    final Video video = new Video("Title", "Description", 2002, true);
+    this.videoRepository.save(video);
+    this.videoRepository.findById(video.getId());
+
+    this.statementRecorder.reset();
+    this.videoRepository.findById(video.getId());
+    this.videoRepository.findAllById(Arrays.asList(video.getId()));
+
+    assertEquals(0, this.statementRecorder.getRoundTrips());
+  }
+
+  @Test
+  public void showRenamedCategoryInDependentVideosTest() {
+    final Category category = new Category("Drama");
+    this.categoryRepository.save(category);
+    final Genre genre = new Genre("Crime", Arrays.asList(category));
+    this.genreRepository.save(genre);
+    final Video video = new Video("Title", "Description", 2002, true);
+    video.addGenre(genre);
+    this.videoRepository.save(video);
+    assertEquals("Drama", this.genreCategoryName(video));
+
+    this.categoryRepository.save(new Category(category.getId(), "Drama (renamed)"));
+
+    assertEquals("Drama (renamed)", this.genreCategoryName(video));
+    assertEquals("Drama (renamed)", this.genreRepository.findById(genre.getId()).get().getCategories().iterator().next().getName());
+  }
+
+  @Test
+  public void invalidateOnlyOnceTheTransactionCommitsTest() {
+    final Video video = new Video("Title", "Description", 2002, true);
+    this.videoRepository.save(video);
+    this.videoRepository.findById(video.getId());
+
+    this.transactionTemplate.executeWithoutResult(status -> {
+      this.videoRepository.save(new Video(video.getId(), "New title", "Description", 2002, true));
+      status.setRollbackOnly();
+    });
+
+    assertEquals("Title", this.videoRepository.findById(video.getId()).get().getTitle());
+    this.transactionTemplate.executeWithoutResult(status -> this.videoRepository.save(new Video(video.getId(), "New title", "Description", 2002, true)));
+    assertEquals("New title", this.videoRepository.findById(video.getId()).get().getTitle());
+  }
+
+  private String genreCategoryName(Video video) {
+    return this.videoRepository.findById(video.getId()).get().getGenres().iterator().next().getCategories().iterator().next().getName();
+  }
+}
@@ -0,0 +1,145 @@
+package com.fullcycle.FCCatalogo.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+
+import org.junit.jupiter.api.Test;
+
+public class CatalogCacheTests {
+  private final CatalogCache cache = new CatalogCache(settings(1000), settings(1000), settings(1000), settings(1000));
+
+  @Test
+  public void countHitsAndMissesTest() {
+    final Video video = new Video("Title", "Description", 2002, true);
+    final AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      assertSame(video, this.cache.video(video.getId(), id -> {
+        loads.incrementAndGet();
+        return video;
+      }));
+    }
+
+    assertEquals(1, loads.get());
+    assertEquals(2, this.cache.statistics().get("videos").getHits());
+    assertEquals(1, this.cache.statistics().get("videos").getMisses());
+  }
+
+  @Test
+  public void invalidateVideosThatShowACategoryDirectlyOrThroughAGenreTest() {
+    final Category category = new Category("Drama");
+    final Video direct = new Video("Direct", "Description", 2002, true);
+    direct.addCategory(category);
+    final Video throughGenre = new Video("Through genre", "Description", 2002, true);
+    final Genre genre = new Genre("Crime", Arrays.asList(category));
+    throughGenre.addGenre(genre);
+    final Video unrelated = new Video("Unrelated", "Description", 2002, true);
+    this.cache.genre(genre.getId(), id -> genre);
+    for (Video video : Arrays.asList(direct, throughGenre, unrelated)) {
+      this.cache.video(video.getId(), id -> video);
+    }
+
+    this.cache.invalidateCategories(Collections.singletonList(category.getId()));
+
+    assertTrue(this.isLoaded(direct));
+    assertTrue(this.isLoaded(throughGenre));
+    assertFalse(this.isLoaded(unrelated));
+    final AtomicInteger genreLoads = new AtomicInteger();
+    this.cache.genre(genre.getId(), id -> {
+      genreLoads.incrementAndGet();
+      return genre;
+    });
+    assertEquals(1, genreLoads.get());
+  }
+
+  @Test
+  public void dropLoadThatRacedWithAnInvalidationTest() {
+    final Category category = new Category("Drama");
+    final Video video = new Video("Title", "Description", 2002, true);
+    video.addCategory(category);
+
+    // The category is renamed while the video is being read from the database.
+    final Video loaded = this.cache.video(video.getId(), id -> {
+      this.cache.invalidateCategories(Collections.singletonList(category.getId()));
+      return video;
+    });
+
+    assertSame(video, loaded);
+    assertTrue(this.isLoaded(video));
+  }
+
+  @Test
+  public void dropSeedCheckedBeforeAnInvalidationTest() {
+    final Video video = new Video("Title", "Description", 2002, true);
+    final Video other = new Video("Other", "Description", 2002, true);
+
+    // The video is written after its version was checked, before the seed reaches the cache.
+    final long generation = this.cache.generation();
+    this.cache.invalidateVideos(Collections.singletonList(video.getId()));
+    this.cache.seedVideos(Map.of(video.getId(), video), generation);
+    this.cache.seedVideos(Map.of(other.getId(), other), this.cache.generation());
+
+    assertTrue(this.isLoaded(video));
+    assertFalse(this.isLoaded(other));
+  }
+
+  @Test
+  public void replaceCanonicalInstanceOnInvalidationTest() {
+    final UUID id = UUID.randomUUID();
+    final Video video = new Video("Title", "Description", 2002, true);
+    video.addCategory(new Category(id, "Old name"));
+
+    this.cache.invalidateCategories(Collections.singletonList(id));
+    final Video reloaded = new Video("Title", "Description", 2002, true);
+    reloaded.addCategory(new Category(id, "New name"));
+
+    assertEquals("New name", reloaded.getCategories().iterator().next().getName());
+    assertNotSame(video.getCategories().iterator().next(), reloaded.getCategories().iterator().next());
+  }
+
+  @Test
+  public void boundCacheByWeightTest() {
+    final CatalogCache small = new CatalogCache(settings(50), settings(50), settings(50), settings(50));
+    final Map<UUID, Video> videos = new HashMap<UUID, Video>();
+    for (int i = 0; i < 500; i++) {
+      final Video video = new Video("Video " + i, "Description", 2002, true);
+      video.addCategory(new Category("Category " + i));
+      videos.put(video.getId(), video);
+      small.video(video.getId(), videos::get);
+    }
+
+    small.cleanUp();
+
+    // Each video weighs two: itself and its category.
+    assertTrue(small.statistics().get("videos").getSize() <= 25);
+    assertTrue(small.statistics().get("videos").getEvictions() > 0);
+  }
+
+  private boolean isLoaded(Video video) {
+    final AtomicInteger loads = new AtomicInteger();
+    this.cache.video(video.getId(), id -> {
+      loads.incrementAndGet();
+      return video;
+    });
+    return loads.get() == 1;
+  }
+
+  private static CacheSettings settings(long maximumWeight) {
+    return new CacheSettings(maximumWeight, Duration.ofMinutes(10));
+  }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.FCCatalogo.infrastructure.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+public class ExecutionModeTests {
+
+  @Test
+  public void throwIllegalArgumentExceptionWhenModeIsUnknown() {
+    assertThrows(IllegalArgumentException.class, () -> ExecutionMode.of("carrier"));
+    assertThrows(IllegalArgumentException.class, () -> ExecutionMode.of(null));
+  }
+
+  @Test
+  public void fallBackToPlatformThreadsBeforeJava21Test() {
+    final boolean supported = Runtime.version().feature() >= 21;
+
+    assertEquals(ExecutionMode.VIRTUAL, ExecutionMode.of("Virtual"));
+    assertEquals(supported, VirtualThreads.isSupported());
+    assertEquals(supported ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM, ExecutionMode.VIRTUAL.orFallback());
+    assertEquals(ExecutionMode.PLATFORM, ExecutionMode.PLATFORM.orFallback());
+  }
+
+  @Test
+  public void runTasksOnNamedVirtualThreadsTest() throws Exception {
+    if(!VirtualThreads.isSupported()) {
+      assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.newThreadPerTaskExecutor("test-"));
+      return;
+    }
+    final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+    try {
+      final Thread thread = executor.submit(Thread::currentThread).get();
+
+      assertTrue(VirtualThreads.isVirtual(thread));
+      assertTrue(thread.getName().startsWith("test-"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.FCCatalogo.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.aggregate.AggregateFacet;
+import com.fullcycle.FCCatalogo.application.aggregate.CatalogAggregates;
+import com.fullcycle.FCCatalogo.application.index.FacetQuery;
+import com.fullcycle.FCCatalogo.application.index.VideoFacetIndex;
+import com.fullcycle.FCCatalogo.application.search.SearchHit;
+import com.fullcycle.FCCatalogo.application.search.VideoSearchIndex;
+import com.fullcycle.FCCatalogo.application.view.VideoViewStore;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.adapter.VideoRepositoryAdapter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+public class ReadModelLoadConfigTests {
+  @Autowired
+  @Qualifier("readModelLoad")
+  private ApplicationRunner readModelLoad;
+  @Autowired
+  private VideoRepositoryAdapter videoRepositoryAdapter;
+  @Autowired
+  private VideoViewStore videoViewStore;
+  @Autowired
+  private VideoFacetIndex videoFacetIndex;
+  @Autowired
+  private VideoSearchIndex videoSearchIndex;
+  @Autowired
+  private CatalogAggregates aggregates;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  public void feedEveryReadModelFromTheOneScanTest() throws Exception {
+    final Video video = this.videoRepositoryAdapter.save(new Video("Before the scan", "Description", 2000, true, "L", Duration.of(90L)));
+    final String rating = "R" + UUID.randomUUID();
+    // Written behind the adapter's back, so only the scan can tell the read models about it.
+    assertEquals(1, this.jdbcTemplate.update("update videos set title = 'Xylographic', rating = ?, version = version + 1 where id = ?", rating, video.getId()));
+
+    this.readModelLoad.run(new DefaultApplicationArguments());
+
+    assertEquals(rating, this.videoViewStore.get(video.getId()).get().getRating());
+    assertEquals(1, this.videoFacetIndex.count(FacetQuery.rating(rating)));
+    assertEquals(video.getId(), this.videoSearchIndex.search("xylographic", 1).stream().map(SearchHit::getVideoId).findFirst().orElse(null));
+    assertEquals(1, this.aggregates.get(AggregateFacet.RATING, rating).getCount());
+  }
+}
@@ -0,0 +1,154 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.application.sync.SyncReport;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.StatementRecorder;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class InMemoryCatalogEventTransportTests {
+  private static final Duration WAIT = Duration.ofMillis(10);
+
+  @Autowired
+  private InMemoryCatalogEventTransport transport;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private GenreRepository genreRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private StatementRecorder statementRecorder;
+
+  @Test
+  public void coalesceUpdatesAndApplyBatchInFewRoundTripsTest() throws Exception {
+    final List<UUID> categories = new ArrayList<UUID>();
+    final List<UUID> videos = new ArrayList<UUID>();
+    for (int i = 0; i < 20; i++) {
+      categories.add(UUID.randomUUID());
+      this.transport.publish(event("category", "created", categories.get(i), "{\"name\":\"Category " + i + "\"}"));
+    }
+    for (int i = 0; i < 60; i++) {
+      videos.add(UUID.randomUUID());
+    }
+    for (int revision = 0; revision < 3; revision++) {
+      for (int i = 0; i < 60; i++) {
+        this.transport.publish(event("video", revision == 0 ? "created" : "updated", videos.get(i),
+          "{\"title\":\"Video " + i + " r" + revision + "\",\"yearLaunched\":2000,\"opened\":true,"
+            + "\"categories\":[\"" + categories.get(i % 20) + "\"]}"));
+      }
+    }
+    this.statementRecorder.reset();
+
+    final SyncReport report = this.transport.drain(500, WAIT);
+
+    assertEquals(200, report.getReceived());
+    assertEquals(120, report.getCoalesced());
+    assertEquals(80, report.getApplied());
+    assertTrue(report.getFailures().isEmpty());
+    // One transaction: a lookup of processed ids, an existence check and an insert batch per table, the processed ids batch.
+    assertTrue(this.statementRecorder.getRoundTrips() <= 12, "round trips: " + this.statementRecorder.getRoundTrips());
+    final Video video = this.videoRepository.findById(videos.get(7)).get();
+    assertEquals("Video 7 r2", video.getTitle());
+    assertEquals(categories.get(7), video.getCategories().iterator().next().getId());
+  }
+
+  @Test
+  public void skipEventsAlreadyProcessedOnRedeliveryTest() throws Exception {
+    final UUID category = UUID.randomUUID();
+    final byte[] created = event("category", "created", category, "{\"name\":\"Drama\"}");
+    final byte[] renamed = event("category", "updated", category, "{\"name\":\"Dramas\"}");
+    this.transport.publish(created);
+    this.transport.publish(created);
+    this.transport.publish(renamed);
+    final SyncReport first = this.transport.drain(10, WAIT);
+
+    this.transport.publish(created);
+    final SyncReport redelivered = this.transport.drain(10, WAIT);
+
+    assertEquals(1, first.getDuplicates());
+    assertEquals(1, first.getCoalesced());
+    assertEquals(1, first.getApplied());
+    assertEquals(1, redelivered.getDuplicates());
+    assertEquals(0, redelivered.getApplied());
+    assertEquals("Dramas", this.categoryRepository.findById(category).get().getName());
+  }
+
+  @Test
+  public void dropChangesNotNewerThanTheStoredVersionTest() throws Exception {
+    final UUID category = UUID.randomUUID();
+    this.transport.publish(event("category", "created", category, 1, "{\"name\":\"Drama\"}"));
+    // Out of order within the batch: the highest version wins, not the last event.
+    this.transport.publish(event("category", "updated", category, 5, "{\"name\":\"Dramas\"}"));
+    this.transport.publish(event("category", "updated", category, 4, "{\"name\":\"Dramatic\"}"));
+    final SyncReport first = this.transport.drain(10, WAIT);
+
+    // A relay publishing late, after the newer change was applied.
+    this.transport.publish(event("category", "updated", category, 3, "{\"name\":\"Stale\"}"));
+    this.transport.publish(event("category", "updated", category, 5, "{\"name\":\"Stale\"}"));
+    final SyncReport late = this.transport.drain(10, WAIT);
+
+    assertEquals(1, first.getApplied());
+    assertEquals(0, late.getApplied());
+    assertEquals(1, late.getOutdated());
+    assertTrue(late.getFailures().isEmpty());
+    assertEquals("Dramas", this.categoryRepository.findById(category).get().getName());
+    assertEquals(5, this.categoryRepository.findById(category).get().getVersion());
+
+    this.transport.publish(event("category", "deleted", category, 6, "null"));
+    assertEquals(1, this.transport.drain(10, WAIT).getApplied());
+    assertFalse(this.categoryRepository.findById(category).isPresent());
+  }
+
+  @Test
+  public void deadLetterOnlyTheEventsThatFailTest() throws Exception {
+    final UUID category = UUID.randomUUID();
+    final UUID genre = UUID.randomUUID();
+    final UUID orphan = UUID.randomUUID();
+    final int deadLetters = this.transport.getDeadLetters().size();
+    this.transport.publish(event("category", "created", category, "{\"name\":\"Comedy\"}"));
+    this.transport.publish("not json".getBytes(StandardCharsets.UTF_8));
+    this.transport.publish(event("genre", "created", orphan, "{\"name\":\"Orphan\",\"categories\":[\"" + UUID.randomUUID() + "\"]}"));
+    this.transport.publish(event("genre", "created", genre, "{\"name\":\"Sitcom\",\"categories\":[\"" + category + "\"]}"));
+
+    final SyncReport report = this.transport.drain(10, WAIT);
+
+    assertEquals(2, report.getApplied());
+    assertEquals(2, report.getFailures().size());
+    assertEquals(1, report.getFailures().get(0).getPosition());
+    assertNull(report.getFailures().get(0).getEventId());
+    assertEquals(2, report.getFailures().get(1).getPosition());
+    assertTrue(report.getFailures().get(1).getMessage().startsWith("unknown category"));
+    assertEquals(deadLetters + 2, this.transport.getDeadLetters().size());
+    assertEquals("Sitcom", this.genreRepository.findById(genre).get().getName());
+    assertFalse(this.genreRepository.findById(orphan).isPresent());
+    assertEquals(0, this.transport.pending());
+  }
+
+  private static byte[] event(String entity, String action, UUID id, long version, String payload) {
+    return ("{\"eventId\":\"" + UUID.randomUUID() + "\",\"entity\":\"" + entity + "\",\"action\":\"" + action
+      + "\",\"id\":\"" + id + "\",\"version\":" + version + ",\"payload\":" + payload + "}").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] event(String entity, String action, UUID id, String payload) {
+    return ("{\"eventId\":\"" + UUID.randomUUID() + "\",\"entity\":\"" + entity + "\",\"action\":\"" + action
+      + "\",\"id\":\"" + id + "\",\"payload\":" + payload + "}").getBytes(StandardCharsets.UTF_8);
+  }
+}
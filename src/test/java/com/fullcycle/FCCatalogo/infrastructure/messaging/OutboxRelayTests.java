@@ -0,0 +1,90 @@
+package com.fullcycle.FCCatalogo.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.application.outbox.OutboxMessage;
+import com.fullcycle.FCCatalogo.application.outbox.OutboxRelay;
+import com.fullcycle.FCCatalogo.application.sync.CatalogEntityType;
+import com.fullcycle.FCCatalogo.application.sync.ChangeAction;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.StatementRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+public class OutboxRelayTests {
+  @Autowired
+  private OutboxRelay relay;
+  @Autowired
+  private InMemoryOutboxPublisher publisher;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private StatementRecorder statementRecorder;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    this.jdbcTemplate.update("delete from outbox_events");
+    this.publisher.clear();
+    this.publisher.setAvailable(true);
+  }
+
+  @Test
+  public void recordEveryWriteAndRelayInBatchesTest() {
+    final List<Category> categories = new ArrayList<Category>();
+    for (int i = 0; i < 1200; i++) {
+      categories.add(new Category("Outbox " + i));
+    }
+    this.categoryRepository.saveAll(categories);
+    this.categoryRepository.save(new Category(categories.get(0).getId(), "Renamed"));
+    this.categoryRepository.deleteById(categories.get(1).getId());
+    assertEquals(1202, this.outboxSize());
+
+    this.statementRecorder.reset();
+    assertEquals(this.relay.getBatchSize(), this.relay.relayBatch());
+    // One claiming select and one bulk delete per batch.
+    assertEquals(2, this.statementRecorder.getRoundTrips());
+    assertEquals(1202 - this.relay.getBatchSize(), this.relay.drain());
+
+    final List<OutboxMessage> published = this.publisher.getPublished();
+    assertEquals(1202, published.size());
+    assertEquals(0, this.outboxSize());
+    assertEquals(ChangeAction.CREATED, published.get(0).getAction());
+    assertEquals(CatalogEntityType.CATEGORY, published.get(0).getEntityType());
+    final OutboxMessage renamed = published.get(1200);
+    assertEquals(ChangeAction.UPDATED, renamed.getAction());
+    assertEquals(categories.get(0).getId(), renamed.getEntityId());
+    assertEquals(published.get(0).getVersion() + 1, renamed.getVersion());
+    assertEquals(ChangeAction.DELETED, published.get(1201).getAction());
+    assertEquals(categories.get(1).getId(), published.get(1201).getEntityId());
+  }
+
+  @Test
+  public void keepMessagesUntilTheBrokerAcceptsThemTest() {
+    this.categoryRepository.save(new Category("Unpublished"));
+    this.publisher.setAvailable(false);
+
+    assertThrows(IllegalStateException.class, () -> this.relay.relayBatch());
+    assertEquals(1, this.outboxSize());
+
+    this.publisher.setAvailable(true);
+    assertEquals(1, this.relay.drain());
+    assertEquals(0, this.outboxSize());
+    assertEquals(1, this.publisher.getPublished().size());
+  }
+
+  private int outboxSize() {
+    return this.jdbcTemplate.queryForObject("select count(*) from outbox_events", Integer.class);
+  }
+}
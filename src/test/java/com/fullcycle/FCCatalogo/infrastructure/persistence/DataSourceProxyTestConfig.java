@@ -0,0 +1,31 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence;
+
+import javax.sql.DataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Picked up by component scanning, so every @SpringBootTest shares one context with a recording DataSource.
+@Configuration
+public class DataSourceProxyTestConfig {
+
+  @Bean
+  public StatementRecorder statementRecorder() {
+    return new StatementRecorder();
+  }
+
+  @Bean
+  public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<StatementRecorder> recorder) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if(!(bean instanceof DataSource)) return bean;
+        return ProxyDataSourceBuilder.create((DataSource) bean).name(beanName).listener(recorder.getObject()).build();
+      }
+    };
+  }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+// Counts JDBC executions, i.e. database round trips: an executeBatch() is one round trip however many rows it carries.
+public class StatementRecorder implements QueryExecutionListener {
+  private final AtomicInteger roundTrips = new AtomicInteger();
+  private final AtomicInteger batches = new AtomicInteger();
+  private final AtomicInteger batchedRows = new AtomicInteger();
+  private final AtomicInteger selects = new AtomicInteger();
+
+  @Override
+  public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+    this.roundTrips.incrementAndGet();
+    if(execution.isBatch()) {
+      this.batches.incrementAndGet();
+      this.batchedRows.addAndGet(execution.getBatchSize());
+    } else if(!queries.isEmpty() && queries.get(0).getQuery().trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+      this.selects.incrementAndGet();
+    }
+  }
+
+  public void reset() {
+    this.roundTrips.set(0);
+    this.batches.set(0);
+    this.batchedRows.set(0);
+    this.selects.set(0);
+  }
+
+  public int getRoundTrips() {
+    return this.roundTrips.get();
+  }
+
+  public int getBatches() {
+    return this.batches.get();
+  }
+
+  public int getBatchedRows() {
+    return this.batchedRows.get();
+  }
+
+  public int getSelects() {
+    return this.selects.get();
+  }
+}
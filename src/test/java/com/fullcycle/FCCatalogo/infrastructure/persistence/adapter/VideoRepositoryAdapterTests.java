@@ -0,0 +1,277 @@
+package com.fullcycle.FCCatalogo.infrastructure.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.KeysetPage;
+import com.fullcycle.FCCatalogo.domain.repository.SortDirection;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoPageRequest;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoSortField;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.StatementRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+public class VideoRepositoryAdapterTests {
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private GenreRepository genreRepository;
+  @Autowired
+  private CastMemberRepository castMemberRepository;
+  @Autowired
+  private StatementRecorder statementRecorder;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final List<Category> categories = new ArrayList<Category>();
+  private final List<Genre> genres = new ArrayList<Genre>();
+  private final List<CastMember> castMembers = new ArrayList<CastMember>();
+
+  @BeforeEach
+  public void setUp() {
+    this.jdbcTemplate.update("delete from video_files");
+    this.jdbcTemplate.update("delete from videos_categories");
+    this.jdbcTemplate.update("delete from videos_genres");
+    this.jdbcTemplate.update("delete from videos_cast_members");
+    this.jdbcTemplate.update("delete from videos");
+    for (int i = 0; i < 10; i++) {
+      this.categories.add(new Category("Category " + i));
+      this.castMembers.add(new CastMember("Cast Member " + i, CastMemberType.TYPE1));
+    }
+    this.categoryRepository.saveAll(this.categories);
+    this.castMemberRepository.saveAll(this.castMembers);
+    for (int i = 0; i < 5; i++) {
+      List<Category> genreCategories = new ArrayList<Category>();
+      genreCategories.add(this.categories.get(i));
+      this.genres.add(new Genre("Genre " + i, genreCategories));
+    }
+    this.genreRepository.saveAll(this.genres);
+  }
+
+  @Test
+  public void saveAndLoadVideoWithAssociationsTest() {
+    final Video video = this.video(0);
+    this.videoRepository.save(video);
+
+    final Video loaded = this.videoRepository.findById(video.getId()).get();
+
+    assertEquals(video.getTitle(), loaded.getTitle());
+    assertEquals(video.getDuration(), loaded.getDuration());
+    assertEquals(video.getCategories(), loaded.getCategories());
+    assertEquals(video.getGenres(), loaded.getGenres());
+    assertEquals(video.getCastMembers(), loaded.getCastMembers());
+    assertEquals(video.getVideoFiles(), loaded.getVideoFiles());
+    assertEquals(1, loaded.getGenres().iterator().next().getCategories().size());
+  }
+
+  @Test
+  public void updateScalarsAndAssociationsTest() {
+    final Video video = this.video(0);
+    this.videoRepository.save(video);
+
+    video.setTitle("Updated");
+    video.removeCategory(this.categories.get(0));
+    video.addCategory(this.categories.get(5));
+    video.setVideoFiles(new ArrayList<VideoFile>());
+    video.addVideoFile(new VideoFile("Full movie", Duration.of(120L), "movie.mp4"));
+    this.videoRepository.save(video);
+
+    final Video loaded = this.videoRepository.findById(video.getId()).get();
+    assertEquals("Updated", loaded.getTitle());
+    assertEquals(video.getCategories(), loaded.getCategories());
+    assertEquals(video.getVideoFiles(), loaded.getVideoFiles());
+    assertEquals(1, this.jdbcTemplate.queryForObject("select count(*) from video_files", Integer.class));
+    assertTrue(this.videoRepository.deleteById(video.getId()));
+    assertFalse(this.videoRepository.findById(video.getId()).isPresent());
+  }
+
+  @Test
+  public void rejectWriteOverAVersionSavedInBetweenTest() {
+    final Video video = this.video(0);
+    this.videoRepository.save(video);
+    final long persisted = video.getPersistedVersion();
+    final Video stale = new Video(video.getId(), "Stale", null, 2000, true);
+    stale.markPersisted(persisted);
+
+    video.setTitle("Updated");
+    this.videoRepository.save(video);
+
+    assertTrue(video.getPersistedVersion() > persisted);
+    assertEquals(video.getPersistedVersion(), this.jdbcTemplate.queryForObject("select version from videos", Long.class));
+    assertThrows(OptimisticLockingFailureException.class, () -> this.videoRepository.save(stale));
+    assertEquals("Updated", this.jdbcTemplate.queryForObject("select title from videos", String.class));
+  }
+
+  @Test
+  public void insertTenThousandVideosInJdbcBatchesTest() {
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 10000; i++) {
+      videos.add(this.video(i));
+    }
+
+    this.statementRecorder.reset();
+    this.videoRepository.saveAll(videos);
+
+    // 20 chunks of 500: one existence lookup plus one or two batches per table each, outbox included.
+    assertTrue(this.statementRecorder.getRoundTrips() <= 200, "round trips: " + this.statementRecorder.getRoundTrips());
+    assertEquals(this.statementRecorder.getRoundTrips() - this.statementRecorder.getSelects(), this.statementRecorder.getBatches());
+    assertEquals(10000 * 8, this.statementRecorder.getBatchedRows());
+    assertEquals(10000, this.videoRepository.count());
+    assertEquals(20000, this.jdbcTemplate.queryForObject("select count(*) from videos_categories", Integer.class));
+  }
+
+  @Test
+  public void updateTenThousandVideosInJdbcBatchesTest() {
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 10000; i++) {
+      videos.add(this.video(i));
+    }
+    this.videoRepository.saveAll(videos);
+    for (Video video : videos) {
+      video.setTitle(video.getTitle() + " (remastered)");
+    }
+
+    this.statementRecorder.reset();
+    this.videoRepository.saveAll(videos);
+
+    assertTrue(this.statementRecorder.getRoundTrips() <= 200, "round trips: " + this.statementRecorder.getRoundTrips());
+    assertEquals(10000, this.jdbcTemplate.queryForObject("select count(*) from videos where title like '% (remastered)'", Integer.class));
+  }
+
+  @Test
+  public void walkEveryKeysetPageWithoutGapsOrDuplicatesTest() {
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 250; i++) {
+      final Video video = new Video("Video " + i % 40, "Description", 2000 + i % 7, true);
+      if(i % 5 != 0) video.setDuration(Duration.ofHundredths(6000 + i % 13));
+      videos.add(video);
+    }
+    this.videoRepository.saveAll(videos);
+
+    for (VideoSortField sortField : VideoSortField.values()) {
+      for (SortDirection direction : SortDirection.values()) {
+        Comparator<Video> order = byKey(sortField).thenComparing(Video::getId, VideoRepositoryAdapterTests::compareAsBinary);
+        if(direction == SortDirection.DESC) order = order.reversed();
+        final List<UUID> expected = videos.stream().sorted(order).map(Video::getId).collect(Collectors.toList());
+
+        final List<UUID> walked = new ArrayList<UUID>();
+        String cursor = null;
+        do {
+          KeysetPage<Video> page = this.videoRepository.findPage(new VideoPageRequest(sortField, direction, 7, cursor));
+          page.getItems().forEach(video -> walked.add(video.getId()));
+          cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, walked, sortField + " " + direction);
+      }
+    }
+  }
+
+  @Test
+  public void loadEveryFetchPlanInAFixedNumberOfQueriesTest() {
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 100; i++) {
+      videos.add(this.video(i));
+    }
+    this.videoRepository.saveAll(videos);
+
+    // Guards against N+1: the count must not grow with the page size.
+    assertEquals(1, this.selectsPerPage(10, VideoFetchPlan.SUMMARY));
+    assertEquals(1, this.selectsPerPage(100, VideoFetchPlan.SUMMARY));
+    assertEquals(5, this.selectsPerPage(10, VideoFetchPlan.DETAIL));
+    assertEquals(5, this.selectsPerPage(100, VideoFetchPlan.DETAIL));
+    assertEquals(6, this.selectsPerPage(10, VideoFetchPlan.FULL_GRAPH));
+    assertEquals(6, this.selectsPerPage(100, VideoFetchPlan.FULL_GRAPH));
+
+    this.statementRecorder.reset();
+    final List<UUID> ids = videos.stream().map(Video::getId).collect(Collectors.toList());
+    final List<Video> loaded = this.videoRepository.findAllById(ids, VideoFetchPlan.FULL_GRAPH);
+    assertEquals(6, this.statementRecorder.getSelects());
+    assertEquals(ids, loaded.stream().map(Video::getId).collect(Collectors.toList()));
+    for (Video video : loaded) {
+      final Video saved = videos.get(ids.indexOf(video.getId()));
+      assertEquals(saved.getCategories(), video.getCategories());
+      assertEquals(saved.getCastMembers(), video.getCastMembers());
+      assertEquals(saved.getVideoFiles(), video.getVideoFiles());
+      assertEquals(1, video.getGenres().iterator().next().getCategories().size());
+    }
+  }
+
+  @Test
+  public void leaveAssociationsOutsideThePlanEmptyTest() {
+    final Video video = this.video(0);
+    this.videoRepository.save(video);
+
+    final Video summary = this.videoRepository.findById(video.getId(), VideoFetchPlan.SUMMARY).get();
+    final Video detail = this.videoRepository.findById(video.getId(), VideoFetchPlan.DETAIL).get();
+
+    assertTrue(summary.getCategories().isEmpty());
+    assertTrue(summary.getVideoFiles().isEmpty());
+    assertEquals(video.getCategories(), detail.getCategories());
+    assertEquals(video.getGenres(), detail.getGenres());
+    assertTrue(detail.getVideoFiles().isEmpty());
+  }
+
+  private int selectsPerPage(int size, VideoFetchPlan plan) {
+    this.statementRecorder.reset();
+    final KeysetPage<Video> page = this.videoRepository.findPage(new VideoPageRequest(VideoSortField.TITLE, SortDirection.ASC, size, null), plan);
+    assertEquals(size, page.getItems().size());
+    return this.statementRecorder.getSelects();
+  }
+
+  // BINARY(16) ids compare as unsigned bytes, unlike UUID.compareTo.
+  private static int compareAsBinary(UUID a, UUID b) {
+    int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+    return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+  }
+
+  private static Comparator<Video> byKey(VideoSortField sortField) {
+    switch (sortField) {
+      case YEAR_LAUNCHED:
+        return Comparator.comparing(Video::getYearLaunched);
+      case TITLE:
+        return Comparator.comparing(Video::getTitle);
+      default:
+        return Comparator.comparing(Video::getDuration, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+  }
+
+  private Video video(int i) {
+    final Video video = new Video("Video " + i, "Description " + i, 2000 + i % 20, i % 2 == 0, "L", Duration.ofHundredths(6000 + i));
+    video.addCategory(this.categories.get(i % 10));
+    video.addCategory(this.categories.get((i + 1) % 10));
+    video.addGenre(this.genres.get(i % 5));
+    video.addCastMember(this.castMembers.get(i % 10));
+    video.addCastMember(this.castMembers.get((i + 3) % 10));
+    video.addVideoFile(new VideoFile("Trailer", Duration.of(2.5d), "trailer-" + i + ".mp4"));
+    return video;
+  }
+}
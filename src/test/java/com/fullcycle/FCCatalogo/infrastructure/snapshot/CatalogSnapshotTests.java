@@ -0,0 +1,134 @@
+package com.fullcycle.FCCatalogo.infrastructure.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.CastMemberRepository;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.infrastructure.cache.CatalogCache;
+import com.fullcycle.FCCatalogo.infrastructure.persistence.StatementRecorder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class CatalogSnapshotTests {
+  private static final Duration MAX_AGE = Duration.ofHours(1);
+
+  @TempDir
+  Path directory;
+  @Autowired
+  private CatalogSnapshotWriter writer;
+  @Autowired
+  private CatalogSnapshotLoader loader;
+  @Autowired
+  private CatalogCache cache;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private GenreRepository genreRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private CastMemberRepository castMemberRepository;
+  @Autowired
+  private StatementRecorder statementRecorder;
+
+  @Test
+  public void readBackWhatWasWrittenTest() throws Exception {
+    final Video video = this.saveVideo("Snapshot");
+    final Path file = this.directory.resolve("catalog.snapshot");
+
+    assertTrue(this.writer.write(file) > 0);
+    final CatalogSnapshot snapshot = CatalogSnapshot.open(file, MAX_AGE, Clock.systemUTC());
+    final Video read = snapshot.findVideo(video.getId()).get();
+
+    assertEquals("Snapshot", read.getTitle());
+    assertEquals("Description", read.getDescription());
+    assertEquals(2002, read.getYearLaunched());
+    assertEquals(true, read.getOpened());
+    assertEquals(video.getPersistedVersion(), read.getPersistedVersion());
+    assertEquals("Snapshot category", read.getCategories().iterator().next().getName());
+    assertEquals("Snapshot category", read.getGenres().iterator().next().getCategories().iterator().next().getName());
+    assertEquals(CastMemberType.TYPE1, read.getCastMembers().iterator().next().getType());
+    final VideoFile videoFile = read.getVideoFiles().iterator().next();
+    assertEquals("Trailer", videoFile.getTitle());
+    assertEquals("http://videos/trailer.mp4", videoFile.getUrl());
+    assertFalse(snapshot.findVideo(UUID.randomUUID()).isPresent());
+  }
+
+  @Test
+  public void rejectCorruptAndStaleSnapshotsTest() throws Exception {
+    this.saveVideo("Rejected");
+    final Path file = this.directory.resolve("catalog.snapshot");
+    this.writer.write(file);
+
+    final Clock later = Clock.offset(Clock.systemUTC(), MAX_AGE.plusMinutes(1));
+    assertThrows(CorruptSnapshotException.class, () -> CatalogSnapshot.open(file, MAX_AGE, later));
+
+    final byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length / 2] ^= 0x10;
+    final Path flipped = Files.write(this.directory.resolve("flipped.snapshot"), bytes);
+    assertThrows(CorruptSnapshotException.class, () -> CatalogSnapshot.open(flipped, MAX_AGE, Clock.systemUTC()));
+
+    final Path truncated = Files.write(this.directory.resolve("truncated.snapshot"), Arrays.copyOf(bytes, 100));
+    assertThrows(CorruptSnapshotException.class, () -> CatalogSnapshot.open(truncated, MAX_AGE, Clock.system(ZoneOffset.UTC)));
+  }
+
+  @Test
+  public void seedOnlyEntriesUnchangedSinceTheSnapshotTest() throws Exception {
+    final Video unchanged = this.saveVideo("Unchanged");
+    final Video dependent = this.saveVideo("Dependent");
+    final Path file = this.directory.resolve("catalog.snapshot");
+    this.writer.write(file);
+    final Category category = dependent.getCategories().iterator().next();
+    this.categoryRepository.save(new Category(category.getId(), "Renamed after the snapshot"));
+    this.cache.invalidateVideos(Arrays.asList(unchanged.getId(), dependent.getId()));
+
+    final SnapshotLoadReport report = this.loader.load(CatalogSnapshot.open(file, MAX_AGE, Clock.systemUTC()));
+
+    assertTrue(report.getSeeded() > 0);
+    // The renamed category, the genre holding it and the video showing both.
+    assertTrue(report.getStale() >= 3, "stale: " + report.getStale());
+    this.statementRecorder.reset();
+    assertEquals("Unchanged", this.videoRepository.findById(unchanged.getId()).get().getTitle());
+    assertEquals(0, this.statementRecorder.getRoundTrips());
+    assertEquals("Renamed after the snapshot", this.videoRepository.findById(dependent.getId()).get().getCategories().iterator().next().getName());
+    assertTrue(this.statementRecorder.getRoundTrips() > 0);
+  }
+
+  private Video saveVideo(String title) {
+    final Category category = new Category(title + " category");
+    this.categoryRepository.save(category);
+    final Genre genre = new Genre(title + " genre", Arrays.asList(category));
+    this.genreRepository.save(genre);
+    final CastMember castMember = new CastMember(title + " actor", CastMemberType.TYPE1);
+    this.castMemberRepository.save(castMember);
+    final Video video = new Video(title, "Description", 2002, true);
+    video.addCategory(category);
+    video.addGenre(genre);
+    video.addCastMember(castMember);
+    video.setVideoFiles(Arrays.asList(new VideoFile("Trailer", com.fullcycle.FCCatalogo.domain.valueobject.Duration.of(90), "http://videos/trailer.mp4")));
+    return this.videoRepository.save(video);
+  }
+}
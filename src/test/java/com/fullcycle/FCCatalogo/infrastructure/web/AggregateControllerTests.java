@@ -0,0 +1,44 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AggregateControllerTests {
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private VideoRepository videoRepository;
+
+  @Test
+  public void readAndVerifyAggregatesTest() throws Exception {
+    this.mockMvc.perform(post("/aggregates/rebuild")).andExpect(status().isOk());
+    this.videoRepository.save(new Video("Aggregated", "", 1931, true, "AGG", Duration.of(0.5)));
+
+    this.mockMvc.perform(get("/aggregates/years-launched/1931"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.facet").value("years-launched"))
+      .andExpect(jsonPath("$.count").value(1))
+      .andExpect(jsonPath("$.duration").value(0.5));
+    this.mockMvc.perform(get("/aggregates/ratings")).andExpect(status().isOk()).andExpect(jsonPath("$[?(@.value == 'AGG')].count").value(1));
+    this.mockMvc.perform(get("/aggregates/categories/not-an-id")).andExpect(status().isBadRequest());
+    this.mockMvc.perform(get("/aggregates/studios")).andExpect(status().isBadRequest());
+    this.mockMvc.perform(post("/aggregates/verify"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.conclusive").value(true))
+      .andExpect(jsonPath("$.mismatches").isEmpty());
+  }
+}
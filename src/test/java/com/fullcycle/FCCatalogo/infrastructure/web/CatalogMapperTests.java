@@ -0,0 +1,62 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import com.fullcycle.FCCatalogo.domain.entity.CastMember;
+import com.fullcycle.FCCatalogo.domain.entity.CastMemberType;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class CatalogMapperTests {
+
+  @Test
+  public void mapVideoGraphToDetailResponseTest() {
+    final Category category = new Category("Drama");
+    final Video video = new Video("Cidade de Deus", "Description", 2002, true, "16", Duration.of(130.25d));
+    video.addCategory(category);
+    video.addGenre(new Genre("Crime", Arrays.asList(category)));
+    video.addCastMember(new CastMember("Alice Braga", CastMemberType.TYPE2));
+    video.addVideoFile(new VideoFile("Trailer", Duration.of(2.5d), "trailer.mp4"));
+
+    final VideoDetailResponse response = CatalogMapper.toDetailResponse(video);
+
+    assertEquals(video.getId(), response.getId());
+    assertEquals(130.25d, response.getDuration());
+    assertEquals("Drama", response.getCategories().get(0).getName());
+    assertEquals(category.getId(), response.getGenres().get(0).getCategories().get(0).getId());
+    assertEquals(2, response.getCastMembers().get(0).getType());
+    assertEquals(2.5d, response.getVideoFiles().get(0).getDuration());
+    assertNull(CatalogMapper.toResponse(new Video("Title", null, 2002, true)).getDuration());
+  }
+
+  @Test
+  public void validateRequestThroughEntitySettersTest() {
+    final VideoFileRequest file = new VideoFileRequest();
+    file.setTitle("Trailer");
+    file.setDuration(2.5d);
+    final VideoRequest request = new VideoRequest();
+    request.setTitle("Title");
+    request.setYearLaunched(2002);
+    request.setDuration(90d);
+    request.setVideoFiles(Arrays.asList(file));
+
+    final Video video = CatalogMapper.toVideo(request);
+
+    assertEquals(9000L, video.getDuration().toHundredths());
+    assertEquals(1, video.getVideoFiles().size());
+    request.setTitle("");
+    assertThrows(IllegalArgumentException.class, () -> CatalogMapper.toVideo(request));
+    request.setTitle("Title");
+    file.setDuration(null);
+    assertThrows(IllegalArgumentException.class, () -> CatalogMapper.toVideo(request));
+  }
+}
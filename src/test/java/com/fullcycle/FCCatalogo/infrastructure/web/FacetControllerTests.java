@@ -0,0 +1,54 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class FacetControllerTests {
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Test
+  public void filterCommittedVideosTest() throws Exception {
+    Category category = this.categoryRepository.save(new Category("Faceted"));
+    Video opened = new Video("Faceted opened", "", 1911, true, "FCT", Duration.of(1));
+    opened.addCategory(category);
+    Video closed = this.videoRepository.save(new Video("Faceted closed", "", 1912, false, "FCT", Duration.of(1)));
+    opened = this.videoRepository.save(opened);
+
+    this.mockMvc.perform(get("/facets").param("rating", "FCT"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.total").value(2))
+      .andExpect(jsonPath("$.opened").value(1))
+      .andExpect(jsonPath("$.categories['" + category.getId() + "']").value(1))
+      .andExpect(jsonPath("$.yearsLaunched['1912']").value(1));
+    this.mockMvc.perform(get("/facets/videos").param("rating", "FCT").param("category", category.getId().toString()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.total").value(1))
+      .andExpect(jsonPath("$.videoIds[0]").value(opened.getId().toString()));
+
+    this.videoRepository.deleteById(closed.getId());
+    this.mockMvc.perform(get("/facets/videos").param("year-from", "1912").param("year-to", "1912").param("rating", "FCT"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.total").value(0));
+    this.mockMvc.perform(get("/facets").param("year-from", "1913").param("year-to", "1912")).andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,128 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+import com.fullcycle.FCCatalogo.infrastructure.storage.LocalMediaStorage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MediaControllerTests {
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private LocalMediaStorage storage;
+
+  private byte[] media;
+  private String content;
+  private String url;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    this.media = new byte[10_000];
+    for (int i = 0; i < this.media.length; i++) {
+      this.media[i] = (byte) ('a' + i % 26);
+    }
+    final Video video = new Video("Streamed", "", 2019, true);
+    final VideoFile videoFile = new VideoFile("Feature", Duration.of(1L), null);
+    final String key = "videos/" + video.getId() + "/" + videoFile.getId() + ".mp4";
+    this.url = this.storage.url(key);
+    videoFile.setUrl(this.url);
+    video.addVideoFile(videoFile);
+    this.videoRepository.save(video);
+    final Path file = this.storage.resolveUrl(this.url);
+    Files.createDirectories(file.getParent());
+    Files.write(file, this.media);
+    this.content = "/videos/" + video.getId() + "/files/" + videoFile.getId() + "/content";
+  }
+
+  @Test
+  public void serveWholeFileAndSingleRangesTest() throws Exception {
+    final MockHttpServletResponse full = this.mockMvc.perform(get(this.content))
+      .andExpect(status().isOk())
+      .andExpect(header().string("Accept-Ranges", "bytes"))
+      .andExpect(header().string("Content-Type", "video/mp4"))
+      .andReturn().getResponse();
+    assertArrayEquals(this.media, full.getContentAsByteArray());
+
+    final MockHttpServletResponse range = this.mockMvc.perform(get(this.content).header("Range", "bytes=100-199"))
+      .andExpect(status().isPartialContent())
+      .andExpect(header().string("Content-Range", "bytes 100-199/10000"))
+      .andReturn().getResponse();
+    assertArrayEquals(Arrays.copyOfRange(this.media, 100, 200), range.getContentAsByteArray());
+
+    final MockHttpServletResponse suffix = this.mockMvc.perform(get(this.url).header("Range", "bytes=-500"))
+      .andExpect(status().isPartialContent())
+      .andExpect(header().string("Content-Range", "bytes 9500-9999/10000"))
+      .andReturn().getResponse();
+    assertArrayEquals(Arrays.copyOfRange(this.media, 9500, 10_000), suffix.getContentAsByteArray());
+
+    this.mockMvc.perform(get(this.content).header("Range", "bytes=10000-"))
+      .andExpect(status().isRequestedRangeNotSatisfiable())
+      .andExpect(header().string("Content-Range", "bytes */10000"));
+    final MockHttpServletResponse headed = this.mockMvc.perform(head(this.content).header("Range", "bytes=0-9"))
+      .andExpect(status().isPartialContent())
+      .andExpect(header().string("Content-Length", "10"))
+      .andReturn().getResponse();
+    assertEquals(0, headed.getContentAsByteArray().length);
+  }
+
+  @Test
+  public void serveMultipartRangesAndHonourIfRangeTest() throws Exception {
+    final MockHttpServletResponse multipart = this.mockMvc.perform(get(this.content).header("Range", "bytes=0-9, 5-19, 5000-5009"))
+      .andExpect(status().isPartialContent())
+      .andReturn().getResponse();
+    final String body = multipart.getContentAsString(StandardCharsets.US_ASCII);
+    assertTrue(multipart.getContentType().startsWith("multipart/byteranges; boundary="));
+    assertEquals(body.length(), multipart.getContentLength());
+    assertTrue(body.contains("Content-Range: bytes 0-19/10000\r\n\r\n" + new String(this.media, 0, 20, StandardCharsets.US_ASCII) + "\r\n--"));
+    assertTrue(body.contains("Content-Range: bytes 5000-5009/10000\r\n\r\n" + new String(this.media, 5000, 10, StandardCharsets.US_ASCII) + "\r\n--"));
+
+    final String tag = this.mockMvc.perform(head(this.content)).andReturn().getResponse().getHeader("ETag");
+    this.mockMvc.perform(get(this.content).header("Range", "bytes=0-9").header("If-Range", tag))
+      .andExpect(status().isPartialContent());
+    final MockHttpServletResponse stale = this.mockMvc.perform(get(this.content).header("Range", "bytes=0-9").header("If-Range", "\"stale\""))
+      .andExpect(status().isOk())
+      .andReturn().getResponse();
+    assertEquals(this.media.length, stale.getContentAsByteArray().length);
+    this.mockMvc.perform(get(this.content).header("If-None-Match", tag)).andExpect(status().isNotModified());
+  }
+
+  @Test
+  public void ignoreMalformedOrExcessiveRangesTest() {
+    assertNull(ByteRange.parse("items=0-1", 100));
+    assertNull(ByteRange.parse("bytes=5-1", 100));
+    assertNull(ByteRange.parse("bytes=0-1,2-3,4-5,6-7,8-9,10-11,12-13,14-15,16-17,18-19,20-21,22-23,24-25,26-27,28-29,30-31,32-33", 100));
+    final List<ByteRange> merged = ByteRange.parse("bytes=50-, 0-9, 10-19, -5", 100);
+    assertEquals(2, merged.size());
+    assertEquals("bytes 0-19/100", merged.get(0).contentRange(100));
+    assertEquals("bytes 50-99/100", merged.get(1).contentRange(100));
+    assertTrue(ByteRange.parse("bytes=100-200", 100).isEmpty());
+  }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MetricsControllerTests {
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  public void exposeRepositoryLatencyAssociationSizesAndValidationFailuresTest() throws Exception {
+    final Video video = new Video("Metrics", "Description", 2002, true);
+    this.videoRepository.save(video);
+    this.videoRepository.findById(video.getId(), VideoFetchPlan.SUMMARY);
+    this.mockMvc.perform(post("/videos").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Metrics\",\"description\":\"Description\",\"yearLaunched\":1200}"))
+      .andExpect(status().isBadRequest());
+
+    final JsonNode latency = this.metric("catalog.repository.latency");
+    final JsonNode associations = this.metric("catalog.video.associations");
+    final JsonNode failures = this.metric("catalog.validation.failures");
+
+    assertTrue(this.find(latency, "plan", "SUMMARY").get("measurements").get("count").asDouble() >= 1);
+    assertEquals("video", this.find(latency, "plan", "SUMMARY").get("tags").get("repository").asText());
+    assertTrue(this.find(associations, "association", "videoFiles").get("measurements").get("count").asDouble() >= 1);
+    assertTrue(this.find(failures, "field", "yearLaunched").get("measurements").get("count").asDouble() >= 1);
+    assertEquals(4, this.metric("catalog.cache.hit.ratio").size());
+  }
+
+  private JsonNode metric(String name) throws Exception {
+    return this.objectMapper.readTree(this.mockMvc.perform(get("/metrics/" + name)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+  }
+
+  private JsonNode find(JsonNode metrics, String tag, String value) {
+    for (JsonNode metric : metrics) {
+      if(value.equals(metric.get("tags").path(tag).asText())) return metric;
+    }
+    throw new AssertionError("no " + tag + "=" + value + " in " + metrics);
+  }
+}
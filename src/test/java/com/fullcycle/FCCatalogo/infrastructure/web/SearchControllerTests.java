@@ -0,0 +1,83 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SearchControllerTests {
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Test
+  public void searchWhatWasWrittenThroughTheApiTest() throws Exception {
+    MvcResult created = this.mockMvc.perform(post("/videos").contentType(MediaType.APPLICATION_JSON)
+      .content("{\"title\":\"Quixotic zeppelin\",\"description\":\"A voyage\",\"yearLaunched\":2001,\"opened\":true,\"rating\":\"L\",\"duration\":1.5}"))
+      .andExpect(status().isCreated())
+      .andReturn();
+    JsonNode video = this.objectMapper.readTree(created.getResponse().getContentAsString());
+    String id = video.get("id").asText();
+
+    this.mockMvc.perform(get("/videos/search").param("q", "zeppelin"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.length()").value(1))
+      .andExpect(jsonPath("$[0].video.id").value(id))
+      .andExpect(jsonPath("$[0].video.title").value("Quixotic zeppelin"));
+
+    this.mockMvc.perform(put("/videos/" + id).header(HttpHeaders.IF_MATCH, created.getResponse().getHeader(HttpHeaders.ETAG))
+      .contentType(MediaType.APPLICATION_JSON)
+      .content("{\"title\":\"Quixotic airship\",\"description\":\"A voyage\",\"yearLaunched\":2001,\"opened\":true,\"rating\":\"L\",\"duration\":1.5}"))
+      .andExpect(status().isOk());
+    this.mockMvc.perform(get("/videos/search").param("q", "zeppelin")).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(0));
+    this.mockMvc.perform(get("/videos/search").param("q", "airship")).andExpect(status().isOk()).andExpect(jsonPath("$[0].video.id").value(id));
+
+    this.videoRepository.deleteById(UUID.fromString(id));
+    this.mockMvc.perform(get("/videos/search").param("q", "airship")).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(0));
+    this.mockMvc.perform(get("/videos/search").param("q", "airship").param("limit", "0")).andExpect(status().isBadRequest());
+    this.mockMvc.perform(get("/videos/search").param("q", "airship").param("limit", "101")).andExpect(status().isBadRequest());
+    this.mockMvc.perform(get("/videos/search").param("q", "airship").param("limit", "100")).andExpect(status().isOk());
+  }
+
+  @Test
+  public void searchByTheNewNameOfARenamedCategoryTest() throws Exception {
+    final Category category = this.categoryRepository.save(new Category("Vorticist"));
+    final Video video = new Video("Blast", "A magazine", 1914, true, "L", Duration.of(90L));
+    video.addCategory(category);
+    this.videoRepository.save(video);
+    this.mockMvc.perform(get("/videos/search").param("q", "vorticist")).andExpect(status().isOk()).andExpect(jsonPath("$[0].video.id").value(video.getId().toString()));
+
+    category.setName("Imagist");
+    this.categoryRepository.save(category);
+
+    this.mockMvc.perform(get("/videos/search").param("q", "vorticist")).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(0));
+    this.mockMvc.perform(get("/videos/search").param("q", "imagist")).andExpect(status().isOk()).andExpect(jsonPath("$[0].video.id").value(video.getId().toString()));
+  }
+}
@@ -0,0 +1,204 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.FCCatalogo.domain.entity.Category;
+import com.fullcycle.FCCatalogo.domain.entity.Genre;
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.repository.CategoryRepository;
+import com.fullcycle.FCCatalogo.domain.repository.GenreRepository;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class VideoControllerTests {
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private VideoRepository videoRepository;
+  @Autowired
+  private CategoryRepository categoryRepository;
+  @Autowired
+  private GenreRepository genreRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  public void setUp() {
+    this.jdbcTemplate.update("delete from video_files");
+    this.jdbcTemplate.update("delete from videos_categories");
+    this.jdbcTemplate.update("delete from videos_genres");
+    this.jdbcTemplate.update("delete from videos_cast_members");
+    this.jdbcTemplate.update("delete from videos");
+  }
+
+  @Test
+  public void followNextCursorToTheLastPageTest() throws Exception {
+    final List<Video> videos = new ArrayList<Video>();
+    for (int i = 0; i < 5; i++) {
+      videos.add(new Video("Video " + i, "Description", 2000 + i, true, "L", Duration.of(90L)));
+    }
+    this.videoRepository.saveAll(videos);
+
+    final JsonNode first = this.page("/videos?sort=yearLaunched&direction=desc&size=3");
+    final JsonNode second = this.page("/videos?sort=yearLaunched&direction=desc&size=3&cursor=" + first.get("nextCursor").asText());
+
+    assertEquals(3, first.get("items").size());
+    assertEquals(2004, first.get("items").get(0).get("yearLaunched").asInt());
+    assertEquals(2, second.get("items").size());
+    assertEquals(2000, second.get("items").get(1).get("yearLaunched").asInt());
+    assertTrue(second.get("nextCursor").isNull());
+  }
+
+  @Test
+  public void rejectCursorIssuedForAnotherSortTest() throws Exception {
+    this.videoRepository.saveAll(List.of(new Video("A", "Description", 2000, true), new Video("B", "Description", 2001, true)));
+    final JsonNode first = this.page("/videos?sort=title&size=1");
+
+    this.mockMvc.perform(get("/videos?sort=duration&size=1&cursor=" + first.get("nextCursor").asText()))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value("cursor was issued for a different sort"));
+    this.mockMvc.perform(get("/videos?sort=rating")).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  public void importNdjsonBodyTest() throws Exception {
+    final String ndjson = "{\"title\":\"A\",\"yearLaunched\":2000,\"duration\":90}\n{\"title\":\"B\"}\n";
+
+    this.mockMvc.perform(post("/videos/import").contentType("application/x-ndjson").content(ndjson))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.imported").value(1))
+      .andExpect(jsonPath("$.failed").value(1))
+      .andExpect(jsonPath("$.errors[0].line").value(2));
+    assertEquals(1, this.videoRepository.count());
+  }
+
+  @Test
+  public void downloadExportAsAttachmentTest() throws Exception {
+    this.videoRepository.saveAll(List.of(new Video("A", "Description", 2000, true), new Video("B", "Description", 2001, true)));
+
+    final String body = this.mockMvc.perform(get("/videos/export"))
+      .andExpect(status().isOk())
+      .andExpect(header().string("Content-Disposition", "attachment; filename=\"videos.ndjson\""))
+      .andReturn().getResponse().getContentAsString();
+
+    assertEquals(2, body.split("\n").length);
+  }
+
+  @Test
+  public void createAndGetVideoDetailTest() throws Exception {
+    final String location = this.mockMvc.perform(post("/videos").contentType("application/json")
+        .content("{\"title\":\"A\",\"yearLaunched\":2000,\"duration\":90.5,\"videoFiles\":[{\"title\":\"Trailer\",\"duration\":2,\"url\":\"a.mp4\"}]}"))
+      .andExpect(status().isCreated())
+      .andReturn().getResponse().getHeader("Location");
+
+    this.mockMvc.perform(get(location))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.duration").value(90.5))
+      .andExpect(jsonPath("$.videoFiles[0].url").value("a.mp4"))
+      .andExpect(jsonPath("$.categories").isEmpty());
+    this.mockMvc.perform(get("/videos/" + UUID.randomUUID())).andExpect(status().isNotFound());
+    this.mockMvc.perform(post("/videos").contentType("application/json").content("{\"title\":\"\",\"yearLaunched\":2000}"))
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  public void answerNotModifiedForCurrentTagAndRefuseStaleUpdatesTest() throws Exception {
+    final Video video = new Video("A", "Description", 2000, true, "L", Duration.of(90L));
+    this.videoRepository.save(video);
+    final String uri = "/videos/" + video.getId();
+    final String tag = this.mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+
+    this.mockMvc.perform(get(uri).header("If-None-Match", tag))
+      .andExpect(status().isNotModified())
+      .andExpect(content().string(""));
+    final String updated = this.mockMvc.perform(put(uri).header("If-Match", tag).contentType("application/json").content("{\"title\":\"B\",\"yearLaunched\":2001}"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.title").value("B"))
+      .andReturn().getResponse().getHeader("ETag");
+
+    assertNotEquals(tag, updated);
+    this.mockMvc.perform(put(uri).header("If-Match", tag).contentType("application/json").content("{\"title\":\"C\",\"yearLaunched\":2001}"))
+      .andExpect(status().isPreconditionFailed());
+    this.mockMvc.perform(get(uri).header("If-None-Match", tag))
+      .andExpect(status().isOk())
+      .andExpect(header().string("ETag", updated))
+      .andExpect(jsonPath("$.title").value("B"));
+  }
+
+  @Test
+  public void changeTagWhenAnAssociatedCategoryIsRenamedTest() throws Exception {
+    final Category category = new Category("Drama");
+    this.categoryRepository.save(category);
+    final Genre genre = new Genre("Suspense");
+    genre.addCategory(category);
+    this.genreRepository.save(genre);
+    final Video video = new Video("A", "Description", 2000, true, "L", Duration.of(90L));
+    video.addGenre(genre);
+    this.videoRepository.save(video);
+    final String videoTag = this.mockMvc.perform(get("/videos/" + video.getId())).andReturn().getResponse().getHeader("ETag");
+    final String genreTag = this.mockMvc.perform(get("/genres/" + genre.getId())).andReturn().getResponse().getHeader("ETag");
+    this.mockMvc.perform(get("/genres/" + genre.getId()).header("If-None-Match", genreTag)).andExpect(status().isNotModified());
+
+    category.setName("Thriller");
+    this.categoryRepository.save(category);
+
+    this.mockMvc.perform(get("/videos/" + video.getId()).header("If-None-Match", videoTag))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.genres[0].categories[0].name").value("Thriller"));
+    this.mockMvc.perform(get("/genres/" + genre.getId()).header("If-None-Match", genreTag))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.categories[0].name").value("Thriller"));
+  }
+
+  @Test
+  public void readVideosFromTheViewsPublishedOnCommitTest() throws Exception {
+    final Video video = new Video("A", "Description", 2000, true, "L", Duration.of(90L));
+    this.videoRepository.save(video);
+    final String tag = this.mockMvc.perform(get("/videos/" + video.getId())).andReturn().getResponse().getHeader("ETag");
+    // Written behind the adapter's back, so no view is published for it.
+    assertEquals(1, this.jdbcTemplate.update("update videos set title = 'Z' where id = ?", video.getId()));
+
+    this.mockMvc.perform(get("/videos/" + video.getId()))
+      .andExpect(status().isOk())
+      .andExpect(header().string("ETag", tag))
+      .andExpect(jsonPath("$.title").value("A"));
+    this.mockMvc.perform(get("/videos?sort=title"))
+      .andExpect(jsonPath("$.items[0].id").value(video.getId().toString()))
+      .andExpect(jsonPath("$.items[0].title").value("A"));
+    this.mockMvc.perform(put("/videos/" + video.getId()).header("If-Match", tag).contentType("application/json").content("{\"title\":\"B\",\"yearLaunched\":2001}"))
+      .andExpect(status().isOk());
+    this.mockMvc.perform(get("/videos/" + video.getId())).andExpect(jsonPath("$.title").value("B"));
+  }
+
+  private JsonNode page(String uri) throws Exception {
+    String body = this.mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+    return this.objectMapper.readTree(body);
+  }
+}
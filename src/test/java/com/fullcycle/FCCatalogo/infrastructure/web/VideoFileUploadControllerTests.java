@@ -0,0 +1,70 @@
+package com.fullcycle.FCCatalogo.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+
+import com.fullcycle.FCCatalogo.domain.entity.Video;
+import com.fullcycle.FCCatalogo.domain.entity.VideoFile;
+import com.fullcycle.FCCatalogo.domain.repository.VideoFetchPlan;
+import com.fullcycle.FCCatalogo.domain.repository.VideoRepository;
+import com.fullcycle.FCCatalogo.domain.valueobject.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class VideoFileUploadControllerTests {
+  private static final MediaType OFFSET_OCTET_STREAM = MediaType.parseMediaType("application/offset+octet-stream");
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private VideoRepository videoRepository;
+
+  @Test
+  public void uploadInChunksAndResumeFromTheReportedOffsetTest() throws Exception {
+    final Video video = this.videoRepository.save(new Video("Chunked", "", 2021, true));
+    final byte[] media = new byte[3000];
+    Arrays.fill(media, (byte) 7);
+
+    final String location = this.mockMvc.perform(post("/videos/" + video.getId() + "/uploads").contentType(MediaType.APPLICATION_JSON)
+      .content("{\"title\":\"Trailer\",\"size\":3000,\"duration\":1.5,\"fileName\":\"trailer.webm\"}"))
+      .andExpect(status().isCreated())
+      .andExpect(header().string(VideoFileUploadController.UPLOAD_OFFSET, "0"))
+      .andReturn().getResponse().getHeader("Location");
+    this.mockMvc.perform(patch(location).header(VideoFileUploadController.UPLOAD_OFFSET, 0).contentType(OFFSET_OCTET_STREAM)
+      .content(Arrays.copyOfRange(media, 0, 1000)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.complete").value(false));
+    this.mockMvc.perform(patch(location).header(VideoFileUploadController.UPLOAD_OFFSET, 0).contentType(OFFSET_OCTET_STREAM)
+      .content(Arrays.copyOfRange(media, 0, 1000)))
+      .andExpect(status().isConflict())
+      .andExpect(header().string(VideoFileUploadController.UPLOAD_OFFSET, "1000"));
+    this.mockMvc.perform(head(location))
+      .andExpect(status().isOk())
+      .andExpect(header().string(VideoFileUploadController.UPLOAD_OFFSET, "1000"))
+      .andExpect(header().string(VideoFileUploadController.UPLOAD_LENGTH, "3000"));
+    this.mockMvc.perform(patch(location).header(VideoFileUploadController.UPLOAD_OFFSET, 1000).contentType(OFFSET_OCTET_STREAM)
+      .content(Arrays.copyOfRange(media, 1000, 3000)))
+      .andExpect(status().isOk())
+      .andExpect(header().string(VideoFileUploadController.UPLOAD_OFFSET, "3000"))
+      .andExpect(jsonPath("$.complete").value(true));
+
+    final VideoFile videoFile = this.videoRepository.findById(video.getId(), VideoFetchPlan.FULL_GRAPH).get().getVideoFiles().iterator().next();
+    assertEquals("Trailer", videoFile.getTitle());
+    assertEquals(Duration.of(1.5), videoFile.getDuration());
+    assertEquals("/media/videos/" + video.getId() + "/" + videoFile.getId() + ".webm", videoFile.getUrl());
+  }
+}